@@ -33,6 +33,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -51,6 +52,7 @@ import jakarta.inject.Provider;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.beans.BeansException;
+import org.springframework.beans.PropertyValue;
 import org.springframework.beans.TypeConverter;
 import org.springframework.beans.factory.BeanCreationException;
 import org.springframework.beans.factory.BeanCurrentlyInCreationException;
@@ -71,8 +73,10 @@ import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.BeanDefinitionHolder;
+import org.springframework.beans.factory.config.BeanReference;
 import org.springframework.beans.factory.config.ConfigurableBeanFactory;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.config.ConstructorArgumentValues;
 import org.springframework.beans.factory.config.DependencyDescriptor;
 import org.springframework.beans.factory.config.NamedBeanHolder;
 import org.springframework.core.NamedThreadLocal;
@@ -178,6 +182,9 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 
 	private @Nullable Executor bootstrapExecutor;
 
+	/** Whether to pre-instantiate independent singletons in parallel. */
+	private boolean parallelPreInstantiation = false;
+
 	/** Optional OrderComparator for dependency Lists and arrays. */
 	private @Nullable Comparator<Object> dependencyComparator;
 
@@ -303,6 +310,39 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		return this.allowEagerClassLoading;
 	}
 
+	/**
+	 * Set whether to pre-instantiate non-lazy singletons in parallel on the
+	 * {@linkplain #setBootstrapExecutor bootstrap executor}, in an order derived
+	 * from the dependencies declared in their bean definitions: depends-on
+	 * declarations, factory bean references, and bean references in constructor
+	 * arguments and property values. A singleton is instantiated as soon as the
+	 * singletons it declares dependencies on have been instantiated.
+	 * <p>Dependencies that are only resolved at creation time, such as autowired
+	 * injection points, are created on demand by the thread that needs them,
+	 * using lenient singleton locking as for other bootstrap threads. Singletons
+	 * whose creation collides with a concurrent creation in another thread, as
+	 * well as singletons with circular declared dependencies, are instantiated
+	 * in the mainline thread afterwards.
+	 * <p>Default is "false". This flag has no effect without a bootstrap executor,
+	 * and it has no effect if strict locking is enforced through the
+	 * {@value #STRICT_LOCKING_PROPERTY_NAME} property: singletons are instantiated
+	 * one after the other in the mainline thread then.
+	 * @since 7.1
+	 * @see #preInstantiateSingletons()
+	 * @see #STRICT_LOCKING_PROPERTY_NAME
+	 */
+	public void setParallelPreInstantiation(boolean parallelPreInstantiation) {
+		this.parallelPreInstantiation = parallelPreInstantiation;
+	}
+
+	/**
+	 * Return whether to pre-instantiate independent singletons in parallel.
+	 * @since 7.1
+	 */
+	public boolean isParallelPreInstantiation() {
+		return this.parallelPreInstantiation;
+	}
+
 	@Override
 	public void setBootstrapExecutor(@Nullable Executor bootstrapExecutor) {
 		this.bootstrapExecutor = bootstrapExecutor;
@@ -359,6 +399,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 			this.allowBeanDefinitionOverriding = otherListableFactory.allowBeanDefinitionOverriding;
 			this.allowEagerClassLoading = otherListableFactory.allowEagerClassLoading;
 			this.bootstrapExecutor = otherListableFactory.bootstrapExecutor;
+			this.parallelPreInstantiation = otherListableFactory.parallelPreInstantiation;
 			this.dependencyComparator = otherListableFactory.dependencyComparator;
 			// A clone of the AutowireCandidateResolver since it is potentially BeanFactoryAware
 			setAutowireCandidateResolver(otherListableFactory.getAutowireCandidateResolver().cloneIfNecessary());
@@ -1066,10 +1107,12 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 			if (preInstantiation != null) {
 				// A Spring-managed bootstrap thread:
 				// MAIN is allowed to lock (true) or even forced to lock (null),
-				// BACKGROUND is never allowed to lock (false).
+				// BACKGROUND is never allowed to lock (false),
+				// PARALLEL is allowed to lock (true).
 				return switch (preInstantiation) {
 					case MAIN -> (Boolean.TRUE.equals(this.strictLocking) ? null : true);
 					case BACKGROUND -> false;
+					case PARALLEL -> true;
 				};
 			}
 
@@ -1114,23 +1157,26 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 			this.mainThreadPrefix = getThreadNamePrefix();
 		}
 		try {
-			List<CompletableFuture<?>> futures = new ArrayList<>();
-			for (String beanName : beanNames) {
-				RootBeanDefinition mbd = getMergedLocalBeanDefinition(beanName);
-				if (!mbd.isAbstract() && mbd.isSingleton()) {
-					CompletableFuture<?> future = preInstantiateSingleton(beanName, mbd);
-					if (future != null) {
-						futures.add(future);
-					}
-				}
+			Executor executor = getBootstrapExecutor();
+			if (this.parallelPreInstantiation && executor != null && !Boolean.TRUE.equals(this.strictLocking)) {
+				preInstantiateSingletonsInParallel(beanNames, executor);
 			}
-			if (!futures.isEmpty()) {
-				try {
-					CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+			else {
+				if (this.parallelPreInstantiation && executor != null && logger.isInfoEnabled()) {
+					logger.info("Not pre-instantiating singletons in parallel since strict locking " +
+							"is enforced through the '" + STRICT_LOCKING_PROPERTY_NAME + "' property");
 				}
-				catch (CompletionException ex) {
-					ReflectionUtils.rethrowRuntimeException(ex.getCause());
+				List<CompletableFuture<?>> futures = new ArrayList<>();
+				for (String beanName : beanNames) {
+					RootBeanDefinition mbd = getMergedLocalBeanDefinition(beanName);
+					if (!mbd.isAbstract() && mbd.isSingleton()) {
+						CompletableFuture<?> future = preInstantiateSingleton(beanName, mbd);
+						if (future != null) {
+							futures.add(future);
+						}
+					}
 				}
+				joinPreInstantiationFutures(futures);
 			}
 		}
 		finally {
@@ -1150,6 +1196,129 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		}
 	}
 
+	private void preInstantiateSingletonsInParallel(List<String> beanNames, Executor executor) {
+		List<CompletableFuture<?>> futures = new ArrayList<>();
+		Map<String, Set<String>> dependencies = new LinkedHashMap<>();
+		for (String beanName : beanNames) {
+			RootBeanDefinition mbd = getMergedLocalBeanDefinition(beanName);
+			if (!mbd.isAbstract() && mbd.isSingleton()) {
+				if (mbd.isBackgroundInit() || mbd.isLazyInit()) {
+					CompletableFuture<?> future = preInstantiateSingleton(beanName, mbd);
+					if (future != null) {
+						futures.add(future);
+					}
+				}
+				else {
+					Set<String> dependsOn = new LinkedHashSet<>();
+					collectDeclaredDependencies(mbd, dependsOn);
+					dependencies.put(beanName, dependsOn);
+				}
+			}
+		}
+
+		// Schedule each singleton after the singletons it declares dependencies on,
+		// leaving singletons with circular declared dependencies to the mainline thread.
+		Map<String, CompletableFuture<?>> scheduled = CollectionUtils.newHashMap(dependencies.size());
+		Set<String> deferred = ConcurrentHashMap.newKeySet();
+		boolean progress = true;
+		while (progress && scheduled.size() < dependencies.size()) {
+			progress = false;
+			for (Map.Entry<String, Set<String>> entry : dependencies.entrySet()) {
+				String beanName = entry.getKey();
+				if (scheduled.containsKey(beanName)) {
+					continue;
+				}
+				List<CompletableFuture<?>> dependencyFutures = new ArrayList<>();
+				boolean ready = true;
+				for (String dependency : entry.getValue()) {
+					if (dependencies.containsKey(dependency) && !dependency.equals(beanName)) {
+						CompletableFuture<?> dependencyFuture = scheduled.get(dependency);
+						if (dependencyFuture == null) {
+							ready = false;
+							break;
+						}
+						dependencyFutures.add(dependencyFuture);
+					}
+				}
+				if (ready) {
+					CompletableFuture<?> future = CompletableFuture.allOf(dependencyFutures.toArray(new CompletableFuture<?>[0]))
+							.thenRunAsync(() -> instantiateSingletonInParallelThread(beanName, deferred), executor);
+					scheduled.put(beanName, future);
+					progress = true;
+				}
+			}
+		}
+		futures.addAll(scheduled.values());
+		joinPreInstantiationFutures(futures);
+
+		for (String beanName : dependencies.keySet()) {
+			if (!scheduled.containsKey(beanName) || deferred.contains(beanName)) {
+				preInstantiateSingleton(beanName, getMergedLocalBeanDefinition(beanName));
+			}
+		}
+	}
+
+	private void collectDeclaredDependencies(BeanDefinition bd, Set<String> dependencies) {
+		String[] dependsOn = bd.getDependsOn();
+		if (dependsOn != null) {
+			for (String dep : dependsOn) {
+				dependencies.add(transformedBeanName(dep));
+			}
+		}
+		String factoryBeanName = bd.getFactoryBeanName();
+		if (factoryBeanName != null) {
+			dependencies.add(transformedBeanName(factoryBeanName));
+		}
+		if (bd.hasConstructorArgumentValues()) {
+			ConstructorArgumentValues cav = bd.getConstructorArgumentValues();
+			for (ConstructorArgumentValues.ValueHolder valueHolder : cav.getIndexedArgumentValues().values()) {
+				collectReferencedBeanNames(valueHolder.getValue(), dependencies);
+			}
+			for (ConstructorArgumentValues.ValueHolder valueHolder : cav.getGenericArgumentValues()) {
+				collectReferencedBeanNames(valueHolder.getValue(), dependencies);
+			}
+		}
+		if (bd.hasPropertyValues()) {
+			for (PropertyValue pv : bd.getPropertyValues().getPropertyValues()) {
+				collectReferencedBeanNames(pv.getValue(), dependencies);
+			}
+		}
+	}
+
+	private void collectReferencedBeanNames(@Nullable Object value, Set<String> dependencies) {
+		if (value instanceof BeanReference beanReference) {
+			dependencies.add(transformedBeanName(beanReference.getBeanName()));
+		}
+		else if (value instanceof BeanDefinitionHolder holder) {
+			collectDeclaredDependencies(holder.getBeanDefinition(), dependencies);
+		}
+		else if (value instanceof BeanDefinition innerBd) {
+			collectDeclaredDependencies(innerBd, dependencies);
+		}
+		else if (value instanceof Collection<?> collection) {
+			for (Object element : collection) {
+				collectReferencedBeanNames(element, dependencies);
+			}
+		}
+		else if (value instanceof Map<?, ?> map) {
+			map.forEach((key, element) -> {
+				collectReferencedBeanNames(key, dependencies);
+				collectReferencedBeanNames(element, dependencies);
+			});
+		}
+	}
+
+	private void joinPreInstantiationFutures(List<CompletableFuture<?>> futures) {
+		if (!futures.isEmpty()) {
+			try {
+				CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+			}
+			catch (CompletionException ex) {
+				ReflectionUtils.rethrowRuntimeException(ex.getCause());
+			}
+		}
+	}
+
 	private @Nullable CompletableFuture<?> preInstantiateSingleton(String beanName, RootBeanDefinition mbd) {
 		if (mbd.isBackgroundInit()) {
 			Executor executor = getBootstrapExecutor();
@@ -1214,6 +1383,29 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 		}
 	}
 
+	private void instantiateSingletonInParallelThread(String beanName, Set<String> deferred) {
+		this.preInstantiationThread.set(PreInstantiation.PARALLEL);
+		try {
+			instantiateSingleton(beanName);
+		}
+		catch (BeanCreationException ex) {
+			if (!ex.contains(BeanCurrentlyInCreationException.class)) {
+				if (logger.isWarnEnabled()) {
+					logger.warn("Failed to instantiate singleton bean '" + beanName + "' in parallel thread", ex);
+				}
+				throw ex;
+			}
+			if (logger.isInfoEnabled()) {
+				logger.info("Bean '" + beanName + "' collided with a concurrent creation in another thread " +
+						"- deferring its instantiation to the mainline thread");
+			}
+			deferred.add(beanName);
+		}
+		finally {
+			this.preInstantiationThread.remove();
+		}
+	}
+
 	private void instantiateSingleton(String beanName) {
 		if (isFactoryBean(beanName)) {
 			Object bean = getBean(FACTORY_BEAN_PREFIX + beanName);
@@ -2807,7 +2999,7 @@ public class DefaultListableBeanFactory extends AbstractAutowireCapableBeanFacto
 
 	private enum PreInstantiation {
 
-		MAIN, BACKGROUND
+		MAIN, BACKGROUND, PARALLEL
 	}
 
 }
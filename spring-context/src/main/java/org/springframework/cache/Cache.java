@@ -16,6 +16,9 @@
 
 package org.springframework.cache;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
@@ -183,6 +186,46 @@ public interface Cache {
 	 */
 	void put(Object key, @Nullable Object value);
 
+	/**
+	 * Return the values to which this cache maps the specified keys, in a
+	 * single bulk operation where supported by the underlying cache provider.
+	 * <p>Keys without a mapping in this cache are not contained in the returned
+	 * map, while keys mapped to a {@code null} value are represented by a
+	 * {@link ValueWrapper} for {@code null}.
+	 * <p>The default implementation delegates to {@link #get(Object)} for
+	 * each key.
+	 * @param keys the keys whose associated values are to be returned
+	 * @return a map from each key with a mapping in this cache to a wrapper
+	 * for its value
+	 * @since 7.1
+	 * @see #putAll(Map)
+	 */
+	default Map<Object, ValueWrapper> getAll(Collection<?> keys) {
+		Map<Object, ValueWrapper> result = new LinkedHashMap<>(keys.size());
+		for (Object key : keys) {
+			ValueWrapper value = get(key);
+			if (value != null) {
+				result.put(key, value);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Associate the specified values with their keys in this cache, in a
+	 * single bulk operation where supported by the underlying cache provider.
+	 * <p>Like with {@link #put(Object, Object)}, actual registration may be
+	 * performed in an asynchronous or deferred fashion.
+	 * <p>The default implementation delegates to {@link #put(Object, Object)}
+	 * for each entry.
+	 * @param entries the keys and values to store
+	 * @since 7.1
+	 * @see #getAll(Collection)
+	 */
+	default void putAll(Map<?, ?> entries) {
+		entries.forEach(this::put);
+	}
+
 	/**
 	 * Atomically associate the specified value with the specified key in this cache
 	 * if it is not set already.
@@ -208,4 +208,35 @@ public @interface Cacheable {
 	 */
 	boolean sync() default false;
 
+	/**
+	 * Cache the elements of a collection argument individually, for a method
+	 * with a single {@link java.util.Collection} parameter (typically a
+	 * {@code List} or {@code Set} of identifiers) and a {@link java.util.Map}
+	 * return type keyed by those elements.
+	 * <p>The cache key for each element of the collection is computed by the
+	 * {@link #keyGenerator()} as if the method was invoked with that element
+	 * only, which is the element itself with the default key generator. All
+	 * keys are looked up in a single {@link org.springframework.cache.Cache#getAll}
+	 * call. The underlying method is then invoked with the missing elements only,
+	 * in a collection of the same kind, and the returned entries are stored
+	 * through {@link org.springframework.cache.Cache#putAll} and merged with
+	 * the cached ones, in the order of the given elements. Elements without an
+	 * entry in the returned map are neither cached nor contained in the result.
+	 * <p>A batch operation comes with the following limitations:
+	 * <ol>
+	 * <li>{@link #key()}, {@link #unless()} and {@link #sync()} are not supported</li>
+	 * <li>Only one cache may be specified</li>
+	 * <li>No other cache-related operation can be combined</li>
+	 * <li>The {@link #condition()} applies to the invocation as a whole</li>
+	 * </ol>
+	 * <p>Note that an invocation with the missing elements only relies on a
+	 * proxy-based interception and on a parameter type that can be instantiated;
+	 * with AspectJ weaving or a custom collection type, the method is invoked
+	 * with all elements.
+	 * @since 7.1
+	 * @see org.springframework.cache.Cache#getAll(java.util.Collection)
+	 * @see org.springframework.cache.Cache#putAll(java.util.Map)
+	 */
+	boolean batch() default false;
+
 }
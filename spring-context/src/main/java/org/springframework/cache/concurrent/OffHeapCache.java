@@ -0,0 +1,463 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.concurrent;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.core.serializer.support.SerializationDelegate;
+import org.springframework.util.Assert;
+
+/**
+ * {@link org.springframework.cache.Cache} implementation that keeps serialized
+ * values outside of the Java heap, in direct {@link ByteBuffer} regions with a
+ * fixed byte capacity.
+ *
+ * <p>Values are serialized through a {@link SerializationDelegate} and copied
+ * into fixed-size blocks that are allocated from direct memory on demand, up to
+ * the configured capacity. Once the capacity is reached, the least recently used
+ * entries are evicted to make room for new ones. Entries may also expire after a
+ * fixed time-to-live. Keys and per-entry bookkeeping remain on the heap.
+ *
+ * <p>This is useful for caching large amounts of serializable data, such as
+ * rendered fragments, without increasing the heap size and garbage collection
+ * pauses accordingly. Values that do not fit into the capacity are not cached.
+ *
+ * <p>Supports the {@link #retrieve(Object)} and {@link #retrieve(Object, Supplier)}
+ * operations in a best-effort fashion, like {@link ConcurrentMapCache}.
+ *
+ * @since 7.1
+ * @see OffHeapCacheManager
+ */
+public class OffHeapCache extends AbstractValueAdaptingCache {
+
+	/**
+	 * The default size of the blocks that values are stored in: {@value} bytes.
+	 */
+	public static final int DEFAULT_BLOCK_SIZE = 1024;
+
+	private static final int REGION_SIZE = 4 * 1024 * 1024;
+
+	private static final int LOADER_LOCK_COUNT = 64;
+
+
+	private final String name;
+
+	private final long capacity;
+
+	private final SerializationDelegate serialization;
+
+	private final int blockSize;
+
+	private final int blocksPerRegion;
+
+	private final int maxBlocks;
+
+	private final @Nullable ByteBuffer[] regions;
+
+	private final int[] freeBlocks;
+
+	private int freeBlockCount;
+
+	private int nextBlock;
+
+	private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>(256, 0.75f, true);
+
+	private final ReentrantLock lock = new ReentrantLock();
+
+	private final Object[] loaderLocks = new Object[LOADER_LOCK_COUNT];
+
+	private long timeToLiveNanos;
+
+
+	/**
+	 * Create a new OffHeapCache with the specified name and capacity.
+	 * @param name the name of the cache
+	 * @param capacity the maximum number of bytes to store values in
+	 * @param allowNullValues whether to accept and convert {@code null}
+	 * values for this cache
+	 * @param serialization the {@link SerializationDelegate} to use
+	 * to serialize cache values
+	 */
+	public OffHeapCache(String name, long capacity, boolean allowNullValues, SerializationDelegate serialization) {
+		this(name, capacity, DEFAULT_BLOCK_SIZE, allowNullValues, serialization);
+	}
+
+	/**
+	 * Create a new OffHeapCache with the specified name, capacity and block size.
+	 * @param name the name of the cache
+	 * @param capacity the maximum number of bytes to store values in
+	 * @param blockSize the size of the blocks that values are stored in;
+	 * a value occupies at least one block
+	 * @param allowNullValues whether to accept and convert {@code null}
+	 * values for this cache
+	 * @param serialization the {@link SerializationDelegate} to use
+	 * to serialize cache values
+	 */
+	public OffHeapCache(String name, long capacity, int blockSize,
+			boolean allowNullValues, SerializationDelegate serialization) {
+
+		super(allowNullValues);
+		Assert.notNull(name, "Name must not be null");
+		Assert.isTrue(blockSize > 0 && blockSize <= REGION_SIZE,
+				() -> "Block size must be between 1 and " + REGION_SIZE);
+		Assert.isTrue(capacity >= blockSize, "Capacity must not be less than the block size");
+		Assert.isTrue(capacity / blockSize <= Integer.MAX_VALUE, "Capacity is too large for the block size");
+		Assert.notNull(serialization, "SerializationDelegate must not be null");
+		this.name = name;
+		this.capacity = capacity;
+		this.serialization = serialization;
+		this.blockSize = blockSize;
+		this.blocksPerRegion = REGION_SIZE / blockSize;
+		this.maxBlocks = (int) (capacity / blockSize);
+		this.regions = new ByteBuffer[(this.maxBlocks + this.blocksPerRegion - 1) / this.blocksPerRegion];
+		this.freeBlocks = new int[this.maxBlocks];
+		for (int i = 0; i < LOADER_LOCK_COUNT; i++) {
+			this.loaderLocks[i] = new Object();
+		}
+	}
+
+
+	/**
+	 * Set the time-to-live of cache entries, counted from the time they
+	 * are stored. Entries never expire by default.
+	 * @param timeToLive the time-to-live, or {@code null} or zero for none
+	 */
+	public void setTimeToLive(@Nullable Duration timeToLive) {
+		Assert.isTrue(timeToLive == null || !timeToLive.isNegative(), "Time-to-live must not be negative");
+		this.timeToLiveNanos = (timeToLive != null ? timeToLive.toNanos() : 0);
+	}
+
+	/**
+	 * Return the time-to-live of cache entries, if any.
+	 */
+	public @Nullable Duration getTimeToLive() {
+		return (this.timeToLiveNanos > 0 ? Duration.ofNanos(this.timeToLiveNanos) : null);
+	}
+
+	/**
+	 * Return the maximum number of bytes to store values in.
+	 */
+	public long getCapacity() {
+		return this.capacity;
+	}
+
+	/**
+	 * Return the number of bytes in use by the current entries, in
+	 * multiples of the block size.
+	 */
+	public long getUsedBytes() {
+		this.lock.lock();
+		try {
+			return (long) (this.nextBlock - this.freeBlockCount) * this.blockSize;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Return the number of entries in this cache, including expired entries
+	 * that have not been removed yet.
+	 */
+	public int size() {
+		this.lock.lock();
+		try {
+			return this.entries.size();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public final String getName() {
+		return this.name;
+	}
+
+	@Override
+	public final Object getNativeCache() {
+		return this;
+	}
+
+	@Override
+	protected @Nullable Object lookup(Object key) {
+		byte[] bytes;
+		this.lock.lock();
+		try {
+			Entry entry = this.entries.get(key);
+			if (entry == null) {
+				return null;
+			}
+			if (entry.isExpired(System.nanoTime())) {
+				this.entries.remove(key);
+				release(entry);
+				return null;
+			}
+			bytes = read(entry);
+		}
+		finally {
+			this.lock.unlock();
+		}
+		return deserialize(bytes);
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> @Nullable T get(Object key, Callable<T> valueLoader) {
+		Object storeValue = lookup(key);
+		if (storeValue != null) {
+			return (T) fromStoreValue(storeValue);
+		}
+		synchronized (this.loaderLocks[(key.hashCode() & Integer.MAX_VALUE) % LOADER_LOCK_COUNT]) {
+			storeValue = lookup(key);
+			if (storeValue != null) {
+				return (T) fromStoreValue(storeValue);
+			}
+			T value;
+			try {
+				value = valueLoader.call();
+			}
+			catch (Throwable ex) {
+				throw new ValueRetrievalException(key, valueLoader, ex);
+			}
+			put(key, value);
+			return value;
+		}
+	}
+
+	@Override
+	public @Nullable CompletableFuture<?> retrieve(Object key) {
+		Object value = lookup(key);
+		return (value != null ? CompletableFuture.completedFuture(
+				isAllowNullValues() ? toValueWrapper(value) : fromStoreValue(value)) : null);
+	}
+
+	@Override
+	public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+		return CompletableFuture.supplyAsync(() -> get(key, () -> valueLoader.get().join()));
+	}
+
+	@Override
+	public void put(Object key, @Nullable Object value) {
+		byte[] bytes = serialize(value);
+		this.lock.lock();
+		try {
+			store(key, bytes);
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public @Nullable ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+		byte[] bytes = serialize(value);
+		byte[] existing = null;
+		this.lock.lock();
+		try {
+			Entry entry = this.entries.get(key);
+			if (entry != null && !entry.isExpired(System.nanoTime())) {
+				existing = read(entry);
+			}
+			else {
+				store(key, bytes);
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+		return (existing != null ? toValueWrapper(deserialize(existing)) : null);
+	}
+
+	@Override
+	public void evict(Object key) {
+		evictIfPresent(key);
+	}
+
+	@Override
+	public boolean evictIfPresent(Object key) {
+		this.lock.lock();
+		try {
+			Entry entry = this.entries.remove(key);
+			if (entry != null) {
+				release(entry);
+				return true;
+			}
+			return false;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public void clear() {
+		invalidate();
+	}
+
+	@Override
+	public boolean invalidate() {
+		this.lock.lock();
+		try {
+			boolean notEmpty = !this.entries.isEmpty();
+			this.entries.values().forEach(this::release);
+			this.entries.clear();
+			return notEmpty;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+
+	private byte[] serialize(@Nullable Object userValue) {
+		Object storeValue = toStoreValue(userValue);
+		try {
+			return this.serialization.serializeToByteArray(storeValue);
+		}
+		catch (Throwable ex) {
+			throw new IllegalArgumentException("Failed to serialize cache value '" + userValue +
+					"'. Does it implement Serializable?", ex);
+		}
+	}
+
+	private Object deserialize(byte[] bytes) {
+		try {
+			return this.serialization.deserializeFromByteArray(bytes);
+		}
+		catch (Throwable ex) {
+			throw new IllegalArgumentException("Failed to deserialize cache value", ex);
+		}
+	}
+
+	/**
+	 * Store the given bytes for the given key, evicting the least recently
+	 * used entries if necessary. Must be called while holding the lock.
+	 */
+	private void store(Object key, byte[] bytes) {
+		Entry existing = this.entries.remove(key);
+		if (existing != null) {
+			release(existing);
+		}
+		int blockCount = Math.max(1, (bytes.length + this.blockSize - 1) / this.blockSize);
+		if (blockCount > this.maxBlocks) {
+			return;
+		}
+		if (!ensureFreeBlocks(blockCount)) {
+			return;
+		}
+		int[] blocks = new int[blockCount];
+		for (int i = 0; i < blockCount; i++) {
+			blocks[i] = allocateBlock();
+			int offset = i * this.blockSize;
+			int length = Math.min(this.blockSize, bytes.length - offset);
+			if (length > 0) {
+				region(blocks[i]).put(regionOffset(blocks[i]), bytes, offset, length);
+			}
+		}
+		long expiresAt = (this.timeToLiveNanos > 0 ? System.nanoTime() + this.timeToLiveNanos : 0);
+		this.entries.put(key, new Entry(blocks, bytes.length, expiresAt));
+	}
+
+	private boolean ensureFreeBlocks(int blockCount) {
+		long now = System.nanoTime();
+		if (this.timeToLiveNanos > 0 && availableBlocks() < blockCount) {
+			for (Iterator<Entry> it = this.entries.values().iterator(); it.hasNext();) {
+				Entry entry = it.next();
+				if (entry.isExpired(now)) {
+					it.remove();
+					release(entry);
+				}
+			}
+		}
+		Iterator<Entry> it = this.entries.values().iterator();
+		while (availableBlocks() < blockCount && it.hasNext()) {
+			Entry eldest = it.next();
+			it.remove();
+			release(eldest);
+		}
+		return (availableBlocks() >= blockCount);
+	}
+
+	private int availableBlocks() {
+		return this.freeBlockCount + (this.maxBlocks - this.nextBlock);
+	}
+
+	private int allocateBlock() {
+		if (this.freeBlockCount > 0) {
+			return this.freeBlocks[--this.freeBlockCount];
+		}
+		int block = this.nextBlock++;
+		int regionIndex = block / this.blocksPerRegion;
+		if (this.regions[regionIndex] == null) {
+			int regionBlocks = Math.min(this.blocksPerRegion, this.maxBlocks - regionIndex * this.blocksPerRegion);
+			this.regions[regionIndex] = ByteBuffer.allocateDirect(regionBlocks * this.blockSize);
+		}
+		return block;
+	}
+
+	private void release(Entry entry) {
+		for (int block : entry.blocks) {
+			this.freeBlocks[this.freeBlockCount++] = block;
+		}
+	}
+
+	private byte[] read(Entry entry) {
+		byte[] bytes = new byte[entry.length];
+		for (int i = 0; i < entry.blocks.length; i++) {
+			int offset = i * this.blockSize;
+			int length = Math.min(this.blockSize, entry.length - offset);
+			if (length > 0) {
+				region(entry.blocks[i]).get(regionOffset(entry.blocks[i]), bytes, offset, length);
+			}
+		}
+		return bytes;
+	}
+
+	private ByteBuffer region(int block) {
+		ByteBuffer region = this.regions[block / this.blocksPerRegion];
+		Assert.state(region != null, "Region not allocated");
+		return region;
+	}
+
+	private int regionOffset(int block) {
+		return (block % this.blocksPerRegion) * this.blockSize;
+	}
+
+
+	/**
+	 * Bookkeeping for a cache entry: the blocks that hold the serialized value,
+	 * its length in bytes, and its expiration time, if any.
+	 */
+	private record Entry(int[] blocks, int length, long expiresAt) {
+
+		boolean isExpired(long now) {
+			return (this.expiresAt != 0 && now - this.expiresAt >= 0);
+		}
+	}
+
+}
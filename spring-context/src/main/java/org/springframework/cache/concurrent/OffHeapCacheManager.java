@@ -0,0 +1,253 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.concurrent;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.serializer.support.SerializationDelegate;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * {@link CacheManager} implementation that lazily builds {@link OffHeapCache}
+ * instances for each {@link #getCache} request. Also supports a 'static' mode where
+ * the set of cache names is pre-defined through {@link #setCacheNames}, with no
+ * dynamic creation of further cache regions at runtime.
+ *
+ * <p>Each cache stores serialized values in direct memory, bounded by the
+ * {@linkplain #setCapacity capacity} configured for all caches of this manager,
+ * evicting the least recently used entries once that capacity is reached.
+ * As a consequence, all cached values must be serializable.
+ *
+ * @since 7.1
+ * @see OffHeapCache
+ */
+public class OffHeapCacheManager implements CacheManager, BeanClassLoaderAware {
+
+	/**
+	 * The default capacity of each cache: 64 MB.
+	 */
+	public static final long DEFAULT_CAPACITY = 64 * 1024 * 1024;
+
+
+	private final ConcurrentMap<String, Cache> cacheMap = new ConcurrentHashMap<>(16);
+
+	private volatile boolean dynamic = true;
+
+	private boolean allowNullValues = true;
+
+	private long capacity = DEFAULT_CAPACITY;
+
+	private int blockSize = OffHeapCache.DEFAULT_BLOCK_SIZE;
+
+	private @Nullable Duration timeToLive;
+
+	private SerializationDelegate serialization = new SerializationDelegate(OffHeapCacheManager.class.getClassLoader());
+
+
+	/**
+	 * Construct a dynamic OffHeapCacheManager,
+	 * lazily creating cache instances as they are being requested.
+	 */
+	public OffHeapCacheManager() {
+	}
+
+	/**
+	 * Construct a static OffHeapCacheManager,
+	 * managing caches for the specified cache names only.
+	 */
+	public OffHeapCacheManager(String... cacheNames) {
+		setCacheNames(Arrays.asList(cacheNames));
+	}
+
+
+	/**
+	 * Specify the set of cache names for this CacheManager's 'static' mode.
+	 * <p>The number of caches and their names will be fixed after a call
+	 * to this method, with no creation of further cache regions at runtime.
+	 * <p>Calling this method with a {@code null} collection argument resets
+	 * the mode to 'dynamic', allowing for further creation of caches again.
+	 * @see #resetCaches()
+	 */
+	public void setCacheNames(@Nullable Collection<String> cacheNames) {
+		if (cacheNames != null) {
+			for (String name : cacheNames) {
+				this.cacheMap.put(name, createOffHeapCache(name));
+			}
+			this.dynamic = false;
+		}
+		else {
+			this.dynamic = true;
+		}
+	}
+
+	/**
+	 * Specify whether to accept and convert {@code null} values for all caches
+	 * in this cache manager.
+	 * <p>Default is "true".
+	 * <p>Note: A change of the null-value setting will reset all existing caches,
+	 * if any, to reconfigure them with the new null-value requirement.
+	 */
+	public void setAllowNullValues(boolean allowNullValues) {
+		if (allowNullValues != this.allowNullValues) {
+			this.allowNullValues = allowNullValues;
+			recreateCaches();
+		}
+	}
+
+	/**
+	 * Return whether this cache manager accepts and converts {@code null} values
+	 * for all of its caches.
+	 */
+	public boolean isAllowNullValues() {
+		return this.allowNullValues;
+	}
+
+	/**
+	 * Specify the maximum number of bytes that each cache stores values in.
+	 * <p>Default is {@value #DEFAULT_CAPACITY}.
+	 * <p>Note: A change of the capacity will reset all existing caches,
+	 * if any, to reconfigure them with the new capacity.
+	 */
+	public void setCapacity(long capacity) {
+		Assert.isTrue(capacity > 0, "Capacity must be greater than 0");
+		if (capacity != this.capacity) {
+			this.capacity = capacity;
+			recreateCaches();
+		}
+	}
+
+	/**
+	 * Return the maximum number of bytes that each cache stores values in.
+	 */
+	public long getCapacity() {
+		return this.capacity;
+	}
+
+	/**
+	 * Specify the size of the blocks that values are stored in.
+	 * <p>Default is {@value OffHeapCache#DEFAULT_BLOCK_SIZE}.
+	 * <p>Note: A change of the block size will reset all existing caches,
+	 * if any, to reconfigure them with the new block size.
+	 */
+	public void setBlockSize(int blockSize) {
+		Assert.isTrue(blockSize > 0, "Block size must be greater than 0");
+		if (blockSize != this.blockSize) {
+			this.blockSize = blockSize;
+			recreateCaches();
+		}
+	}
+
+	/**
+	 * Return the size of the blocks that values are stored in.
+	 */
+	public int getBlockSize() {
+		return this.blockSize;
+	}
+
+	/**
+	 * Specify the time-to-live of the entries of all caches, counted from
+	 * the time they are stored. Entries never expire by default.
+	 * <p>Note: A change of the time-to-live will reset all existing caches,
+	 * if any, to reconfigure them with the new time-to-live.
+	 */
+	public void setTimeToLive(@Nullable Duration timeToLive) {
+		if (!ObjectUtils.nullSafeEquals(timeToLive, this.timeToLive)) {
+			this.timeToLive = timeToLive;
+			recreateCaches();
+		}
+	}
+
+	/**
+	 * Return the time-to-live of the entries of all caches, if any.
+	 */
+	public @Nullable Duration getTimeToLive() {
+		return this.timeToLive;
+	}
+
+	@Override
+	public void setBeanClassLoader(ClassLoader classLoader) {
+		this.serialization = new SerializationDelegate(classLoader);
+		// Need to recreate all Cache instances with new ClassLoader...
+		recreateCaches();
+	}
+
+
+	@Override
+	public @Nullable Cache getCache(String name) {
+		Cache cache = this.cacheMap.get(name);
+		if (cache == null && this.dynamic) {
+			cache = this.cacheMap.computeIfAbsent(name, this::createOffHeapCache);
+		}
+		return cache;
+	}
+
+	@Override
+	public Collection<String> getCacheNames() {
+		return Collections.unmodifiableSet(this.cacheMap.keySet());
+	}
+
+	/**
+	 * Reset this cache manager's caches, removing them completely for on-demand
+	 * re-creation in 'dynamic' mode, or simply clearing their entries otherwise.
+	 */
+	@Override
+	public void resetCaches() {
+		this.cacheMap.values().forEach(Cache::clear);
+		if (this.dynamic) {
+			this.cacheMap.clear();
+		}
+	}
+
+	/**
+	 * Remove the specified cache from this cache manager.
+	 * @param name the name of the cache
+	 */
+	public void removeCache(String name) {
+		this.cacheMap.remove(name);
+	}
+
+	private void recreateCaches() {
+		for (Map.Entry<String, Cache> entry : this.cacheMap.entrySet()) {
+			entry.setValue(createOffHeapCache(entry.getKey()));
+		}
+	}
+
+	/**
+	 * Create a new OffHeapCache instance for the specified cache name.
+	 * @param name the name of the cache
+	 * @return the OffHeapCache (or a decorator thereof)
+	 */
+	protected Cache createOffHeapCache(String name) {
+		OffHeapCache cache = new OffHeapCache(
+				name, this.capacity, this.blockSize, isAllowNullValues(), this.serialization);
+		cache.setTimeToLive(this.timeToLive);
+		return cache;
+	}
+
+}
@@ -21,6 +21,8 @@ import java.lang.reflect.Proxy;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -52,6 +54,7 @@ import org.springframework.cache.CacheManager;
 import org.springframework.context.expression.AnnotatedElementKey;
 import org.springframework.context.expression.BeanFactoryResolver;
 import org.springframework.core.BridgeMethodResolver;
+import org.springframework.core.CollectionFactory;
 import org.springframework.core.KotlinDetector;
 import org.springframework.core.ReactiveAdapter;
 import org.springframework.core.ReactiveAdapterRegistry;
@@ -414,6 +417,10 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 			// Special handling of synchronized invocation
 			return executeSynchronized(invoker, method, contexts);
 		}
+		if (contexts.isBatch()) {
+			// Special handling of per-element caching for a collection argument
+			return executeBatch(invoker, method, contexts);
+		}
 
 		// Process any early evictions
 		processCacheEvicts(contexts.get(CacheEvictOperation.class), true,
@@ -485,6 +492,80 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		}
 	}
 
+	private @Nullable Object executeBatch(CacheOperationInvoker invoker, Method method, CacheOperationContexts contexts) {
+		CacheOperationContext context = contexts.get(CacheableOperation.class).iterator().next();
+		if (!(context.getArgs()[0] instanceof Collection<?> elements) ||
+				!isConditionPassing(context, CacheOperationExpressionEvaluator.NO_RESULT)) {
+			// No caching required, just call the underlying method
+			return invokeOperation(invoker);
+		}
+		Cache cache = context.getCaches().iterator().next();
+		Map<@Nullable Object, Object> keys = CollectionUtils.newLinkedHashMap(elements.size());
+		for (Object element : elements) {
+			keys.put(element, generateElementKey(context, element));
+		}
+		Map<Object, Cache.ValueWrapper> cached = doGetAll(cache, new LinkedHashSet<>(keys.values()));
+		Map<?, ?> loaded = Collections.emptyMap();
+		List<@Nullable Object> missingElements = new ArrayList<>();
+		for (Map.Entry<@Nullable Object, Object> entry : keys.entrySet()) {
+			if (!cached.containsKey(entry.getValue())) {
+				missingElements.add(entry.getKey());
+			}
+		}
+		if (!missingElements.isEmpty()) {
+			if (logger.isTraceEnabled()) {
+				logger.trace("No cache entries for elements " + missingElements + " in cache '" + cache.getName() + "'");
+			}
+			// Invoke the method with the missing elements only, as far as supported by the invoker
+			@Nullable Object[] args = {adaptMissingElements(method.getParameterTypes()[0], missingElements, elements)};
+			Object returnValue = invokeOperation(() -> invoker.invoke(args));
+			if (returnValue != null) {
+				loaded = (Map<?, ?>) returnValue;
+				Map<Object, @Nullable Object> toStore = CollectionUtils.newLinkedHashMap(loaded.size());
+				loaded.forEach((element, value) -> {
+					Object key = keys.get(element);
+					toStore.put((key != null ? key : generateElementKey(context, element)), value);
+				});
+				doPutAll(cache, toStore);
+			}
+		}
+		Map<@Nullable Object, @Nullable Object> result = CollectionUtils.newLinkedHashMap(keys.size());
+		for (Map.Entry<@Nullable Object, Object> entry : keys.entrySet()) {
+			Cache.ValueWrapper wrapper = cached.get(entry.getValue());
+			if (wrapper != null) {
+				result.put(entry.getKey(), wrapper.get());
+			}
+			else if (loaded.containsKey(entry.getKey())) {
+				result.put(entry.getKey(), loaded.get(entry.getKey()));
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Adapt the missing elements of a batch operation to the given parameter type,
+	 * falling back to all elements if a collection of that type cannot be created.
+	 */
+	private Collection<?> adaptMissingElements(
+			Class<?> parameterType, List<@Nullable Object> missingElements, Collection<?> elements) {
+
+		if (parameterType.isInstance(missingElements)) {
+			return missingElements;
+		}
+		try {
+			Collection<@Nullable Object> collection = CollectionFactory.createCollection(parameterType, missingElements.size());
+			collection.addAll(missingElements);
+			return collection;
+		}
+		catch (IllegalArgumentException ex) {
+			if (logger.isTraceEnabled()) {
+				logger.trace("Cannot create collection of type [" + parameterType.getName() +
+						"] for missing elements, invoking method with all elements", ex);
+			}
+			return elements;
+		}
+	}
+
 	/**
 	 * Find a cached value only for {@link CacheableOperation} that passes the condition.
 	 * @param contexts the cacheable operations
@@ -738,6 +819,16 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 		return key;
 	}
 
+	private Object generateElementKey(CacheOperationContext context, @Nullable Object element) {
+		Object key = context.generateElementKey(element);
+		if (key == null) {
+			throw new IllegalArgumentException(
+					"Null key returned for element '" + element + "' of cache operation [" +
+					context.metadata.operation + "]");
+		}
+		return key;
+	}
+
 
 	private class CacheOperationContexts {
 
@@ -745,6 +836,8 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 
 		private final boolean sync;
 
+		private final boolean batch;
+
 		boolean processed;
 
 		public CacheOperationContexts(Collection<? extends CacheOperation> operations, Method method,
@@ -755,6 +848,7 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 				this.contexts.add(op.getClass(), getOperationContext(op, method, args, target, targetClass));
 			}
 			this.sync = determineSyncFlag(method);
+			this.batch = determineBatchFlag(method);
 		}
 
 		public Collection<CacheOperationContext> get(Class<? extends CacheOperation> operationClass) {
@@ -766,6 +860,10 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 			return this.sync;
 		}
 
+		public boolean isBatch() {
+			return this.batch;
+		}
+
 		private boolean determineSyncFlag(Method method) {
 			List<CacheOperationContext> cacheableContexts = this.contexts.get(CacheableOperation.class);
 			if (cacheableContexts == null) {  // no @Cacheable operation at all
@@ -801,6 +899,46 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 			}
 			return false;
 		}
+
+		private boolean determineBatchFlag(Method method) {
+			List<CacheOperationContext> cacheableContexts = this.contexts.get(CacheableOperation.class);
+			if (cacheableContexts == null) {  // no @Cacheable operation at all
+				return false;
+			}
+			boolean batchEnabled = false;
+			for (CacheOperationContext context : cacheableContexts) {
+				if (context.getOperation() instanceof CacheableOperation cacheable && cacheable.isBatch()) {
+					batchEnabled = true;
+					break;
+				}
+			}
+			if (batchEnabled) {
+				if (this.contexts.size() > 1 || cacheableContexts.size() > 1) {
+					throw new IllegalStateException(
+							"A batch=true operation cannot be combined with other cache operations on '" + method + "'");
+				}
+				CacheOperationContext cacheableContext = cacheableContexts.iterator().next();
+				CacheableOperation operation = (CacheableOperation) cacheableContext.getOperation();
+				if (cacheableContext.getCaches().size() > 1) {
+					throw new IllegalStateException(
+							"A batch=true operation is restricted to a single cache on '" + operation + "'");
+				}
+				if (operation.isSync() || StringUtils.hasText(operation.getKey()) ||
+						StringUtils.hasText(operation.getUnless())) {
+					throw new IllegalStateException(
+							"A batch=true operation does not support the sync, key and unless attributes on '" +
+							operation + "'");
+				}
+				if (method.getParameterCount() != 1 || !Collection.class.isAssignableFrom(method.getParameterTypes()[0]) ||
+						!method.getReturnType().isAssignableFrom(LinkedHashMap.class)) {
+					throw new IllegalStateException(
+							"A batch=true operation requires a single Collection parameter and a Map return type on '" +
+							method + "'");
+				}
+				return true;
+			}
+			return false;
+		}
 	}
 
 
@@ -940,6 +1078,15 @@ public abstract class CacheAspectSupport extends AbstractCacheInvoker
 			return this.key;
 		}
 
+		/**
+		 * Compute the key for the given element of the collection argument of a
+		 * batch caching operation, as if the method was invoked for that element.
+		 * @since 7.1
+		 */
+		protected @Nullable Object generateElementKey(@Nullable Object element) {
+			return this.metadata.keyGenerator.generate(this.target, this.metadata.method, new @Nullable Object[] {element});
+		}
+
 		/**
 		 * Get generated key.
 		 * @return generated key
@@ -23,6 +23,7 @@ import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.aop.ProxyMethodInvocation;
 import org.springframework.util.Assert;
 
 /**
@@ -49,12 +50,18 @@ public class CacheInterceptor extends CacheAspectSupport implements MethodInterc
 	public @Nullable Object invoke(final MethodInvocation invocation) throws Throwable {
 		Method method = invocation.getMethod();
 
-		CacheOperationInvoker aopAllianceInvoker = () -> {
-			try {
-				return invocation.proceed();
+		CacheOperationInvoker aopAllianceInvoker = new CacheOperationInvoker() {
+			@Override
+			public @Nullable Object invoke() {
+				return proceed(invocation);
 			}
-			catch (Throwable ex) {
-				throw new CacheOperationInvoker.ThrowableWrapper(ex);
+
+			@Override
+			public @Nullable Object invoke(@Nullable Object[] args) {
+				if (invocation instanceof ProxyMethodInvocation proxyInvocation) {
+					return proceed(proxyInvocation.invocableClone(args));
+				}
+				return invoke();
 			}
 		};
 
@@ -68,4 +75,13 @@ public class CacheInterceptor extends CacheAspectSupport implements MethodInterc
 		}
 	}
 
+	private static @Nullable Object proceed(MethodInvocation invocation) {
+		try {
+			return invocation.proceed();
+		}
+		catch (Throwable ex) {
+			throw new CacheOperationInvoker.ThrowableWrapper(ex);
+		}
+	}
+
 }
@@ -40,6 +40,22 @@ public interface CacheOperationInvoker {
 	 */
 	@Nullable Object invoke() throws ThrowableWrapper;
 
+	/**
+	 * Invoke the cache operation defined by this instance with the given
+	 * arguments instead of the arguments of the original invocation, for
+	 * example with the subset of keys that are not cached yet.
+	 * <p>The default implementation ignores the given arguments and delegates
+	 * to {@link #invoke()}, so callers must be prepared for a result that
+	 * corresponds to the original arguments.
+	 * @param args the arguments to invoke the underlying method with
+	 * @return the result of the operation
+	 * @throws ThrowableWrapper if an error occurred while invoking the operation
+	 * @since 7.1
+	 */
+	default @Nullable Object invoke(@Nullable Object[] args) throws ThrowableWrapper {
+		return invoke();
+	}
+
 
 	/**
 	 * Wrap any exception thrown while invoking {@link #invoke()}.
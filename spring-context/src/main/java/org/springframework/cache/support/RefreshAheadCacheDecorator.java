@@ -0,0 +1,291 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.support;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.cache.Cache;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * Cache decorator which refreshes entries ahead of their expiration: once an
+ * entry is older than the configured {@code refreshAfter} duration, a lookup
+ * through {@link #retrieve(Object, Supplier)} still returns the cached value,
+ * but also reloads the entry in the background through the given value loader.
+ *
+ * <p>This avoids latency spikes when frequently accessed entries expire in the
+ * target cache, provided that {@code refreshAfter} is shorter than the
+ * time-to-live of the target cache. Concurrent reloads of the same key are
+ * deduplicated. A failed reload leaves the current entry in place.
+ *
+ * <p>An asynchronous value loader is invoked on the calling thread, with the
+ * reloaded value being stored once its {@link CompletableFuture} completes.
+ * A synchronous value loader passed to {@link #get(Object, Callable)} would
+ * have to be invoked on another thread instead, which is only safe if it does
+ * not depend on thread-bound context of the caller such as transactions,
+ * security context or request scope. This is not the case for the value loader
+ * of a {@code @Cacheable(sync=true)} method, for example. Refreshing through
+ * synchronous value loaders on the configured {@link Executor} therefore needs
+ * to be enabled explicitly through {@link #setRefreshCallableLoaders}.
+ *
+ * <p>With {@link org.springframework.cache.annotation.Cacheable @Cacheable},
+ * refresh-ahead applies to {@code sync=true} operations only, since other
+ * operations do not hand a value loader to the cache: for methods returning
+ * {@code CompletableFuture} or a reactive type by default, and for other methods
+ * only if refreshing through synchronous value loaders has been enabled. Such a
+ * decorator is typically applied through {@link AbstractCacheManager#decorateCache}.
+ *
+ * <p>Values are stored as-is in the target cache. The time at which each entry
+ * was written is tracked within this decorator in a soft-referenced map, so it
+ * is only known for entries written through this decorator instance. An entry
+ * written elsewhere is considered to be written when first looked up here.
+ *
+ * @since 7.1
+ */
+public class RefreshAheadCacheDecorator implements Cache {
+
+	private static final Log logger = LogFactory.getLog(RefreshAheadCacheDecorator.class);
+
+
+	private final Cache targetCache;
+
+	private final long refreshAfterMillis;
+
+	private final Executor executor;
+
+	private boolean refreshCallableLoaders = false;
+
+	private final Map<Object, Long> writeTimes = new ConcurrentReferenceHashMap<>();
+
+	private final Map<Object, Boolean> refreshing = new ConcurrentHashMap<>();
+
+
+	/**
+	 * Create a new RefreshAheadCacheDecorator for the given target Cache.
+	 * @param targetCache the target Cache to decorate
+	 * @param refreshAfter the age after which an entry is reloaded in the
+	 * background on access
+	 * @param executor the executor to reload entries through synchronous
+	 * value loaders on, if {@linkplain #setRefreshCallableLoaders enabled}
+	 */
+	public RefreshAheadCacheDecorator(Cache targetCache, Duration refreshAfter, Executor executor) {
+		Assert.notNull(targetCache, "Target Cache must not be null");
+		Assert.isTrue(refreshAfter != null && !refreshAfter.isNegative(), "Refresh duration must not be negative");
+		Assert.notNull(executor, "Executor must not be null");
+		this.targetCache = targetCache;
+		this.refreshAfterMillis = refreshAfter.toMillis();
+		this.executor = executor;
+	}
+
+
+	/**
+	 * Specify whether to refresh entries looked up through
+	 * {@link #get(Object, Callable)} by invoking the given value loader on the
+	 * configured executor.
+	 * <p>Default is {@code false}. Switch this to {@code true} only if the value
+	 * loaders are safe to be invoked on another thread than the caller's, that is,
+	 * if they do not depend on thread-bound context such as transactions, security
+	 * context or request scope. Note that this is generally not the case for the
+	 * value loader of a {@code @Cacheable(sync=true)} method.
+	 */
+	public void setRefreshCallableLoaders(boolean refreshCallableLoaders) {
+		this.refreshCallableLoaders = refreshCallableLoaders;
+	}
+
+	/**
+	 * Return whether to refresh entries through synchronous value loaders.
+	 */
+	public boolean isRefreshCallableLoaders() {
+		return this.refreshCallableLoaders;
+	}
+
+	/**
+	 * Return the target Cache that this Cache should delegate to.
+	 */
+	public Cache getTargetCache() {
+		return this.targetCache;
+	}
+
+	@Override
+	public String getName() {
+		return this.targetCache.getName();
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return this.targetCache.getNativeCache();
+	}
+
+	@Override
+	public @Nullable ValueWrapper get(Object key) {
+		return this.targetCache.get(key);
+	}
+
+	@Override
+	public <T> @Nullable T get(Object key, @Nullable Class<T> type) {
+		return this.targetCache.get(key, type);
+	}
+
+	@Override
+	public <T> @Nullable T get(Object key, Callable<T> valueLoader) {
+		T value = this.targetCache.get(key, () -> {
+			T loaded = valueLoader.call();
+			recordWrite(key);
+			return loaded;
+		});
+		if (this.refreshCallableLoaders && isRefreshDue(key)) {
+			refresh(key, () -> {
+				put(key, valueLoader.call());
+				return null;
+			});
+		}
+		return value;
+	}
+
+	@Override
+	public @Nullable CompletableFuture<?> retrieve(Object key) {
+		return this.targetCache.retrieve(key);
+	}
+
+	@Override
+	public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+		CompletableFuture<T> reloaded = null;
+		if (isRefreshDue(key) && this.refreshing.putIfAbsent(key, Boolean.TRUE) == null) {
+			try {
+				// Invoke the value loader on the calling thread, storing the value once available
+				reloaded = valueLoader.get();
+			}
+			catch (RuntimeException ex) {
+				this.refreshing.remove(key);
+				throw ex;
+			}
+			reloaded.whenComplete((value, ex) -> {
+				try {
+					if (ex == null) {
+						put(key, value);
+					}
+					else if (logger.isDebugEnabled()) {
+						logger.debug("Failed to refresh entry with key '" + key + "' in cache '" + getName() + "'", ex);
+					}
+				}
+				finally {
+					this.refreshing.remove(key);
+				}
+			});
+		}
+		CompletableFuture<T> reloadedToUse = reloaded;
+		return this.targetCache.retrieve(key, () -> {
+			// Reuse a reload in progress for an entry that is not present anymore
+			CompletableFuture<T> loaded = (reloadedToUse != null ? reloadedToUse : valueLoader.get());
+			return loaded.whenComplete((value, ex) -> {
+				if (ex == null) {
+					recordWrite(key);
+				}
+			});
+		});
+	}
+
+	@Override
+	public void put(Object key, @Nullable Object value) {
+		this.targetCache.put(key, value);
+		recordWrite(key);
+	}
+
+	@Override
+	public @Nullable ValueWrapper putIfAbsent(Object key, @Nullable Object value) {
+		ValueWrapper existing = this.targetCache.putIfAbsent(key, value);
+		if (existing == null) {
+			recordWrite(key);
+		}
+		return existing;
+	}
+
+	@Override
+	public void evict(Object key) {
+		this.targetCache.evict(key);
+		this.writeTimes.remove(key);
+	}
+
+	@Override
+	public boolean evictIfPresent(Object key) {
+		this.writeTimes.remove(key);
+		return this.targetCache.evictIfPresent(key);
+	}
+
+	@Override
+	public void clear() {
+		this.targetCache.clear();
+		this.writeTimes.clear();
+	}
+
+	@Override
+	public boolean invalidate() {
+		this.writeTimes.clear();
+		return this.targetCache.invalidate();
+	}
+
+
+	private void recordWrite(Object key) {
+		this.writeTimes.put(key, System.currentTimeMillis());
+	}
+
+	private boolean isRefreshDue(Object key) {
+		long now = System.currentTimeMillis();
+		Long writeTime = this.writeTimes.putIfAbsent(key, now);
+		return (writeTime != null && now - writeTime >= this.refreshAfterMillis);
+	}
+
+	private void refresh(Object key, Callable<?> reload) {
+		if (this.refreshing.putIfAbsent(key, Boolean.TRUE) != null) {
+			return;
+		}
+		try {
+			this.executor.execute(() -> {
+				try {
+					reload.call();
+				}
+				catch (Throwable ex) {
+					if (logger.isDebugEnabled()) {
+						logger.debug("Failed to refresh entry with key '" + key + "' in cache '" + getName() + "'", ex);
+					}
+				}
+				finally {
+					this.refreshing.remove(key);
+				}
+			});
+		}
+		catch (RejectedExecutionException ex) {
+			this.refreshing.remove(key);
+			if (logger.isDebugEnabled()) {
+				logger.debug("Refresh of entry with key '" + key + "' in cache '" + getName() + "' rejected", ex);
+			}
+		}
+	}
+
+}
@@ -19,11 +19,13 @@ package org.springframework.context.annotation;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.IntStream;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -52,6 +54,7 @@ import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
 import org.springframework.core.type.classreading.ClassFormatException;
 import org.springframework.core.type.classreading.MetadataReader;
 import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.core.type.classreading.PersistentCachingMetadataReaderFactory;
 import org.springframework.core.type.filter.AnnotationTypeFilter;
 import org.springframework.core.type.filter.AssignableTypeFilter;
 import org.springframework.core.type.filter.TypeFilter;
@@ -106,6 +109,29 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 	private static final boolean shouldIgnoreClassFormatException =
 			SpringProperties.getFlag(IGNORE_CLASSFORMAT_PROPERTY_NAME);
 
+	/**
+	 * System property that instructs Spring to keep the metadata of scanned classes
+	 * in the specified file, avoiding to read and parse unchanged class files again
+	 * on the next start of the application.
+	 * <p>Only applies to the default {@link MetadataReaderFactory}. Note that class
+	 * files are always read through ASM then, also on JDK 24 and higher.
+	 * @since 7.1
+	 * @see PersistentCachingMetadataReaderFactory
+	 */
+	public static final String SCAN_CACHE_FILE_PROPERTY_NAME = "spring.scan.cache-file";
+
+	private static final @Nullable String scanCacheFile = SpringProperties.getProperty(SCAN_CACHE_FILE_PROPERTY_NAME);
+
+	/**
+	 * System property that instructs Spring to read the metadata of candidate
+	 * classes in parallel by default during classpath scanning.
+	 * @since 7.1
+	 * @see #setParallelScanning
+	 */
+	public static final String PARALLEL_SCANNING_PROPERTY_NAME = "spring.scan.parallel";
+
+	private static final boolean defaultParallelScanning = SpringProperties.getFlag(PARALLEL_SCANNING_PROPERTY_NAME);
+
 
 	protected final Log logger = LogFactory.getLog(getClass());
 
@@ -125,6 +151,8 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 
 	private @Nullable CandidateComponentsIndex componentsIndex;
 
+	private boolean parallelScanning = defaultParallelScanning;
+
 
 	/**
 	 * Protected constructor for flexible subclass initialization.
@@ -264,7 +292,9 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 	@Override
 	public void setResourceLoader(@Nullable ResourceLoader resourceLoader) {
 		this.resourcePatternResolver = ResourcePatternUtils.getResourcePatternResolver(resourceLoader);
-		this.metadataReaderFactory = new CachingMetadataReaderFactory(resourceLoader);
+		this.metadataReaderFactory = (scanCacheFile != null ?
+				new PersistentCachingMetadataReaderFactory(Path.of(scanCacheFile), resourceLoader) :
+				new CachingMetadataReaderFactory(resourceLoader));
 		this.componentsIndex = CandidateComponentsIndexLoader.loadIndex(this.resourcePatternResolver.getClassLoader());
 	}
 
@@ -298,11 +328,30 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 	 */
 	public final MetadataReaderFactory getMetadataReaderFactory() {
 		if (this.metadataReaderFactory == null) {
-			this.metadataReaderFactory = new CachingMetadataReaderFactory();
+			this.metadataReaderFactory = (scanCacheFile != null ?
+					new PersistentCachingMetadataReaderFactory(Path.of(scanCacheFile), (ClassLoader) null) :
+					new CachingMetadataReaderFactory());
 		}
 		return this.metadataReaderFactory;
 	}
 
+	/**
+	 * Specify whether to read the metadata of candidate classes in parallel,
+	 * in the common {@link java.util.concurrent.ForkJoinPool}.
+	 * <p>Default is {@code false}, unless the "spring.scan.parallel" system
+	 * property has been set to {@code true}. Candidate classes are filtered
+	 * in their original order in any case, with their metadata read upfront.
+	 * The {@link MetadataReaderFactory} needs to be thread-safe for this purpose.
+	 * <p>Consider combining this with parallel resolution of the class path
+	 * locations to scan, see
+	 * {@link PathMatchingResourcePatternResolver#setParallelResolution}.
+	 * @since 7.1
+	 * @see #PARALLEL_SCANNING_PROPERTY_NAME
+	 */
+	public void setParallelScanning(boolean parallelScanning) {
+		this.parallelScanning = parallelScanning;
+	}
+
 
 	/**
 	 * Scan the component index or class path for candidate components.
@@ -449,11 +498,13 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 			String packageSearchPattern = ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX +
 					resolveBasePackage(basePackage) + '/' + this.resourcePattern;
 			Resource[] resources = getResourcePatternResolver().getResources(packageSearchPattern);
+			Object[] metadataReaders = (this.parallelScanning && resources.length > 1 ?
+					readMetadataInParallel(resources) : null);
 			boolean traceEnabled = logger.isTraceEnabled();
 			boolean debugEnabled = logger.isDebugEnabled();
-			for (Resource resource : resources) {
-				String filename = resource.getFilename();
-				if (filename != null && filename.contains(ClassUtils.CGLIB_CLASS_SEPARATOR)) {
+			for (int i = 0; i < resources.length; i++) {
+				Resource resource = resources[i];
+				if (isCglibClassFile(resource)) {
 					// Ignore CGLIB-generated classes in the classpath
 					continue;
 				}
@@ -461,7 +512,9 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 					logger.trace("Scanning " + resource);
 				}
 				try {
-					MetadataReader metadataReader = getMetadataReaderFactory().getMetadataReader(resource);
+					MetadataReader metadataReader = (metadataReaders != null ?
+							getPrefetchedMetadataReader(metadataReaders[i]) :
+							getMetadataReaderFactory().getMetadataReader(resource));
 					if (isCandidateComponent(metadataReader)) {
 						ScannedGenericBeanDefinition sbd = new ScannedGenericBeanDefinition(metadataReader);
 						sbd.setSource(resource);
@@ -508,10 +561,64 @@ public class ClassPathScanningCandidateComponentProvider implements EnvironmentC
 		catch (IOException ex) {
 			throw new BeanDefinitionStoreException("I/O failure during classpath scanning", ex);
 		}
+		if (this.metadataReaderFactory instanceof PersistentCachingMetadataReaderFactory pcmrf) {
+			try {
+				pcmrf.save();
+			}
+			catch (IOException ex) {
+				if (logger.isWarnEnabled()) {
+					logger.warn("Failed to write class metadata to " + pcmrf.getCacheFile(), ex);
+				}
+			}
+		}
 		return candidates;
 	}
 
 
+	/**
+	 * Read the metadata of the given candidate class files concurrently.
+	 * @return for each resource, either the {@link MetadataReader} or the
+	 * exception thrown when reading its metadata ({@code null} for skipped
+	 * CGLIB-generated classes)
+	 */
+	private @Nullable Object[] readMetadataInParallel(Resource[] resources) {
+		MetadataReaderFactory metadataReaderFactory = getMetadataReaderFactory();
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		@Nullable Object[] metadataReaders = new Object[resources.length];
+		IntStream.range(0, resources.length).parallel().forEach(i -> {
+			Resource resource = resources[i];
+			if (isCglibClassFile(resource)) {
+				return;
+			}
+			Thread currentThread = Thread.currentThread();
+			ClassLoader previousClassLoader = currentThread.getContextClassLoader();
+			currentThread.setContextClassLoader(contextClassLoader);
+			try {
+				metadataReaders[i] = metadataReaderFactory.getMetadataReader(resource);
+			}
+			catch (Throwable ex) {
+				metadataReaders[i] = ex;
+			}
+			finally {
+				currentThread.setContextClassLoader(previousClassLoader);
+			}
+		});
+		return metadataReaders;
+	}
+
+	private static MetadataReader getPrefetchedMetadataReader(@Nullable Object metadataReader) throws Throwable {
+		if (metadataReader instanceof Throwable ex) {
+			throw ex;
+		}
+		Assert.state(metadataReader instanceof MetadataReader, "No MetadataReader read");
+		return (MetadataReader) metadataReader;
+	}
+
+	private static boolean isCglibClassFile(Resource resource) {
+		String filename = resource.getFilename();
+		return (filename != null && filename.contains(ClassUtils.CGLIB_CLASS_SEPARATOR));
+	}
+
 	/**
 	 * Resolve the specified base package into a pattern specification for
 	 * the package search path.
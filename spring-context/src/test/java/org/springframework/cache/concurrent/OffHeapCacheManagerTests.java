@@ -0,0 +1,71 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.concurrent;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link OffHeapCacheManager}.
+ */
+class OffHeapCacheManagerTests {
+
+	@Test
+	void dynamicMode() {
+		CacheManager cm = new OffHeapCacheManager();
+		Cache cache1 = cm.getCache("c1");
+		assertThat(cache1).isInstanceOf(OffHeapCache.class);
+		assertThat(cm.getCache("c1")).isSameAs(cache1);
+		assertThat(cm.getCacheNames()).containsExactly("c1");
+
+		cache1.put("key", "value");
+		assertThat(cache1.get("key").get()).isEqualTo("value");
+		cache1.put("key", null);
+		assertThat(cache1.get("key").get()).isNull();
+	}
+
+	@Test
+	void staticMode() {
+		OffHeapCacheManager cm = new OffHeapCacheManager("c1", "c2");
+		assertThat(cm.getCacheNames()).containsOnly("c1", "c2");
+		assertThat(cm.getCache("c3")).isNull();
+	}
+
+	@Test
+	void changeSettingsRecreatesCaches() {
+		OffHeapCacheManager cm = new OffHeapCacheManager("c1");
+		OffHeapCache cache1 = (OffHeapCache) cm.getCache("c1");
+		cache1.put("key", "value");
+		assertThat(cache1.getCapacity()).isEqualTo(OffHeapCacheManager.DEFAULT_CAPACITY);
+		assertThat(cache1.getTimeToLive()).isNull();
+
+		cm.setCapacity(1024 * 1024);
+		cm.setTimeToLive(Duration.ofMinutes(1));
+		OffHeapCache cache1x = (OffHeapCache) cm.getCache("c1");
+		assertThat(cache1x).isNotSameAs(cache1);
+		assertThat(cache1x.getCapacity()).isEqualTo(1024 * 1024);
+		assertThat(cache1x.getTimeToLive()).isEqualTo(Duration.ofMinutes(1));
+		assertThat(cache1x.get("key")).isNull();
+	}
+
+}
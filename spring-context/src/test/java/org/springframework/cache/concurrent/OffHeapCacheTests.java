@@ -0,0 +1,137 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.concurrent;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.context.testfixture.cache.AbstractValueAdaptingCacheTests;
+import org.springframework.core.serializer.support.SerializationDelegate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link OffHeapCache}.
+ */
+class OffHeapCacheTests extends AbstractValueAdaptingCacheTests<OffHeapCache> {
+
+	private final SerializationDelegate serialization =
+			new SerializationDelegate(OffHeapCacheTests.class.getClassLoader());
+
+	private OffHeapCache cache;
+
+	private OffHeapCache cacheNoNull;
+
+
+	@BeforeEach
+	void setup() {
+		this.cache = new OffHeapCache(CACHE_NAME, 1024 * 1024, true, this.serialization);
+		this.cacheNoNull = new OffHeapCache(CACHE_NAME_NO_NULL, 1024 * 1024, false, this.serialization);
+	}
+
+	@Override
+	protected OffHeapCache getCache() {
+		return getCache(true);
+	}
+
+	@Override
+	protected OffHeapCache getCache(boolean allowNull) {
+		return (allowNull ? this.cache : this.cacheNoNull);
+	}
+
+	@Override
+	protected Object getNativeCache() {
+		return this.cache;
+	}
+
+
+	@SuppressWarnings("unchecked")
+	@Test
+	void storeByValue() {
+		String key = createRandomKey();
+		List<String> content = new ArrayList<>(Arrays.asList("one", "two", "three"));
+		this.cache.put(key, content);
+		content.remove(0);
+		List<String> entry = (List<String>) this.cache.get(key).get();
+		assertThat(entry).containsExactly("one", "two", "three");
+	}
+
+	@Test
+	void valueSpanningMultipleBlocks() {
+		OffHeapCache cache = new OffHeapCache(CACHE_NAME, 64 * 1024, 64, true, this.serialization);
+		String value = "a".repeat(10_000);
+		cache.put("key", value);
+		assertThat(cache.get("key", String.class)).isEqualTo(value);
+		assertThat(cache.getUsedBytes()).isGreaterThanOrEqualTo(10_000);
+
+		cache.evict("key");
+		assertThat(cache.get("key")).isNull();
+		assertThat(cache.getUsedBytes()).isZero();
+	}
+
+	@Test
+	void evictLeastRecentlyUsedWhenCapacityReached() {
+		OffHeapCache cache = new OffHeapCache(CACHE_NAME, 3 * 1024, 1024, true, this.serialization);
+		String value = "v".repeat(500);
+		cache.put("a", value);
+		cache.put("b", value);
+		cache.put("c", value);
+		assertThat(cache.get("a")).isNotNull();
+
+		cache.put("d", value);
+		assertThat(cache.size()).isEqualTo(3);
+		assertThat(cache.get("b")).isNull();
+		assertThat(cache.get("a")).isNotNull();
+		assertThat(cache.get("c")).isNotNull();
+		assertThat(cache.get("d")).isNotNull();
+		assertThat(cache.getUsedBytes()).isEqualTo(3 * 1024);
+	}
+
+	@Test
+	void valueLargerThanCapacityIsNotCached() {
+		OffHeapCache cache = new OffHeapCache(CACHE_NAME, 1024, 1024, true, this.serialization);
+		cache.put("key", "small");
+		cache.put("key", "l".repeat(2048));
+		assertThat(cache.get("key")).isNull();
+		assertThat(cache.getUsedBytes()).isZero();
+	}
+
+	@Test
+	void timeToLive() throws InterruptedException {
+		this.cache.setTimeToLive(Duration.ofMillis(50));
+		this.cache.put("key", "value");
+		assertThat(this.cache.get("key", String.class)).isEqualTo("value");
+
+		Thread.sleep(100);
+		assertThat(this.cache.get("key")).isNull();
+		assertThat(this.cache.size()).isZero();
+	}
+
+	@Test
+	void nonSerializableContent() {
+		assertThatIllegalArgumentException().isThrownBy(() ->
+				this.cache.put(createRandomKey(), new Object()))
+			.withMessageContaining("Failed to serialize");
+	}
+
+}
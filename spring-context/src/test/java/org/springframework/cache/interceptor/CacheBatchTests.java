@@ -0,0 +1,243 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.interceptor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.cache.annotation.CachingConfigurer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.testfixture.cache.CacheTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link org.springframework.cache.annotation.Cacheable#batch()}.
+ */
+class CacheBatchTests {
+
+	private ConfigurableApplicationContext context;
+
+	private Cache cache;
+
+	private SimpleService simpleService;
+
+
+	@BeforeEach
+	void setup() {
+		this.context = new AnnotationConfigApplicationContext(Config.class);
+		this.cache = this.context.getBean(CacheManager.class).getCache("testCache");
+		this.simpleService = this.context.getBean(SimpleService.class);
+	}
+
+	@AfterEach
+	void closeContext() {
+		if (this.context != null) {
+			this.context.close();
+		}
+	}
+
+
+	@Test
+	void loadMissingKeysOnly() {
+		assertThat(this.simpleService.find(List.of(1, 2))).containsExactly(Map.entry(1, "1"), Map.entry(2, "2"));
+		assertThat(this.cache.get(1).get()).isEqualTo("1");
+		assertThat(this.cache.get(2).get()).isEqualTo("2");
+
+		assertThat(this.simpleService.find(List.of(3, 2, 1, 4)))
+				.containsExactly(Map.entry(3, "3"), Map.entry(2, "2"), Map.entry(1, "1"), Map.entry(4, "4"));
+		assertThat(this.simpleService.invocations).containsExactly(List.of(1, 2), List.of(3, 4));
+
+		assertThat(this.simpleService.find(List.of(4, 1))).containsExactly(Map.entry(4, "4"), Map.entry(1, "1"));
+		assertThat(this.simpleService.invocations).hasSize(2);
+	}
+
+	@Test
+	void keysWithoutResultAreNotCached() {
+		assertThat(this.simpleService.find(List.of(1, -1))).containsExactly(Map.entry(1, "1"));
+		assertThat(this.cache.get(-1)).isNull();
+
+		assertThat(this.simpleService.find(List.of(1, -1))).containsExactly(Map.entry(1, "1"));
+		assertThat(this.simpleService.invocations).containsExactly(List.of(1, -1), List.of(-1));
+	}
+
+	@Test
+	void conditionNotPassing() {
+		this.simpleService.findIfSmall(Set.of(1, 2, 3, 4));
+		assertThat(this.cache.get(1)).isNull();
+		assertThat(this.simpleService.invocations).hasSize(1);
+	}
+
+	@Test
+	void keysFromKeyGenerator() {
+		assertThat(this.simpleService.findWithKeyGenerator(List.of(1, 2))).containsExactly(Map.entry(1, "1"), Map.entry(2, "2"));
+		assertThat(this.cache.get(1)).isNull();
+		assertThat(this.cache.get("id-1").get()).isEqualTo("1");
+
+		assertThat(this.simpleService.findWithKeyGenerator(List.of(2, 3))).containsExactly(Map.entry(2, "2"), Map.entry(3, "3"));
+		assertThat(this.simpleService.invocations).containsExactly(List.of(1, 2), List.of(3));
+	}
+
+	@Test
+	void concreteCollectionType() {
+		this.simpleService.find(List.of(1));
+		ArrayList<Integer> ids = new ArrayList<>(List.of(1, 2));
+
+		assertThat(this.simpleService.findArrayList(ids)).containsExactly(Map.entry(1, "1"), Map.entry(2, "2"));
+		assertThat(ids).containsExactly(1, 2);
+		assertThat(this.simpleService.invocations).containsExactly(List.of(1), List.of(2));
+	}
+
+	@Test
+	void collectionTypeNotInstantiable() {
+		this.simpleService.find(List.of(1));
+
+		assertThat(this.simpleService.findIds(new IdList(1, 2))).containsExactly(Map.entry(1, "1"), Map.entry(2, "2"));
+		assertThat(this.cache.get(2).get()).isEqualTo("2");
+		assertThat(this.simpleService.invocations).containsExactly(List.of(1), List.of(1, 2));
+	}
+
+	@Test
+	void batchWithAnotherOperation() {
+		assertThatIllegalStateException()
+				.isThrownBy(() -> this.simpleService.batchWithAnotherOperation(List.of(1)))
+				.withMessageContaining("A batch=true operation cannot be combined with other cache operations");
+	}
+
+	@Test
+	void batchWithKey() {
+		assertThatIllegalStateException()
+				.isThrownBy(() -> this.simpleService.batchWithKey(List.of(1)))
+				.withMessageContaining("A batch=true operation does not support the sync, key and unless attributes");
+	}
+
+	@Test
+	void batchWithoutMapReturnType() {
+		assertThatIllegalStateException()
+				.isThrownBy(() -> this.simpleService.batchWithoutMapReturnType(List.of(1)))
+				.withMessageContaining("A batch=true operation requires a single Collection parameter and a Map return type");
+	}
+
+
+	static class SimpleService {
+
+		final List<List<Integer>> invocations = new ArrayList<>();
+
+		@Cacheable(cacheNames = "testCache", batch = true)
+		public Map<Integer, String> find(List<Integer> ids) {
+			return load(ids);
+		}
+
+		@Cacheable(cacheNames = "testCache", batch = true, keyGenerator = "prefixKeyGenerator")
+		public Map<Integer, String> findWithKeyGenerator(List<Integer> ids) {
+			return load(ids);
+		}
+
+		@Cacheable(cacheNames = "testCache", batch = true)
+		public Map<Integer, String> findArrayList(ArrayList<Integer> ids) {
+			return load(ids);
+		}
+
+		@Cacheable(cacheNames = "testCache", batch = true)
+		public Map<Integer, String> findIds(IdList ids) {
+			return load(ids);
+		}
+
+		@Cacheable(cacheNames = "testCache", batch = true, condition = "#ids.size() < 3")
+		public Map<Integer, String> findIfSmall(Set<Integer> ids) {
+			return load(ids);
+		}
+
+		@Caching(cacheable = @Cacheable(cacheNames = "testCache", batch = true),
+				evict = @CacheEvict(cacheNames = "anotherTestCache", allEntries = true))
+		public Map<Integer, String> batchWithAnotherOperation(List<Integer> ids) {
+			return load(ids);
+		}
+
+		@Cacheable(cacheNames = "testCache", batch = true, key = "#ids")
+		public Map<Integer, String> batchWithKey(List<Integer> ids) {
+			return load(ids);
+		}
+
+		@Cacheable(cacheNames = "testCache", batch = true)
+		public List<String> batchWithoutMapReturnType(List<Integer> ids) {
+			return List.of();
+		}
+
+		private Map<Integer, String> load(Iterable<Integer> ids) {
+			List<Integer> invocation = new ArrayList<>();
+			Map<Integer, String> result = new LinkedHashMap<>();
+			for (Integer id : ids) {
+				invocation.add(id);
+				if (id >= 0) {
+					result.put(id, String.valueOf(id));
+				}
+			}
+			this.invocations.add(invocation);
+			return result;
+		}
+	}
+
+
+	@SuppressWarnings("serial")
+	static class IdList extends ArrayList<Integer> {
+
+		IdList(Integer... ids) {
+			super(List.of(ids));
+		}
+	}
+
+
+	@Configuration
+	@EnableCaching
+	static class Config implements CachingConfigurer {
+
+		@Override
+		@Bean
+		public CacheManager cacheManager() {
+			return CacheTestUtils.createSimpleCacheManager("testCache", "anotherTestCache");
+		}
+
+		@Bean
+		public KeyGenerator prefixKeyGenerator() {
+			return (target, method, params) -> "id-" + params[0];
+		}
+
+		@Bean
+		public SimpleService simpleService() {
+			return new SimpleService();
+		}
+	}
+
+}
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cache.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link RefreshAheadCacheDecorator}.
+ */
+class RefreshAheadCacheDecoratorTests {
+
+	private final ConcurrentMapCache target = new ConcurrentMapCache("testCache");
+
+	private final List<Runnable> tasks = new ArrayList<>();
+
+
+	@Test
+	void regularOperations() {
+		Cache cache = new RefreshAheadCacheDecorator(this.target, Duration.ofMinutes(1), this.tasks::add);
+		assertThat(cache.getName()).isEqualTo("testCache");
+		assertThat(cache.getNativeCache()).isSameAs(this.target.getNativeCache());
+
+		cache.put("key", "value");
+		assertThat(cache.get("key").get()).isEqualTo("value");
+		assertThat(cache.get("key", String.class)).isEqualTo("value");
+		assertThat(cache.putIfAbsent("key", "other").get()).isEqualTo("value");
+
+		cache.put("key", null);
+		assertThat(cache.get("key").get()).isNull();
+
+		cache.evict("key");
+		assertThat(cache.get("key")).isNull();
+	}
+
+	@Test
+	void getWithValueLoaderBeforeRefreshIsDue() {
+		AtomicInteger counter = new AtomicInteger();
+		Cache cache = new RefreshAheadCacheDecorator(this.target, Duration.ofMinutes(1), this.tasks::add);
+
+		assertThat(cache.get("key", counter::incrementAndGet)).isEqualTo(1);
+		assertThat(cache.get("key", counter::incrementAndGet)).isEqualTo(1);
+		assertThat(this.tasks).isEmpty();
+	}
+
+	@Test
+	void getWithValueLoaderDoesNotRefreshByDefault() {
+		AtomicInteger counter = new AtomicInteger();
+		Cache cache = new RefreshAheadCacheDecorator(this.target, Duration.ZERO, this.tasks::add);
+
+		assertThat(cache.get("key", counter::incrementAndGet)).isEqualTo(1);
+		assertThat(cache.get("key", counter::incrementAndGet)).isEqualTo(1);
+		assertThat(this.tasks).isEmpty();
+	}
+
+	@Test
+	void getWithValueLoaderRefreshesInBackground() {
+		AtomicInteger counter = new AtomicInteger();
+		RefreshAheadCacheDecorator cache = new RefreshAheadCacheDecorator(this.target, Duration.ZERO, this.tasks::add);
+		cache.setRefreshCallableLoaders(true);
+
+		assertThat(cache.get("key", counter::incrementAndGet)).isEqualTo(1);
+		assertThat(cache.get("key", counter::incrementAndGet)).isEqualTo(1);
+		assertThat(cache.get("key", counter::incrementAndGet)).isEqualTo(1);
+		assertThat(this.tasks).hasSize(1);
+
+		this.tasks.remove(0).run();
+		assertThat(cache.get("key", Integer.class)).isEqualTo(2);
+		assertThat(this.target.get("key", Integer.class)).isEqualTo(2);
+	}
+
+	@Test
+	void failedRefreshKeepsCurrentValue() {
+		RefreshAheadCacheDecorator cache = new RefreshAheadCacheDecorator(this.target, Duration.ZERO, this.tasks::add);
+		cache.setRefreshCallableLoaders(true);
+		cache.put("key", "value");
+
+		assertThat(cache.get("key", () -> {
+			throw new IllegalStateException("Expected exception");
+		})).isEqualTo("value");
+		this.tasks.remove(0).run();
+		assertThat(cache.get("key", String.class)).isEqualTo("value");
+	}
+
+	@Test
+	void retrieveWithValueLoaderRefreshesOnCallingThread() {
+		Thread caller = Thread.currentThread();
+		List<Thread> loaderThreads = new ArrayList<>();
+		CompletableFuture<Integer> reload = new CompletableFuture<>();
+		Cache cache = new RefreshAheadCacheDecorator(this.target, Duration.ZERO, this.tasks::add);
+
+		assertThat(cache.retrieve("key", () -> {
+			loaderThreads.add(Thread.currentThread());
+			return CompletableFuture.completedFuture(1);
+		}).join()).isEqualTo(1);
+		assertThat(cache.retrieve("key", () -> {
+			loaderThreads.add(Thread.currentThread());
+			return reload;
+		}).join()).isEqualTo(1);
+		assertThat(loaderThreads).containsExactly(caller, caller);
+		assertThat(this.tasks).isEmpty();
+
+		reload.complete(2);
+		assertThat(this.target.get("key", Integer.class)).isEqualTo(2);
+	}
+
+	@Test
+	void retrieveWithValueLoaderReusesReloadForMissingEntry() {
+		AtomicInteger counter = new AtomicInteger();
+		Cache cache = new RefreshAheadCacheDecorator(this.target, Duration.ZERO, this.tasks::add);
+		cache.put("key", 0);
+		this.target.evict("key");
+
+		assertThat(cache.retrieve("key", () -> CompletableFuture.completedFuture(counter.incrementAndGet())).join())
+				.isEqualTo(1);
+		assertThat(counter.get()).isEqualTo(1);
+	}
+
+	@Test
+	void valuesAreStoredAsIs() {
+		Cache cache = new RefreshAheadCacheDecorator(this.target, Duration.ZERO, this.tasks::add);
+		cache.put("key", "value");
+		cache.get("key2", () -> "value2");
+
+		assertThat(this.target.get("key", String.class)).isEqualTo("value");
+		assertThat(this.target.get("key2", String.class)).isEqualTo("value2");
+	}
+
+}
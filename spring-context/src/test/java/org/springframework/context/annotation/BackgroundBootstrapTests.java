@@ -16,8 +16,10 @@
 
 package org.springframework.context.annotation;
 
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
@@ -207,6 +209,52 @@ class BackgroundBootstrapTests {
 		ctx.close();
 	}
 
+	@Test
+	@Timeout(10)
+	@EnabledForTestGroups(LONG_RUNNING)
+	void bootstrapWithParallelPreInstantiation() {
+		AnnotationConfigApplicationContext ctx = new AnnotationConfigApplicationContext();
+		ctx.getDefaultListableBeanFactory().setParallelPreInstantiation(true);
+		ctx.register(ParallelPreInstantiationBeanConfig.class);
+		ctx.refresh();
+		TestBean testBean4 = ctx.getBean("testBean4", TestBean.class);
+		assertThat(testBean4.getSpouse()).isSameAs(ctx.getBean("testBean1"));
+		assertThat(ctx.getBean("testBean5", TestBean.class).getSpouse()).isSameAs(testBean4);
+		ctx.close();
+	}
+
+	@Test
+	@Timeout(10)
+	@EnabledForTestGroups(LONG_RUNNING)
+	void bootstrapWithParallelPreInstantiationAndStrictLockingFlag() {
+		SpringProperties.setFlag(DefaultListableBeanFactory.STRICT_LOCKING_PROPERTY_NAME);
+		try {
+			AnnotationConfigApplicationContext ctx = new AnnotationConfigApplicationContext();
+			ctx.getDefaultListableBeanFactory().setParallelPreInstantiation(true);
+			ctx.register(ParallelStrictLockingBeanConfig.class);
+			ctx.refresh();
+			String mainThreadName = Thread.currentThread().getName();
+			assertThat(ctx.getBean("testBean1", TestBean.class).getName()).isEqualTo(mainThreadName);
+			assertThat(ctx.getBean("testBean2", TestBean.class).getName()).isEqualTo(mainThreadName);
+			ctx.close();
+		}
+		finally {
+			SpringProperties.setProperty(DefaultListableBeanFactory.STRICT_LOCKING_PROPERTY_NAME, null);
+		}
+	}
+
+	@Test
+	@Timeout(10)
+	@EnabledForTestGroups(LONG_RUNNING)
+	void bootstrapWithParallelPreInstantiationAndCircularReference() {
+		AnnotationConfigApplicationContext ctx = new AnnotationConfigApplicationContext();
+		ctx.getDefaultListableBeanFactory().setParallelPreInstantiation(true);
+		ctx.register(ParallelCircularReferenceBeanConfig.class);
+		assertThatExceptionOfType(BeanCreationException.class)
+				.isThrownBy(ctx::refresh)
+				.withRootCauseInstanceOf(BeanCurrentlyInCreationException.class);
+	}
+
 
 	@Configuration(proxyBeanMethods = false)
 	static class UnmanagedThreadBeanConfig {
@@ -584,4 +632,121 @@ class BackgroundBootstrapTests {
 		}
 	}
 
+
+	@Configuration(proxyBeanMethods = false)
+	static class ParallelPreInstantiationBeanConfig {
+
+		// Released once all independent beans are in creation at the same time
+		private final CountDownLatch independentBeans = new CountDownLatch(3);
+
+		@Bean
+		public ThreadPoolTaskExecutor bootstrapExecutor() {
+			ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+			executor.setThreadNamePrefix("Custom-");
+			executor.setCorePoolSize(4);
+			executor.initialize();
+			return executor;
+		}
+
+		@Bean
+		public TestBean testBean1() {
+			awaitIndependentBeans();
+			return new TestBean();
+		}
+
+		@Bean
+		public TestBean testBean2() {
+			awaitIndependentBeans();
+			return new TestBean();
+		}
+
+		@Bean
+		public TestBean testBean3() {
+			awaitIndependentBeans();
+			return new TestBean();
+		}
+
+		@Bean
+		public TestBean testBean4(TestBean testBean1) {
+			return new TestBean(testBean1);
+		}
+
+		@Bean @DependsOn("testBean4")
+		public TestBean testBean5(TestBean testBean4) {
+			return new TestBean(testBean4);
+		}
+
+		private void awaitIndependentBeans() {
+			this.independentBeans.countDown();
+			try {
+				if (!this.independentBeans.await(5, TimeUnit.SECONDS)) {
+					throw new IllegalStateException("Independent beans not created in parallel");
+				}
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+
+	@Configuration(proxyBeanMethods = false)
+	static class ParallelStrictLockingBeanConfig {
+
+		@Bean
+		public ThreadPoolTaskExecutor bootstrapExecutor() {
+			ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+			executor.setThreadNamePrefix("Custom-");
+			executor.setCorePoolSize(2);
+			executor.initialize();
+			return executor;
+		}
+
+		@Bean
+		public TestBean testBean1() {
+			return new TestBean(Thread.currentThread().getName());
+		}
+
+		@Bean
+		public TestBean testBean2() {
+			return new TestBean(Thread.currentThread().getName());
+		}
+	}
+
+
+	@Configuration(proxyBeanMethods = false)
+	static class ParallelCircularReferenceBeanConfig {
+
+		@Bean
+		public ThreadPoolTaskExecutor bootstrapExecutor() {
+			ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+			executor.setThreadNamePrefix("Custom-");
+			executor.setCorePoolSize(2);
+			executor.initialize();
+			return executor;
+		}
+
+		@Bean
+		public TestBean testBean1(ObjectProvider<TestBean> testBean2) {
+			try {
+				Thread.sleep(500);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			return new TestBean(testBean2.getObject());
+		}
+
+		@Bean
+		public TestBean testBean2(ObjectProvider<TestBean> testBean1) {
+			try {
+				Thread.sleep(500);
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			return new TestBean(testBean1.getObject());
+		}
+	}
+
 }
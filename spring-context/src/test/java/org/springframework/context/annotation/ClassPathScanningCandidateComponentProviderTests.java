@@ -16,8 +16,13 @@
 
 package org.springframework.context.annotation;
 
+import java.io.IOException;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
@@ -48,6 +53,7 @@ import example.scannable.StubFooDao;
 import example.scannable.sub.BarComponent;
 import org.aspectj.lang.annotation.Aspect;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.testfixture.index.CandidateComponentsTestClassLoader;
@@ -55,6 +61,7 @@ import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.StandardEnvironment;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.type.classreading.PersistentCachingMetadataReaderFactory;
 import org.springframework.core.type.filter.AnnotationTypeFilter;
 import org.springframework.core.type.filter.AssignableTypeFilter;
 import org.springframework.core.type.filter.RegexPatternTypeFilter;
@@ -103,6 +110,38 @@ class ClassPathScanningCandidateComponentProviderTests {
 		testDefault(provider, TEST_BASE_PACKAGE, true, false);
 	}
 
+	@Test
+	void defaultsWithParallelScan() {
+		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(true);
+		provider.setResourceLoader(new DefaultResourceLoader(
+				CandidateComponentsTestClassLoader.disableIndex(getClass().getClassLoader())));
+		provider.setParallelScanning(true);
+		testDefault(provider, TEST_BASE_PACKAGE, true, false);
+	}
+
+	@Test
+	void scanWithMetadataCacheDoesNotRewriteUpToDateFile(@TempDir Path tempDir) throws IOException {
+		ClassLoader classLoader = CandidateComponentsTestClassLoader.disableIndex(getClass().getClassLoader());
+		Path cacheFile = tempDir.resolve("metadata.cache");
+		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(true);
+		provider.setResourceLoader(new DefaultResourceLoader(classLoader));
+		provider.setMetadataReaderFactory(new PersistentCachingMetadataReaderFactory(cacheFile, classLoader));
+		Set<BeanDefinition> candidates = provider.findCandidateComponents(TEST_BASE_PACKAGE);
+		Set<BeanDefinition> profileCandidates = provider.findCandidateComponents(TEST_PROFILE_PACKAGE);
+
+		// Copy the file, so that it is loaded from disk again as on the next start
+		Path warmCacheFile = Files.copy(cacheFile, tempDir.resolve("warm-metadata.cache"));
+		FileTime lastModified = FileTime.from(Instant.now().minusSeconds(60));
+		Files.setLastModifiedTime(warmCacheFile, lastModified);
+		provider = new ClassPathScanningCandidateComponentProvider(true);
+		provider.setResourceLoader(new DefaultResourceLoader(classLoader));
+		provider.setMetadataReaderFactory(new PersistentCachingMetadataReaderFactory(warmCacheFile, classLoader));
+		assertThat(provider.findCandidateComponents(TEST_BASE_PACKAGE)).hasSameSizeAs(candidates);
+		assertThat(provider.findCandidateComponents(TEST_PROFILE_PACKAGE)).hasSameSizeAs(profileCandidates);
+		assertThat(Files.getLastModifiedTime(warmCacheFile)).isEqualTo(lastModified);
+		assertThat(warmCacheFile).hasSameBinaryContentAs(cacheFile);
+	}
+
 	@Test
 	void defaultsWithIndex() {
 		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(true);
@@ -21,6 +21,7 @@ import java.util.List;
 import java.util.Random;
 import java.util.function.Function;
 
+import org.openjdk.jmh.annotations.AuxCounters;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Level;
@@ -32,18 +33,27 @@ import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.infra.Blackhole;
 
 /**
- * Benchmarks for {@link ConcurrentLruCache}.
+ * Benchmarks for {@link ConcurrentLruCache}, reporting the hit rate
+ * along with the throughput.
  * @author Brian Clozel
  */
 @BenchmarkMode(Mode.Throughput)
 public class ConcurrentLruCacheBenchmark {
 
+	private static final ThreadLocal<long[]> misses = ThreadLocal.withInitial(() -> new long[1]);
+
+
 	@Benchmark
-	public void lruCache(BenchmarkData data, Blackhole bh) {
+	public void lruCache(BenchmarkData data, HitRate hitRate, Blackhole bh) {
+		long[] missCount = misses.get();
+		long missesBefore = missCount[0];
 		for (String element : data.elements) {
 			String value = data.lruCache.get(element);
 			bh.consume(value);
 		}
+		long missed = missCount[0] - missesBefore;
+		hitRate.misses += missed;
+		hitRate.hits += data.elements.size() - missed;
 	}
 
 	@State(Scope.Benchmark)
@@ -57,20 +67,64 @@ public class ConcurrentLruCacheBenchmark {
 		@Param({"0.1"})
 		public float cacheMissRate;
 
+		@Param({"false", "true"})
+		public boolean frequencyBasedAdmission;
+
+		/**
+		 * "uniform" looks up each element once, in sorted order; "skewed" looks up
+		 * a hot set of elements repeatedly, interleaved with elements used only once.
+		 */
+		@Param({"uniform", "skewed"})
+		public String workload;
+
 		public List<String> elements;
 
 		public Function<String, String> generator;
 
 		@Setup(Level.Iteration)
 		public void setup() {
-			this.generator = key -> key + "value";
-			this.lruCache = new ConcurrentLruCache<>(this.capacity, this.generator);
+			this.generator = key -> {
+				misses.get()[0]++;
+				return key + "value";
+			};
+			this.lruCache = new ConcurrentLruCache<>(this.capacity, this.generator, this.frequencyBasedAdmission);
 			Assert.isTrue(this.cacheMissRate < 1, "cache miss rate should be < 1");
 			Random random = new Random();
-			int elementsCount = Math.round(this.capacity * (1 + this.cacheMissRate));
-			this.elements = new ArrayList<>(elementsCount);
-			random.ints(elementsCount).forEach(value -> this.elements.add(String.valueOf(value)));
-			this.elements.sort(String::compareTo);
+			if ("skewed".equals(this.workload)) {
+				int hotCount = Math.max(1, Math.round(this.capacity * (1 - this.cacheMissRate)));
+				int elementsCount = this.capacity * 10;
+				this.elements = new ArrayList<>(elementsCount);
+				for (int i = 0; i < elementsCount; i++) {
+					this.elements.add(random.nextInt(10) < 6 ?
+							"hot" + random.nextInt(hotCount) : String.valueOf(random.nextInt()));
+				}
+			}
+			else {
+				int elementsCount = Math.round(this.capacity * (1 + this.cacheMissRate));
+				this.elements = new ArrayList<>(elementsCount);
+				random.ints(elementsCount).forEach(value -> this.elements.add(String.valueOf(value)));
+				this.elements.sort(String::compareTo);
+			}
+		}
+	}
+
+
+	/**
+	 * Cache hits and misses of each thread, reported as secondary results:
+	 * the hit rate is {@code hits / (hits + misses)}.
+	 */
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	@State(Scope.Thread)
+	public static class HitRate {
+
+		public long hits;
+
+		public long misses;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			this.hits = 0;
+			this.misses = 0;
 		}
 	}
 }
@@ -18,6 +18,7 @@ package org.springframework.core.codec;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.Map;
 import java.util.OptionalLong;
 
@@ -58,6 +59,8 @@ public class ResourceRegionEncoder extends AbstractEncoder<ResourceRegion> {
 
 	private final int bufferSize;
 
+	private boolean memoryMapped;
+
 
 	public ResourceRegionEncoder() {
 		this(DEFAULT_BUFFER_SIZE);
@@ -69,6 +72,30 @@ public class ResourceRegionEncoder extends AbstractEncoder<ResourceRegion> {
 		this.bufferSize = bufferSize;
 	}
 
+
+	/**
+	 * Specify whether regions of file resources are to be read from a memory
+	 * mapping of the file through
+	 * {@link DataBufferUtils#readMapped(Path, long, long, DataBufferFactory, int)},
+	 * which exposes the requested region as read-only buffers without copying
+	 * it into buffers allocated from the {@code DataBufferFactory}.
+	 * <p>Default is "false", reading file regions into allocated buffers.
+	 * Resources that are not files are always read into allocated buffers.
+	 * @since 7.1
+	 */
+	public void setMemoryMapped(boolean memoryMapped) {
+		this.memoryMapped = memoryMapped;
+	}
+
+	/**
+	 * Return whether regions of file resources are read from a memory mapping.
+	 * @since 7.1
+	 */
+	public boolean isMemoryMapped() {
+		return this.memoryMapped;
+	}
+
+
 	@Override
 	public boolean canEncode(ResolvableType elementType, @Nullable MimeType mimeType) {
 		return super.canEncode(elementType, mimeType) &&
@@ -129,6 +156,15 @@ public class ResourceRegionEncoder extends AbstractEncoder<ResourceRegion> {
 					"Writing region " + position + "-" + (position + count) + " of [" + resource + "]");
 		}
 
+		Path filePath = (this.memoryMapped ? getFilePath(resource) : null);
+		if (filePath != null) {
+			Flux<DataBuffer> in = DataBufferUtils.readMapped(filePath, position, count, bufferFactory, this.bufferSize);
+			if (logger.isDebugEnabled()) {
+				in = in.doOnNext(buffer -> Hints.touchDataBuffer(buffer, hints, logger));
+			}
+			return in;
+		}
+
 		Flux<DataBuffer> in = DataBufferUtils.read(resource, position, bufferFactory, this.bufferSize);
 		if (logger.isDebugEnabled()) {
 			in = in.doOnNext(buffer -> Hints.touchDataBuffer(buffer, hints, logger));
@@ -136,6 +172,15 @@ public class ResourceRegionEncoder extends AbstractEncoder<ResourceRegion> {
 		return DataBufferUtils.takeUntilByteCount(in, count);
 	}
 
+	private static @Nullable Path getFilePath(Resource resource) {
+		try {
+			return (resource.isFile() ? resource.getFilePath() : null);
+		}
+		catch (IOException ex) {
+			return null;
+		}
+	}
+
 	private DataBuffer getRegionSuffix(DataBufferFactory bufferFactory, String boundaryString) {
 		byte[] endBoundary = toAsciiBytes("\r\n--" + boundaryString + "--");
 		return bufferFactory.wrap(endBoundary);
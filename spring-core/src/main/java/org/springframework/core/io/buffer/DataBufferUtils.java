@@ -20,10 +20,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.AsynchronousFileChannel;
 import java.nio.channels.Channel;
 import java.nio.channels.Channels;
 import java.nio.channels.CompletionHandler;
+import java.nio.channels.FileChannel;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.file.OpenOption;
@@ -236,6 +239,43 @@ public abstract class DataBufferUtils {
 		return (position == 0 ? result : skipUntilByteCount(result, position));
 	}
 
+	/**
+	 * Read the given region of a file into a {@code Flux} of read-only
+	 * {@code DataBuffer}s backed by a memory mapping of the file, as an
+	 * alternative to {@link #read(Path, DataBufferFactory, int, OpenOption...)}
+	 * that does not copy the file contents into allocated buffers.
+	 * <p>The file is mapped through {@link FileChannel#map} in windows of up to
+	 * 64 MB, each of which is sliced into {@link MappedByteBuffer}s of at most
+	 * {@code bufferSize} bytes that are wrapped through
+	 * {@link DataBufferFactory#wrap(ByteBuffer)}. Attempts to write to the
+	 * resulting buffers fail with a {@link java.nio.ReadOnlyBufferException}.
+	 * The channel is closed when the flux is terminated, whereas the mapped
+	 * memory is only unmapped once the buffers have been garbage-collected.
+	 * <p>Note that the file should not be truncated while mapped, since
+	 * accessing a mapping beyond the end of the file may cause a JVM error.
+	 * @param path the path to read bytes from
+	 * @param position the position within the file to start reading from
+	 * @param count the maximum number of bytes to read; the region ends at
+	 * the end of the file if that comes first
+	 * @param bufferFactory the factory to create data buffers with
+	 * @param bufferSize the maximum size of the data buffers
+	 * @return a Flux of data buffers backed by the mapped file region
+	 * @since 7.1
+	 */
+	public static Flux<DataBuffer> readMapped(
+			Path path, long position, long count, DataBufferFactory bufferFactory, int bufferSize) {
+
+		Assert.notNull(path, "Path must not be null");
+		Assert.isTrue(position >= 0, "'position' must be >= 0");
+		Assert.isTrue(count >= 0, "'count' must be >= 0");
+		Assert.notNull(bufferFactory, "DataBufferFactory must not be null");
+		Assert.isTrue(bufferSize > 0, "'bufferSize' must be > 0");
+
+		return Flux.using(() -> FileChannel.open(path, StandardOpenOption.READ),
+				channel -> Flux.generate(new MappedFileGenerator(channel, position, count, bufferFactory, bufferSize)),
+				DataBufferUtils::closeChannel);
+	}
+
 
 	//---------------------------------------------------------------------
 	// Writing
@@ -876,15 +916,69 @@ public abstract class DataBufferUtils {
 			return this.matches;
 		}
 
+		/**
+		 * Find the delimiter in the readable bytes of the given buffer, skipping
+		 * ahead to the next occurrence of the first delimiter byte whenever no
+		 * partial match is in progress.
+		 */
 		@Override
 		public int match(DataBuffer dataBuffer) {
-			int start = dataBuffer.readPosition();
-			int end = dataBuffer.writePosition();
-			int matchPosition = dataBuffer.forEachByte(start, end - start, b -> !this.match(b));
-			if (matchPosition != -1) {
-				reset();
+			int offset = dataBuffer.readPosition();
+			try (DataBuffer.ByteBufferIterator iterator = dataBuffer.readableByteBuffers()) {
+				while (iterator.hasNext()) {
+					ByteBuffer byteBuffer = iterator.next();
+					int index = match(byteBuffer);
+					if (index != -1) {
+						reset();
+						return offset + index - byteBuffer.position();
+					}
+					offset += byteBuffer.remaining();
+				}
+			}
+			return -1;
+		}
+
+		private int match(ByteBuffer byteBuffer) {
+			int end = byteBuffer.limit();
+			for (int i = byteBuffer.position(); i < end; i++) {
+				if (this.matches == 0) {
+					i = indexOf(byteBuffer, i, end, this.delimiter[0]);
+					if (i == -1) {
+						return -1;
+					}
+				}
+				if (match(byteBuffer.get(i))) {
+					return i;
+				}
 			}
-			return matchPosition;
+			return -1;
+		}
+
+		/**
+		 * Find the given byte in the given range of the buffer, comparing eight
+		 * bytes at a time in a {@code long} ("SIMD within a register").
+		 */
+		private static int indexOf(ByteBuffer byteBuffer, int from, int to, byte value) {
+			int i = from;
+			if (to - i >= Long.BYTES) {
+				long pattern = (value & 0xFFL) * 0x0101010101010101L;
+				boolean bigEndian = (byteBuffer.order() == ByteOrder.BIG_ENDIAN);
+				for (; i <= to - Long.BYTES; i += Long.BYTES) {
+					long word = byteBuffer.getLong(i) ^ pattern;
+					// exact per-byte zero test: high bit set only in bytes equal to the value
+					long found = ~(((word & 0x7F7F7F7F7F7F7F7FL) + 0x7F7F7F7F7F7F7F7FL) | word | 0x7F7F7F7F7F7F7F7FL);
+					if (found != 0) {
+						int bit = (bigEndian ? Long.numberOfLeadingZeros(found) : Long.numberOfTrailingZeros(found));
+						return i + (bit >>> 3);
+					}
+				}
+			}
+			for (; i < to; i++) {
+				if (byteBuffer.get(i) == value) {
+					return i;
+				}
+			}
+			return -1;
 		}
 
 		@Override
@@ -968,6 +1062,63 @@ public abstract class DataBufferUtils {
 	}
 
 
+	private static class MappedFileGenerator implements Consumer<SynchronousSink<DataBuffer>> {
+
+		private static final long MAPPED_WINDOW_SIZE = 64 * 1024 * 1024;
+
+		private final FileChannel channel;
+
+		private final long count;
+
+		private final DataBufferFactory dataBufferFactory;
+
+		private final int bufferSize;
+
+		private long position;
+
+		private long end = -1;
+
+		private @Nullable MappedByteBuffer window;
+
+		public MappedFileGenerator(FileChannel channel, long position, long count,
+				DataBufferFactory dataBufferFactory, int bufferSize) {
+
+			this.channel = channel;
+			this.position = position;
+			this.count = count;
+			this.dataBufferFactory = dataBufferFactory;
+			this.bufferSize = bufferSize;
+		}
+
+		@Override
+		public void accept(SynchronousSink<DataBuffer> sink) {
+			try {
+				if (this.end == -1) {
+					this.end = Math.min(this.channel.size(), this.position + Math.min(this.count, Long.MAX_VALUE - this.position));
+				}
+				if (this.position >= this.end) {
+					sink.complete();
+					return;
+				}
+				MappedByteBuffer window = this.window;
+				if (window == null || !window.hasRemaining()) {
+					long size = Math.min(Math.max(this.bufferSize, MAPPED_WINDOW_SIZE), this.end - this.position);
+					window = this.channel.map(FileChannel.MapMode.READ_ONLY, this.position, size);
+					this.window = window;
+				}
+				int length = Math.min(this.bufferSize, window.remaining());
+				ByteBuffer slice = window.slice(window.position(), length);
+				window.position(window.position() + length);
+				this.position += length;
+				sink.next(this.dataBufferFactory.wrap(slice));
+			}
+			catch (IOException ex) {
+				sink.error(ex);
+			}
+		}
+	}
+
+
 	private static class ReadableByteChannelGenerator implements Consumer<SynchronousSink<DataBuffer>> {
 
 		private final ReadableByteChannel channel;
@@ -0,0 +1,334 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * Implementation of the {@code DataBuffer} interface backed by memory from the
+ * pool of a {@link PoolingDataBufferFactory}, returning that memory to the pool
+ * once the buffer and all of its splits have been released.
+ *
+ * @since 7.1
+ * @see PoolingDataBufferFactory
+ */
+public final class PoolingDataBuffer implements PooledDataBuffer {
+
+	private static final Log logger = LogFactory.getLog(PoolingDataBuffer.class);
+
+
+	private final PoolingDataBufferFactory bufferFactory;
+
+	private final DefaultDataBuffer delegate;
+
+	private final PoolingDataBufferFactory.Memory memory;
+
+	private final AtomicInteger refCount = new AtomicInteger(1);
+
+	private final @Nullable LeakDetector leakDetector;
+
+	private final Cleaner.@Nullable Cleanable cleanable;
+
+
+	PoolingDataBuffer(PoolingDataBufferFactory bufferFactory, DefaultDataBuffer delegate,
+			PoolingDataBufferFactory.Memory memory, boolean leakDetection) {
+
+		Assert.notNull(bufferFactory, "BufferFactory must not be null");
+		Assert.notNull(delegate, "Delegate must not be null");
+		Assert.notNull(memory, "Memory must not be null");
+
+		this.bufferFactory = bufferFactory;
+		this.delegate = delegate;
+		this.memory = memory;
+		if (leakDetection) {
+			this.leakDetector = new LeakDetector();
+			this.cleanable = LeakDetector.cleaner.register(this, this.leakDetector);
+		}
+		else {
+			this.leakDetector = null;
+			this.cleanable = null;
+		}
+	}
+
+
+	@Override
+	public boolean isAllocated() {
+		return this.refCount.get() > 0;
+	}
+
+	@Override
+	public PooledDataBuffer retain() {
+		this.refCount.updateAndGet(c -> (c != 0 ? c + 1 : 0));
+		return this;
+	}
+
+	@Override
+	public PooledDataBuffer touch(Object hint) {
+		if (this.leakDetector != null) {
+			this.leakDetector.hint = hint;
+		}
+		return this;
+	}
+
+	@Override
+	public boolean release() {
+		int result = this.refCount.updateAndGet(c -> {
+			if (c != 0) {
+				return c - 1;
+			}
+			else {
+				throw new IllegalStateException("PoolingDataBuffer already released: " + this);
+			}
+		});
+		if (result == 0) {
+			if (this.leakDetector != null && this.cleanable != null) {
+				this.leakDetector.released = true;
+				this.cleanable.clean();
+			}
+			this.memory.release();
+			return true;
+		}
+		return false;
+	}
+
+	@Override
+	public DataBufferFactory factory() {
+		return this.bufferFactory;
+	}
+
+
+	// delegation
+
+	@Override
+	public int indexOf(IntPredicate predicate, int fromIndex) {
+		return this.delegate.indexOf(predicate, fromIndex);
+	}
+
+	@Override
+	public int lastIndexOf(IntPredicate predicate, int fromIndex) {
+		return this.delegate.lastIndexOf(predicate, fromIndex);
+	}
+
+	@Override
+	public int readableByteCount() {
+		return this.delegate.readableByteCount();
+	}
+
+	@Override
+	public int writableByteCount() {
+		return this.delegate.writableByteCount();
+	}
+
+	@Override
+	public int capacity() {
+		return this.delegate.capacity();
+	}
+
+	@Override
+	@Deprecated(since = "6.0")
+	public DataBuffer capacity(int capacity) {
+		this.delegate.capacity(capacity);
+		return this;
+	}
+
+	@Override
+	public DataBuffer ensureWritable(int capacity) {
+		this.delegate.ensureWritable(capacity);
+		return this;
+	}
+
+	@Override
+	public int readPosition() {
+		return this.delegate.readPosition();
+	}
+
+	@Override
+	public DataBuffer readPosition(int readPosition) {
+		this.delegate.readPosition(readPosition);
+		return this;
+	}
+
+	@Override
+	public int writePosition() {
+		return this.delegate.writePosition();
+	}
+
+	@Override
+	public DataBuffer writePosition(int writePosition) {
+		this.delegate.writePosition(writePosition);
+		return this;
+	}
+
+	@Override
+	public byte getByte(int index) {
+		return this.delegate.getByte(index);
+	}
+
+	@Override
+	public byte read() {
+		return this.delegate.read();
+	}
+
+	@Override
+	public DataBuffer read(byte[] destination) {
+		this.delegate.read(destination);
+		return this;
+	}
+
+	@Override
+	public DataBuffer read(byte[] destination, int offset, int length) {
+		this.delegate.read(destination, offset, length);
+		return this;
+	}
+
+	@Override
+	public DataBuffer write(byte b) {
+		this.delegate.write(b);
+		return this;
+	}
+
+	@Override
+	public DataBuffer write(byte[] source) {
+		this.delegate.write(source);
+		return this;
+	}
+
+	@Override
+	public DataBuffer write(byte[] source, int offset, int length) {
+		this.delegate.write(source, offset, length);
+		return this;
+	}
+
+	@Override
+	public DataBuffer write(DataBuffer... buffers) {
+		this.delegate.write(buffers);
+		return this;
+	}
+
+	@Override
+	public DataBuffer write(ByteBuffer... buffers) {
+		this.delegate.write(buffers);
+		return this;
+	}
+
+	@Override
+	@Deprecated(since = "6.0")
+	public DataBuffer slice(int index, int length) {
+		DefaultDataBuffer delegateSlice = this.delegate.slice(index, length);
+		this.memory.retain();
+		return new PoolingDataBuffer(this.bufferFactory, delegateSlice, this.memory, this.leakDetector != null);
+	}
+
+	@Override
+	public DataBuffer split(int index) {
+		DefaultDataBuffer delegateSplit = this.delegate.split(index);
+		this.memory.retain();
+		return new PoolingDataBuffer(this.bufferFactory, delegateSplit, this.memory, this.leakDetector != null);
+	}
+
+	@Override
+	@Deprecated(since = "6.0")
+	public ByteBuffer asByteBuffer() {
+		return this.delegate.asByteBuffer();
+	}
+
+	@Override
+	@Deprecated(since = "6.0")
+	public ByteBuffer asByteBuffer(int index, int length) {
+		return this.delegate.asByteBuffer(index, length);
+	}
+
+	@Override
+	@Deprecated(since = "6.0.5")
+	public ByteBuffer toByteBuffer(int index, int length) {
+		return this.delegate.toByteBuffer(index, length);
+	}
+
+	@Override
+	public void toByteBuffer(int srcPos, ByteBuffer dest, int destPos, int length) {
+		this.delegate.toByteBuffer(srcPos, dest, destPos, length);
+	}
+
+	@Override
+	public ByteBufferIterator readableByteBuffers() {
+		return this.delegate.readableByteBuffers();
+	}
+
+	@Override
+	public ByteBufferIterator writableByteBuffers() {
+		return this.delegate.writableByteBuffers();
+	}
+
+	@Override
+	public String toString(int index, int length, Charset charset) {
+		return this.delegate.toString(index, length, charset);
+	}
+
+
+	@Override
+	public boolean equals(@Nullable Object other) {
+		return (this == other || (other instanceof PoolingDataBuffer otherBuffer &&
+				this.delegate.equals(otherBuffer.delegate)));
+	}
+
+	@Override
+	public int hashCode() {
+		return this.delegate.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return String.format("PoolingDataBuffer (r: %d, w: %d, c: %d)",
+				readPosition(), writePosition(), capacity());
+	}
+
+
+	/**
+	 * Cleaning action that reports a buffer which has become unreachable
+	 * without having been released.
+	 */
+	private static final class LeakDetector implements Runnable {
+
+		static final Cleaner cleaner = Cleaner.create();
+
+		private final Throwable allocation = new Throwable("Buffer allocated here");
+
+		volatile @Nullable Object hint;
+
+		volatile boolean released;
+
+		@Override
+		public void run() {
+			if (!this.released) {
+				Object hint = this.hint;
+				logger.error("PoolingDataBuffer was garbage-collected without having been released" +
+						(hint != null ? " (last hint: " + hint + ")" : ""), this.allocation);
+			}
+		}
+	}
+
+}
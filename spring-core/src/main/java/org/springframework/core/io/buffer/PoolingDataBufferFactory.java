@@ -0,0 +1,318 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * Implementation of the {@code DataBufferFactory} interface that creates
+ * {@link PoolingDataBuffer} instances backed by pooled memory, bringing
+ * pooled allocation to runtimes without a buffer pool of their own, for
+ * example, WebFlux on a Servlet container or the JDK {@code HttpClient}.
+ *
+ * <p>Requested capacities up to {@value #MAX_POOLED_CAPACITY} bytes are
+ * rounded up to a power-of-two size class, with a pool per size class.
+ * Memory is allocated in slabs of 64 KB which are carved into buffers of the
+ * size class. Released memory is cached by the releasing thread first, then
+ * in a pool shared by all threads, and otherwise left to the garbage collector.
+ * Larger buffers are not pooled.
+ *
+ * <p>Buffers created by this factory must be released through
+ * {@link DataBufferUtils#release(DataBuffer)} once no longer used, and must
+ * not be accessed afterwards, since their memory may be reused by then.
+ * Optionally, buffers that are garbage-collected without having been released
+ * can be reported through {@link #setLeakDetection leak detection}.
+ *
+ * @since 7.1
+ * @see PoolingDataBuffer
+ */
+public class PoolingDataBufferFactory implements DataBufferFactory {
+
+	/**
+	 * The maximum capacity of buffers backed by pooled memory.
+	 */
+	public static final int MAX_POOLED_CAPACITY = 64 * 1024;
+
+	private static final int MIN_SIZE_CLASS_SHIFT = 8;
+
+	private static final int SIZE_CLASS_COUNT =
+			Integer.numberOfTrailingZeros(MAX_POOLED_CAPACITY) - MIN_SIZE_CLASS_SHIFT + 1;
+
+	private static final int SLAB_SIZE = 64 * 1024;
+
+	private static final int THREAD_CACHE_SIZE = 32 * 1024;
+
+	private static final int SHARED_POOL_SIZE = 1024 * 1024;
+
+
+	private final DefaultDataBufferFactory delegate;
+
+	private final boolean preferDirect;
+
+	private final int defaultInitialCapacity;
+
+	private final ArrayBlockingQueue<ByteBuffer>[] sharedPools;
+
+	private final ThreadLocal<ThreadCache> threadCache = ThreadLocal.withInitial(ThreadCache::new);
+
+	private final LongAdder activeAllocations = new LongAdder();
+
+	private volatile boolean leakDetection;
+
+
+	/**
+	 * Creates a new {@code PoolingDataBufferFactory} with default settings.
+	 */
+	public PoolingDataBufferFactory() {
+		this(false);
+	}
+
+	/**
+	 * Creates a new {@code PoolingDataBufferFactory}, indicating whether direct
+	 * buffers should be created by {@link #allocateBuffer()} and
+	 * {@link #allocateBuffer(int)}.
+	 * @param preferDirect {@code true} if direct buffers are to be preferred;
+	 * {@code false} otherwise
+	 */
+	public PoolingDataBufferFactory(boolean preferDirect) {
+		this(preferDirect, DefaultDataBufferFactory.DEFAULT_INITIAL_CAPACITY);
+	}
+
+	/**
+	 * Creates a new {@code PoolingDataBufferFactory}, indicating whether direct
+	 * buffers should be created by {@link #allocateBuffer()} and
+	 * {@link #allocateBuffer(int)}, and what the capacity is to be used for
+	 * {@link #allocateBuffer()}.
+	 * @param preferDirect {@code true} if direct buffers are to be preferred;
+	 * {@code false} otherwise
+	 */
+	@SuppressWarnings("unchecked")
+	public PoolingDataBufferFactory(boolean preferDirect, int defaultInitialCapacity) {
+		this.delegate = new DefaultDataBufferFactory(preferDirect, defaultInitialCapacity);
+		this.preferDirect = preferDirect;
+		this.defaultInitialCapacity = defaultInitialCapacity;
+		this.sharedPools = new ArrayBlockingQueue[SIZE_CLASS_COUNT];
+		for (int i = 0; i < SIZE_CLASS_COUNT; i++) {
+			this.sharedPools[i] = new ArrayBlockingQueue<>(Math.max(1, SHARED_POOL_SIZE / sizeOf(i)));
+		}
+	}
+
+
+	/**
+	 * Specify whether to report buffers that are garbage-collected without
+	 * having been released, logging an error with the stack trace of their
+	 * allocation and the last hint given through {@link PooledDataBuffer#touch}.
+	 * <p>Default is "false". Since leak detection records a stack trace for
+	 * every allocation, it is meant for development and testing.
+	 */
+	public void setLeakDetection(boolean leakDetection) {
+		this.leakDetection = leakDetection;
+	}
+
+	/**
+	 * Return whether leak detection is enabled.
+	 */
+	public boolean isLeakDetection() {
+		return this.leakDetection;
+	}
+
+	/**
+	 * Return the number of buffers backed by pooled memory that have not been
+	 * released yet, counting a buffer and its slices and splits once.
+	 * <p>This is meant for monitoring, and for verifying in tests that all
+	 * buffers have been released. Wrapped buffers and buffers larger than
+	 * {@value #MAX_POOLED_CAPACITY} bytes are not counted.
+	 */
+	public long getActiveAllocationCount() {
+		return this.activeAllocations.sum();
+	}
+
+
+	@Override
+	@Deprecated(since = "6.0")
+	public PoolingDataBuffer allocateBuffer() {
+		return allocateBuffer(this.defaultInitialCapacity);
+	}
+
+	@Override
+	public PoolingDataBuffer allocateBuffer(int initialCapacity) {
+		Assert.isTrue(initialCapacity >= 0, "'initialCapacity' must not be negative");
+		int sizeClass = sizeClassOf(initialCapacity);
+		if (sizeClass < 0) {
+			return createBuffer(this.delegate.allocateBuffer(initialCapacity), new Memory(this, null, sizeClass));
+		}
+		ByteBuffer memory = acquire(sizeClass);
+		memory.clear().limit(initialCapacity);
+		return createBuffer(DefaultDataBuffer.fromEmptyByteBuffer(this.delegate, memory), new Memory(this, memory, sizeClass));
+	}
+
+	@Override
+	public PoolingDataBuffer wrap(ByteBuffer byteBuffer) {
+		return createBuffer(this.delegate.wrap(byteBuffer), new Memory(this, null, -1));
+	}
+
+	@Override
+	public PoolingDataBuffer wrap(byte[] bytes) {
+		return createBuffer(this.delegate.wrap(bytes), new Memory(this, null, -1));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>This implementation creates a single {@link PoolingDataBuffer}
+	 * to contain the data in {@code dataBuffers}.
+	 */
+	@Override
+	public PoolingDataBuffer join(List<? extends DataBuffer> dataBuffers) {
+		Assert.notEmpty(dataBuffers, "DataBuffer List must not be empty");
+		int capacity = dataBuffers.stream().mapToInt(DataBuffer::readableByteCount).sum();
+		PoolingDataBuffer result = allocateBuffer(capacity);
+		dataBuffers.forEach(result::write);
+		dataBuffers.forEach(DataBufferUtils::release);
+		return result;
+	}
+
+	@Override
+	public boolean isDirect() {
+		return this.preferDirect;
+	}
+
+	private PoolingDataBuffer createBuffer(DefaultDataBuffer delegate, Memory memory) {
+		return new PoolingDataBuffer(this, delegate, memory, this.leakDetection);
+	}
+
+	private ByteBuffer acquire(int sizeClass) {
+		ByteBuffer memory = this.threadCache.get().poll(sizeClass);
+		if (memory == null) {
+			memory = this.sharedPools[sizeClass].poll();
+		}
+		if (memory == null) {
+			memory = allocateSlab(sizeClass);
+		}
+		return memory;
+	}
+
+	private ByteBuffer allocateSlab(int sizeClass) {
+		int size = sizeOf(sizeClass);
+		int count = Math.max(1, SLAB_SIZE / size);
+		ByteBuffer slab = (this.preferDirect ?
+				ByteBuffer.allocateDirect(size * count) : ByteBuffer.allocate(size * count));
+		for (int i = 1; i < count; i++) {
+			this.sharedPools[sizeClass].offer(slab.slice(i * size, size));
+		}
+		return slab.slice(0, size);
+	}
+
+	private void recycle(int sizeClass, ByteBuffer memory) {
+		if (!this.threadCache.get().offer(sizeClass, memory)) {
+			this.sharedPools[sizeClass].offer(memory);
+		}
+	}
+
+	private static int sizeClassOf(int capacity) {
+		if (capacity > MAX_POOLED_CAPACITY) {
+			return -1;
+		}
+		int shift = 32 - Integer.numberOfLeadingZeros(Math.max(capacity, 1) - 1);
+		return Math.max(shift - MIN_SIZE_CLASS_SHIFT, 0);
+	}
+
+	private static int sizeOf(int sizeClass) {
+		return 1 << (sizeClass + MIN_SIZE_CLASS_SHIFT);
+	}
+
+
+	@Override
+	public String toString() {
+		return "PoolingDataBufferFactory (preferDirect=" + this.preferDirect + ")";
+	}
+
+
+	/**
+	 * Memory of a {@link PoolingDataBuffer}, shared with its slices and splits,
+	 * and returned to the pool once all of them have been released.
+	 */
+	static final class Memory {
+
+		private final PoolingDataBufferFactory factory;
+
+		private final @Nullable ByteBuffer byteBuffer;
+
+		private final int sizeClass;
+
+		private final AtomicInteger refCount = new AtomicInteger(1);
+
+		Memory(PoolingDataBufferFactory factory, @Nullable ByteBuffer byteBuffer, int sizeClass) {
+			this.factory = factory;
+			this.byteBuffer = byteBuffer;
+			this.sizeClass = sizeClass;
+			if (byteBuffer != null) {
+				factory.activeAllocations.increment();
+			}
+		}
+
+		void retain() {
+			this.refCount.incrementAndGet();
+		}
+
+		void release() {
+			if (this.refCount.decrementAndGet() == 0 && this.byteBuffer != null) {
+				this.factory.activeAllocations.decrement();
+				this.factory.recycle(this.sizeClass, this.byteBuffer);
+			}
+		}
+	}
+
+
+	/**
+	 * Per-thread cache of released memory, for each size class.
+	 */
+	private static final class ThreadCache {
+
+		private final ArrayDeque<ByteBuffer>[] caches;
+
+		@SuppressWarnings("unchecked")
+		ThreadCache() {
+			this.caches = new ArrayDeque[SIZE_CLASS_COUNT];
+			for (int i = 0; i < SIZE_CLASS_COUNT; i++) {
+				this.caches[i] = new ArrayDeque<>();
+			}
+		}
+
+		@Nullable ByteBuffer poll(int sizeClass) {
+			return this.caches[sizeClass].pollLast();
+		}
+
+		boolean offer(int sizeClass, ByteBuffer memory) {
+			ArrayDeque<ByteBuffer> cache = this.caches[sizeClass];
+			if (cache.size() < Math.max(1, THREAD_CACHE_SIZE / sizeOf(sizeClass))) {
+				cache.addLast(memory);
+				return true;
+			}
+			return false;
+		}
+	}
+
+}
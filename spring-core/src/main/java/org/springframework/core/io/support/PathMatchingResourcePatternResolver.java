@@ -19,6 +19,7 @@ package org.springframework.core.io.support;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.UncheckedIOException;
 import java.lang.module.ModuleFinder;
 import java.lang.module.ModuleReader;
@@ -38,10 +39,12 @@ import java.nio.file.FileVisitOption;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.NavigableSet;
 import java.util.Objects;
@@ -49,6 +52,9 @@ import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Predicate;
 import java.util.jar.Attributes;
 import java.util.jar.Attributes.Name;
@@ -64,6 +70,7 @@ import org.apache.commons.logging.LogFactory;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.core.NativeDetector;
+import org.springframework.core.SpringProperties;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
@@ -215,6 +222,18 @@ import org.springframework.util.StringUtils;
  */
 public class PathMatchingResourcePatternResolver implements ResourcePatternResolver {
 
+	/**
+	 * System property that instructs Spring to search the root directories of
+	 * a location pattern in parallel by default, for example, all jar files and
+	 * class path directories containing a given package.
+	 * @since 7.1
+	 * @see #setParallelResolution
+	 */
+	public static final String PARALLEL_RESOLUTION_PROPERTY_NAME = "spring.resources.parallel";
+
+	private static final boolean defaultParallelResolution =
+			SpringProperties.getFlag(PARALLEL_RESOLUTION_PROPERTY_NAME);
+
 	private static final Resource[] EMPTY_RESOURCE_ARRAY = {};
 
 	private static final Log logger = LogFactory.getLog(PathMatchingResourcePatternResolver.class);
@@ -267,6 +286,8 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 
 	private volatile @Nullable Set<ClassPathManifestEntry> manifestEntriesCache;
 
+	private boolean parallelResolution = defaultParallelResolution;
+
 
 	/**
 	 * Create a {@code PathMatchingResourcePatternResolver} with a
@@ -351,6 +372,33 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 		this.useCaches = useCaches;
 	}
 
+	/**
+	 * Specify whether this resolver should search the root directories of a
+	 * location pattern in parallel, for example, all jar files and class path
+	 * directories containing the base package of a classpath scan.
+	 * <p>Default is {@code false}, unless the "spring.resources.parallel"
+	 * system property has been set to {@code true}. Consider switching this
+	 * flag to {@code true} for a class path with many jar files. Root directories
+	 * are searched in the common {@link ForkJoinPool}, with the resulting
+	 * resources in the same order as for a sequential search.
+	 * @since 7.1
+	 * @see #PARALLEL_RESOLUTION_PROPERTY_NAME
+	 * @see #doFindPathMatchingJarResources
+	 * @see #doFindPathMatchingFileResources
+	 */
+	public void setParallelResolution(boolean parallelResolution) {
+		this.parallelResolution = parallelResolution;
+	}
+
+	/**
+	 * Return whether this resolver searches the root directories of a
+	 * location pattern in parallel.
+	 * @since 7.1
+	 */
+	public boolean isParallelResolution() {
+		return this.parallelResolution;
+	}
+
 
 	@Override
 	public Resource getResource(String location) {
@@ -754,32 +802,15 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 		}
 
 		Set<Resource> result = new LinkedHashSet<>(64);
-		for (Resource rootDirResource : rootDirResources) {
-			if (actualRootPath != null && actualRootPath.length() < rootDirPath.length()) {
-				// Create sub-resource for requested sub-location from cached common root directory.
-				rootDirResource = rootDirResource.createRelative(rootDirPath.substring(actualRootPath.length()));
-			}
-			rootDirResource = resolveRootDirResource(rootDirResource);
-			URL rootDirUrl = rootDirResource.getURL();
-			if (equinoxResolveMethod != null && rootDirUrl.getProtocol().startsWith("bundle")) {
-				URL resolvedUrl = (URL) ReflectionUtils.invokeMethod(equinoxResolveMethod, null, rootDirUrl);
-				if (resolvedUrl != null) {
-					rootDirUrl = resolvedUrl;
-				}
-				UrlResource urlResource = new UrlResource(rootDirUrl);
-				if (this.useCaches != null) {
-					urlResource.setUseCaches(this.useCaches);
-				}
-				rootDirResource = urlResource;
+		if (this.parallelResolution && rootDirResources.length > 1) {
+			for (Set<Resource> matches : findPathMatchingResourcesInParallel(
+					rootDirResources, actualRootPath, rootDirPath, subPattern)) {
+				result.addAll(matches);
 			}
-			if (rootDirUrl.getProtocol().startsWith(ResourceUtils.URL_PROTOCOL_VFS)) {
-				result.addAll(VfsResourceMatchingDelegate.findMatchingResources(rootDirUrl, subPattern, getPathMatcher()));
-			}
-			else if (ResourceUtils.isJarURL(rootDirUrl) || isJarResource(rootDirResource)) {
-				result.addAll(doFindPathMatchingJarResources(rootDirResource, rootDirUrl, subPattern));
-			}
-			else {
-				result.addAll(doFindPathMatchingFileResources(rootDirResource, subPattern));
+		}
+		else {
+			for (Resource rootDirResource : rootDirResources) {
+				result.addAll(findPathMatchingResourcesInRootDir(rootDirResource, actualRootPath, rootDirPath, subPattern));
 			}
 		}
 		if (logger.isTraceEnabled()) {
@@ -788,6 +819,93 @@ public class PathMatchingResourcePatternResolver implements ResourcePatternResol
 		return result.toArray(EMPTY_RESOURCE_ARRAY);
 	}
 
+	/**
+	 * Find all resources underneath the given root directory that match the
+	 * given sub pattern, for the root directory lookup determined by
+	 * {@link #findPathMatchingResources(String)}.
+	 */
+	private Set<Resource> findPathMatchingResourcesInRootDir(Resource rootDirResource, @Nullable String actualRootPath,
+			String rootDirPath, String subPattern) throws IOException {
+
+		if (actualRootPath != null && actualRootPath.length() < rootDirPath.length()) {
+			// Create sub-resource for requested sub-location from cached common root directory.
+			rootDirResource = rootDirResource.createRelative(rootDirPath.substring(actualRootPath.length()));
+		}
+		rootDirResource = resolveRootDirResource(rootDirResource);
+		URL rootDirUrl = rootDirResource.getURL();
+		if (equinoxResolveMethod != null && rootDirUrl.getProtocol().startsWith("bundle")) {
+			URL resolvedUrl = (URL) ReflectionUtils.invokeMethod(equinoxResolveMethod, null, rootDirUrl);
+			if (resolvedUrl != null) {
+				rootDirUrl = resolvedUrl;
+			}
+			UrlResource urlResource = new UrlResource(rootDirUrl);
+			if (this.useCaches != null) {
+				urlResource.setUseCaches(this.useCaches);
+			}
+			rootDirResource = urlResource;
+		}
+		if (rootDirUrl.getProtocol().startsWith(ResourceUtils.URL_PROTOCOL_VFS)) {
+			return VfsResourceMatchingDelegate.findMatchingResources(rootDirUrl, subPattern, getPathMatcher());
+		}
+		else if (ResourceUtils.isJarURL(rootDirUrl) || isJarResource(rootDirResource)) {
+			return doFindPathMatchingJarResources(rootDirResource, rootDirUrl, subPattern);
+		}
+		else {
+			return doFindPathMatchingFileResources(rootDirResource, subPattern);
+		}
+	}
+
+	/**
+	 * Find all resources underneath the given root directories that match the
+	 * given sub pattern concurrently in the common {@link ForkJoinPool},
+	 * propagating the current thread context ClassLoader to the worker threads.
+	 * @return the matching resources for each root directory, in the order
+	 * of the given root directories
+	 */
+	private List<Set<Resource>> findPathMatchingResourcesInParallel(Resource[] rootDirResources,
+			@Nullable String actualRootPath, String rootDirPath, String subPattern) throws IOException {
+
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		List<ForkJoinTask<Set<Resource>>> tasks = new ArrayList<>(rootDirResources.length);
+		for (Resource rootDirResource : rootDirResources) {
+			tasks.add(ForkJoinPool.commonPool().submit(() -> {
+				Thread currentThread = Thread.currentThread();
+				ClassLoader previousClassLoader = currentThread.getContextClassLoader();
+				currentThread.setContextClassLoader(contextClassLoader);
+				try {
+					return findPathMatchingResourcesInRootDir(rootDirResource, actualRootPath, rootDirPath, subPattern);
+				}
+				finally {
+					currentThread.setContextClassLoader(previousClassLoader);
+				}
+			}));
+		}
+		List<Set<Resource>> results = new ArrayList<>(tasks.size());
+		for (ForkJoinTask<Set<Resource>> task : tasks) {
+			try {
+				results.add(task.get());
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while resolving location pattern");
+			}
+			catch (ExecutionException ex) {
+				Throwable cause = ex.getCause();
+				if (cause instanceof IOException ioException) {
+					throw ioException;
+				}
+				if (cause instanceof RuntimeException runtimeException) {
+					throw runtimeException;
+				}
+				if (cause instanceof Error error) {
+					throw error;
+				}
+				throw new IOException(cause);
+			}
+		}
+		return results;
+	}
+
 	/**
 	 * Determine the root directory for the given location.
 	 * <p>Used for determining the starting point for file matching, resolving the
@@ -0,0 +1,552 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.asm.AnnotationVisitor;
+import org.springframework.asm.ClassVisitor;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.SpringAsmInfo;
+import org.springframework.asm.Type;
+
+/**
+ * ASM class visitor that records the events consumed by a delegate visitor
+ * in a compact binary form, for replaying them later on without the need
+ * to read and parse the class file again.
+ *
+ * <p>All annotations and methods are recorded, independent of whether the
+ * delegate visitor is interested in them, along with the arguments that
+ * {@link SimpleAnnotationMetadataReadingVisitor} makes use of. A recording
+ * therefore only depends on the class file itself: annotation types that are
+ * filtered or cannot be loaded are skipped by the visitor that the recording
+ * is replayed on, just like when reading the class file.
+ *
+ * @since 7.1
+ * @see #replay(byte[], ClassVisitor)
+ */
+final class MetadataRecordingClassVisitor extends ClassVisitor {
+
+	private static final int END = 0;
+
+	private static final int CLASS = 1;
+
+	private static final int OUTER_CLASS = 2;
+
+	private static final int INNER_CLASS = 3;
+
+	private static final int ANNOTATION = 4;
+
+	private static final int METHOD = 5;
+
+	private static final int VALUE = 6;
+
+	private static final int ENUM = 7;
+
+	private static final int ARRAY = 8;
+
+
+	private final RecordingOutput output = new RecordingOutput();
+
+
+	MetadataRecordingClassVisitor(ClassVisitor delegate) {
+		super(SpringAsmInfo.ASM_VERSION, delegate);
+	}
+
+
+	@Override
+	public void visit(int version, int access, String name, String signature,
+			@Nullable String supername, String[] interfaces) {
+
+		super.visit(version, access, name, signature, supername, interfaces);
+		this.output.putByte(CLASS).putInt(access);
+		putString(this.output, name);
+		putNullableString(this.output, supername);
+		this.output.putShort(interfaces.length);
+		for (String element : interfaces) {
+			putString(this.output, element);
+		}
+	}
+
+	@Override
+	public void visitOuterClass(String owner, String name, String desc) {
+		super.visitOuterClass(owner, name, desc);
+		this.output.putByte(OUTER_CLASS);
+		putString(this.output, owner);
+	}
+
+	@Override
+	public void visitInnerClass(String name, @Nullable String outerName, String innerName, int access) {
+		super.visitInnerClass(name, outerName, innerName, access);
+		if (outerName != null) {
+			this.output.putByte(INNER_CLASS).putInt(access);
+			putString(this.output, name);
+			putString(this.output, outerName);
+		}
+	}
+
+	@Override
+	public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+		AnnotationVisitor visitor = super.visitAnnotation(descriptor, visible);
+		this.output.putByte(ANNOTATION).putByte(visible ? 1 : 0);
+		putString(this.output, descriptor);
+		return new RecordingAnnotationVisitor(this.output, visitor);
+	}
+
+	@Override
+	public MethodVisitor visitMethod(
+			int access, String name, String descriptor, String signature, String[] exceptions) {
+
+		MethodVisitor visitor = super.visitMethod(access, name, descriptor, signature, exceptions);
+		this.output.putByte(METHOD).putInt(access);
+		putString(this.output, name);
+		putString(this.output, descriptor);
+		return new RecordingMethodVisitor(this.output, visitor);
+	}
+
+	@Override
+	public void visitEnd() {
+		super.visitEnd();
+		this.output.putByte(END);
+	}
+
+	/**
+	 * Return the recorded events.
+	 */
+	public byte[] getRecording() {
+		return this.output.toByteArray();
+	}
+
+
+	/**
+	 * Replay the given recorded events on the given visitor.
+	 * @param recording the events as returned by {@link #getRecording()}
+	 * @param visitor the visitor to replay the events on
+	 * @throws IOException if the recording is corrupted
+	 */
+	static void replay(byte[] recording, ClassVisitor visitor) throws IOException {
+		DataInputStream input = new DataInputStream(new ByteArrayInputStream(recording));
+		int event;
+		while ((event = input.readUnsignedByte()) != END) {
+			switch (event) {
+				case CLASS -> {
+					int access = input.readInt();
+					String name = readString(input);
+					String superName = readNullableString(input);
+					String[] interfaces = new String[input.readUnsignedShort()];
+					for (int i = 0; i < interfaces.length; i++) {
+						interfaces[i] = readString(input);
+					}
+					visitor.visit(0, access, name, null, superName, interfaces);
+				}
+				case OUTER_CLASS -> visitor.visitOuterClass(readString(input), null, null);
+				case INNER_CLASS -> {
+					int access = input.readInt();
+					visitor.visitInnerClass(readString(input), readString(input), null, access);
+				}
+				case ANNOTATION -> {
+					boolean visible = input.readBoolean();
+					replayAnnotation(input, visitor.visitAnnotation(readString(input), visible));
+				}
+				case METHOD -> {
+					int access = input.readInt();
+					MethodVisitor methodVisitor = visitor.visitMethod(access, readString(input), readString(input), null, null);
+					replayMethod(input, methodVisitor);
+				}
+				default -> throw new IOException("Unexpected class event: " + event);
+			}
+		}
+		visitor.visitEnd();
+	}
+
+	private static void replayMethod(DataInputStream input, @Nullable MethodVisitor visitor) throws IOException {
+		int event;
+		while ((event = input.readUnsignedByte()) != END) {
+			if (event != ANNOTATION) {
+				throw new IOException("Unexpected method event: " + event);
+			}
+			boolean visible = input.readBoolean();
+			String descriptor = readString(input);
+			replayAnnotation(input, (visitor != null ? visitor.visitAnnotation(descriptor, visible) : null));
+		}
+		if (visitor != null) {
+			visitor.visitEnd();
+		}
+	}
+
+	private static void replayAnnotation(DataInputStream input, @Nullable AnnotationVisitor visitor) throws IOException {
+		int event;
+		while ((event = input.readUnsignedByte()) != END) {
+			String name = readNullableString(input);
+			switch (event) {
+				case VALUE -> {
+					Object value = readValue(input);
+					if (visitor != null) {
+						visitor.visit(name, value);
+					}
+				}
+				case ENUM -> {
+					String descriptor = readString(input);
+					String value = readString(input);
+					if (visitor != null) {
+						visitor.visitEnum(name, descriptor, value);
+					}
+				}
+				case ANNOTATION -> {
+					String descriptor = readString(input);
+					replayAnnotation(input, (visitor != null ? visitor.visitAnnotation(name, descriptor) : null));
+				}
+				case ARRAY -> replayAnnotation(input, (visitor != null ? visitor.visitArray(name) : null));
+				default -> throw new IOException("Unexpected annotation event: " + event);
+			}
+		}
+		if (visitor != null) {
+			visitor.visitEnd();
+		}
+	}
+
+	private static void putString(RecordingOutput output, String value) {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		output.putInt(bytes.length).putBytes(bytes);
+	}
+
+	private static String readString(DataInputStream input) throws IOException {
+		byte[] bytes = new byte[input.readInt()];
+		input.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void putNullableString(RecordingOutput output, @Nullable String value) {
+		if (value != null) {
+			output.putByte(1);
+			putString(output, value);
+		}
+		else {
+			output.putByte(0);
+		}
+	}
+
+	private static @Nullable String readNullableString(DataInputStream input) throws IOException {
+		return (input.readBoolean() ? readString(input) : null);
+	}
+
+	private static void putValue(RecordingOutput output, Object value) {
+		if (value instanceof String string) {
+			output.putByte('s');
+			putString(output, string);
+		}
+		else if (value instanceof Type type) {
+			output.putByte('c');
+			putString(output, type.getDescriptor());
+		}
+		else if (value instanceof Integer number) {
+			output.putByte('I').putInt(number);
+		}
+		else if (value instanceof Boolean bool) {
+			output.putByte('Z').putByte(bool ? 1 : 0);
+		}
+		else if (value instanceof Long number) {
+			output.putByte('J').putLong(number);
+		}
+		else if (value instanceof Byte number) {
+			output.putByte('B').putByte(number);
+		}
+		else if (value instanceof Short number) {
+			output.putByte('S').putShort(number);
+		}
+		else if (value instanceof Character character) {
+			output.putByte('C').putShort(character);
+		}
+		else if (value instanceof Float number) {
+			output.putByte('F').putInt(Float.floatToRawIntBits(number));
+		}
+		else if (value instanceof Double number) {
+			output.putByte('D').putLong(Double.doubleToRawLongBits(number));
+		}
+		else if (value.getClass().isArray() && value.getClass().componentType().isPrimitive()) {
+			output.putByte('[');
+			putPrimitiveArray(output, value);
+		}
+		else {
+			throw new IllegalArgumentException("Unsupported annotation value: " + value);
+		}
+	}
+
+	private static void putPrimitiveArray(RecordingOutput output, Object array) {
+		if (array instanceof int[] values) {
+			output.putByte('I').putInt(values.length);
+			for (int value : values) {
+				output.putInt(value);
+			}
+		}
+		else if (array instanceof boolean[] values) {
+			output.putByte('Z').putInt(values.length);
+			for (boolean value : values) {
+				output.putByte(value ? 1 : 0);
+			}
+		}
+		else if (array instanceof long[] values) {
+			output.putByte('J').putInt(values.length);
+			for (long value : values) {
+				output.putLong(value);
+			}
+		}
+		else if (array instanceof byte[] values) {
+			output.putByte('B').putInt(values.length).putBytes(values);
+		}
+		else if (array instanceof short[] values) {
+			output.putByte('S').putInt(values.length);
+			for (short value : values) {
+				output.putShort(value);
+			}
+		}
+		else if (array instanceof char[] values) {
+			output.putByte('C').putInt(values.length);
+			for (char value : values) {
+				output.putShort(value);
+			}
+		}
+		else if (array instanceof float[] values) {
+			output.putByte('F').putInt(values.length);
+			for (float value : values) {
+				output.putInt(Float.floatToRawIntBits(value));
+			}
+		}
+		else if (array instanceof double[] values) {
+			output.putByte('D').putInt(values.length);
+			for (double value : values) {
+				output.putLong(Double.doubleToRawLongBits(value));
+			}
+		}
+	}
+
+	private static Object readValue(DataInputStream input) throws IOException {
+		int tag = input.readUnsignedByte();
+		return switch (tag) {
+			case 's' -> readString(input);
+			case 'c' -> Type.getType(readString(input));
+			case 'I' -> input.readInt();
+			case 'Z' -> input.readBoolean();
+			case 'J' -> input.readLong();
+			case 'B' -> input.readByte();
+			case 'S' -> input.readShort();
+			case 'C' -> input.readChar();
+			case 'F' -> input.readFloat();
+			case 'D' -> input.readDouble();
+			case '[' -> readPrimitiveArray(input);
+			default -> throw new IOException("Unexpected annotation value tag: " + tag);
+		};
+	}
+
+	private static Object readPrimitiveArray(DataInputStream input) throws IOException {
+		int tag = input.readUnsignedByte();
+		int length = input.readInt();
+		switch (tag) {
+			case 'I' -> {
+				int[] values = new int[length];
+				for (int i = 0; i < length; i++) {
+					values[i] = input.readInt();
+				}
+				return values;
+			}
+			case 'Z' -> {
+				boolean[] values = new boolean[length];
+				for (int i = 0; i < length; i++) {
+					values[i] = input.readBoolean();
+				}
+				return values;
+			}
+			case 'J' -> {
+				long[] values = new long[length];
+				for (int i = 0; i < length; i++) {
+					values[i] = input.readLong();
+				}
+				return values;
+			}
+			case 'B' -> {
+				byte[] values = new byte[length];
+				input.readFully(values);
+				return values;
+			}
+			case 'S' -> {
+				short[] values = new short[length];
+				for (int i = 0; i < length; i++) {
+					values[i] = input.readShort();
+				}
+				return values;
+			}
+			case 'C' -> {
+				char[] values = new char[length];
+				for (int i = 0; i < length; i++) {
+					values[i] = input.readChar();
+				}
+				return values;
+			}
+			case 'F' -> {
+				float[] values = new float[length];
+				for (int i = 0; i < length; i++) {
+					values[i] = input.readFloat();
+				}
+				return values;
+			}
+			case 'D' -> {
+				double[] values = new double[length];
+				for (int i = 0; i < length; i++) {
+					values[i] = input.readDouble();
+				}
+				return values;
+			}
+			default -> throw new IOException("Unexpected annotation array tag: " + tag);
+		}
+	}
+
+
+	/**
+	 * Growable buffer for recorded events, in the format read by {@link DataInputStream}.
+	 */
+	private static final class RecordingOutput {
+
+		private byte[] bytes = new byte[256];
+
+		private int length;
+
+		RecordingOutput putByte(int value) {
+			ensureCapacity(1);
+			this.bytes[this.length++] = (byte) value;
+			return this;
+		}
+
+		RecordingOutput putShort(int value) {
+			return putByte(value >>> 8).putByte(value);
+		}
+
+		RecordingOutput putInt(int value) {
+			return putShort(value >>> 16).putShort(value);
+		}
+
+		RecordingOutput putLong(long value) {
+			return putInt((int) (value >>> 32)).putInt((int) value);
+		}
+
+		RecordingOutput putBytes(byte[] values) {
+			ensureCapacity(values.length);
+			System.arraycopy(values, 0, this.bytes, this.length, values.length);
+			this.length += values.length;
+			return this;
+		}
+
+		byte[] toByteArray() {
+			return Arrays.copyOf(this.bytes, this.length);
+		}
+
+		private void ensureCapacity(int additional) {
+			if (this.length + additional > this.bytes.length) {
+				this.bytes = Arrays.copyOf(this.bytes, Math.max(this.bytes.length * 2, this.length + additional));
+			}
+		}
+	}
+
+
+	/**
+	 * {@link MethodVisitor} that records annotations on a method.
+	 */
+	private static final class RecordingMethodVisitor extends MethodVisitor {
+
+		private final RecordingOutput output;
+
+		RecordingMethodVisitor(RecordingOutput output, @Nullable MethodVisitor delegate) {
+			super(SpringAsmInfo.ASM_VERSION, delegate);
+			this.output = output;
+		}
+
+		@Override
+		public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+			AnnotationVisitor visitor = super.visitAnnotation(descriptor, visible);
+			this.output.putByte(ANNOTATION).putByte(visible ? 1 : 0);
+			putString(this.output, descriptor);
+			return new RecordingAnnotationVisitor(this.output, visitor);
+		}
+
+		@Override
+		public void visitEnd() {
+			super.visitEnd();
+			this.output.putByte(END);
+		}
+	}
+
+
+	/**
+	 * {@link AnnotationVisitor} that records annotation attributes,
+	 * including nested annotations and arrays.
+	 */
+	private static final class RecordingAnnotationVisitor extends AnnotationVisitor {
+
+		private final RecordingOutput output;
+
+		RecordingAnnotationVisitor(RecordingOutput output, @Nullable AnnotationVisitor delegate) {
+			super(SpringAsmInfo.ASM_VERSION, delegate);
+			this.output = output;
+		}
+
+		@Override
+		public void visit(String name, Object value) {
+			super.visit(name, value);
+			this.output.putByte(VALUE);
+			putNullableString(this.output, name);
+			putValue(this.output, value);
+		}
+
+		@Override
+		public void visitEnum(String name, String descriptor, String value) {
+			super.visitEnum(name, descriptor, value);
+			this.output.putByte(ENUM);
+			putNullableString(this.output, name);
+			putString(this.output, descriptor);
+			putString(this.output, value);
+		}
+
+		@Override
+		public AnnotationVisitor visitAnnotation(String name, String descriptor) {
+			AnnotationVisitor visitor = super.visitAnnotation(name, descriptor);
+			this.output.putByte(ANNOTATION);
+			putNullableString(this.output, name);
+			putString(this.output, descriptor);
+			return new RecordingAnnotationVisitor(this.output, visitor);
+		}
+
+		@Override
+		public AnnotationVisitor visitArray(String name) {
+			AnnotationVisitor visitor = super.visitArray(name);
+			this.output.putByte(ARRAY);
+			putNullableString(this.output, name);
+			return new RecordingAnnotationVisitor(this.output, visitor);
+		}
+
+		@Override
+		public void visitEnd() {
+			super.visitEnd();
+			this.output.putByte(END);
+		}
+	}
+
+}
@@ -0,0 +1,385 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ResourceUtils;
+
+/**
+ * {@link CachingMetadataReaderFactory} which additionally keeps the metadata
+ * of the classes read through it in a file, avoiding to read and parse those
+ * class files again on the next start of the application.
+ *
+ * <p>The file is read on first access. Each entry is keyed by the URL of the
+ * class file and stamped with its last-modified timestamp and length (for a
+ * class file in a jar, the timestamp of the jar), so that changed class files
+ * are detected and read again. Newly read class files are only written to
+ * the file on {@link #save()}, typically called at the end of a classpath
+ * scan. Stored entries which have not been used in the meantime are kept,
+ * so that a save in between several scans does not drop the classes of the
+ * scans still to come, unless their class file does not exist anymore.
+ * All factories for the same file within a JVM share the loaded entries, so
+ * that their saves are serialized and include the class files read through
+ * any of them.
+ *
+ * <p>Stored metadata is replayed against the configured class loader, so that
+ * annotation types are resolved the same way as when reading a class file.
+ * Note that class files are always read through ASM since the stored metadata
+ * consists of recorded ASM events, also on JDK 24 and higher where the default
+ * {@link MetadataReaderFactory} is based on the {@code java.lang.classfile} API.
+ *
+ * @since 7.1
+ * @see #save()
+ */
+public class PersistentCachingMetadataReaderFactory extends CachingMetadataReaderFactory {
+
+	private static final Map<Path, CacheFile> cacheFiles = new ConcurrentReferenceHashMap<>();
+
+
+	private final MetadataStore store;
+
+
+	/**
+	 * Create a new PersistentCachingMetadataReaderFactory for the given cache
+	 * file and {@link ResourceLoader}, using a shared in-memory resource cache
+	 * if supported or a local in-memory resource cache otherwise.
+	 * @param cacheFile the file to keep class metadata in
+	 * @param resourceLoader the Spring ResourceLoader to use
+	 * (also determines the ClassLoader to use)
+	 */
+	public PersistentCachingMetadataReaderFactory(Path cacheFile, @Nullable ResourceLoader resourceLoader) {
+		this(new MetadataStore(cacheFile, getCacheFile(cacheFile), resourceLoader));
+	}
+
+	/**
+	 * Create a new PersistentCachingMetadataReaderFactory for the given cache
+	 * file and {@link ClassLoader}, using a local in-memory resource cache.
+	 * @param cacheFile the file to keep class metadata in
+	 * @param classLoader the ClassLoader to use
+	 */
+	public PersistentCachingMetadataReaderFactory(Path cacheFile, @Nullable ClassLoader classLoader) {
+		this(new MetadataStore(cacheFile, getCacheFile(cacheFile), classLoader));
+	}
+
+	private PersistentCachingMetadataReaderFactory(MetadataStore store) {
+		super(store);
+		this.store = store;
+	}
+
+	private static CacheFile getCacheFile(Path cacheFile) {
+		Assert.notNull(cacheFile, "Cache file must not be null");
+		return cacheFiles.computeIfAbsent(cacheFile.toAbsolutePath().normalize(), CacheFile::new);
+	}
+
+
+	/**
+	 * Return the file that class metadata is kept in.
+	 */
+	public Path getCacheFile() {
+		return this.store.cacheFilePath;
+	}
+
+	/**
+	 * Write the metadata of all classes read since the cache file has been
+	 * loaded to the cache file, through this factory or any other factory
+	 * for the same file, along with the stored metadata of other classes.
+	 * <p>This is a no-op if the file is up-to-date already, that is, if no
+	 * class file has been read since the file has been loaded or saved.
+	 * @throws IOException in case of I/O errors while writing the file
+	 */
+	public void save() throws IOException {
+		this.store.cacheFile.save();
+	}
+
+
+	/**
+	 * Delegate {@link MetadataReaderFactory} that replays stored metadata,
+	 * reading and recording class files only if not stored or changed.
+	 */
+	private static class MetadataStore extends AbstractMetadataReaderFactory {
+
+		private final Path cacheFilePath;
+
+		private final CacheFile cacheFile;
+
+		MetadataStore(Path cacheFilePath, CacheFile cacheFile, @Nullable ResourceLoader resourceLoader) {
+			super(resourceLoader);
+			this.cacheFilePath = cacheFilePath;
+			this.cacheFile = cacheFile;
+		}
+
+		MetadataStore(Path cacheFilePath, CacheFile cacheFile, @Nullable ClassLoader classLoader) {
+			super(classLoader);
+			this.cacheFilePath = cacheFilePath;
+			this.cacheFile = cacheFile;
+		}
+
+		@Override
+		public MetadataReader getMetadataReader(Resource resource) throws IOException {
+			String key;
+			long stamp;
+			try {
+				key = resource.getURL().toString();
+				stamp = resource.lastModified() * 31 + resource.contentLength();
+			}
+			catch (FileNotFoundException ex) {
+				throw ex;
+			}
+			catch (IOException ex) {
+				// Not resolvable in the file system or within a jar -> read as usual
+				return new SimpleMetadataReader(resource, getClassLoader());
+			}
+
+			Entry entry = this.cacheFile.getEntry(key);
+			if (entry != null && entry.stamp() == stamp) {
+				try {
+					SimpleAnnotationMetadataReadingVisitor visitor = new SimpleAnnotationMetadataReadingVisitor(getClassLoader());
+					MetadataRecordingClassVisitor.replay(entry.getRecording(), visitor);
+					return new SimpleMetadataReader(resource, visitor.getMetadata());
+				}
+				catch (IOException | RuntimeException ex) {
+					if (CacheFile.logger.isDebugEnabled()) {
+						CacheFile.logger.debug("Failed to replay stored metadata for " + resource + " - reading class file", ex);
+					}
+				}
+			}
+
+			SimpleAnnotationMetadataReadingVisitor visitor = new SimpleAnnotationMetadataReadingVisitor(getClassLoader());
+			MetadataRecordingClassVisitor recorder = new MetadataRecordingClassVisitor(visitor);
+			SimpleMetadataReader.getClassReader(resource).accept(recorder, SimpleMetadataReader.PARSING_OPTIONS);
+			this.cacheFile.putEntry(key, new Entry(stamp, ByteBuffer.wrap(recorder.getRecording())));
+			return new SimpleMetadataReader(resource, visitor.getMetadata());
+		}
+
+		private @Nullable ClassLoader getClassLoader() {
+			return getResourceLoader().getClassLoader();
+		}
+	}
+
+
+	/**
+	 * The entries of a cache file, shared by all factories for the same file.
+	 */
+	private static class CacheFile {
+
+		private static final int MAGIC = 0x53434D44;
+
+		private static final int VERSION = 2;
+
+		private static final Log logger = LogFactory.getLog(PersistentCachingMetadataReaderFactory.class);
+
+		private final Path path;
+
+		private final Map<String, Entry> entries = new ConcurrentHashMap<>(256);
+
+		private final Set<String> usedKeys = ConcurrentHashMap.newKeySet(256);
+
+		private final Object monitor = new Object();
+
+		private volatile boolean loaded;
+
+		private volatile boolean modified;
+
+		CacheFile(Path path) {
+			this.path = path;
+		}
+
+		@Nullable Entry getEntry(String key) {
+			load();
+			Entry entry = this.entries.get(key);
+			if (entry != null) {
+				this.usedKeys.add(key);
+			}
+			return entry;
+		}
+
+		void putEntry(String key, Entry entry) {
+			this.entries.put(key, entry);
+			this.usedKeys.add(key);
+			this.modified = true;
+		}
+
+		private void load() {
+			if (this.loaded) {
+				return;
+			}
+			synchronized (this.monitor) {
+				if (this.loaded) {
+					return;
+				}
+				if (Files.isRegularFile(this.path)) {
+					try {
+						// Read into memory rather than mapping the file, so that it can be replaced on save
+						ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(this.path));
+						DataInputStream input = new DataInputStream(new ByteBufferInputStream(buffer));
+						if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+							throw new IOException("Unsupported file format");
+						}
+						int count = input.readInt();
+						for (int i = 0; i < count; i++) {
+							String key = input.readUTF();
+							long stamp = input.readLong();
+							int length = input.readInt();
+							this.entries.put(key, new Entry(stamp, buffer.slice(buffer.position(), length)));
+							buffer.position(buffer.position() + length);
+						}
+						if (logger.isDebugEnabled()) {
+							logger.debug("Loaded metadata of " + count + " classes from " + this.path);
+						}
+					}
+					catch (IOException | RuntimeException ex) {
+						this.entries.clear();
+						if (logger.isInfoEnabled()) {
+							logger.info("Ignoring unreadable class metadata cache file " + this.path + ": " + ex);
+						}
+					}
+				}
+				this.loaded = true;
+			}
+		}
+
+		void save() throws IOException {
+			synchronized (this.monitor) {
+				// Up-to-date unless a class file has been read
+				if (!this.modified) {
+					return;
+				}
+				this.modified = false;
+				Path directory = this.path.getParent();
+				Assert.state(directory != null, "Cache file must have a parent directory");
+				Files.createDirectories(directory);
+				Path tempFile = Files.createTempFile(directory, this.path.getFileName().toString(), ".tmp");
+				Map<String, Entry> snapshot = new HashMap<>(this.entries);
+				snapshot.keySet().removeIf(key -> !this.usedKeys.contains(key) && isRemoved(key));
+				try {
+					try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+						output.writeInt(MAGIC);
+						output.writeInt(VERSION);
+						output.writeInt(snapshot.size());
+						for (Map.Entry<String, Entry> entry : snapshot.entrySet()) {
+							byte[] recording = entry.getValue().getRecording();
+							output.writeUTF(entry.getKey());
+							output.writeLong(entry.getValue().stamp());
+							output.writeInt(recording.length);
+							output.write(recording);
+						}
+					}
+					try {
+						Files.move(tempFile, this.path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+					}
+					catch (AtomicMoveNotSupportedException ex) {
+						Files.move(tempFile, this.path, StandardCopyOption.REPLACE_EXISTING);
+					}
+				}
+				catch (IOException | RuntimeException ex) {
+					this.modified = true;
+					Files.deleteIfExists(tempFile);
+					throw ex;
+				}
+				if (logger.isDebugEnabled()) {
+					logger.debug("Saved metadata of " + snapshot.size() + " classes to " + this.path);
+				}
+			}
+		}
+
+		/**
+		 * Determine whether the class file with the given URL, or the jar
+		 * containing it, has been removed from the file system.
+		 */
+		private static boolean isRemoved(String key) {
+			try {
+				URL url = ResourceUtils.toURL(key);
+				if (ResourceUtils.isJarURL(url)) {
+					url = ResourceUtils.extractArchiveURL(url);
+				}
+				return (ResourceUtils.isFileURL(url) && !ResourceUtils.getFile(url).exists());
+			}
+			catch (IOException ex) {
+				return false;
+			}
+		}
+	}
+
+
+	/**
+	 * Stored metadata of a class file.
+	 * @param stamp the last-modified timestamp and length of the class file
+	 * @param recording the recorded metadata events, either read from the
+	 * cache file or freshly recorded
+	 */
+	private record Entry(long stamp, ByteBuffer recording) {
+
+		byte[] getRecording() {
+			byte[] bytes = new byte[this.recording.capacity()];
+			this.recording.get(0, bytes);
+			return bytes;
+		}
+	}
+
+
+	/**
+	 * {@link InputStream} reading from the current position of a {@link ByteBuffer}.
+	 */
+	private static class ByteBufferInputStream extends InputStream {
+
+		private final ByteBuffer buffer;
+
+		ByteBufferInputStream(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public int read() {
+			return (this.buffer.hasRemaining() ? this.buffer.get() & 0xFF : -1);
+		}
+
+		@Override
+		public int read(byte[] bytes, int off, int len) {
+			if (!this.buffer.hasRemaining()) {
+				return -1;
+			}
+			int count = Math.min(len, this.buffer.remaining());
+			this.buffer.get(bytes, off, count);
+			return count;
+		}
+	}
+
+}
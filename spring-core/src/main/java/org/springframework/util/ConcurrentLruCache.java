@@ -40,6 +40,13 @@ import org.jspecify.annotations.Nullable;
  * <p>Read and write operations are internally recorded in dedicated buffers,
  * then drained at chosen times to avoid contention.
  *
+ * <p>As of 7.1, a cache can be created with a frequency-based admission policy
+ * (inspired from the "W-TinyLFU" policy of
+ * <a href="https://github.com/ben-manes/caffeine">Caffeine</a>), which keeps
+ * frequently used entries in the cache when they compete with entries used
+ * only once, for example, unique keys that would otherwise evict hot entries.
+ * Such a cache also stripes its read and write buffers per available processor.
+ *
  * @author Brian Clozel
  * @author Ben Manes
  * @since 5.3
@@ -50,6 +57,8 @@ import org.jspecify.annotations.Nullable;
 @SuppressWarnings({"unchecked", "NullAway"})
 public final class ConcurrentLruCache<K, V> {
 
+	private static final int MAX_STRIPES = 64;
+
 	private final int capacity;
 
 	private final AtomicInteger currentSize = new AtomicInteger();
@@ -65,10 +74,10 @@ public final class ConcurrentLruCache<K, V> {
 	private final Lock evictionLock = new ReentrantLock();
 
 	/*
-	 * Queue that contains all ACTIVE cache entries, ordered with least recently used entries first.
-	 * Read and write operations are buffered and periodically processed to reorder the queue.
+	 * Policy that keeps track of all ACTIVE cache entries and selects entries for eviction.
+	 * Read and write operations are buffered and periodically processed to update the policy.
 	 */
-	private final EvictionQueue<K, V> evictionQueue = new EvictionQueue<>();
+	private final EvictionPolicy<K, V> evictionPolicy;
 
 	private final AtomicReference<DrainStatus> drainStatus = new AtomicReference<>(DrainStatus.IDLE);
 
@@ -80,16 +89,45 @@ public final class ConcurrentLruCache<K, V> {
 	 * @param generator a function to generate a new value for a given key
 	 */
 	public ConcurrentLruCache(int capacity, Function<K, V> generator) {
-		this(capacity, generator, 16);
+		this(capacity, generator, false);
 	}
 
-	private ConcurrentLruCache(int capacity, Function<K, V> generator, int concurrencyLevel) {
+	/**
+	 * Create a new cache instance with the given capacity and generator function,
+	 * optionally with a frequency-based admission policy.
+	 * <p>With frequency-based admission, the access frequency of keys is tracked
+	 * in a compact sketch. New entries first go into a small LRU window; once
+	 * leaving the window, an entry is only retained in the main area of the cache
+	 * if it has been used more frequently than the entry it would evict from there.
+	 * This trades a little overhead for a higher hit rate on workloads with many
+	 * keys used only once.
+	 * @param capacity the maximum number of entries in the cache
+	 * (0 indicates no caching, always generating a new value)
+	 * @param generator a function to generate a new value for a given key
+	 * @param frequencyBasedAdmission whether to use a frequency-based admission
+	 * policy and per-processor striped buffers rather than plain LRU eviction
+	 * @since 7.1
+	 */
+	public ConcurrentLruCache(int capacity, Function<K, V> generator, boolean frequencyBasedAdmission) {
 		Assert.isTrue(capacity >= 0, "Capacity must be >= 0");
 		this.capacity = capacity;
-		this.cache = new ConcurrentHashMap<>(16, 0.75f, concurrencyLevel);
+		this.cache = new ConcurrentHashMap<>(16, 0.75f, 16);
 		this.generator = generator;
-		this.readOperations = new ReadOperations<>(this.evictionQueue);
-		this.writeOperations = new WriteOperations();
+		if (frequencyBasedAdmission) {
+			int stripes = Math.min(ceilingPowerOfTwo(Runtime.getRuntime().availableProcessors()), MAX_STRIPES);
+			this.evictionPolicy = new WindowTinyLfuPolicy<>(capacity);
+			this.readOperations = new ReadOperations<>(this.evictionPolicy, stripes);
+			this.writeOperations = new WriteOperations(stripes);
+		}
+		else {
+			this.evictionPolicy = new LruPolicy<>();
+			this.readOperations = new ReadOperations<>(this.evictionPolicy, ReadOperations.DEFAULT_BUFFER_COUNT);
+			this.writeOperations = new WriteOperations(1);
+		}
+	}
+
+	private static int ceilingPowerOfTwo(int value) {
+		return (value <= 1 ? 1 : Integer.highestOneBit(value - 1) << 1);
 	}
 
 
@@ -186,7 +224,7 @@ public final class ConcurrentLruCache<K, V> {
 		this.evictionLock.lock();
 		try {
 			Node<K, V> node;
-			while ((node = this.evictionQueue.poll()) != null) {
+			while ((node = this.evictionPolicy.poll()) != null) {
 				this.cache.remove(node.key, node);
 				markAsRemoved(node);
 			}
@@ -270,14 +308,14 @@ public final class ConcurrentLruCache<K, V> {
 		public void run() {
 			currentSize.lazySet(currentSize.get() + 1);
 			if (this.node.get().isActive()) {
-				evictionQueue.add(this.node);
+				evictionPolicy.recordAddition(this.node);
 				evictEntries();
 			}
 		}
 
 		private void evictEntries() {
 			while (currentSize.get() > capacity) {
-				Node<K, V> node = evictionQueue.poll();
+				Node<K, V> node = evictionPolicy.selectVictim();
 				if (node == null) {
 					return;
 				}
@@ -301,7 +339,7 @@ public final class ConcurrentLruCache<K, V> {
 
 		@Override
 		public void run() {
-			evictionQueue.remove(this.node);
+			evictionPolicy.recordRemoval(this.node);
 			markAsRemoved(this.node);
 		}
 	}
@@ -367,9 +405,7 @@ public final class ConcurrentLruCache<K, V> {
 
 	private static final class ReadOperations<K, V> {
 
-		private static final int BUFFER_COUNT = 4;
-
-		private static final int BUFFERS_MASK = BUFFER_COUNT - 1;
+		static final int DEFAULT_BUFFER_COUNT = 4;
 
 		private static final int MAX_PENDING_OPERATIONS = 32;
 
@@ -379,31 +415,40 @@ public final class ConcurrentLruCache<K, V> {
 
 		private static final int BUFFER_INDEX_MASK = BUFFER_SIZE - 1;
 
+		private final int bufferCount;
+
+		private final int buffersMask;
+
 		// Number of operations recorded, for each buffer
-		private final AtomicLongArray recordedCount = new AtomicLongArray(BUFFER_COUNT);
+		private final AtomicLongArray recordedCount;
 
 		// Number of operations read, for each buffer
-		private final long[] readCount = new long[BUFFER_COUNT];
+		private final long[] readCount;
 
 		// Number of operations processed, for each buffer
-		private final AtomicLongArray processedCount = new AtomicLongArray(BUFFER_COUNT);
+		private final AtomicLongArray processedCount;
 
-		@SuppressWarnings("rawtypes")
-		private final AtomicReferenceArray<Node<K, V>>[] buffers = new AtomicReferenceArray[BUFFER_COUNT];
+		private final AtomicReferenceArray<Node<K, V>>[] buffers;
 
-		private final EvictionQueue<K, V> evictionQueue;
+		private final EvictionPolicy<K, V> evictionPolicy;
 
 		@SuppressWarnings("rawtypes")
-		ReadOperations(EvictionQueue<K, V> evictionQueue) {
-			this.evictionQueue = evictionQueue;
-			for (int i = 0; i < BUFFER_COUNT; i++) {
+		ReadOperations(EvictionPolicy<K, V> evictionPolicy, int bufferCount) {
+			this.evictionPolicy = evictionPolicy;
+			this.bufferCount = bufferCount;
+			this.buffersMask = bufferCount - 1;
+			this.recordedCount = new AtomicLongArray(bufferCount);
+			this.readCount = new long[bufferCount];
+			this.processedCount = new AtomicLongArray(bufferCount);
+			this.buffers = new AtomicReferenceArray[bufferCount];
+			for (int i = 0; i < bufferCount; i++) {
 				this.buffers[i] = new AtomicReferenceArray(BUFFER_SIZE);
 			}
 		}
 
 		@SuppressWarnings("deprecation")  // for Thread.getId() on JDK 19
-		private static int getBufferIndex() {
-			return ((int) Thread.currentThread().getId()) & BUFFERS_MASK;
+		private int getBufferIndex() {
+			return ((int) Thread.currentThread().getId()) & this.buffersMask;
 		}
 
 		boolean recordRead(Node<K, V> node) {
@@ -419,14 +464,14 @@ public final class ConcurrentLruCache<K, V> {
 		@SuppressWarnings("deprecation")  // for Thread.getId() on JDK 19
 		void drain() {
 			final int start = (int) Thread.currentThread().getId();
-			final int end = start + BUFFER_COUNT;
+			final int end = start + this.bufferCount;
 			for (int i = start; i < end; i++) {
-				drainReadBuffer(i & BUFFERS_MASK);
+				drainReadBuffer(i & this.buffersMask);
 			}
 		}
 
 		void clear() {
-			for (int i = 0; i < BUFFER_COUNT; i++) {
+			for (int i = 0; i < this.bufferCount; i++) {
 				AtomicReferenceArray<Node<K, V>> buffer = this.buffers[i];
 				for (int j = 0; j < BUFFER_SIZE; j++) {
 					buffer.lazySet(j, null);
@@ -444,7 +489,7 @@ public final class ConcurrentLruCache<K, V> {
 					break;
 				}
 				buffer.lazySet(index, null);
-				this.evictionQueue.moveToBack(node);
+				this.evictionPolicy.recordAccess(node);
 				this.readCount[bufferIndex]++;
 			}
 			this.processedCount.lazySet(bufferIndex, writeCount);
@@ -457,26 +502,42 @@ public final class ConcurrentLruCache<K, V> {
 
 		private static final int DRAIN_THRESHOLD = 16;
 
-		private final Queue<Runnable> operations = new ConcurrentLinkedQueue<>();
+		private final Queue<Runnable>[] operations;
+
+		private final int stripesMask;
+
+		@SuppressWarnings("unchecked")
+		WriteOperations(int stripes) {
+			this.operations = new Queue[stripes];
+			for (int i = 0; i < stripes; i++) {
+				this.operations[i] = new ConcurrentLinkedQueue<>();
+			}
+			this.stripesMask = stripes - 1;
+		}
 
+		@SuppressWarnings("deprecation")  // for Thread.getId() on JDK 19
 		public void add(Runnable task) {
-			this.operations.add(task);
+			this.operations[((int) Thread.currentThread().getId()) & this.stripesMask].add(task);
 		}
 
 		public void drain() {
-			for (int i = 0; i < DRAIN_THRESHOLD; i++) {
-				final Runnable task = this.operations.poll();
-				if (task == null) {
-					break;
+			for (Queue<Runnable> stripe : this.operations) {
+				for (int i = 0; i < DRAIN_THRESHOLD; i++) {
+					final Runnable task = stripe.poll();
+					if (task == null) {
+						break;
+					}
+					task.run();
 				}
-				task.run();
 			}
 		}
 
 		public void drainAll() {
-			Runnable task;
-			while ((task = this.operations.poll()) != null) {
-				task.run();
+			for (Queue<Runnable> stripe : this.operations) {
+				Runnable task;
+				while ((task = stripe.poll()) != null) {
+					task.run();
+				}
 			}
 		}
 	}
@@ -491,6 +552,9 @@ public final class ConcurrentLruCache<K, V> {
 
 		@Nullable Node<K, V> next;
 
+		// Region of a frequency-based eviction policy that the node is in, if any
+		int region;
+
 		Node(K key, CacheEntry<V> cacheEntry) {
 			super(cacheEntry);
 			this.key = key;
@@ -518,6 +582,304 @@ public final class ConcurrentLruCache<K, V> {
 	}
 
 
+	/**
+	 * Policy that tracks the ACTIVE cache entries, only accessed while holding the eviction lock.
+	 */
+	private interface EvictionPolicy<K, V> {
+
+		void recordAddition(Node<K, V> node);
+
+		void recordAccess(Node<K, V> node);
+
+		void recordRemoval(Node<K, V> node);
+
+		/**
+		 * Select an entry to evict, no longer tracking it.
+		 */
+		@Nullable Node<K, V> selectVictim();
+
+		/**
+		 * Remove any entry, for clearing the cache.
+		 */
+		@Nullable Node<K, V> poll();
+	}
+
+
+	/**
+	 * Plain LRU policy, evicting the least recently used entry.
+	 */
+	private static final class LruPolicy<K, V> implements EvictionPolicy<K, V> {
+
+		/*
+		 * Queue that contains all ACTIVE cache entries, ordered with least recently used entries first.
+		 */
+		private final EvictionQueue<K, V> evictionQueue = new EvictionQueue<>();
+
+		@Override
+		public void recordAddition(Node<K, V> node) {
+			this.evictionQueue.add(node);
+		}
+
+		@Override
+		public void recordAccess(Node<K, V> node) {
+			this.evictionQueue.moveToBack(node);
+		}
+
+		@Override
+		public void recordRemoval(Node<K, V> node) {
+			this.evictionQueue.remove(node);
+		}
+
+		@Override
+		public @Nullable Node<K, V> selectVictim() {
+			return this.evictionQueue.poll();
+		}
+
+		@Override
+		public @Nullable Node<K, V> poll() {
+			return this.evictionQueue.poll();
+		}
+	}
+
+
+	/**
+	 * Frequency-based policy: new entries are added to a small LRU window, followed
+	 * by a main area which is split into a probation and a protected segment. An entry
+	 * leaving the window competes with the least recently used entry on probation,
+	 * based on their access frequency as estimated by a {@link FrequencySketch}.
+	 * Entries accessed while on probation are promoted to the protected segment.
+	 */
+	private static final class WindowTinyLfuPolicy<K, V> implements EvictionPolicy<K, V> {
+
+		private static final int NONE = 0;
+
+		private static final int WINDOW = 1;
+
+		private static final int PROBATION = 2;
+
+		private static final int PROTECTED = 3;
+
+		private final FrequencySketch sketch;
+
+		private final EvictionQueue<K, V> window = new EvictionQueue<>();
+
+		private final EvictionQueue<K, V> probation = new EvictionQueue<>();
+
+		private final EvictionQueue<K, V> protectedQueue = new EvictionQueue<>();
+
+		private final int maxWindowSize;
+
+		private final int maxProtectedSize;
+
+		private int windowSize;
+
+		private int protectedSize;
+
+		WindowTinyLfuPolicy(int capacity) {
+			this.sketch = new FrequencySketch(capacity);
+			this.maxWindowSize = Math.max(1, capacity / 100);
+			this.maxProtectedSize = (int) ((capacity - this.maxWindowSize) * 0.8);
+		}
+
+		@Override
+		public void recordAddition(Node<K, V> node) {
+			if (node.region != NONE) {
+				return;
+			}
+			this.sketch.increment(node.key);
+			link(node, WINDOW);
+			while (this.windowSize > this.maxWindowSize) {
+				Node<K, V> first = this.window.first;
+				if (first == null) {
+					break;
+				}
+				unlink(first);
+				link(first, PROBATION);
+			}
+		}
+
+		@Override
+		public void recordAccess(Node<K, V> node) {
+			if (node.region == NONE) {
+				return;
+			}
+			this.sketch.increment(node.key);
+			switch (node.region) {
+				case WINDOW -> this.window.moveToBack(node);
+				case PROTECTED -> this.protectedQueue.moveToBack(node);
+				default -> {
+					unlink(node);
+					link(node, PROTECTED);
+					while (this.protectedSize > this.maxProtectedSize) {
+						Node<K, V> first = this.protectedQueue.first;
+						if (first == null) {
+							break;
+						}
+						unlink(first);
+						link(first, PROBATION);
+					}
+				}
+			}
+		}
+
+		@Override
+		public void recordRemoval(Node<K, V> node) {
+			unlink(node);
+		}
+
+		@Override
+		public @Nullable Node<K, V> selectVictim() {
+			Node<K, V> victim = this.probation.first;
+			Node<K, V> candidate = this.probation.last;
+			if (victim == null) {
+				victim = (this.protectedQueue.first != null ? this.protectedQueue.first : this.window.first);
+			}
+			else if (candidate != null && candidate != victim &&
+					this.sketch.frequency(candidate.key) <= this.sketch.frequency(victim.key)) {
+				// The candidate has not been used more frequently -> reject it in favor of the victim
+				victim = candidate;
+			}
+			if (victim != null) {
+				unlink(victim);
+			}
+			return victim;
+		}
+
+		@Override
+		public @Nullable Node<K, V> poll() {
+			Node<K, V> node = this.window.first;
+			if (node == null) {
+				node = this.probation.first;
+			}
+			if (node == null) {
+				node = this.protectedQueue.first;
+			}
+			if (node != null) {
+				unlink(node);
+			}
+			return node;
+		}
+
+		private void link(Node<K, V> node, int region) {
+			node.region = region;
+			switch (region) {
+				case WINDOW -> {
+					this.window.add(node);
+					this.windowSize++;
+				}
+				case PROTECTED -> {
+					this.protectedQueue.add(node);
+					this.protectedSize++;
+				}
+				default -> this.probation.add(node);
+			}
+		}
+
+		private void unlink(Node<K, V> node) {
+			switch (node.region) {
+				case WINDOW -> {
+					this.window.remove(node);
+					this.windowSize--;
+				}
+				case PROBATION -> this.probation.remove(node);
+				case PROTECTED -> {
+					this.protectedQueue.remove(node);
+					this.protectedSize--;
+				}
+				default -> {
+					return;
+				}
+			}
+			node.region = NONE;
+		}
+	}
+
+
+	/**
+	 * Count-Min sketch estimating the access frequency of keys, with four 4-bit
+	 * counters per key and periodic aging of all counters by half.
+	 */
+	private static final class FrequencySketch {
+
+		private static final long[] SEEDS = {
+				0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+
+		private static final long RESET_MASK = 0x7777777777777777L;
+
+		private static final long ONE_MASK = 0x1111111111111111L;
+
+		private final long[] table;
+
+		private final int tableMask;
+
+		private final int sampleSize;
+
+		private int size;
+
+		FrequencySketch(int capacity) {
+			int maximum = Math.max(capacity, 16);
+			this.table = new long[ceilingPowerOfTwo(maximum)];
+			this.tableMask = this.table.length - 1;
+			this.sampleSize = (maximum <= Integer.MAX_VALUE / 10 ? 10 * maximum : Integer.MAX_VALUE);
+		}
+
+		int frequency(Object key) {
+			int hash = spread(key.hashCode());
+			int start = (hash & 3) << 2;
+			int frequency = Integer.MAX_VALUE;
+			for (int i = 0; i < 4; i++) {
+				int index = indexOf(hash, i);
+				int count = (int) ((this.table[index] >>> ((start + i) << 2)) & 0xFL);
+				frequency = Math.min(frequency, count);
+			}
+			return frequency;
+		}
+
+		void increment(Object key) {
+			int hash = spread(key.hashCode());
+			int start = (hash & 3) << 2;
+			boolean added = false;
+			for (int i = 0; i < 4; i++) {
+				added |= incrementAt(indexOf(hash, i), start + i);
+			}
+			if (added && ++this.size == this.sampleSize) {
+				reset();
+			}
+		}
+
+		private boolean incrementAt(int index, int counter) {
+			int offset = counter << 2;
+			long mask = (0xFL << offset);
+			if ((this.table[index] & mask) != mask) {
+				this.table[index] += (1L << offset);
+				return true;
+			}
+			return false;
+		}
+
+		private void reset() {
+			int count = 0;
+			for (int i = 0; i < this.table.length; i++) {
+				count += Long.bitCount(this.table[i] & ONE_MASK);
+				this.table[i] = (this.table[i] >>> 1) & RESET_MASK;
+			}
+			this.size = (this.size - (count >>> 2)) >>> 1;
+		}
+
+		private int indexOf(int hash, int depth) {
+			long result = (hash + SEEDS[depth]) * SEEDS[depth];
+			result += (result >>> 32);
+			return ((int) result) & this.tableMask;
+		}
+
+		private static int spread(int hash) {
+			int result = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+			result = ((result >>> 16) ^ result) * 0x45d9f3b;
+			return (result >>> 16) ^ result;
+		}
+	}
+
+
 	private static final class EvictionQueue<K, V> {
 
 		@Nullable Node<K, V> first;
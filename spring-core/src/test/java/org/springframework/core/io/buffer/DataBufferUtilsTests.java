@@ -348,6 +348,42 @@ class DataBufferUtilsTests extends AbstractDataBufferAllocatingTests {
 				.verify(Duration.ofSeconds(5));
 	}
 
+	@ParameterizedDataBufferAllocatingTest
+	void readMapped(DataBufferFactory bufferFactory) throws Exception {
+		super.bufferFactory = bufferFactory;
+
+		Flux<DataBuffer> flux = DataBufferUtils.readMapped(
+				this.resource.getFile().toPath(), 0, Long.MAX_VALUE, super.bufferFactory, 3);
+
+		verifyReadData(flux);
+	}
+
+	@ParameterizedDataBufferAllocatingTest
+	void readMappedRegion(DataBufferFactory bufferFactory) throws Exception {
+		super.bufferFactory = bufferFactory;
+
+		Flux<DataBuffer> flux = DataBufferUtils.readMapped(
+				this.resource.getFile().toPath(), 3, 5, super.bufferFactory, 3);
+
+		StepVerifier.create(flux)
+				.consumeNextWith(stringConsumer("bar"))
+				.consumeNextWith(stringConsumer("ba"))
+				.expectComplete()
+				.verify(Duration.ofSeconds(5));
+	}
+
+	@ParameterizedDataBufferAllocatingTest
+	void readMappedPositionBeyondEnd(DataBufferFactory bufferFactory) throws Exception {
+		super.bufferFactory = bufferFactory;
+
+		Flux<DataBuffer> flux = DataBufferUtils.readMapped(
+				this.resource.getFile().toPath(), 20, 5, super.bufferFactory, 3);
+
+		StepVerifier.create(flux)
+				.expectComplete()
+				.verify(Duration.ofSeconds(5));
+	}
+
 	@ParameterizedDataBufferAllocatingTest
 	void readByteArrayResourcePositionAndTakeUntil(DataBufferFactory bufferFactory) {
 		super.bufferFactory = bufferFactory;
@@ -1485,6 +1521,24 @@ class DataBufferUtilsTests extends AbstractDataBufferAllocatingTests {
 		release(buffer);
 	}
 
+	@ParameterizedDataBufferAllocatingTest
+	void matcherSkipsAheadInLongBuffers(DataBufferFactory bufferFactory) {
+		super.bufferFactory = bufferFactory;
+
+		DataBuffer first = stringBuffer("0123456789abcdef\r\n-0123456789abcdef0123456789\r\n-");
+		DataBuffer second = stringBuffer("-boundary0123456789\r\n--boundary");
+
+		byte[] delims = "\r\n--boundary".getBytes(StandardCharsets.UTF_8);
+		DataBufferUtils.Matcher matcher = DataBufferUtils.matcher(delims);
+		assertThat(matcher.match(first)).isEqualTo(-1);
+		int endIndex = matcher.match(second);
+		assertThat(endIndex).isEqualTo(8);
+		second.readPosition(endIndex + 1);
+		assertThat(matcher.match(second)).isEqualTo(30);
+
+		release(first, second);
+	}
+
 	@ParameterizedDataBufferAllocatingTest
 	void propagateContextByteChannel(DataBufferFactory bufferFactory) throws IOException {
 		Path path = Paths.get(this.resource.getURI());
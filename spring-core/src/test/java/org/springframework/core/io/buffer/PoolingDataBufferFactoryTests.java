@@ -0,0 +1,130 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.io.buffer;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link PoolingDataBufferFactory}.
+ */
+class PoolingDataBufferFactoryTests {
+
+	private final PoolingDataBufferFactory bufferFactory = new PoolingDataBufferFactory();
+
+
+	@Test
+	void capacityAsRequested() {
+		PoolingDataBuffer pooled = this.bufferFactory.allocateBuffer(300);
+		PoolingDataBuffer unpooled = this.bufferFactory.allocateBuffer(PoolingDataBufferFactory.MAX_POOLED_CAPACITY + 1);
+
+		assertThat(pooled.capacity()).isEqualTo(300);
+		assertThat(unpooled.capacity()).isEqualTo(PoolingDataBufferFactory.MAX_POOLED_CAPACITY + 1);
+		assertThat(pooled.release()).isTrue();
+		assertThat(unpooled.release()).isTrue();
+	}
+
+	@Test
+	void reusesReleasedMemory() {
+		PoolingDataBuffer buffer = this.bufferFactory.allocateBuffer(100);
+		buffer.write("abc".getBytes(UTF_8));
+		assertThat(buffer.release()).isTrue();
+
+		buffer = this.bufferFactory.allocateBuffer(200);
+		assertThat(buffer.readableByteCount()).isZero();
+		assertThat(buffer.writableByteCount()).isEqualTo(200);
+		try (DataBuffer.ByteBufferIterator iterator = buffer.writableByteBuffers()) {
+			ByteBuffer byteBuffer = iterator.next();
+			assertThat(byteBuffer.get(0)).isEqualTo((byte) 'a');
+		}
+		buffer.release();
+	}
+
+	@Test
+	void splitRetainsMemoryUntilReleased() {
+		PoolingDataBuffer buffer = this.bufferFactory.allocateBuffer(6);
+		buffer.write("abcdef".getBytes(UTF_8));
+		DataBuffer split = buffer.split(3);
+		assertThat(buffer.release()).isTrue();
+
+		PoolingDataBuffer other = this.bufferFactory.allocateBuffer(6);
+		other.write("xyzxyz".getBytes(UTF_8));
+		assertThat(split.toString(UTF_8)).isEqualTo("abc");
+		assertThat(DataBufferUtils.release(split)).isTrue();
+		assertThat(DataBufferUtils.release(other)).isTrue();
+	}
+
+	@Test
+	void retainAndRelease() {
+		PoolingDataBuffer buffer = this.bufferFactory.allocateBuffer(10);
+		buffer.retain();
+		assertThat(buffer.release()).isFalse();
+		assertThat(buffer.isAllocated()).isTrue();
+		assertThat(buffer.release()).isTrue();
+		assertThat(buffer.isAllocated()).isFalse();
+		assertThatIllegalStateException().isThrownBy(buffer::release);
+		assertThat(buffer.retain().isAllocated()).isFalse();
+	}
+
+	@Test
+	void activeAllocationCount() {
+		PoolingDataBuffer pooled = this.bufferFactory.allocateBuffer(10);
+		PoolingDataBuffer unpooled = this.bufferFactory.allocateBuffer(PoolingDataBufferFactory.MAX_POOLED_CAPACITY + 1);
+		PoolingDataBuffer wrapped = this.bufferFactory.wrap("foo".getBytes(UTF_8));
+		PoolingDataBuffer other = this.bufferFactory.allocateBuffer(1000);
+		DataBuffer split = pooled.split(5);
+		assertThat(this.bufferFactory.getActiveAllocationCount()).isEqualTo(2);
+
+		assertThat(pooled.release()).isTrue();
+		assertThat(other.release()).isTrue();
+		assertThat(unpooled.release()).isTrue();
+		assertThat(wrapped.release()).isTrue();
+		assertThat(this.bufferFactory.getActiveAllocationCount()).isEqualTo(1);
+		assertThat(DataBufferUtils.release(split)).isTrue();
+		assertThat(this.bufferFactory.getActiveAllocationCount()).isZero();
+	}
+
+	@Test
+	void join() {
+		DataBuffer joined = this.bufferFactory.join(List.of(
+				this.bufferFactory.wrap("foo".getBytes(UTF_8)), this.bufferFactory.wrap("bar".getBytes(UTF_8))));
+
+		assertThat(joined).isInstanceOf(PoolingDataBuffer.class);
+		assertThat(joined.toString(UTF_8)).isEqualTo("foobar");
+		assertThat(DataBufferUtils.release(joined)).isTrue();
+	}
+
+	@Test
+	void releaseWithLeakDetection() {
+		this.bufferFactory.setLeakDetection(true);
+		PoolingDataBuffer buffer = this.bufferFactory.allocateBuffer(10);
+		buffer.touch("hint");
+		DataBuffer split = buffer.split(5);
+
+		assertThat(buffer.release()).isTrue();
+		assertThat(DataBufferUtils.release(split)).isTrue();
+		assertThat(split).isInstanceOfSatisfying(PooledDataBuffer.class,
+				pooled -> assertThat(pooled.isAllocated()).isFalse());
+	}
+
+}
@@ -355,6 +355,26 @@ class PathMatchingResourcePatternResolverTests {
 	}
 
 
+	@Nested
+	class ParallelResolution {
+
+		@Test
+		void classpathStarWithPatternAcrossRootDirectories() throws IOException {
+			String pattern = "classpath*:org/springframework/core/io/support/*.class";
+			Resource[] expected = resolver.getResources(pattern);
+			PathMatchingResourcePatternResolver parallelResolver = new PathMatchingResourcePatternResolver();
+			parallelResolver.setParallelResolution(true);
+			assertThat(parallelResolver.getResources(pattern)).containsExactly(expected);
+		}
+
+		@Test
+		void classpathStarWithPatternInJar() throws IOException {
+			resolver.setParallelResolution(true);
+			assertExactFilenames("classpath*:reactor/util/annotation/*.class", CLASSES_IN_REACTOR_UTIL_ANNOTATION);
+		}
+	}
+
+
 	@Nested
 	class ClassPathManifestEntries {
 
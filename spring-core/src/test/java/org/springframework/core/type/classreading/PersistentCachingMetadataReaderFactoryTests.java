@@ -0,0 +1,240 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.core.type.classreading;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.type.AbstractAnnotationMetadataTests;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.util.ClassUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PersistentCachingMetadataReaderFactory}, running the
+ * {@link AbstractAnnotationMetadataTests} against replayed metadata.
+ */
+class PersistentCachingMetadataReaderFactoryTests extends AbstractAnnotationMetadataTests {
+
+	@TempDir
+	Path tempDir;
+
+	private int copies;
+
+
+	@Override
+	protected AnnotationMetadata get(Class<?> source) {
+		try {
+			Path cacheFile = this.tempDir.resolve("metadata.cache");
+			PersistentCachingMetadataReaderFactory recordingFactory =
+					new PersistentCachingMetadataReaderFactory(cacheFile, source.getClassLoader());
+			recordingFactory.getMetadataReader(source.getName());
+			recordingFactory.save();
+			return new PersistentCachingMetadataReaderFactory(copy(cacheFile), source.getClassLoader())
+					.getMetadataReader(source.getName()).getAnnotationMetadata();
+		}
+		catch (IOException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	@Test
+	void replaysStoredMetadataWithoutRecordingAgain() throws IOException {
+		Path cacheFile = this.tempDir.resolve("metadata.cache");
+		FileSystemResource classFile = copyClassFile(TestClass.class);
+		PersistentCachingMetadataReaderFactory factory = new PersistentCachingMetadataReaderFactory(cacheFile, getClass().getClassLoader());
+		assertThat(factory.getMetadataReader(classFile).getAnnotationMetadata().hasAnnotation(TestAnnotation.class.getName())).isTrue();
+		factory.save();
+		assertThat(cacheFile).isRegularFile();
+
+		Path copy = copy(cacheFile);
+		factory = new PersistentCachingMetadataReaderFactory(copy, getClass().getClassLoader());
+		AnnotationMetadata metadata = factory.getMetadataReader(classFile).getAnnotationMetadata();
+		assertThat(metadata.getClassName()).isEqualTo(TestClass.class.getName());
+		assertThat(metadata.hasAnnotation(TestAnnotation.class.getName())).isTrue();
+		assertThat(metadata.getAnnotatedMethods(TestAnnotation.class.getName())).hasSize(1);
+		Files.delete(copy);
+		factory.save();
+		assertThat(copy).doesNotExist();
+	}
+
+	@Test
+	void recordsAnnotationsIndependentOfClassLoader() throws IOException {
+		Path cacheFile = this.tempDir.resolve("metadata.cache");
+		FileSystemResource classFile = copyClassFile(TestClass.class);
+		ClassLoader classLoader = new ClassLoader(getClass().getClassLoader()) {
+			@Override
+			protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+				if (name.equals(TestAnnotation.class.getName())) {
+					throw new ClassNotFoundException(name);
+				}
+				return super.loadClass(name, resolve);
+			}
+		};
+		PersistentCachingMetadataReaderFactory factory = new PersistentCachingMetadataReaderFactory(cacheFile, classLoader);
+		assertThat(factory.getMetadataReader(classFile).getAnnotationMetadata().hasAnnotation(TestAnnotation.class.getName())).isFalse();
+		factory.save();
+
+		factory = new PersistentCachingMetadataReaderFactory(copy(cacheFile), getClass().getClassLoader());
+		AnnotationMetadata metadata = factory.getMetadataReader(classFile).getAnnotationMetadata();
+		assertThat(metadata.hasAnnotation(TestAnnotation.class.getName())).isTrue();
+		assertThat(metadata.getAnnotatedMethods(TestAnnotation.class.getName())).hasSize(1);
+	}
+
+	@Test
+	void savesEntriesOfAllFactoriesForSameFile() throws IOException {
+		Path cacheFile = this.tempDir.resolve("metadata.cache");
+		FileSystemResource classFile = copyClassFile(TestClass.class);
+		PersistentCachingMetadataReaderFactory factory = new PersistentCachingMetadataReaderFactory(cacheFile, getClass().getClassLoader());
+		PersistentCachingMetadataReaderFactory otherFactory = new PersistentCachingMetadataReaderFactory(
+				this.tempDir.resolve(".").resolve("metadata.cache"), getClass().getClassLoader());
+		factory.getMetadataReader(classFile);
+		otherFactory.getMetadataReader(TestAnnotation.class.getName());
+		factory.save();
+		otherFactory.save();
+
+		Path copy = copy(cacheFile);
+		factory = new PersistentCachingMetadataReaderFactory(copy, getClass().getClassLoader());
+		factory.getMetadataReader(classFile);
+		factory.getMetadataReader(TestAnnotation.class.getName());
+		Files.delete(copy);
+		factory.save();
+		assertThat(copy).doesNotExist();
+	}
+
+	@Test
+	void keepsUnusedEntries() throws IOException {
+		Path cacheFile = this.tempDir.resolve("metadata.cache");
+		FileSystemResource classFile = copyClassFile(TestClass.class);
+		FileSystemResource otherClassFile = copyClassFile(TestAnnotation.class);
+		PersistentCachingMetadataReaderFactory factory = new PersistentCachingMetadataReaderFactory(cacheFile, getClass().getClassLoader());
+		factory.getMetadataReader(classFile);
+		factory.getMetadataReader(otherClassFile);
+		factory.save();
+
+		Path copy = copy(cacheFile);
+		factory = new PersistentCachingMetadataReaderFactory(copy, getClass().getClassLoader());
+		factory.getMetadataReader(classFile);
+		Files.delete(copy);
+		factory.save();
+		assertThat(copy).doesNotExist();
+
+		Files.setLastModifiedTime(classFile.getFile().toPath(), FileTime.from(Instant.now().plusSeconds(60)));
+		factory.getMetadataReader(classFile);
+		factory.save();
+		assertThat(copy).isRegularFile();
+
+		copy = copy(copy);
+		factory = new PersistentCachingMetadataReaderFactory(copy, getClass().getClassLoader());
+		factory.getMetadataReader(otherClassFile);
+		Files.delete(copy);
+		factory.save();
+		assertThat(copy).doesNotExist();
+	}
+
+	@Test
+	void dropsEntriesOfRemovedClassFiles() throws IOException {
+		Path cacheFile = this.tempDir.resolve("metadata.cache");
+		FileSystemResource classFile = copyClassFile(TestClass.class);
+		FileSystemResource otherClassFile = copyClassFile(TestAnnotation.class);
+		PersistentCachingMetadataReaderFactory factory = new PersistentCachingMetadataReaderFactory(cacheFile, getClass().getClassLoader());
+		factory.getMetadataReader(classFile);
+		factory.getMetadataReader(otherClassFile);
+		factory.save();
+
+		Files.delete(otherClassFile.getFile().toPath());
+		Files.setLastModifiedTime(classFile.getFile().toPath(), FileTime.from(Instant.now().plusSeconds(60)));
+		Path copy = copy(cacheFile);
+		factory = new PersistentCachingMetadataReaderFactory(copy, getClass().getClassLoader());
+		factory.getMetadataReader(classFile);
+		factory.save();
+		assertThat(Files.size(copy)).isLessThan(Files.size(cacheFile));
+	}
+
+	@Test
+	void readsChangedClassFileAgain() throws IOException {
+		Path cacheFile = this.tempDir.resolve("metadata.cache");
+		FileSystemResource classFile = copyClassFile(TestClass.class);
+		PersistentCachingMetadataReaderFactory factory = new PersistentCachingMetadataReaderFactory(cacheFile, getClass().getClassLoader());
+		factory.getMetadataReader(classFile);
+		factory.save();
+
+		Files.setLastModifiedTime(classFile.getFile().toPath(), FileTime.from(Instant.now().plusSeconds(60)));
+		factory = new PersistentCachingMetadataReaderFactory(cacheFile, getClass().getClassLoader());
+		assertThat(factory.getMetadataReader(classFile).getAnnotationMetadata().getClassName()).isEqualTo(TestClass.class.getName());
+		Files.delete(cacheFile);
+		factory.save();
+		assertThat(cacheFile).isRegularFile();
+	}
+
+	@Test
+	void ignoresUnreadableCacheFile() throws IOException {
+		Path cacheFile = this.tempDir.resolve("metadata.cache");
+		Files.writeString(cacheFile, "not a cache file");
+		PersistentCachingMetadataReaderFactory factory = new PersistentCachingMetadataReaderFactory(cacheFile, getClass().getClassLoader());
+		assertThat(factory.getMetadataReader(TestClass.class.getName()).getAnnotationMetadata().getClassName())
+				.isEqualTo(TestClass.class.getName());
+		factory.save();
+
+		factory = new PersistentCachingMetadataReaderFactory(cacheFile, getClass().getClassLoader());
+		assertThat(factory.getMetadataReader(TestClass.class.getName()).getAnnotationMetadata().getClassName())
+				.isEqualTo(TestClass.class.getName());
+	}
+
+	/**
+	 * Copy the given cache file to a new file, so that it is loaded from
+	 * disk rather than shared with the factories for the original file.
+	 */
+	private Path copy(Path cacheFile) throws IOException {
+		Path target = this.tempDir.resolve("metadata-" + (++this.copies) + ".cache");
+		return Files.copy(cacheFile, target);
+	}
+
+	private FileSystemResource copyClassFile(Class<?> clazz) throws IOException {
+		Path target = this.tempDir.resolve(ClassUtils.getShortName(clazz) + ClassUtils.CLASS_FILE_SUFFIX);
+		try (InputStream is = clazz.getResourceAsStream(ClassUtils.getClassFileName(clazz))) {
+			Files.copy(is, target);
+		}
+		return new FileSystemResource(target);
+	}
+
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface TestAnnotation {
+	}
+
+
+	@TestAnnotation
+	public static class TestClass {
+
+		@TestAnnotation
+		public void doSomething() {
+		}
+	}
+
+}
@@ -108,4 +108,43 @@ class ConcurrentLruCacheTests {
 		assertThat(this.cache.contains("k3")).isTrue();
 	}
 
+
+	@Test
+	void frequencyBasedAdmissionGetAndSize() {
+		ConcurrentLruCache<String, String> cache = new ConcurrentLruCache<>(2, key -> key + "value", true);
+
+		assertThat(cache.get("k1")).isEqualTo("k1value");
+		assertThat(cache.get("k2")).isEqualTo("k2value");
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.get("k3")).isEqualTo("k3value");
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.contains("k1")).isTrue();
+		assertThat(cache.contains("k2")).isFalse();
+		assertThat(cache.contains("k3")).isTrue();
+		cache.remove("k1");
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(cache.contains("k1")).isFalse();
+		cache.clear();
+		assertThat(cache.size()).isEqualTo(0);
+		assertThat(cache.contains("k3")).isFalse();
+	}
+
+	@Test
+	void frequencyBasedAdmissionRetainsFrequentlyUsedEntries() {
+		ConcurrentLruCache<String, String> cache = new ConcurrentLruCache<>(10, key -> key + "value", true);
+		for (int i = 0; i < 3; i++) {
+			for (int j = 0; j < 5; j++) {
+				cache.get("hot" + j);
+			}
+		}
+		for (int i = 0; i < 100; i++) {
+			assertThat(cache.get("k" + i)).isEqualTo("k" + i + "value");
+		}
+
+		assertThat(cache.size()).isEqualTo(10);
+		for (int j = 0; j < 5; j++) {
+			assertThat(cache.contains("hot" + j)).isTrue();
+		}
+	}
+
 }
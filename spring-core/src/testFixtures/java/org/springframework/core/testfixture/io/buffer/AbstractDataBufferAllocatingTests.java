@@ -47,6 +47,7 @@ import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.core.io.buffer.DataBufferUtils;
 import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.core.io.buffer.PoolingDataBufferFactory;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -154,6 +155,10 @@ public abstract class AbstractDataBufferAllocatingTests {
 				}
 			}
 		}
+		else if (this.bufferFactory instanceof PoolingDataBufferFactory poolingFactory) {
+			long total = poolingFactory.getActiveAllocationCount();
+			assertThat(total).as("PoolingDataBuffer Leak: " + total + " unreleased allocations").isEqualTo(0);
+		}
 	}
 
 	private static long getAllocations(List<PoolArenaMetric> metrics) {
@@ -192,7 +197,12 @@ public abstract class AbstractDataBufferAllocatingTests {
 			argumentSet("DefaultDataBufferFactory - preferDirect = true",
 					new DefaultDataBufferFactory(true)),
 			argumentSet("DefaultDataBufferFactory - preferDirect = false",
-					new DefaultDataBufferFactory(false))
+					new DefaultDataBufferFactory(false)),
+			// Pooling
+			argumentSet("PoolingDataBufferFactory - preferDirect = true",
+					new PoolingDataBufferFactory(true)),
+			argumentSet("PoolingDataBufferFactory - preferDirect = false",
+					new PoolingDataBufferFactory(false))
 		);
 	}
 
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.dao.DataAccessException;
+
+/**
+ * The result of executing one chunk of a
+ * {@linkplain JdbcOperations#pipelinedBatchUpdate pipelined batch update},
+ * indicating the arguments that the chunk covers along with either the
+ * update counts or the exception that the chunk failed with.
+ *
+ * @since 7.1
+ * @see JdbcOperations#pipelinedBatchUpdate
+ */
+public final class BatchChunkResult {
+
+	private final int offset;
+
+	private final int size;
+
+	private final int[] updateCounts;
+
+	private final @Nullable DataAccessException exception;
+
+
+	/**
+	 * Create a new {@code BatchChunkResult}.
+	 * @param offset the index of the first batch argument in the chunk
+	 * @param size the number of batch arguments in the chunk
+	 * @param updateCounts the numbers of rows affected by each update in the chunk
+	 * @param exception the exception that the chunk failed with, if any
+	 */
+	public BatchChunkResult(int offset, int size, int[] updateCounts, @Nullable DataAccessException exception) {
+		this.offset = offset;
+		this.size = size;
+		this.updateCounts = updateCounts;
+		this.exception = exception;
+	}
+
+
+	/**
+	 * Return the index of the first batch argument in the chunk.
+	 */
+	public int getOffset() {
+		return this.offset;
+	}
+
+	/**
+	 * Return the number of batch arguments in the chunk.
+	 */
+	public int getSize() {
+		return this.size;
+	}
+
+	/**
+	 * Return the numbers of rows affected by each update in the chunk
+	 * (may also contain special JDBC-defined negative values for affected rows
+	 * such as {@link java.sql.Statement#SUCCESS_NO_INFO}/{@link java.sql.Statement#EXECUTE_FAILED}).
+	 * <p>For a failed chunk, these are the update counts reported by the
+	 * JDBC driver through a {@link java.sql.BatchUpdateException}, if any.
+	 */
+	public int[] getUpdateCounts() {
+		return this.updateCounts;
+	}
+
+	/**
+	 * Return the exception that the chunk failed with, or {@code null}
+	 * if it was executed successfully.
+	 */
+	public @Nullable DataAccessException getException() {
+		return this.exception;
+	}
+
+	/**
+	 * Return whether the chunk was executed successfully.
+	 */
+	public boolean isSuccessful() {
+		return (this.exception == null);
+	}
+
+
+	@Override
+	public String toString() {
+		return "BatchChunkResult [offset=" + this.offset + ", size=" + this.size +
+				(this.exception != null ? ", failed: " + this.exception : "") + "]";
+	}
+
+}
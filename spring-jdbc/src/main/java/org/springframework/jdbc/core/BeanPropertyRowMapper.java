@@ -17,14 +17,22 @@
 package org.springframework.jdbc.core;
 
 import java.beans.PropertyDescriptor;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -42,6 +50,8 @@ import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.jdbc.support.JdbcUtils;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -90,6 +100,12 @@ import org.springframework.util.StringUtils;
  */
 public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 
+	private static final Set<Class<?>> mappingHookDeclaringClasses =
+			Set.of(BeanPropertyRowMapper.class, DataClassRowMapper.class);
+
+	/** Maximum number of result set shapes to keep a compiled mapping for. */
+	private static final int COMPILED_MAPPING_CACHE_LIMIT = 32;
+
 	/** Logger available to subclasses. */
 	protected final Log logger = LogFactory.getLog(getClass());
 
@@ -115,6 +131,15 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 	/** Set of bean property names we provide mapping for. */
 	private @Nullable Set<String> mappedPropertyNames;
 
+	/** Whether to map rows through a generated class per result set shape. */
+	private boolean compiledMapping = false;
+
+	/** Map of result set shape to compiled mapping. */
+	private final Map<ResultSetShape, CompiledMapping<T>> compiledMappings = new ConcurrentHashMap<>(4);
+
+	/** The compiled mapping for the most recently mapped ResultSet, not keeping it reachable. */
+	private volatile @Nullable ResultSetMapping<T> lastResultSetMapping;
+
 
 	/**
 	 * Create a new {@code BeanPropertyRowMapper} for bean-style configuration.
@@ -174,6 +199,7 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 	 */
 	public void setCheckFullyPopulated(boolean checkFullyPopulated) {
 		this.checkFullyPopulated = checkFullyPopulated;
+		clearCompiledMappings();
 	}
 
 	/**
@@ -200,6 +226,7 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 	 */
 	public void setPrimitivesDefaultedForNullValue(boolean primitivesDefaultedForNullValue) {
 		this.primitivesDefaultedForNullValue = primitivesDefaultedForNullValue;
+		clearCompiledMappings();
 	}
 
 	/**
@@ -220,6 +247,7 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 	 */
 	public void setConversionService(@Nullable ConversionService conversionService) {
 		this.conversionService = conversionService;
+		clearCompiledMappings();
 	}
 
 	/**
@@ -232,6 +260,42 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 	}
 
 
+	/**
+	 * Set whether to map rows through a {@code RowMapper} class generated for
+	 * the mapped class and the shape of each result set, reading columns through
+	 * typed {@code ResultSet} getters and invoking the constructor and setter
+	 * methods of the mapped class directly, rather than through a
+	 * {@link BeanWrapper} for each row.
+	 * <p>Default is {@code false}. Generated classes are shared across row
+	 * mapper instances for the same mapped class and result set shape, with
+	 * each row mapper resolving its mapping once per distinct combination of
+	 * column labels and column types.
+	 * <p>Compiled mapping applies to public mapped classes with public
+	 * constructors and setter methods for the types that
+	 * {@link JdbcUtils#getResultSetValue(ResultSet, int, Class)} retrieves
+	 * through a typed getter, such as {@code String}, primitives and their
+	 * wrappers, {@code BigDecimal}, and {@code java.util.Date}. Any other
+	 * result set falls back to reflective mapping, as do row mappers with a
+	 * custom {@link #setConversionService ConversionService} and subclasses
+	 * overriding {@link #getColumnValue}, {@link #initBeanWrapper}, or
+	 * {@link #constructMappedInstance}. Note that exceptions thrown by setter
+	 * methods propagate as-is rather than wrapped by a {@code BeanWrapper}.
+	 * @since 7.1
+	 */
+	public void setCompiledMapping(boolean compiledMapping) {
+		this.compiledMapping = compiledMapping;
+	}
+
+	/**
+	 * Return whether rows are mapped through a generated class per result set shape.
+	 * @since 7.1
+	 * @see #setCompiledMapping(boolean)
+	 */
+	public boolean isCompiledMapping() {
+		return this.compiledMapping;
+	}
+
+
 	/**
 	 * Initialize the mapping meta-data for the given class.
 	 * @param mappedClass the mapped class
@@ -322,6 +386,16 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 	 */
 	@Override
 	public T mapRow(ResultSet rs, int rowNumber) throws SQLException {
+		if (this.compiledMapping) {
+			RowMapper<T> compiledRowMapper = getCompiledRowMapper(rs, rowNumber);
+			if (compiledRowMapper != null) {
+				T mappedObject = compiledRowMapper.mapRow(rs, rowNumber);
+				if (mappedObject != null) {
+					return mappedObject;
+				}
+			}
+		}
+
 		BeanWrapperImpl bw = new BeanWrapperImpl();
 		initBeanWrapper(bw);
 
@@ -379,6 +453,114 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 		return mappedObject;
 	}
 
+	/**
+	 * Return the generated {@code RowMapper} for the given ResultSet, looking
+	 * it up once per ResultSet and resolving it once per result set shape
+	 * rather than for each row.
+	 * <p>The lookup is repeated for the first row, so that a ResultSet
+	 * instance reused by a pool or proxy for another query is not mapped
+	 * with the shape of its previous results.
+	 */
+	private @Nullable RowMapper<T> getCompiledRowMapper(ResultSet rs, int rowNumber) throws SQLException {
+		ResultSetMapping<T> lastMapping = this.lastResultSetMapping;
+		if (rowNumber > 0 && lastMapping != null && lastMapping.resultSet().get() == rs) {
+			return lastMapping.compiledMapping().rowMapper();
+		}
+
+		ResultSetShape shape = new ResultSetShape(rs.getMetaData());
+		CompiledMapping<T> compiledMapping = this.compiledMappings.get(shape);
+		if (compiledMapping == null) {
+			RowMapperCompiler.Mapping mapping = resolveCompiledMapping(rs);
+			compiledMapping = new CompiledMapping<>(mapping != null ? RowMapperCompiler.compile(mapping) : null);
+			if (this.compiledMappings.size() >= COMPILED_MAPPING_CACHE_LIMIT) {
+				Iterator<ResultSetShape> it = this.compiledMappings.keySet().iterator();
+				if (it.hasNext()) {
+					it.next();
+					it.remove();
+				}
+			}
+			this.compiledMappings.putIfAbsent(shape, compiledMapping);
+		}
+		this.lastResultSetMapping = new ResultSetMapping<>(new WeakReference<>(rs), compiledMapping);
+		return compiledMapping.rowMapper();
+	}
+
+	private void clearCompiledMappings() {
+		this.compiledMappings.clear();
+		this.lastResultSetMapping = null;
+	}
+
+	/**
+	 * Resolve the columns of the given ResultSet against the constructor and
+	 * the setter methods of the mapped class, as {@link #mapRow} does for each row.
+	 * @return the resolved mapping, or {@code null} if the ResultSet needs to be
+	 * mapped reflectively
+	 */
+	private RowMapperCompiler.@Nullable Mapping resolveCompiledMapping(ResultSet rs) throws SQLException {
+		Constructor<T> constructor = getCompiledConstructor();
+		ConversionService cs = getConversionService();
+		if (this.mappedClass == null || constructor == null || this.mappedProperties == null ||
+				(cs != null && cs != DefaultConversionService.getSharedInstance()) || !hasDefaultMappingHooks()) {
+			return null;
+		}
+
+		List<Integer> constructorColumns = findConstructorColumns(rs);
+		ResultSetMetaData rsmd = rs.getMetaData();
+		int columnCount = rsmd.getColumnCount();
+		List<Method> setters = new ArrayList<>(columnCount);
+		List<Integer> setterColumns = new ArrayList<>(columnCount);
+		Set<String> populatedProperties = (isCheckFullyPopulated() ? new HashSet<>() : null);
+
+		for (int index = 1; index <= columnCount; index++) {
+			String column = JdbcUtils.lookupColumnName(rsmd, index);
+			String property = lowerCaseName(StringUtils.delete(column, " "));
+			PropertyDescriptor pd = this.mappedProperties.get(property);
+			if (pd != null && pd.getWriteMethod() != null) {
+				setters.add(pd.getWriteMethod());
+				setterColumns.add(index);
+				if (populatedProperties != null) {
+					populatedProperties.add(pd.getName());
+				}
+			}
+		}
+
+		if (populatedProperties != null && !populatedProperties.equals(this.mappedPropertyNames)) {
+			return null;
+		}
+		return new RowMapperCompiler.Mapping(this.mappedClass, constructor, constructorColumns,
+				setters, setterColumns, isPrimitivesDefaultedForNullValue());
+	}
+
+	private boolean hasDefaultMappingHooks() {
+		return (isDeclaredByMapper("constructMappedInstance", ResultSet.class, TypeConverter.class) &&
+				isDeclaredByMapper("initBeanWrapper", BeanWrapper.class) &&
+				isDeclaredByMapper("getColumnValue", ResultSet.class, int.class, PropertyDescriptor.class) &&
+				isDeclaredByMapper("getColumnValue", ResultSet.class, int.class, Class.class));
+	}
+
+	private boolean isDeclaredByMapper(String methodName, Class<?>... paramTypes) {
+		Method method = ReflectionUtils.findMethod(getClass(), methodName, paramTypes);
+		return (method != null && mappingHookDeclaringClasses.contains(method.getDeclaringClass()));
+	}
+
+	/**
+	 * Determine the constructor to use for compiled mapping.
+	 * <p>The default implementation returns the public no-arg constructor of
+	 * the mapped class, if any.
+	 */
+	@Nullable Constructor<T> getCompiledConstructor() {
+		return (this.mappedClass != null ? ClassUtils.getConstructorIfAvailable(this.mappedClass) : null);
+	}
+
+	/**
+	 * Determine the column index for each argument of the
+	 * {@linkplain #getCompiledConstructor() compiled constructor}.
+	 * <p>The default implementation returns an empty list.
+	 */
+	List<Integer> findConstructorColumns(ResultSet rs) throws SQLException {
+		return List.of();
+	}
+
 	/**
 	 * Construct an instance of the mapped class for the current row.
 	 * @param rs the ResultSet to map (pre-initialized for the current row)
@@ -471,4 +653,56 @@ public class BeanPropertyRowMapper<T> implements RowMapper<T> {
 		return rowMapper;
 	}
 
+
+	/**
+	 * Cache key for a compiled mapping: the label and the SQL type of each
+	 * column in a ResultSet.
+	 */
+	private static final class ResultSetShape {
+
+		private final String[] columnLabels;
+
+		private final int[] columnTypes;
+
+		private final int hashCode;
+
+		ResultSetShape(ResultSetMetaData rsmd) throws SQLException {
+			int columnCount = rsmd.getColumnCount();
+			this.columnLabels = new String[columnCount];
+			this.columnTypes = new int[columnCount];
+			for (int i = 0; i < columnCount; i++) {
+				this.columnLabels[i] = JdbcUtils.lookupColumnName(rsmd, i + 1);
+				this.columnTypes[i] = rsmd.getColumnType(i + 1);
+			}
+			this.hashCode = 31 * Arrays.hashCode(this.columnLabels) + Arrays.hashCode(this.columnTypes);
+		}
+
+		@Override
+		public boolean equals(@Nullable Object other) {
+			return (this == other || (other instanceof ResultSetShape that &&
+					Arrays.equals(this.columnLabels, that.columnLabels) &&
+					Arrays.equals(this.columnTypes, that.columnTypes)));
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+	}
+
+
+	/**
+	 * The compiled {@code RowMapper} for a result set shape, or {@code null}
+	 * if such a ResultSet is mapped reflectively.
+	 */
+	private record CompiledMapping<T>(@Nullable RowMapper<T> rowMapper) {
+	}
+
+
+	/**
+	 * The compiled mapping resolved for a specific ResultSet instance.
+	 */
+	private record ResultSetMapping<T>(WeakReference<ResultSet> resultSet, CompiledMapping<T> compiledMapping) {
+	}
+
 }
@@ -19,6 +19,8 @@ package org.springframework.jdbc.core;
 import java.lang.reflect.Constructor;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.jspecify.annotations.Nullable;
 
@@ -112,16 +114,7 @@ public class DataClassRowMapper<T> extends BeanPropertyRowMapper<T> {
 		if (this.constructorParameterNames != null && this.constructorParameterTypes != null) {
 			args = new Object[this.constructorParameterNames.length];
 			for (int i = 0; i < args.length; i++) {
-				String name = this.constructorParameterNames[i];
-				int index;
-				try {
-					// Try direct name match first
-					index = rs.findColumn(lowerCaseName(name));
-				}
-				catch (SQLException ex) {
-					// Try underscored name match instead
-					index = rs.findColumn(underscoreName(name));
-				}
+				int index = findColumn(rs, this.constructorParameterNames[i]);
 				TypeDescriptor td = this.constructorParameterTypes[i];
 				Object value = getColumnValue(rs, index, td.getType());
 				args[i] = tc.convertIfNecessary(value, td.getType(), td);
@@ -134,6 +127,34 @@ public class DataClassRowMapper<T> extends BeanPropertyRowMapper<T> {
 		return BeanUtils.instantiateClass(this.mappedConstructor, args);
 	}
 
+	@Override
+	@Nullable Constructor<T> getCompiledConstructor() {
+		return this.mappedConstructor;
+	}
+
+	@Override
+	List<Integer> findConstructorColumns(ResultSet rs) throws SQLException {
+		if (this.constructorParameterNames == null) {
+			return List.of();
+		}
+		List<Integer> columns = new ArrayList<>(this.constructorParameterNames.length);
+		for (String name : this.constructorParameterNames) {
+			columns.add(findColumn(rs, name));
+		}
+		return columns;
+	}
+
+	private int findColumn(ResultSet rs, @Nullable String name) throws SQLException {
+		try {
+			// Try direct name match first
+			return rs.findColumn(lowerCaseName(name));
+		}
+		catch (SQLException ex) {
+			// Try underscored name match instead
+			return rs.findColumn(underscoreName(name));
+		}
+	}
+
 
 	/**
 	 * Static factory method to create a new {@code DataClassRowMapper}.
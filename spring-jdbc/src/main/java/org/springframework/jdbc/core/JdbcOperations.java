@@ -19,6 +19,7 @@ package org.springframework.jdbc.core;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
@@ -1046,6 +1047,41 @@ public interface JdbcOperations {
 	<T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize,
 			ParameterizedPreparedStatementSetter<T> pss) throws DataAccessException;
 
+	/**
+	 * Execute multiple batches using the supplied SQL statement with the collection
+	 * of supplied arguments, pipelining the batches across several connections:
+	 * Each chunk of 'batchSize' arguments is bound and executed as a batch on a
+	 * connection of its own through the given {@link Executor}, so that binding
+	 * a chunk overlaps with the execution of preceding chunks.
+	 * <p>At most 'maxConcurrency' chunks are in flight at any time, with this
+	 * method blocking until all chunks have completed. Chunks are independent
+	 * of each other: a failing chunk does not prevent the execution of other
+	 * chunks and is reported through its {@link BatchChunkResult} instead.
+	 * <p>Since chunks do not participate in a transaction bound to the calling
+	 * thread, they are executed one after another on the calling thread in case
+	 * of a connection bound to the current thread or an active transaction or
+	 * transaction synchronization, for example, within a Spring-managed transaction.
+	 * <p>The given ParameterizedPreparedStatementSetter is invoked concurrently
+	 * for different chunks and must therefore be thread-safe.
+	 * <p>If the given Executor rejects a chunk, no further chunks are submitted
+	 * and the {@link java.util.concurrent.RejectedExecutionException} is rethrown
+	 * once the chunks already submitted have completed. Those chunks remain
+	 * executed, with the exceptions of any failed ones added to the rethrown
+	 * exception as suppressed exceptions.
+	 * @param sql the SQL statement to execute
+	 * @param batchArgs the collection of arguments for the batches
+	 * @param batchSize the number of arguments per chunk
+	 * @param pss the ParameterizedPreparedStatementSetter to use
+	 * @param executor the executor to execute chunks with
+	 * @param maxConcurrency the maximum number of chunks to execute concurrently,
+	 * and therefore the maximum number of connections to use
+	 * @return the result of each chunk, in the order of the arguments
+	 * @since 7.1
+	 * @see #batchUpdate(String, Collection, int, ParameterizedPreparedStatementSetter)
+	 */
+	<T> List<BatchChunkResult> pipelinedBatchUpdate(String sql, Collection<T> batchArgs, int batchSize,
+			ParameterizedPreparedStatementSetter<T> pss, Executor executor, int maxConcurrency);
+
 
 	//-------------------------------------------------------------------------
 	// Methods dealing with callable statements
@@ -29,12 +29,19 @@ import java.sql.SQLException;
 import java.sql.SQLWarning;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Spliterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -55,6 +62,7 @@ import org.springframework.jdbc.support.JdbcAccessor;
 import org.springframework.jdbc.support.JdbcUtils;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.jdbc.support.rowset.SqlRowSet;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.LinkedCaseInsensitiveMap;
@@ -1141,6 +1149,106 @@ public class JdbcTemplate extends JdbcAccessor implements JdbcOperations {
 		return result;
 	}
 
+	@Override
+	public <T> List<BatchChunkResult> pipelinedBatchUpdate(String sql, Collection<T> batchArgs, int batchSize,
+			ParameterizedPreparedStatementSetter<T> pss, Executor executor, int maxConcurrency) {
+
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than 0");
+		Assert.isTrue(maxConcurrency > 0, "Max concurrency must be greater than 0");
+		if (logger.isDebugEnabled()) {
+			logger.debug("Executing pipelined SQL batch update [" + sql + "] with a batch size of " +
+					batchSize + " and a max concurrency of " + maxConcurrency);
+		}
+
+		// Chunks on separate connections would not participate in a thread-bound transaction,
+		// including one that binds its connection lazily or for a different DataSource proxy
+		boolean sequential = (TransactionSynchronizationManager.hasResource(obtainDataSource()) ||
+				TransactionSynchronizationManager.isActualTransactionActive() ||
+				TransactionSynchronizationManager.isSynchronizationActive());
+		Semaphore permits = new Semaphore(maxConcurrency);
+		List<CompletableFuture<BatchChunkResult>> chunkResults = new ArrayList<>();
+		RejectedExecutionException rejection = null;
+		Iterator<T> iterator = batchArgs.iterator();
+		int offset = 0;
+		while (iterator.hasNext()) {
+			List<T> chunk = new ArrayList<>(Math.min(batchSize, batchArgs.size() - offset));
+			while (chunk.size() < batchSize && iterator.hasNext()) {
+				chunk.add(iterator.next());
+			}
+			int chunkOffset = offset;
+			offset += chunk.size();
+			if (sequential) {
+				chunkResults.add(CompletableFuture.completedFuture(executeBatchChunk(sql, chunk, chunkOffset, pss)));
+				continue;
+			}
+			permits.acquireUninterruptibly();
+			try {
+				chunkResults.add(CompletableFuture.supplyAsync(() -> {
+					try {
+						return executeBatchChunk(sql, chunk, chunkOffset, pss);
+					}
+					finally {
+						permits.release();
+					}
+				}, executor));
+			}
+			catch (RejectedExecutionException ex) {
+				// Stop submitting chunks but let the ones in flight complete before rethrowing
+				permits.release();
+				rejection = ex;
+				break;
+			}
+		}
+
+		List<BatchChunkResult> result = new ArrayList<>(chunkResults.size());
+		RuntimeException failure = null;
+		for (CompletableFuture<BatchChunkResult> chunkResult : chunkResults) {
+			try {
+				result.add(chunkResult.join());
+			}
+			catch (CompletionException ex) {
+				if (failure == null) {
+					failure = (ex.getCause() instanceof RuntimeException cause ? cause : ex);
+				}
+			}
+		}
+		if (rejection != null) {
+			for (BatchChunkResult chunkResult : result) {
+				DataAccessException chunkException = chunkResult.getException();
+				if (chunkException != null) {
+					rejection.addSuppressed(chunkException);
+				}
+			}
+			if (failure != null) {
+				rejection.addSuppressed(failure);
+			}
+			throw rejection;
+		}
+		if (failure != null) {
+			throw failure;
+		}
+		return result;
+	}
+
+	private <T> BatchChunkResult executeBatchChunk(String sql, List<T> chunk, int offset,
+			ParameterizedPreparedStatementSetter<T> pss) {
+
+		try {
+			int[][] rowsAffected = batchUpdate(sql, chunk, chunk.size(), pss);
+			int[] updateCounts = (rowsAffected.length == 1 ? rowsAffected[0] :
+					Arrays.stream(rowsAffected).flatMapToInt(Arrays::stream).toArray());
+			return new BatchChunkResult(offset, chunk.size(), updateCounts, null);
+		}
+		catch (DataAccessException ex) {
+			int[] updateCounts = (ex.getCause() instanceof BatchUpdateException bue &&
+					bue.getUpdateCounts() != null ? bue.getUpdateCounts() : new int[0]);
+			if (logger.isDebugEnabled()) {
+				logger.debug("SQL batch update chunk at offset " + offset + " failed", ex);
+			}
+			return new BatchChunkResult(offset, chunk.size(), updateCounts, ex);
+		}
+	}
+
 
 	//-------------------------------------------------------------------------
 	// Methods dealing with callable statements
@@ -0,0 +1,362 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.Label;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+import org.springframework.core.KotlinDetector;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Generates a {@link RowMapper} class for a resolved {@link Mapping} of result
+ * set columns to constructor arguments and setter methods of a mapped class,
+ * reading each column through the typed {@link ResultSet} getter for its target
+ * type and invoking the constructor and setters directly.
+ *
+ * <p>Generated row mappers return {@code null} for a row that they cannot map
+ * with the same semantics as the reflective mapping in
+ * {@link BeanPropertyRowMapper}, that is, for a {@code NULL} value in a column
+ * mapped to a primitive, in which case the caller falls back to reflective
+ * mapping for that row.
+ *
+ * <p>Generated classes are cached per {@code Mapping}, and therefore shared
+ * across row mapper instances for the same mapped class and result set shape.
+ *
+ * @since 7.1
+ * @see BeanPropertyRowMapper#setCompiledMapping
+ */
+final class RowMapperCompiler implements Opcodes {
+
+	private static final Log logger = LogFactory.getLog(RowMapperCompiler.class);
+
+	private static final Map<Class<?>, String> getters = Map.ofEntries(
+			Map.entry(String.class, "getString"),
+			Map.entry(boolean.class, "getBoolean"),
+			Map.entry(byte.class, "getByte"),
+			Map.entry(short.class, "getShort"),
+			Map.entry(int.class, "getInt"),
+			Map.entry(long.class, "getLong"),
+			Map.entry(float.class, "getFloat"),
+			Map.entry(double.class, "getDouble"),
+			Map.entry(BigDecimal.class, "getBigDecimal"),
+			Map.entry(java.sql.Date.class, "getDate"),
+			Map.entry(Time.class, "getTime"),
+			Map.entry(Timestamp.class, "getTimestamp"),
+			Map.entry(java.util.Date.class, "getTimestamp"),
+			Map.entry(byte[].class, "getBytes"),
+			Map.entry(Blob.class, "getBlob"),
+			Map.entry(Clob.class, "getClob"));
+
+	private static final String RESULT_SET = Type.getInternalName(ResultSet.class);
+
+	private static final RowMapper<?> NOT_COMPILABLE = (rs, rowNum) -> null;
+
+	private static final Map<Mapping, RowMapper<?>> compiledRowMappers = new ConcurrentReferenceHashMap<>();
+
+	private static final AtomicInteger suffixId = new AtomicInteger();
+
+
+	private RowMapperCompiler() {
+	}
+
+
+	/**
+	 * Return a generated {@code RowMapper} for the given mapping, generating
+	 * its class on first use.
+	 * @param mapping the resolved mapping of columns to the mapped class
+	 * @return the generated {@code RowMapper}, or {@code null} if the mapping
+	 * cannot be compiled, for example, due to a column mapped to a type without
+	 * a typed {@code ResultSet} getter or due to a non-public mapped class
+	 */
+	@SuppressWarnings("unchecked")
+	static <T> @Nullable RowMapper<T> compile(Mapping mapping) {
+		RowMapper<?> rowMapper = compiledRowMappers.computeIfAbsent(mapping, RowMapperCompiler::createRowMapper);
+		return (rowMapper != NOT_COMPILABLE ? (RowMapper<T>) rowMapper : null);
+	}
+
+	private static RowMapper<?> createRowMapper(Mapping mapping) {
+		ClassLoader classLoader = (isCompilable(mapping) ? determineClassLoader(mapping.mappedClass()) : null);
+		if (classLoader == null) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Unable to compile RowMapper for " + mapping.mappedClass());
+			}
+			return NOT_COMPILABLE;
+		}
+		String className = "org/springframework/jdbc/core/generated/CompiledRowMapper" +
+				"%05d".formatted(suffixId.incrementAndGet());
+		try {
+			ChildClassLoader childClassLoader = new ChildClassLoader(classLoader);
+			byte[] bytes = generateClass(className, mapping, childClassLoader);
+			Class<?> clazz = childClassLoader.defineClass(className.replace('/', '.'), bytes);
+			RowMapper<?> rowMapper = (RowMapper<?>) ReflectionUtils.accessibleConstructor(clazz).newInstance();
+			if (logger.isDebugEnabled()) {
+				logger.debug("Compiled RowMapper for " + mapping.mappedClass() + " with " +
+						mapping.setters().size() + " mapped properties");
+			}
+			return rowMapper;
+		}
+		catch (Throwable ex) {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Failed to compile RowMapper for " + mapping.mappedClass(), ex);
+			}
+			return NOT_COMPILABLE;
+		}
+	}
+
+	private static boolean isCompilable(Mapping mapping) {
+		Class<?> mappedClass = mapping.mappedClass();
+		if (!Modifier.isPublic(mappedClass.getModifiers()) || Modifier.isAbstract(mappedClass.getModifiers()) ||
+				!mappedClass.getModule().isExported(mappedClass.getPackageName()) ||
+				KotlinDetector.isKotlinType(mappedClass)) {
+			return false;
+		}
+		Constructor<?> constructor = mapping.constructor();
+		if (!Modifier.isPublic(constructor.getModifiers())) {
+			return false;
+		}
+		for (Class<?> parameterType : constructor.getParameterTypes()) {
+			if (!getters.containsKey(unboxedType(parameterType))) {
+				return false;
+			}
+		}
+		for (Method setter : mapping.setters()) {
+			if (!Modifier.isPublic(setter.getModifiers()) || Modifier.isStatic(setter.getModifiers())) {
+				return false;
+			}
+			Class<?> parameterType = setter.getParameterTypes()[0];
+			if (!getters.containsKey(unboxedType(parameterType))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static @Nullable ClassLoader determineClassLoader(Class<?> mappedClass) {
+		ClassLoader classLoader = mappedClass.getClassLoader();
+		if (ClassUtils.isVisible(RowMapper.class, classLoader)) {
+			return classLoader;
+		}
+		classLoader = RowMapper.class.getClassLoader();
+		if (ClassUtils.isVisible(mappedClass, classLoader)) {
+			return classLoader;
+		}
+		return null;
+	}
+
+	/**
+	 * Generate a class along the lines of:
+	 * <pre class="code">
+	 * public final class CompiledRowMapper00001 implements RowMapper {
+	 *     public Object mapRow(ResultSet rs, int rowNum) throws SQLException {
+	 *         String arg0 = rs.getString(1);
+	 *         MappedClass mapped = new MappedClass(arg0);
+	 *         long value = rs.getLong(2);
+	 *         if (rs.wasNull()) {
+	 *             return null;  // or skip the setter for primitivesDefaultedForNullValue
+	 *         }
+	 *         mapped.setAge(value);
+	 *         return mapped;
+	 *     }
+	 * }</pre>
+	 */
+	private static byte[] generateClass(String className, Mapping mapping, ClassLoader classLoader) {
+		ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES) {
+			@Override
+			protected ClassLoader getClassLoader() {
+				return classLoader;
+			}
+		};
+		cw.visit(V17, ACC_PUBLIC | ACC_FINAL | ACC_SUPER, className, null, "java/lang/Object",
+				new String[] {Type.getInternalName(RowMapper.class)});
+
+		MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+		mv.visitCode();
+		mv.visitVarInsn(ALOAD, 0);
+		mv.visitMethodInsn(INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+		mv.visitInsn(RETURN);
+		mv.visitMaxs(0, 0);  // computed due to COMPUTE_MAXS
+		mv.visitEnd();
+
+		mv = cw.visitMethod(ACC_PUBLIC, "mapRow", "(Ljava/sql/ResultSet;I)Ljava/lang/Object;", null,
+				new String[] {Type.getInternalName(SQLException.class)});
+		mv.visitCode();
+		String owner = Type.getInternalName(mapping.mappedClass());
+
+		// Read constructor arguments into local variables, starting after (this, rs, rowNum)
+		Constructor<?> constructor = mapping.constructor();
+		Class<?>[] parameterTypes = constructor.getParameterTypes();
+		int[] argumentSlots = new int[parameterTypes.length];
+		int nextSlot = 3;
+		for (int i = 0; i < parameterTypes.length; i++) {
+			argumentSlots[i] = nextSlot;
+			nextSlot = readColumn(mv, mapping.constructorColumns().get(i), parameterTypes[i], nextSlot, null);
+		}
+		mv.visitTypeInsn(NEW, owner);
+		mv.visitInsn(DUP);
+		for (int i = 0; i < parameterTypes.length; i++) {
+			mv.visitVarInsn(Type.getType(parameterTypes[i]).getOpcode(ILOAD), argumentSlots[i]);
+		}
+		mv.visitMethodInsn(INVOKESPECIAL, owner, "<init>", Type.getConstructorDescriptor(constructor), false);
+		int mappedSlot = nextSlot++;
+		mv.visitVarInsn(ASTORE, mappedSlot);
+
+		// Read each column and pass it to the corresponding setter
+		for (int i = 0; i < mapping.setters().size(); i++) {
+			Method setter = mapping.setters().get(i);
+			Class<?> parameterType = setter.getParameterTypes()[0];
+			Label skip = (parameterType.isPrimitive() && mapping.primitivesDefaultedForNullValue() ? new Label() : null);
+			int valueSlot = nextSlot;
+			nextSlot = readColumn(mv, mapping.setterColumns().get(i), parameterType, nextSlot, skip);
+			mv.visitVarInsn(ALOAD, mappedSlot);
+			mv.visitVarInsn(Type.getType(parameterType).getOpcode(ILOAD), valueSlot);
+			mv.visitMethodInsn(INVOKEVIRTUAL, owner, setter.getName(), Type.getMethodDescriptor(setter), false);
+			Type returnType = Type.getReturnType(setter);
+			if (returnType.getSize() > 0) {
+				mv.visitInsn(returnType.getSize() == 2 ? POP2 : POP);
+			}
+			if (skip != null) {
+				mv.visitLabel(skip);
+			}
+		}
+
+		mv.visitVarInsn(ALOAD, mappedSlot);
+		mv.visitInsn(ARETURN);
+		mv.visitMaxs(0, 0);  // computed due to COMPUTE_MAXS
+		mv.visitEnd();
+		cw.visitEnd();
+		return cw.toByteArray();
+	}
+
+	/**
+	 * Generate code reading the given column as the given target type into the
+	 * local variable at the given slot, applying {@code wasNull} checks for
+	 * primitives and their wrappers.
+	 * @param skip the label to jump to for a {@code NULL} value in a primitive
+	 * column, or {@code null} to return {@code null} from {@code mapRow} instead
+	 * @return the next free local variable slot
+	 */
+	private static int readColumn(MethodVisitor mv, int column, Class<?> targetType, int slot, @Nullable Label skip) {
+		Class<?> valueType = unboxedType(targetType);
+		Type type = Type.getType(valueType);
+		String getter = getters.get(valueType);
+		Class<?> getterType = (valueType == java.util.Date.class ? Timestamp.class : valueType);
+		mv.visitVarInsn(ALOAD, 1);
+		mv.visitLdcInsn(column);
+		mv.visitMethodInsn(INVOKEINTERFACE, RESULT_SET, getter,
+				Type.getMethodDescriptor(Type.getType(getterType), Type.INT_TYPE), true);
+
+		if (!valueType.isPrimitive()) {
+			mv.visitVarInsn(ASTORE, slot);
+			return slot + 1;
+		}
+
+		Label notNull = new Label();
+		if (targetType.isPrimitive()) {
+			mv.visitVarInsn(type.getOpcode(ISTORE), slot);
+			mv.visitVarInsn(ALOAD, 1);
+			mv.visitMethodInsn(INVOKEINTERFACE, RESULT_SET, "wasNull", "()Z", true);
+			mv.visitJumpInsn(IFEQ, notNull);
+			if (skip != null) {
+				mv.visitJumpInsn(GOTO, skip);
+			}
+			else {
+				mv.visitInsn(ACONST_NULL);
+				mv.visitInsn(ARETURN);
+			}
+			mv.visitLabel(notNull);
+			return slot + type.getSize();
+		}
+
+		// Boxed value, or null for a NULL column value
+		Type wrapperType = Type.getType(targetType);
+		mv.visitMethodInsn(INVOKESTATIC, wrapperType.getInternalName(), "valueOf",
+				Type.getMethodDescriptor(wrapperType, type), false);
+		mv.visitVarInsn(ASTORE, slot);
+		mv.visitVarInsn(ALOAD, 1);
+		mv.visitMethodInsn(INVOKEINTERFACE, RESULT_SET, "wasNull", "()Z", true);
+		mv.visitJumpInsn(IFEQ, notNull);
+		mv.visitInsn(ACONST_NULL);
+		mv.visitVarInsn(ASTORE, slot);
+		mv.visitLabel(notNull);
+		return slot + 1;
+	}
+
+	private static Class<?> unboxedType(Class<?> type) {
+		return (ClassUtils.isPrimitiveWrapper(type) ? ClassUtils.resolvePrimitiveIfNecessary(type) : type);
+	}
+
+
+	/**
+	 * A resolved mapping of result set columns to the constructor arguments and
+	 * setter methods of a mapped class, serving as the cache key for generated
+	 * row mappers.
+	 * @param mappedClass the class that each row should be mapped to
+	 * @param constructor the constructor to instantiate the mapped class with
+	 * @param constructorColumns the column index for each constructor argument
+	 * @param setters the setter methods to invoke, in column order
+	 * @param setterColumns the column index for each setter method
+	 * @param primitivesDefaultedForNullValue whether {@code NULL} values are
+	 * to be ignored for primitive properties
+	 */
+	record Mapping(Class<?> mappedClass, Constructor<?> constructor, List<Integer> constructorColumns,
+			List<Method> setters, List<Integer> setterColumns, boolean primitivesDefaultedForNullValue) {
+	}
+
+
+	/**
+	 * A ClassLoader defining a generated row mapper class, as a child of the
+	 * ClassLoader that the mapped class and {@link RowMapper} are visible from.
+	 */
+	private static class ChildClassLoader extends URLClassLoader {
+
+		private static final URL[] NO_URLS = new URL[0];
+
+		ChildClassLoader(ClassLoader classLoader) {
+			super(NO_URLS, classLoader);
+		}
+
+		Class<?> defineClass(String name, byte[] bytes) {
+			return super.defineClass(name, bytes, 0, bytes.length);
+		}
+	}
+
+}
@@ -40,12 +40,10 @@ import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.SingleColumnRowMapper;
-import org.springframework.jdbc.core.SqlParameter;
 import org.springframework.jdbc.core.SqlRowSetResultSetExtractor;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.jdbc.support.rowset.SqlRowSet;
 import org.springframework.util.Assert;
-import org.springframework.util.ConcurrentLruCache;
 
 /**
  * Template class with a basic set of JDBC operations, allowing the use
@@ -80,14 +78,14 @@ import org.springframework.util.ConcurrentLruCache;
 public class NamedParameterJdbcTemplate implements NamedParameterJdbcOperations {
 
 	/** Default maximum number of entries for this template's SQL cache: 256. */
-	public static final int DEFAULT_CACHE_LIMIT = 256;
+	public static final int DEFAULT_CACHE_LIMIT = NamedParameterSqlCache.DEFAULT_CACHE_LIMIT;
 
 
 	/** The JdbcTemplate we are wrapping. */
 	private final JdbcOperations classicJdbcTemplate;
 
-	/** Cache of original SQL String to ParsedSql representation. */
-	private volatile ConcurrentLruCache<String, ParsedSql> parsedSqlCache;
+	/** Cache of parsed and expanded SQL statements. */
+	private volatile NamedParameterSqlCache sqlCache;
 
 
 	/**
@@ -107,7 +105,7 @@ public class NamedParameterJdbcTemplate implements NamedParameterJdbcOperations
 	public NamedParameterJdbcTemplate(JdbcOperations classicJdbcTemplate) {
 		Assert.notNull(classicJdbcTemplate, "JdbcTemplate must not be null");
 		this.classicJdbcTemplate = classicJdbcTemplate;
-		this.parsedSqlCache = new ConcurrentLruCache<>(DEFAULT_CACHE_LIMIT, NamedParameterUtils::parseSqlStatement);
+		this.sqlCache = new NamedParameterSqlCache(DEFAULT_CACHE_LIMIT);
 	}
 
 	/**
@@ -119,7 +117,7 @@ public class NamedParameterJdbcTemplate implements NamedParameterJdbcOperations
 	public NamedParameterJdbcTemplate(NamedParameterJdbcTemplate original, JdbcTemplate classicJdbcTemplate) {
 		Assert.notNull(classicJdbcTemplate, "JdbcTemplate must not be null");
 		this.classicJdbcTemplate = classicJdbcTemplate;
-		this.parsedSqlCache = original.parsedSqlCache;
+		this.sqlCache = original.sqlCache;
 	}
 
 
@@ -147,16 +145,39 @@ public class NamedParameterJdbcTemplate implements NamedParameterJdbcOperations
 	/**
 	 * Specify the maximum number of entries for this template's SQL cache.
 	 * Default is 256. 0 indicates no caching, always parsing each statement.
+	 * <p>This replaces the SQL cache with a new local cache for this template.
+	 * @see #setSqlCache
 	 */
 	public void setCacheLimit(int cacheLimit) {
-		this.parsedSqlCache = new ConcurrentLruCache<>(cacheLimit, NamedParameterUtils::parseSqlStatement);
+		this.sqlCache = new NamedParameterSqlCache(cacheLimit);
 	}
 
 	/**
 	 * Return the maximum number of entries for this template's SQL cache.
 	 */
 	public int getCacheLimit() {
-		return this.parsedSqlCache.capacity();
+		return this.sqlCache.getCacheLimit();
+	}
+
+	/**
+	 * Specify the cache for parsed and expanded SQL statements to use.
+	 * <p>Default is a local cache for this template, limited to 256 entries.
+	 * Specify {@link NamedParameterSqlCache#getSharedInstance()} or a custom
+	 * cache instance for sharing SQL statements across template instances.
+	 * @since 7.1
+	 * @see #setCacheLimit
+	 */
+	public void setSqlCache(NamedParameterSqlCache sqlCache) {
+		Assert.notNull(sqlCache, "NamedParameterSqlCache must not be null");
+		this.sqlCache = sqlCache;
+	}
+
+	/**
+	 * Return the cache for parsed and expanded SQL statements in use.
+	 * @since 7.1
+	 */
+	public NamedParameterSqlCache getSqlCache() {
+		return this.sqlCache;
 	}
 
 
@@ -480,27 +501,29 @@ public class NamedParameterJdbcTemplate implements NamedParameterJdbcOperations
 	 * <p>The default implementation uses an LRU cache with an upper limit of 256 entries.
 	 * @param sql the original SQL statement
 	 * @return a representation of the parsed SQL statement
+	 * @see #setSqlCache
 	 */
 	protected ParsedSql getParsedSql(String sql) {
 		Assert.notNull(sql, "SQL must not be null");
-		return this.parsedSqlCache.get(sql);
+		return this.sqlCache.getParsedSql(sql);
 	}
 
 	/**
 	 * Build a {@link PreparedStatementCreatorFactory} based on the given SQL and named parameters.
+	 * <p>The default implementation reuses the substituted SQL statement and the
+	 * parameter declarations from the SQL cache for the same parameter shape.
 	 * @param parsedSql parsed representation of the given SQL statement
 	 * @param paramSource container of arguments to bind
 	 * @return the corresponding {@link PreparedStatementCreatorFactory}
 	 * @since 5.1.3
 	 * @see #getPreparedStatementCreator(String, SqlParameterSource, Consumer)
 	 * @see #getParsedSql(String)
+	 * @see NamedParameterSqlCache#getPreparedStatementCreatorFactory
 	 */
 	protected PreparedStatementCreatorFactory getPreparedStatementCreatorFactory(
 			ParsedSql parsedSql, SqlParameterSource paramSource) {
 
-		String sqlToUse = NamedParameterUtils.substituteNamedParameters(parsedSql, paramSource);
-		List<SqlParameter> declaredParameters = NamedParameterUtils.buildSqlParameterList(parsedSql, paramSource);
-		return new PreparedStatementCreatorFactory(sqlToUse, declaredParameters);
+		return this.sqlCache.getPreparedStatementCreatorFactory(parsedSql, paramSource);
 	}
 
 }
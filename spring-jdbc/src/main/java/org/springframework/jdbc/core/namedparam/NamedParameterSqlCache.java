@@ -0,0 +1,301 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core.namedparam;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.SqlParameter;
+import org.springframework.jdbc.core.SqlParameterValue;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * Cache for the parsed and expanded representations of SQL statements
+ * with named parameters, as used by {@link NamedParameterJdbcTemplate}.
+ *
+ * <p>Next to the {@link ParsedSql} representation per original SQL statement,
+ * this cache memoizes the JDBC-style SQL statement with substituted parameter
+ * placeholders along with the corresponding {@link SqlParameter} declarations.
+ * Those depend on the given parameter values and are therefore cached per
+ * parameter shape: the SQL type and type name of each parameter as well as
+ * the number of elements in a collection parameter and the number of values
+ * in each expression list within it.
+ *
+ * <p>A cache instance is thread-safe and may be shared across any number of
+ * {@code NamedParameterJdbcTemplate} instances, for example through the
+ * {@linkplain #getSharedInstance() shared instance}.
+ *
+ * @since 7.1
+ * @see NamedParameterJdbcTemplate#setSqlCache
+ * @see NamedParameterUtils#parseSqlStatement
+ * @see NamedParameterUtils#substituteNamedParameters(ParsedSql, SqlParameterSource)
+ * @see NamedParameterUtils#buildSqlParameterList
+ */
+public class NamedParameterSqlCache {
+
+	/** Default maximum number of parsed SQL statements to cache: 256. */
+	public static final int DEFAULT_CACHE_LIMIT = 256;
+
+	/**
+	 * Maximum number of expanded SQL statements to cache per parsed SQL
+	 * statement on average, accommodating different collection sizes.
+	 */
+	private static final int EXPANDED_SQL_CACHE_FACTOR = 4;
+
+	private static volatile @Nullable NamedParameterSqlCache sharedInstance;
+
+
+	/** Cache of original SQL String to ParsedSql representation. */
+	private final ConcurrentLruCache<String, ParsedSql> parsedSqlCache;
+
+	/** Cache of parameter shape to expanded SQL statement. */
+	private final ConcurrentLruCache<ExpandedSqlKey, ExpandedSql> expandedSqlCache;
+
+
+	/**
+	 * Create a new {@code NamedParameterSqlCache} with the default cache limit.
+	 * @see #DEFAULT_CACHE_LIMIT
+	 */
+	public NamedParameterSqlCache() {
+		this(DEFAULT_CACHE_LIMIT);
+	}
+
+	/**
+	 * Create a new {@code NamedParameterSqlCache} with the given cache limit.
+	 * @param cacheLimit the maximum number of parsed SQL statements to cache;
+	 * up to four times as many expanded SQL statements are cached in addition.
+	 * 0 indicates no caching, always parsing and expanding each statement.
+	 */
+	public NamedParameterSqlCache(int cacheLimit) {
+		Assert.isTrue(cacheLimit >= 0, "Cache limit must not be negative");
+		this.parsedSqlCache = new ConcurrentLruCache<>(cacheLimit, NamedParameterUtils::parseSqlStatement);
+		this.expandedSqlCache = new ConcurrentLruCache<>(
+				cacheLimit * EXPANDED_SQL_CACHE_FACTOR, NamedParameterSqlCache::expandSql);
+	}
+
+
+	/**
+	 * Return the maximum number of parsed SQL statements to cache.
+	 */
+	public int getCacheLimit() {
+		return this.parsedSqlCache.capacity();
+	}
+
+	/**
+	 * Obtain a parsed representation of the given SQL statement.
+	 * @param sql the original SQL statement
+	 * @return a representation of the parsed SQL statement
+	 * @see NamedParameterUtils#parseSqlStatement
+	 */
+	public ParsedSql getParsedSql(String sql) {
+		Assert.notNull(sql, "SQL must not be null");
+		return this.parsedSqlCache.get(sql);
+	}
+
+	/**
+	 * Build a {@link PreparedStatementCreatorFactory} for the given parsed SQL
+	 * statement and parameter values, reusing the substituted SQL statement and
+	 * the parameter declarations from a previous call with the same parameter shape.
+	 * <p>Each call returns a new factory instance which may be customized freely.
+	 * @param parsedSql parsed representation of the given SQL statement
+	 * @param paramSource container of arguments to bind
+	 * @return the corresponding {@link PreparedStatementCreatorFactory}
+	 */
+	public PreparedStatementCreatorFactory getPreparedStatementCreatorFactory(
+			ParsedSql parsedSql, SqlParameterSource paramSource) {
+
+		ExpandedSql expandedSql = this.expandedSqlCache.get(new ExpandedSqlKey(parsedSql, paramSource));
+		return new PreparedStatementCreatorFactory(expandedSql.sql(), new ArrayList<>(expandedSql.declaredParameters()));
+	}
+
+	/**
+	 * Clear this cache, removing all parsed and expanded SQL statements.
+	 */
+	public void clear() {
+		this.parsedSqlCache.clear();
+		this.expandedSqlCache.clear();
+	}
+
+
+	/**
+	 * Return a shared default {@code NamedParameterSqlCache} instance,
+	 * lazily building it once needed.
+	 * <p>This allows for reusing parsed and expanded SQL statements across
+	 * all {@code NamedParameterJdbcTemplate} instances in an application.
+	 * @return the shared {@code NamedParameterSqlCache} instance (never {@code null})
+	 * @see NamedParameterJdbcTemplate#setSqlCache
+	 */
+	public static NamedParameterSqlCache getSharedInstance() {
+		NamedParameterSqlCache cache = sharedInstance;
+		if (cache == null) {
+			synchronized (NamedParameterSqlCache.class) {
+				cache = sharedInstance;
+				if (cache == null) {
+					cache = new NamedParameterSqlCache();
+					sharedInstance = cache;
+				}
+			}
+		}
+		return cache;
+	}
+
+	/**
+	 * Substitute the parameter placeholders and build the parameter declarations
+	 * for the parameter shape in the given key.
+	 * @see NamedParameterUtils#substituteNamedParameters(ParsedSql, SqlParameterSource)
+	 * @see NamedParameterUtils#buildSqlParameterList
+	 */
+	private static ExpandedSql expandSql(ExpandedSqlKey key) {
+		ParsedSql parsedSql = key.parsedSql;
+		String originalSql = parsedSql.getOriginalSql();
+		List<String> paramNames = parsedSql.getParameterNames();
+		if (paramNames.isEmpty()) {
+			return new ExpandedSql(originalSql, Collections.emptyList());
+		}
+
+		StringBuilder actualSql = new StringBuilder(originalSql.length());
+		List<SqlParameter> declaredParameters = new ArrayList<>(paramNames.size());
+		int[] shape = key.shape;
+		int shapeIndex = 0;
+		int lastIndex = 0;
+		for (int i = 0; i < paramNames.size(); i++) {
+			int[] indexes = parsedSql.getParameterIndexes(i);
+			actualSql.append(originalSql, lastIndex, indexes[0]);
+			int sqlType = shape[shapeIndex++];
+			int elementCount = shape[shapeIndex++];
+			if (elementCount < 0) {
+				actualSql.append('?');
+			}
+			else {
+				for (int k = 0; k < elementCount; k++) {
+					if (k > 0) {
+						actualSql.append(", ");
+					}
+					int expressionListLength = shape[shapeIndex++];
+					if (expressionListLength < 0) {
+						actualSql.append('?');
+					}
+					else {
+						actualSql.append('(');
+						for (int m = 0; m < expressionListLength; m++) {
+							if (m > 0) {
+								actualSql.append(", ");
+							}
+							actualSql.append('?');
+						}
+						actualSql.append(')');
+					}
+				}
+			}
+			String typeName = (key.typeNames != null ? key.typeNames[i] : null);
+			declaredParameters.add(new SqlParameter(paramNames.get(i), sqlType, typeName));
+			lastIndex = indexes[1];
+		}
+		actualSql.append(originalSql, lastIndex, originalSql.length());
+		return new ExpandedSql(actualSql.toString(), Collections.unmodifiableList(declaredParameters));
+	}
+
+
+	/**
+	 * Cache key for an expanded SQL statement: the parsed SQL statement along
+	 * with the SQL type, the type name and the expansion of each parameter.
+	 * <p>The expansion of a parameter is encoded as -1 for a single placeholder,
+	 * or as the number of collection elements followed by the number of values
+	 * in each element, with -1 for an element that is not an expression list.
+	 */
+	private static final class ExpandedSqlKey {
+
+		private final ParsedSql parsedSql;
+
+		private final int[] shape;
+
+		private final @Nullable String @Nullable [] typeNames;
+
+		private final int hashCode;
+
+		ExpandedSqlKey(ParsedSql parsedSql, SqlParameterSource paramSource) {
+			List<String> paramNames = parsedSql.getParameterNames();
+			int[] shape = new int[paramNames.size() * 2];
+			@Nullable String[] typeNames = null;
+			int shapeIndex = 0;
+			for (int i = 0; i < paramNames.size(); i++) {
+				String paramName = paramNames.get(i);
+				Object value = (paramSource.hasValue(paramName) ? paramSource.getValue(paramName) : null);
+				if (value instanceof SqlParameterValue sqlParameterValue) {
+					value = sqlParameterValue.getValue();
+				}
+				if (shapeIndex + 2 > shape.length) {
+					shape = Arrays.copyOf(shape, shape.length * 2);
+				}
+				shape[shapeIndex++] = paramSource.getSqlType(paramName);
+				if (value instanceof Iterable<?> iterable) {
+					int elementCountIndex = shapeIndex++;
+					int k = 0;
+					for (Object entryItem : iterable) {
+						if (shapeIndex == shape.length) {
+							shape = Arrays.copyOf(shape, shape.length * 2);
+						}
+						shape[shapeIndex++] = (entryItem instanceof Object[] expressionList ? expressionList.length : -1);
+						k++;
+					}
+					shape[elementCountIndex] = k;
+				}
+				else {
+					shape[shapeIndex++] = -1;
+				}
+				String typeName = paramSource.getTypeName(paramName);
+				if (typeName != null) {
+					if (typeNames == null) {
+						typeNames = new String[paramNames.size()];
+					}
+					typeNames[i] = typeName;
+				}
+			}
+			this.parsedSql = parsedSql;
+			this.shape = (shapeIndex < shape.length ? Arrays.copyOf(shape, shapeIndex) : shape);
+			this.typeNames = typeNames;
+			this.hashCode = 31 * (31 * System.identityHashCode(parsedSql) + Arrays.hashCode(this.shape)) +
+					Arrays.hashCode(typeNames);
+		}
+
+		@Override
+		public boolean equals(@Nullable Object other) {
+			return (this == other || (other instanceof ExpandedSqlKey that &&
+					this.parsedSql == that.parsedSql && Arrays.equals(this.shape, that.shape) &&
+					Arrays.equals(this.typeNames, that.typeNames)));
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+	}
+
+
+	/**
+	 * An expanded SQL statement along with its parameter declarations.
+	 */
+	private record ExpandedSql(String sql, List<SqlParameter> declaredParameters) {
+	}
+
+}
@@ -25,6 +25,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -44,6 +45,7 @@ import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.SqlTypeValue;
 import org.springframework.jdbc.core.StatementCreatorUtils;
 import org.springframework.jdbc.core.metadata.TableMetaDataContext;
+import org.springframework.jdbc.core.namedparam.SimplePropertySqlParameterSource;
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.JdbcUtils;
@@ -90,6 +92,9 @@ public abstract class AbstractJdbcInsert {
 	/** The SQL type information for the insert columns. */
 	private int[] insertTypes = new int[0];
 
+	/** The strategy for bulk inserts. */
+	private BulkInsertHandler bulkInsertHandler = new MultiRowBulkInsertHandler();
+
 
 	/**
 	 * Constructor to be used when initializing using a {@link DataSource}.
@@ -257,6 +262,27 @@ public abstract class AbstractJdbcInsert {
 	}
 
 
+	/**
+	 * Set the {@link BulkInsertHandler} to use for bulk inserts.
+	 * <p>Default is a {@link MultiRowBulkInsertHandler} with its default
+	 * number of rows per statement.
+	 * @since 7.1
+	 * @see #doExecuteBulk(Iterator)
+	 */
+	public void setBulkInsertHandler(BulkInsertHandler bulkInsertHandler) {
+		Assert.notNull(bulkInsertHandler, "BulkInsertHandler must not be null");
+		this.bulkInsertHandler = bulkInsertHandler;
+	}
+
+	/**
+	 * Get the {@link BulkInsertHandler} to use for bulk inserts.
+	 * @since 7.1
+	 */
+	public BulkInsertHandler getBulkInsertHandler() {
+		return this.bulkInsertHandler;
+	}
+
+
 	//-------------------------------------------------------------------------
 	// Methods handling compilation issues
 	//-------------------------------------------------------------------------
@@ -608,6 +634,51 @@ public abstract class AbstractJdbcInsert {
 				});
 	}
 
+	/**
+	 * Delegate method that executes a bulk insert for the passed-in rows through
+	 * the configured {@link BulkInsertHandler}, on a single connection.
+	 * <p>Each row may be a Map with parameter names and values, a
+	 * {@link SqlParameterSource}, or an object with bean properties or record
+	 * components (as exposed by a {@link SimplePropertySqlParameterSource}).
+	 * @param rows the rows to insert, consumed incrementally
+	 * @return the number of rows inserted
+	 * @since 7.1
+	 */
+	protected long doExecuteBulk(Iterator<?> rows) {
+		checkCompiled();
+		if (logger.isDebugEnabled()) {
+			logger.debug("Executing bulk insert " + getInsertString() + " with " + this.bulkInsertHandler);
+		}
+		Iterator<List<?>> values = new Iterator<>() {
+			@Override
+			public boolean hasNext() {
+				return rows.hasNext();
+			}
+			@Override
+			public List<?> next() {
+				return matchRowWithInsertColumns(rows.next());
+			}
+		};
+		Long rowsInserted = getJdbcTemplate().execute((ConnectionCallback<Long>) con ->
+				this.bulkInsertHandler.insert(con, getInsertString(), getInsertTypes(), values));
+		Assert.state(rowsInserted != null, "No row count returned from BulkInsertHandler");
+		return rowsInserted;
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Object> matchRowWithInsertColumns(@Nullable Object row) {
+		if (row instanceof Map<?, ?> args) {
+			return matchInParameterValuesWithInsertColumns((Map<String, ?>) args);
+		}
+		else if (row instanceof SqlParameterSource parameterSource) {
+			return matchInParameterValuesWithInsertColumns(parameterSource);
+		}
+		else {
+			Assert.notNull(row, "Row must not be null");
+			return matchInParameterValuesWithInsertColumns(new SimplePropertySqlParameterSource(row));
+		}
+	}
+
 	/**
 	 * Internal implementation for setting parameter values.
 	 * @param preparedStatement the PreparedStatement
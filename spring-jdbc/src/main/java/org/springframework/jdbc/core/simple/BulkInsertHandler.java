@@ -0,0 +1,61 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core.simple;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Strategy interface for loading a stream of rows into a table, as used by
+ * {@link SimpleJdbcInsert#executeBulk(Iterator)}.
+ *
+ * <p>The default implementation is {@link MultiRowBulkInsertHandler}, which
+ * rewrites the rows into multi-row {@code INSERT} statements. Implementations
+ * may use a database-specific loading path instead, for example, an adapter
+ * for the {@code CopyManager} of the PostgreSQL JDBC driver, deriving the
+ * {@code COPY} command from the table and column names in the given insert
+ * statement and obtaining the driver's connection through
+ * {@link Connection#unwrap(Class)}.
+ *
+ * <p>Rows are supplied lazily, so that implementations can load an arbitrary
+ * number of rows with bounded memory by consuming them incrementally.
+ *
+ * @since 7.1
+ * @see SimpleJdbcInsert#usingBulkInsertHandler(BulkInsertHandler)
+ */
+@FunctionalInterface
+public interface BulkInsertHandler {
+
+	/**
+	 * Insert the given rows through the given connection.
+	 * @param con the JDBC Connection to use, participating in the current
+	 * transaction, if any
+	 * @param insertString the single-row insert statement, in the form
+	 * {@code INSERT INTO table (column1, column2) VALUES(?, ?)}
+	 * @param insertTypes the {@link java.sql.Types SQL types} of the insert
+	 * columns, or an empty array if unknown
+	 * @param rows the values for each row to insert, in the order of the
+	 * insert columns
+	 * @return the number of rows inserted
+	 * @throws SQLException if thrown by JDBC methods
+	 */
+	long insert(Connection con, String insertString, int[] insertTypes, Iterator<List<?>> rows)
+			throws SQLException;
+
+}
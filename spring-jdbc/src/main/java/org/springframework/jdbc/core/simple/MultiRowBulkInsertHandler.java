@@ -0,0 +1,162 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core.simple;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.util.Assert;
+
+/**
+ * {@link BulkInsertHandler} implementation that rewrites rows into multi-row
+ * {@code INSERT INTO table (columns) VALUES (...), (...)} statements with a
+ * configurable number of rows per statement, holding no more than that number
+ * of rows in memory at any time.
+ *
+ * <p>Statements for full groups of rows reuse a single {@link PreparedStatement},
+ * while a final partial group is inserted through a statement of its own.
+ *
+ * <p>Note that multi-row {@code VALUES} lists are not supported by all databases,
+ * for example, not by Oracle, and that databases and JDBC drivers limit the number
+ * of parameters per statement, which needs to be taken into account for the
+ * number of rows per statement, multiplied by the number of insert columns.
+ *
+ * @since 7.1
+ * @see SimpleJdbcInsert#executeBulk(Iterator)
+ */
+public class MultiRowBulkInsertHandler implements BulkInsertHandler {
+
+	/**
+	 * The default number of rows per statement.
+	 */
+	public static final int DEFAULT_ROWS_PER_STATEMENT = 100;
+
+	private static final String VALUES = "VALUES";
+
+
+	private final int rowsPerStatement;
+
+
+	/**
+	 * Create a new {@code MultiRowBulkInsertHandler} with a default of
+	 * {@value #DEFAULT_ROWS_PER_STATEMENT} rows per statement.
+	 */
+	public MultiRowBulkInsertHandler() {
+		this(DEFAULT_ROWS_PER_STATEMENT);
+	}
+
+	/**
+	 * Create a new {@code MultiRowBulkInsertHandler}.
+	 * @param rowsPerStatement the maximum number of rows to insert per statement
+	 */
+	public MultiRowBulkInsertHandler(int rowsPerStatement) {
+		Assert.isTrue(rowsPerStatement > 0, "Rows per statement must be greater than 0");
+		this.rowsPerStatement = rowsPerStatement;
+	}
+
+
+	/**
+	 * Return the maximum number of rows to insert per statement.
+	 */
+	public int getRowsPerStatement() {
+		return this.rowsPerStatement;
+	}
+
+	@Override
+	public long insert(Connection con, String insertString, int[] insertTypes, Iterator<List<?>> rows)
+			throws SQLException {
+
+		int valuesIndex = insertString.lastIndexOf(VALUES);
+		Assert.isTrue(valuesIndex != -1, () -> "Not an INSERT ... VALUES statement: " + insertString);
+		String prefix = insertString.substring(0, valuesIndex + VALUES.length()) + " ";
+		String rowPlaceholders = insertString.substring(valuesIndex + VALUES.length()).trim();
+
+		List<List<?>> group = new ArrayList<>(this.rowsPerStatement);
+		long rowsInserted = 0;
+		PreparedStatement ps = null;
+		try {
+			while (rows.hasNext()) {
+				group.add(rows.next());
+				if (group.size() == this.rowsPerStatement) {
+					if (ps == null) {
+						ps = con.prepareStatement(createInsertString(prefix, rowPlaceholders, group.size()));
+					}
+					rowsInserted += insertGroup(ps, group, insertTypes);
+					group.clear();
+				}
+			}
+		}
+		finally {
+			JdbcUtils.closeStatement(ps);
+		}
+
+		if (!group.isEmpty()) {
+			ps = con.prepareStatement(createInsertString(prefix, rowPlaceholders, group.size()));
+			try {
+				rowsInserted += insertGroup(ps, group, insertTypes);
+			}
+			finally {
+				JdbcUtils.closeStatement(ps);
+			}
+		}
+		return rowsInserted;
+	}
+
+	/**
+	 * Create the insert statement for the given number of rows.
+	 * @param prefix the statement up to and including the {@code VALUES} keyword
+	 * @param rowPlaceholders the parameter placeholders for a single row
+	 * @param rowCount the number of rows
+	 * @return the insert statement
+	 */
+	protected String createInsertString(String prefix, String rowPlaceholders, int rowCount) {
+		StringBuilder sql = new StringBuilder(prefix.length() + (rowPlaceholders.length() + 2) * rowCount);
+		sql.append(prefix);
+		for (int i = 0; i < rowCount; i++) {
+			if (i > 0) {
+				sql.append(", ");
+			}
+			sql.append(rowPlaceholders);
+		}
+		return sql.toString();
+	}
+
+	private int insertGroup(PreparedStatement ps, List<List<?>> group, int[] insertTypes) throws SQLException {
+		int paramIndex = 0;
+		for (List<?> values : group) {
+			int colIndex = 0;
+			for (Object value : values) {
+				paramIndex++;
+				StatementCreatorUtils.setParameterValue(ps, paramIndex, sqlType(insertTypes, colIndex), value);
+				colIndex++;
+			}
+		}
+		return ps.executeUpdate();
+	}
+
+	private static int sqlType(int[] insertTypes, int colIndex) {
+		return (colIndex < insertTypes.length ? insertTypes[colIndex] : SqlTypeValue.TYPE_UNKNOWN);
+	}
+
+}
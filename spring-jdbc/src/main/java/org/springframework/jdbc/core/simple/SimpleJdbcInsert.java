@@ -17,7 +17,9 @@
 package org.springframework.jdbc.core.simple;
 
 import java.util.Arrays;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import javax.sql.DataSource;
 
@@ -120,6 +122,12 @@ public class SimpleJdbcInsert extends AbstractJdbcInsert implements SimpleJdbcIn
 		return this;
 	}
 
+	@Override
+	public SimpleJdbcInsert usingBulkInsertHandler(BulkInsertHandler bulkInsertHandler) {
+		setBulkInsertHandler(bulkInsertHandler);
+		return this;
+	}
+
 	@Override
 	public int execute(Map<String, ?> args) {
 		return doExecute(args);
@@ -161,4 +169,14 @@ public class SimpleJdbcInsert extends AbstractJdbcInsert implements SimpleJdbcIn
 		return doExecuteBatch(batch);
 	}
 
+	@Override
+	public long executeBulk(Iterator<?> rows) {
+		return doExecuteBulk(rows);
+	}
+
+	@Override
+	public long executeBulk(Stream<?> rows) {
+		return doExecuteBulk(rows.iterator());
+	}
+
 }
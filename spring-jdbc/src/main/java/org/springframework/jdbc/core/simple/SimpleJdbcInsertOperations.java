@@ -16,7 +16,9 @@
 
 package org.springframework.jdbc.core.simple;
 
+import java.util.Iterator;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.jdbc.support.KeyHolder;
@@ -107,6 +109,17 @@ public interface SimpleJdbcInsertOperations {
 	 */
 	SimpleJdbcInsertOperations includeSynonymsForTableColumnMetaData();
 
+	/**
+	 * Specify the {@link BulkInsertHandler} to use for bulk inserts.
+	 * <p>Default is a {@link MultiRowBulkInsertHandler} with its default
+	 * number of rows per statement.
+	 * @param bulkInsertHandler the bulk insert handler to use
+	 * @return this {@code SimpleJdbcInsert} (for method chaining)
+	 * @since 7.1
+	 * @see #executeBulk(Iterator)
+	 */
+	SimpleJdbcInsertOperations usingBulkInsertHandler(BulkInsertHandler bulkInsertHandler);
+
 	/**
 	 * Execute the insert using the values passed in.
 	 * @param args a Map containing column names and corresponding value
@@ -176,4 +189,35 @@ public interface SimpleJdbcInsertOperations {
 	 */
 	int[] executeBatch(SqlParameterSource... batch);
 
+	/**
+	 * Execute a bulk insert for the rows passed in, through the configured
+	 * {@link BulkInsertHandler} on a single connection, by default through
+	 * multi-row insert statements.
+	 * <p>Each row may be a Map containing column names and corresponding values,
+	 * a {@link SqlParameterSource}, or an object with bean properties or record
+	 * components named after the columns. Rows are consumed incrementally, with
+	 * the number of rows held in memory bounded by the {@code BulkInsertHandler}.
+	 * @param rows the rows to insert
+	 * @return the number of rows inserted
+	 * @since 7.1
+	 * @see #usingBulkInsertHandler(BulkInsertHandler)
+	 */
+	long executeBulk(Iterator<?> rows);
+
+	/**
+	 * Execute a bulk insert for the rows passed in, through the configured
+	 * {@link BulkInsertHandler} on a single connection, by default through
+	 * multi-row insert statements.
+	 * <p>Each row may be a Map containing column names and corresponding values,
+	 * a {@link SqlParameterSource}, or an object with bean properties or record
+	 * components named after the columns. Rows are consumed incrementally, with
+	 * the number of rows held in memory bounded by the {@code BulkInsertHandler}.
+	 * <p>Note that the given stream is not closed by this method.
+	 * @param rows the rows to insert
+	 * @return the number of rows inserted
+	 * @since 7.1
+	 * @see #usingBulkInsertHandler(BulkInsertHandler)
+	 */
+	long executeBulk(Stream<?> rows);
+
 }
@@ -19,9 +19,13 @@ package org.springframework.jdbc.core;
 import java.beans.PropertyDescriptor;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.Constructor;
+import java.sql.ResultSet;
 import java.util.Date;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -38,6 +42,10 @@ import org.springframework.jdbc.core.test.SpacePerson;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 /**
  * Tests for {@link BeanPropertyRowMapper}.
@@ -181,6 +189,107 @@ class BeanPropertyRowMapperTests extends AbstractRowMapperTests {
 		mock.verifyClosed();
 	}
 
+	@Test
+	void staticQueryWithCompiledMapping() throws Exception {
+		BeanPropertyRowMapper<ConcretePerson> mapper = new BeanPropertyRowMapper<>(ConcretePerson.class, true);
+		mapper.setCompiledMapping(true);
+		Mock mock = new Mock();
+		ConcretePerson person = mock.getJdbcTemplate().queryForObject(
+				"select name, age, birth_date, balance from people", mapper);
+		verifyPerson(person);
+		mock.verifyClosed();
+	}
+
+	@Test
+	void mappingWithUnpopulatedFieldsNotAcceptedWithCompiledMapping() throws Exception {
+		BeanPropertyRowMapper<ExtendedPerson> mapper = new BeanPropertyRowMapper<>(ExtendedPerson.class, true);
+		mapper.setCompiledMapping(true);
+		Mock mock = new Mock();
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> mock.getJdbcTemplate().query("select name, age, birth_date, balance from people", mapper));
+	}
+
+	@Test
+	void mappingNullValueWithCompiledMapping() throws Exception {
+		BeanPropertyRowMapper<Person> mapper = new BeanPropertyRowMapper<>(Person.class);
+		mapper.setCompiledMapping(true);
+		Mock mock = new Mock(MockType.TWO);
+		assertThatExceptionOfType(TypeMismatchException.class)
+				.isThrownBy(() -> mock.getJdbcTemplate().query(SELECT_NULL_AS_AGE, mapper));
+	}
+
+	@Test
+	void mappingNullValueWithPrimitivesDefaultedForNullValueAndCompiledMapping() throws Exception {
+		BeanPropertyRowMapper<Person> mapper = new BeanPropertyRowMapper<>(Person.class);
+		mapper.setPrimitivesDefaultedForNullValue(true);
+		mapper.setCompiledMapping(true);
+		Mock mock = new Mock(MockType.TWO);
+		Person person = mock.getJdbcTemplate().queryForObject(SELECT_NULL_AS_AGE, mapper);
+		assertThat(person).extracting(Person::getAge).isEqualTo(42L);
+		mock.verifyClosed();
+	}
+
+	@Test
+	void queryWithCustomNameMatchAndCompiledMapping() throws Exception {
+		Mock mock = new Mock(MockType.FOUR);
+		CustomBeanPropertyRowMapper mapper = new CustomBeanPropertyRowMapper();
+		mapper.setCompiledMapping(true);
+		Person person = mock.getJdbcTemplate().queryForObject(
+				"select name, age, birthdate, balance from people", mapper);
+		verifyPerson(person);
+		mock.verifyClosed();
+	}
+
+	@Test
+	void compiledMappingResolvedOncePerResultSetShape() throws Exception {
+		AtomicInteger resolved = new AtomicInteger();
+		BeanPropertyRowMapper<ConcretePerson> mapper = new BeanPropertyRowMapper<>(ConcretePerson.class) {
+			@Override
+			@Nullable Constructor<ConcretePerson> getCompiledConstructor() {
+				resolved.incrementAndGet();
+				return super.getCompiledConstructor();
+			}
+		};
+		mapper.setCompiledMapping(true);
+
+		for (MockType type : new MockType[] {MockType.ONE, MockType.FOUR, MockType.ONE, MockType.FOUR}) {
+			Mock mock = new Mock(type);
+			ConcretePerson person = mock.getJdbcTemplate().queryForObject(
+					"select name, age, birth_date, balance from people", mapper);
+			verifyPerson(person);
+			mock.verifyClosed();
+		}
+		assertThat(resolved).hasValue(2);
+	}
+
+	@Test
+	void compiledMappingLookedUpOncePerResultSet() throws Exception {
+		BeanPropertyRowMapper<ConcretePerson> mapper = new BeanPropertyRowMapper<>(ConcretePerson.class);
+		mapper.setCompiledMapping(true);
+		Mock mock = new Mock();
+		ResultSet rs = mock.getResultSet();
+
+		verifyPerson(mapper.mapRow(rs, 0));
+		clearInvocations(rs);
+		verifyPerson(mapper.mapRow(rs, 1));
+		verifyPerson(mapper.mapRow(rs, 2));
+		verify(rs, never()).getMetaData();
+	}
+
+	@Test
+	void compiledMappingLookedUpAgainForReusedResultSet() throws Exception {
+		BeanPropertyRowMapper<ConcretePerson> mapper = new BeanPropertyRowMapper<>(ConcretePerson.class);
+		mapper.setCompiledMapping(true);
+		Mock mock = new Mock();
+		ResultSet rs = mock.getResultSet();
+
+		verifyPerson(mapper.mapRow(rs, 0));
+		verifyPerson(mapper.mapRow(rs, 1));
+		clearInvocations(rs);
+		verifyPerson(mapper.mapRow(rs, 0));
+		verify(rs, atLeastOnce()).getMetaData();
+	}
+
 	@ParameterizedTest
 	@CsvSource({
 		"age, age",
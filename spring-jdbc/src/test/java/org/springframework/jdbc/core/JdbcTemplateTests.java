@@ -32,6 +32,9 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
@@ -50,12 +53,14 @@ import org.springframework.jdbc.CannotGetJdbcConnectionException;
 import org.springframework.jdbc.SQLWarningException;
 import org.springframework.jdbc.UncategorizedSQLException;
 import org.springframework.jdbc.core.support.AbstractInterruptibleBatchPreparedStatementSetter;
+import org.springframework.jdbc.datasource.ConnectionHolder;
 import org.springframework.jdbc.datasource.ConnectionProxy;
 import org.springframework.jdbc.datasource.SingleConnectionDataSource;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.jdbc.support.SQLErrorCodeSQLExceptionTranslator;
 import org.springframework.jdbc.support.SQLStateSQLExceptionTranslator;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.LinkedCaseInsensitiveMap;
 import org.springframework.util.StringUtils;
 
@@ -853,6 +858,130 @@ class JdbcTemplateTests {
 		verify(this.connection, atLeastOnce()).close();
 	}
 
+	@Test
+	void pipelinedBatchUpdate() throws Exception {
+		String sql = "UPDATE NOSUCHTABLE SET DATE_DISPATCHED = SYSDATE WHERE ID = ?";
+		List<Integer> ids = Arrays.asList(100, 200, 300);
+		given(this.preparedStatement.executeBatch()).willReturn(new int[] {1, 2}, new int[] {3});
+		mockDatabaseMetaData(true);
+
+		ParameterizedPreparedStatementSetter<Integer> setter = (ps, argument) -> ps.setInt(1, argument);
+		JdbcTemplate template = new JdbcTemplate(this.dataSource, false);
+
+		List<BatchChunkResult> results = template.pipelinedBatchUpdate(sql, ids, 2, setter, Runnable::run, 2);
+		assertThat(results).hasSize(2);
+		assertThat(results.get(0).getOffset()).isEqualTo(0);
+		assertThat(results.get(0).getSize()).isEqualTo(2);
+		assertThat(results.get(0).getUpdateCounts()).containsExactly(1, 2);
+		assertThat(results.get(0).isSuccessful()).isTrue();
+		assertThat(results.get(1).getOffset()).isEqualTo(2);
+		assertThat(results.get(1).getSize()).isEqualTo(1);
+		assertThat(results.get(1).getUpdateCounts()).containsExactly(3);
+		assertThat(results.get(1).isSuccessful()).isTrue();
+
+		verify(this.preparedStatement, times(3)).addBatch();
+		verify(this.preparedStatement, times(2)).executeBatch();
+		verify(this.preparedStatement, times(2)).close();
+		verify(this.connection, times(2)).close();
+	}
+
+	@Test
+	void pipelinedBatchUpdateWithChunkFailing() throws Exception {
+		String sql = "INSERT INTO NOSUCHTABLE values (?)";
+		List<Integer> ids = Arrays.asList(1, 2, 2, 3, 4, 5);
+		given(this.preparedStatement.executeBatch()).willReturn(new int[] {1, 1}).willThrow(new BatchUpdateException(
+				"duplicate key value violates unique constraint \"NOSUCHTABLE_pkey\" Detail: Key (id)=(2) already exists.",
+				"23505", 0, new int[] {1, -3})).willReturn(new int[] {1, 1});
+		mockDatabaseMetaData(true);
+
+		ParameterizedPreparedStatementSetter<Integer> setter = (ps, argument) -> ps.setInt(1, argument);
+		JdbcTemplate template = new JdbcTemplate(this.dataSource, false);
+
+		List<BatchChunkResult> results = template.pipelinedBatchUpdate(sql, ids, 2, setter, Runnable::run, 2);
+		assertThat(results).hasSize(3);
+		assertThat(results.get(0).isSuccessful()).isTrue();
+		assertThat(results.get(1).isSuccessful()).isFalse();
+		assertThat(results.get(1).getOffset()).isEqualTo(2);
+		assertThat(results.get(1).getException()).isInstanceOf(DuplicateKeyException.class);
+		assertThat(results.get(1).getUpdateCounts()).containsExactly(1, -3);
+		assertThat(results.get(2).isSuccessful()).isTrue();
+		assertThat(results.get(2).getUpdateCounts()).containsExactly(1, 1);
+		verify(this.preparedStatement, times(3)).executeBatch();
+	}
+
+	@Test
+	void pipelinedBatchUpdateWithChunkRejected() throws Exception {
+		String sql = "INSERT INTO NOSUCHTABLE values (?)";
+		List<Integer> ids = Arrays.asList(1, 2, 3, 4, 5, 6);
+		given(this.preparedStatement.executeBatch()).willThrow(new BatchUpdateException(
+				"duplicate key value violates unique constraint \"NOSUCHTABLE_pkey\" Detail: Key (id)=(2) already exists.",
+				"23505", 0, new int[] {1, -3}));
+		mockDatabaseMetaData(true);
+
+		ParameterizedPreparedStatementSetter<Integer> setter = (ps, argument) -> ps.setInt(1, argument);
+		JdbcTemplate template = new JdbcTemplate(this.dataSource, false);
+		AtomicInteger submitted = new AtomicInteger();
+		Executor executor = task -> {
+			if (submitted.incrementAndGet() > 1) {
+				throw new RejectedExecutionException("Executor saturated");
+			}
+			task.run();
+		};
+
+		assertThatExceptionOfType(RejectedExecutionException.class)
+				.isThrownBy(() -> template.pipelinedBatchUpdate(sql, ids, 2, setter, executor, 2))
+				.satisfies(ex -> assertThat(ex.getSuppressed()).singleElement()
+						.isInstanceOf(DuplicateKeyException.class));
+		assertThat(submitted).hasValue(2);
+		verify(this.preparedStatement, times(1)).executeBatch();
+	}
+
+	@Test
+	void pipelinedBatchUpdateWithBoundConnection() throws Exception {
+		String sql = "UPDATE NOSUCHTABLE SET DATE_DISPATCHED = SYSDATE WHERE ID = ?";
+		List<Integer> ids = Arrays.asList(100, 200, 300);
+		given(this.preparedStatement.executeBatch()).willReturn(new int[] {1, 1}, new int[] {1});
+		mockDatabaseMetaData(true);
+
+		ParameterizedPreparedStatementSetter<Integer> setter = (ps, argument) -> ps.setInt(1, argument);
+		JdbcTemplate template = new JdbcTemplate(this.dataSource, false);
+
+		TransactionSynchronizationManager.bindResource(this.dataSource, new ConnectionHolder(this.connection));
+		try {
+			List<BatchChunkResult> results = template.pipelinedBatchUpdate(sql, ids, 2, setter,
+					task -> { throw new IllegalStateException("Not expected to be called"); }, 2);
+			assertThat(results).hasSize(2).allMatch(BatchChunkResult::isSuccessful);
+		}
+		finally {
+			TransactionSynchronizationManager.unbindResource(this.dataSource);
+		}
+		verify(this.connection, never()).close();
+	}
+
+	@Test
+	void pipelinedBatchUpdateWithActiveSynchronization() throws Exception {
+		String sql = "UPDATE NOSUCHTABLE SET DATE_DISPATCHED = SYSDATE WHERE ID = ?";
+		List<Integer> ids = Arrays.asList(100, 200, 300);
+		given(this.preparedStatement.executeBatch()).willReturn(new int[] {1, 1}, new int[] {1});
+		mockDatabaseMetaData(true);
+
+		ParameterizedPreparedStatementSetter<Integer> setter = (ps, argument) -> ps.setInt(1, argument);
+		JdbcTemplate template = new JdbcTemplate(this.dataSource, false);
+
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			List<BatchChunkResult> results = template.pipelinedBatchUpdate(sql, ids, 2, setter,
+					task -> { throw new IllegalStateException("Not expected to be called"); }, 2);
+			assertThat(results).hasSize(2).allMatch(BatchChunkResult::isSuccessful);
+		}
+		finally {
+			TransactionSynchronizationManager.clearSynchronization();
+			TransactionSynchronizationManager.unbindResourceIfPossible(this.dataSource);
+		}
+		verify(this.dataSource).getConnection();
+		verify(this.connection, never()).close();
+	}
+
 	@Test
 	void couldNotGetConnectionForOperationOrExceptionTranslator() throws SQLException {
 		SQLException sqlException = new SQLException("foo", "07xxx");
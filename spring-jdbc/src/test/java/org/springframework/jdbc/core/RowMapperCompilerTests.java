@@ -0,0 +1,116 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.jdbc.core.test.ConstructorPerson;
+import org.springframework.jdbc.core.test.Person;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link RowMapperCompiler}.
+ */
+class RowMapperCompilerTests {
+
+	private final ResultSet resultSet = mock();
+
+
+	@Test
+	void compileSetterMapping() throws Exception {
+		given(this.resultSet.getString(1)).willReturn("Bubba");
+		given(this.resultSet.getLong(2)).willReturn(22L);
+		given(this.resultSet.getBigDecimal(3)).willReturn(new BigDecimal("1234.56"));
+
+		RowMapper<Person> rowMapper = RowMapperCompiler.compile(setterMapping(Person.class, false));
+		assertThat(rowMapper).isNotNull();
+		Person person = rowMapper.mapRow(this.resultSet, 0);
+		assertThat(person.getName()).isEqualTo("Bubba");
+		assertThat(person.getAge()).isEqualTo(22L);
+		assertThat(person.getBalance()).isEqualTo(new BigDecimal("1234.56"));
+	}
+
+	@Test
+	void compileConstructorMapping() throws Exception {
+		given(this.resultSet.getString(1)).willReturn("Bubba");
+		given(this.resultSet.getLong(2)).willReturn(22L);
+		given(this.resultSet.getBigDecimal(4)).willReturn(new BigDecimal("1234.56"));
+
+		RowMapperCompiler.Mapping mapping = new RowMapperCompiler.Mapping(ConstructorPerson.class,
+				ConstructorPerson.class.getConstructors()[0], List.of(1, 2, 3, 4), List.of(), List.of(), false);
+		RowMapper<ConstructorPerson> rowMapper = RowMapperCompiler.compile(mapping);
+		assertThat(rowMapper).isNotNull();
+		ConstructorPerson person = rowMapper.mapRow(this.resultSet, 0);
+		assertThat(person.name()).isEqualTo("Bubba");
+		assertThat(person.age()).isEqualTo(22L);
+		assertThat(person.birth_date()).isNull();
+		assertThat(person.balance()).isEqualTo(new BigDecimal("1234.56"));
+	}
+
+	@Test
+	void nullValueForPrimitive() throws Exception {
+		given(this.resultSet.wasNull()).willReturn(true);
+
+		RowMapper<Person> rowMapper = RowMapperCompiler.compile(setterMapping(Person.class, false));
+		assertThat(rowMapper).isNotNull();
+		assertThat(rowMapper.mapRow(this.resultSet, 0)).isNull();
+	}
+
+	@Test
+	void nullValueForPrimitiveWithPrimitivesDefaultedForNullValue() throws Exception {
+		given(this.resultSet.wasNull()).willReturn(true);
+
+		RowMapper<Person> rowMapper = RowMapperCompiler.compile(setterMapping(Person.class, true));
+		assertThat(rowMapper).isNotNull();
+		Person person = rowMapper.mapRow(this.resultSet, 0);
+		assertThat(person).isNotNull();
+		assertThat(person.getAge()).isEqualTo(42L);
+	}
+
+	@Test
+	void generatedClassIsShared() throws Exception {
+		assertThat(RowMapperCompiler.<Person>compile(setterMapping(Person.class, false)))
+				.isSameAs(RowMapperCompiler.compile(setterMapping(Person.class, false)));
+	}
+
+	@Test
+	void nonPublicClassIsNotCompiled() throws Exception {
+		assertThat(RowMapperCompiler.<NonPublicPerson>compile(setterMapping(NonPublicPerson.class, false))).isNull();
+	}
+
+
+	private static RowMapperCompiler.Mapping setterMapping(Class<? extends Person> mappedClass,
+			boolean primitivesDefaultedForNullValue) throws Exception {
+
+		return new RowMapperCompiler.Mapping(mappedClass, mappedClass.getDeclaredConstructor(), List.of(),
+				List.of(mappedClass.getMethod("setName", String.class), mappedClass.getMethod("setAge", long.class),
+						mappedClass.getMethod("setBalance", BigDecimal.class)),
+				List.of(1, 2, 3), primitivesDefaultedForNullValue);
+	}
+
+
+	static class NonPublicPerson extends Person {
+	}
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.jdbc.core.namedparam;
+
+import java.sql.Types;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.jdbc.core.PreparedStatementCreatorFactory;
+import org.springframework.jdbc.core.SqlParameter;
+import org.springframework.jdbc.core.SqlParameterValue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for {@link NamedParameterSqlCache}.
+ */
+class NamedParameterSqlCacheTests {
+
+	private final NamedParameterSqlCache cache = new NamedParameterSqlCache();
+
+
+	@Test
+	void parsedSqlIsCached() {
+		String sql = "select * from customer where id = :id";
+		ParsedSql parsedSql = this.cache.getParsedSql(sql);
+
+		assertThat(parsedSql.getParameterNames()).containsExactly("id");
+		assertThat(this.cache.getParsedSql(sql)).isSameAs(parsedSql);
+	}
+
+	@Test
+	void parsedSqlIsNotCachedWithZeroCacheLimit() {
+		NamedParameterSqlCache cache = new NamedParameterSqlCache(0);
+		String sql = "select * from customer where id = :id";
+
+		assertThat(cache.getCacheLimit()).isZero();
+		assertThat(cache.getParsedSql(sql)).isNotSameAs(cache.getParsedSql(sql));
+	}
+
+	@Test
+	void expandedSqlMatchesSubstitutedSql() {
+		String sql = "select * from customer where id in (:ids) and (name, age) in (:names) and rank = :rank";
+		ParsedSql parsedSql = this.cache.getParsedSql(sql);
+		MapSqlParameterSource paramSource = new MapSqlParameterSource()
+				.addValue("ids", List.of(1, 2, 3))
+				.addValue("names", List.of(new Object[] {"John", 35}, new Object[] {"Ann", 50}))
+				.addValue("rank", new SqlParameterValue(Types.INTEGER, 5));
+
+		PreparedStatementCreatorFactory pscf = this.cache.getPreparedStatementCreatorFactory(parsedSql, paramSource);
+		assertThat(pscf.getSql()).isEqualTo(NamedParameterUtils.substituteNamedParameters(parsedSql, paramSource))
+				.isEqualTo("select * from customer where id in (?, ?, ?) and (name, age) in ((?, ?), (?, ?)) and rank = ?");
+	}
+
+	@Test
+	void expandedSqlPerCollectionSize() {
+		ParsedSql parsedSql = this.cache.getParsedSql("select * from customer where id in (:ids)");
+
+		assertThat(this.cache.getPreparedStatementCreatorFactory(parsedSql,
+				new MapSqlParameterSource("ids", List.of(1, 2))).getSql())
+				.isEqualTo("select * from customer where id in (?, ?)");
+		assertThat(this.cache.getPreparedStatementCreatorFactory(parsedSql,
+				new MapSqlParameterSource("ids", List.of(1, 2, 3))).getSql())
+				.isEqualTo("select * from customer where id in (?, ?, ?)");
+		assertThat(this.cache.getPreparedStatementCreatorFactory(parsedSql,
+				new MapSqlParameterSource("ids", List.of(4, 5))).getSql())
+				.isEqualTo("select * from customer where id in (?, ?)");
+		assertThat(this.cache.getPreparedStatementCreatorFactory(parsedSql,
+				new MapSqlParameterSource("ids", 6)).getSql())
+				.isEqualTo("select * from customer where id in (?)");
+	}
+
+	@Test
+	void expandedSqlWithMissingParameter() {
+		ParsedSql parsedSql = this.cache.getParsedSql("select * from customer where id = :id");
+
+		assertThat(this.cache.getPreparedStatementCreatorFactory(parsedSql, new MapSqlParameterSource()).getSql())
+				.isEqualTo("select * from customer where id = ?");
+	}
+
+	@Test
+	void factoryIsNewInstanceForEachCall() {
+		ParsedSql parsedSql = this.cache.getParsedSql("select * from customer where id = :id");
+		MapSqlParameterSource paramSource = new MapSqlParameterSource("id", 1);
+
+		PreparedStatementCreatorFactory pscf = this.cache.getPreparedStatementCreatorFactory(parsedSql, paramSource);
+		pscf.addParameter(new SqlParameter(Types.VARCHAR));
+		PreparedStatementCreatorFactory pscf2 = this.cache.getPreparedStatementCreatorFactory(parsedSql, paramSource);
+
+		assertThat(pscf2).isNotSameAs(pscf);
+		assertThat(pscf2.newPreparedStatementCreator(new Object[] {1})).isNotNull();
+	}
+
+	@Test
+	void sharedInstance() {
+		NamedParameterSqlCache sharedCache = NamedParameterSqlCache.getSharedInstance();
+		assertThat(sharedCache).isSameAs(NamedParameterSqlCache.getSharedInstance());
+		assertThat(sharedCache.getCacheLimit()).isEqualTo(NamedParameterSqlCache.DEFAULT_CACHE_LIMIT);
+	}
+
+	@Test
+	void sharedAcrossTemplates() {
+		String sql = "select * from customer where id = :id";
+		NamedParameterJdbcTemplate template1 = new NamedParameterJdbcTemplate(mock(DataSource.class));
+		NamedParameterJdbcTemplate template2 = new NamedParameterJdbcTemplate(mock(DataSource.class));
+		assertThat(template1.getParsedSql(sql)).isNotSameAs(template2.getParsedSql(sql));
+
+		template1.setSqlCache(this.cache);
+		template2.setSqlCache(this.cache);
+		assertThat(template1.getSqlCache()).isSameAs(this.cache);
+		assertThat(template1.getParsedSql(sql)).isSameAs(template2.getParsedSql(sql));
+
+		template2.setCacheLimit(10);
+		assertThat(template2.getSqlCache()).isNotSameAs(this.cache);
+		assertThat(template2.getCacheLimit()).isEqualTo(10);
+	}
+
+}
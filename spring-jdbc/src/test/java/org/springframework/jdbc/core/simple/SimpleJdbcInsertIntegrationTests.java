@@ -17,7 +17,10 @@
 package org.springframework.jdbc.core.simple;
 
 import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,6 +31,7 @@ import org.springframework.core.io.ClassRelativeResourceLoader;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.jdbc.BadSqlGrammarException;
 import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
@@ -98,6 +102,50 @@ class SimpleJdbcInsertIntegrationTests {
 				insertJaneSmith(insert);
 			}
 
+			@Test
+			void executeBulk() {
+				SimpleJdbcInsert insert = new SimpleJdbcInsert(embeddedDatabase)
+						.withTableName("users")
+						.usingGeneratedKeyColumns("id")
+						.usingBulkInsertHandler(new MultiRowBulkInsertHandler(2));
+
+				long rowsInserted = insert.executeBulk(Stream.of(
+						Map.of("first_name", "Jane", "last_name", "Smith"),
+						new MapSqlParameterSource("first_name", "John").addValue("last_name", "Smith"),
+						new User("Jack", "Jones"),
+						new User("Jill", "Jones"),
+						new User("Joe", "Miller")));
+
+				assertThat(rowsInserted).isEqualTo(5);
+				assertNumRows(6);
+				JdbcClient jdbcClient = JdbcClient.create(embeddedDatabase);
+				assertThat(jdbcClient.sql("select first_name from users where last_name = 'Jones' order by id")
+						.query(String.class).list()).containsExactly("Jack", "Jill");
+			}
+
+			@Test
+			void executeBulkWithCustomBulkInsertHandler() {
+				List<String> insertStrings = new ArrayList<>();
+				SimpleJdbcInsert insert = new SimpleJdbcInsert(embeddedDatabase)
+						.withoutTableColumnMetaDataAccess()
+						.withTableName("users")
+						.usingColumns("first_name", "last_name")
+						.usingBulkInsertHandler((con, insertString, insertTypes, rows) -> {
+							insertStrings.add(insertString);
+							long count = 0;
+							while (rows.hasNext()) {
+								assertThat(rows.next()).hasSize(2);
+								count++;
+							}
+							return count;
+						});
+
+				long rowsInserted = insert.executeBulk(List.of(new User("Jack", "Jones")).iterator());
+				assertThat(rowsInserted).isEqualTo(1);
+				assertThat(insertStrings).containsExactly("INSERT INTO users (first_name, last_name) VALUES(?, ?)");
+				assertNumRows(1);
+			}
+
 			@Override
 			protected String getSchemaScript() {
 				return "users-schema.sql";
@@ -291,6 +339,10 @@ class SimpleJdbcInsertIntegrationTests {
 		}
 	}
 
+	record User(String firstName, String lastName) {
+	}
+
+
 	private abstract static class AbstractSimpleJdbcInsertIntegrationTests {
 
 		protected EmbeddedDatabase embeddedDatabase;
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.transaction.support;
+
+import java.sql.Connection;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+
+/**
+ * Benchmarks for {@link TransactionSynchronizationManager}, running many short
+ * tasks on virtual threads (requires Java 21+) or on a pool of platform threads.
+ * Each benchmark invocation runs all tasks and waits for their completion.
+ */
+@BenchmarkMode(Mode.Throughput)
+public class TransactionSynchronizationManagerBenchmark {
+
+	@Benchmark
+	public long resourceLookup(BenchmarkState state) throws InterruptedException {
+		// Connection lookup and release outside of a transaction, as in DataSourceUtils
+		return state.run(() -> TransactionSynchronizationManager.getResource(state.resourceKey) == null &&
+				!TransactionSynchronizationManager.isSynchronizationActive() &&
+				TransactionSynchronizationManager.getResource(state.resourceKey) == null);
+	}
+
+	@Benchmark
+	public long transaction(BenchmarkState state) throws InterruptedException {
+		// Resource binding and synchronization, as in a DataSourceTransactionManager transaction
+		return state.run(() -> {
+			TransactionSynchronizationManager.bindResource(state.resourceKey, state.resourceValue);
+			TransactionSynchronizationManager.setActualTransactionActive(true);
+			TransactionSynchronizationManager.setCurrentTransactionIsolationLevel(Connection.TRANSACTION_READ_COMMITTED);
+			TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+			TransactionSynchronizationManager.setCurrentTransactionName("transaction");
+			TransactionSynchronizationManager.initSynchronization();
+			try {
+				return (TransactionSynchronizationManager.getResource(state.resourceKey) != null &&
+						TransactionSynchronizationManager.getSynchronizations().isEmpty());
+			}
+			finally {
+				TransactionSynchronizationManager.clear();
+				TransactionSynchronizationManager.unbindResource(state.resourceKey);
+			}
+		});
+	}
+
+
+	@State(Scope.Benchmark)
+	public static class BenchmarkState {
+
+		@Param({"virtual", "platform"})
+		public String threads;
+
+		@Param({"1000", "10000"})
+		public int taskCount;
+
+		final Object resourceKey = new Object();
+
+		final Object resourceValue = new Object();
+
+		private TaskExecutor executor;
+
+		private ExecutorService platformExecutor;
+
+		@Setup(Level.Trial)
+		public void setup() {
+			if ("virtual".equals(this.threads)) {
+				this.executor = new VirtualThreadTaskExecutor();
+			}
+			else {
+				this.platformExecutor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+				this.executor = this.platformExecutor::execute;
+			}
+		}
+
+		@TearDown(Level.Trial)
+		public void tearDown() {
+			if (this.platformExecutor != null) {
+				this.platformExecutor.shutdown();
+			}
+		}
+
+		long run(Task task) throws InterruptedException {
+			CountDownLatch latch = new CountDownLatch(this.taskCount);
+			LongAdder successCount = new LongAdder();
+			for (int i = 0; i < this.taskCount; i++) {
+				this.executor.execute(() -> {
+					try {
+						if (task.run()) {
+							successCount.increment();
+						}
+					}
+					finally {
+						latch.countDown();
+					}
+				});
+			}
+			latch.await();
+			return successCount.sum();
+		}
+	}
+
+
+	@FunctionalInterface
+	interface Task {
+
+		boolean run();
+	}
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.transaction.support;
+
+import java.sql.Connection;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link TransactionSynchronizationManager}.
+ */
+class TransactionSynchronizationManagerTests {
+
+	@AfterEach
+	void cleanUp() {
+		TransactionSynchronizationManager.unbindResourceIfPossible("key");
+		TransactionSynchronizationManager.unbindResourceIfPossible("key2");
+		TransactionSynchronizationManager.clear();
+	}
+
+
+	@Test
+	void bindAndUnbindResources() {
+		TransactionSynchronizationManager.bindResource("key", "value");
+		TransactionSynchronizationManager.bindResource("key2", "value2");
+		assertThat(TransactionSynchronizationManager.getResource("key")).isEqualTo("value");
+		assertThat(TransactionSynchronizationManager.getResourceMap()).hasSize(2);
+		assertThatIllegalStateException().isThrownBy(() ->
+				TransactionSynchronizationManager.bindResource("key", "other"));
+
+		assertThat(TransactionSynchronizationManager.unbindResource("key")).isEqualTo("value");
+		assertThat(TransactionSynchronizationManager.hasResource("key")).isFalse();
+		assertThat(TransactionSynchronizationManager.unbindResource("key2")).isEqualTo("value2");
+		assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+		assertThatIllegalStateException().isThrownBy(() ->
+				TransactionSynchronizationManager.unbindResource("key"));
+	}
+
+	@Test
+	void voidResourceHolderIsRemoved() {
+		ResourceHolderSupport holder = new ResourceHolderSupport() {};
+		TransactionSynchronizationManager.bindResource("key", holder);
+		holder.unbound();
+
+		assertThat(TransactionSynchronizationManager.getResource("key")).isNull();
+		assertThat(TransactionSynchronizationManager.getResourceMap()).isEmpty();
+	}
+
+	@Test
+	void transactionCharacteristics() {
+		TransactionSynchronizationManager.setCurrentTransactionName("tx");
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		TransactionSynchronizationManager.setCurrentTransactionIsolationLevel(Connection.TRANSACTION_SERIALIZABLE);
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+
+		assertThat(TransactionSynchronizationManager.getCurrentTransactionName()).isEqualTo("tx");
+		assertThat(TransactionSynchronizationManager.isCurrentTransactionReadOnly()).isTrue();
+		assertThat(TransactionSynchronizationManager.getCurrentTransactionIsolationLevel())
+				.isEqualTo(Connection.TRANSACTION_SERIALIZABLE);
+		assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isTrue();
+
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+		assertThat(TransactionSynchronizationManager.isCurrentTransactionReadOnly()).isFalse();
+		assertThat(TransactionSynchronizationManager.getCurrentTransactionName()).isEqualTo("tx");
+
+		TransactionSynchronizationManager.setCurrentTransactionName(null);
+		TransactionSynchronizationManager.setCurrentTransactionIsolationLevel(null);
+		TransactionSynchronizationManager.setActualTransactionActive(false);
+		assertThat(TransactionSynchronizationManager.getCurrentTransactionName()).isNull();
+		assertThat(TransactionSynchronizationManager.getCurrentTransactionIsolationLevel()).isNull();
+		assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isFalse();
+	}
+
+	@Test
+	void clearRetainsResources() {
+		TransactionSynchronizationManager.bindResource("key", "value");
+		TransactionSynchronizationManager.initSynchronization();
+		TransactionSynchronizationManager.setCurrentTransactionName("tx");
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+
+		TransactionSynchronizationManager.clear();
+		assertThat(TransactionSynchronizationManager.isSynchronizationActive()).isFalse();
+		assertThat(TransactionSynchronizationManager.getCurrentTransactionName()).isNull();
+		assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isFalse();
+		assertThat(TransactionSynchronizationManager.getResource("key")).isEqualTo("value");
+	}
+
+	@Test
+	void synchronizationLifecycle() {
+		assertThat(TransactionSynchronizationManager.isSynchronizationActive()).isFalse();
+		assertThatIllegalStateException().isThrownBy(TransactionSynchronizationManager::clearSynchronization);
+
+		TransactionSynchronizationManager.initSynchronization();
+		assertThatIllegalStateException().isThrownBy(TransactionSynchronizationManager::initSynchronization);
+		TransactionSynchronization synchronization = new TransactionSynchronization() {};
+		TransactionSynchronizationManager.registerSynchronization(synchronization);
+		assertThat(TransactionSynchronizationManager.getSynchronizations()).containsExactly(synchronization);
+
+		TransactionSynchronizationManager.clearSynchronization();
+		assertThat(TransactionSynchronizationManager.isSynchronizationActive()).isFalse();
+		assertThatIllegalStateException().isThrownBy(TransactionSynchronizationManager::getSynchronizations);
+	}
+
+	@Test
+	void stateIsThreadBound() throws InterruptedException {
+		TransactionSynchronizationManager.bindResource("key", "value");
+		TransactionSynchronizationManager.setActualTransactionActive(true);
+
+		boolean[] visible = new boolean[2];
+		Thread thread = new Thread(() -> {
+			visible[0] = TransactionSynchronizationManager.hasResource("key");
+			visible[1] = TransactionSynchronizationManager.isActualTransactionActive();
+		});
+		thread.start();
+		thread.join();
+
+		assertThat(visible).containsExactly(false, false);
+	}
+
+}
@@ -17,6 +17,8 @@
 package org.springframework.http.codec.json;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.openjdk.jmh.annotations.Benchmark;
@@ -82,6 +84,42 @@ public class Jackson2JsonEncoderBenchmark {
 		return data.jsonEncoder.encodeValue(data.project, data.bufferFactory, data.resolvableType, MediaType.APPLICATION_JSON, Collections.emptyMap());
 	}
 
+	/**
+	 * Benchmark data holding {@link Project} to be serialized by the JSON Encoder
+	 * with a JSON view hint, or as a {@code List<Project>}, both of which need an
+	 * {@code ObjectWriter} configured for the given type and hints.
+	 */
+	@State(Scope.Benchmark)
+	public static class EncodeSingleWithHintsData extends EncodeSingleData {
+
+		Map<String, Object> viewHints;
+
+		ResolvableType listType;
+
+		List<Project> projects;
+
+		@Setup
+		public void setupHints() {
+			this.viewHints = Map.of(Jackson2CodecSupport.JSON_VIEW_HINT, SummaryView.class);
+			this.listType = ResolvableType.forClassWithGenerics(List.class, Project.class);
+			this.projects = List.of(this.project);
+		}
+
+		interface SummaryView {
+		}
+
+	}
+
+	@Benchmark
+	public DataBuffer encodeValueWithView(EncodeSingleWithHintsData data) {
+		return data.jsonEncoder.encodeValue(data.project, data.bufferFactory, data.resolvableType, MediaType.APPLICATION_JSON, data.viewHints);
+	}
+
+	@Benchmark
+	public DataBuffer encodeValueAsList(EncodeSingleWithHintsData data) {
+		return data.jsonEncoder.encodeValue(data.projects, data.bufferFactory, data.listType, MediaType.APPLICATION_JSON, Collections.emptyMap());
+	}
+
 	/**
 	 * Benchmark data holding {@link Project} to be serialized by the JSON Encoder.
 	 * A {@code projectCount} parameter can be used to grow the size of the object graph to serialize.
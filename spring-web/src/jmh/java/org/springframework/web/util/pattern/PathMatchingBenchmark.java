@@ -19,7 +19,9 @@ package org.springframework.web.util.pattern;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -92,6 +94,33 @@ public class PathMatchingBenchmark {
 		}
 	}
 
+	@State(Scope.Benchmark)
+	public static class ManyRoutesPatternParser extends PatternParserData {
+
+		@Setup(Level.Trial)
+		public void registerPatterns() {
+			parseRoutes(RouteGenerator.manyRoutes());
+		}
+	}
+
+	@Benchmark
+	public void matchManyRoutesWithPathPatternParser(ManyRoutesPatternParser data, Blackhole bh) {
+		for (PathContainer path : data.requestPaths) {
+			for (PathPattern pattern : data.patterns) {
+				bh.consume(pattern.matches(path));
+			}
+		}
+	}
+
+	@Benchmark
+	public void matchManyRoutesWithLiteralPrefixIndex(ManyRoutesPatternParser data, Blackhole bh) {
+		for (PathContainer path : data.requestPaths) {
+			for (PathPattern pattern : data.getCandidatePatterns(path)) {
+				bh.consume(pattern.matches(path));
+			}
+		}
+	}
+
 	@State(Scope.Benchmark)
 	public static class AllRoutesAntPathMatcher extends AntPathMatcherData {
 
@@ -149,14 +178,37 @@ public class PathMatchingBenchmark {
 
 		List<PathContainer> requestPaths = new ArrayList<>();
 
+		List<PathPattern> unindexedPatterns = new ArrayList<>();
+
+		Map<String, List<PathPattern>> patternsByFirstSegment = new HashMap<>();
+
 		void parseRoutes(List<Route> routes) {
 			PathPatternParser parser = new PathPatternParser();
 			routes.forEach(route -> {
-				this.patterns.add(parser.parse(route.pattern));
+				PathPattern pattern = parser.parse(route.pattern);
+				this.patterns.add(pattern);
+				List<String> prefix = pattern.getLiteralPrefixSegments();
+				if (prefix.isEmpty()) {
+					this.unindexedPatterns.add(pattern);
+				}
+				else {
+					this.patternsByFirstSegment.computeIfAbsent(prefix.get(0), key -> new ArrayList<>()).add(pattern);
+				}
 				route.matchingPaths.forEach(path -> this.requestPaths.add(PathContainer.parsePath(path)));
 			});
 		}
 
+		List<PathPattern> getCandidatePatterns(PathContainer path) {
+			List<PathPattern> candidates = new ArrayList<>(this.unindexedPatterns);
+			if (path.elements().size() > 1) {
+				List<PathPattern> indexed = this.patternsByFirstSegment.get(path.elements().get(1).value());
+				if (indexed != null) {
+					candidates.addAll(indexed);
+				}
+			}
+			return candidates;
+		}
+
 	}
 
 	static class AntPathMatcherData {
@@ -264,6 +316,18 @@ public class PathMatchingBenchmark {
 			);
 		}
 
+		static List<Route> manyRoutes() {
+			List<Route> routes = new ArrayList<>(allRoutes());
+			for (int i = 0; i < 250; i++) {
+				routes.add(new Route("/service" + i + "/items"));
+				routes.add(new Route("/service" + i + "/items/{id}", "/service" + i + "/items/42"));
+				routes.add(new Route("/service" + i + "/items/{id}/details"));
+				routes.add(new Route("/service" + i + "/orders/{orderId}/lines/{lineId}",
+						"/service" + i + "/orders/1/lines/2"));
+			}
+			return routes;
+		}
+
 		static List<Route> allRoutes() {
 			List<Route> routes = new ArrayList<>();
 			routes.addAll(staticRoutes());
@@ -0,0 +1,571 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.MultiValueMap;
+
+/**
+ * {@code MultiValueMap} implementation for HTTP headers that stores header
+ * names and their values in parallel arrays, in insertion order.
+ *
+ * <p>Header names are matched case-insensitively through a hash computed
+ * in place from the characters of the name, without creating a lower-case
+ * copy of each name nor an entry object per header as a
+ * {@link org.springframework.util.LinkedCaseInsensitiveMap} does. Lookups
+ * are a linear scan over the hashes, which is faster than hashing for the
+ * number of headers typically found in an HTTP message.
+ *
+ * <p>Does <i>not</i> support {@code null} header names.
+ *
+ * @since 7.1
+ */
+final class CaseInsensitiveHeadersMap implements MultiValueMap<String, String>, Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 1797410622187532453L;
+
+	private static final int DEFAULT_CAPACITY = 8;
+
+
+	private String[] names;
+
+	private int[] hashes;
+
+	private List<String>[] values;
+
+	private int size;
+
+	/** Number of structural modifications, for fail-fast iteration. */
+	private transient int modCount;
+
+	private transient @Nullable Set<String> keySet;
+
+	private transient @Nullable Collection<List<String>> valuesCollection;
+
+	private transient @Nullable Set<Entry<String, List<String>>> entrySet;
+
+
+	/**
+	 * Create a new, empty {@code CaseInsensitiveHeadersMap} with a default
+	 * initial capacity.
+	 */
+	CaseInsensitiveHeadersMap() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Create a new, empty {@code CaseInsensitiveHeadersMap} that can hold
+	 * the given number of headers without growing.
+	 * @param initialCapacity the initial number of headers to hold
+	 */
+	@SuppressWarnings("unchecked")
+	CaseInsensitiveHeadersMap(int initialCapacity) {
+		this.names = new String[initialCapacity];
+		this.hashes = new int[initialCapacity];
+		this.values = new List[initialCapacity];
+	}
+
+
+	// MultiValueMap implementation
+
+	@Override
+	public @Nullable String getFirst(String key) {
+		List<String> values = get(key);
+		return (!CollectionUtils.isEmpty(values) ? values.get(0) : null);
+	}
+
+	@Override
+	public void add(String key, @Nullable String value) {
+		int index = indexOf(key);
+		if (index < 0) {
+			index = append(key, new ArrayList<>(1));
+		}
+		this.values[index].add(value);
+	}
+
+	@Override
+	public void addAll(String key, List<? extends String> values) {
+		int index = indexOf(key);
+		if (index < 0) {
+			index = append(key, new ArrayList<>(values.size()));
+		}
+		this.values[index].addAll(values);
+	}
+
+	@Override
+	public void addAll(MultiValueMap<String, String> values) {
+		values.forEach(this::addAll);
+	}
+
+	@Override
+	public void set(String key, @Nullable String value) {
+		List<String> values = new ArrayList<>(1);
+		values.add(value);
+		put(key, values);
+	}
+
+	@Override
+	public void setAll(Map<String, String> values) {
+		values.forEach(this::set);
+	}
+
+	@Override
+	public Map<String, String> toSingleValueMap() {
+		Map<String, String> singleValueMap = CollectionUtils.newLinkedHashMap(this.size);
+		for (int i = 0; i < this.size; i++) {
+			List<String> values = this.values[i];
+			if (!CollectionUtils.isEmpty(values)) {
+				singleValueMap.put(this.names[i], values.get(0));
+			}
+		}
+		return singleValueMap;
+	}
+
+
+	// Map implementation
+
+	@Override
+	public int size() {
+		return this.size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return (this.size == 0);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return (key instanceof String name && indexOf(name) >= 0);
+	}
+
+	@Override
+	public boolean containsValue(Object value) {
+		for (int i = 0; i < this.size; i++) {
+			if (Objects.equals(this.values[i], value)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public @Nullable List<String> get(Object key) {
+		if (key instanceof String name) {
+			int index = indexOf(name);
+			if (index >= 0) {
+				return this.values[index];
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public @Nullable List<String> put(String key, List<String> value) {
+		int index = indexOf(key);
+		if (index < 0) {
+			append(key, value);
+			return null;
+		}
+		List<String> oldValue = this.values[index];
+		this.names[index] = key;
+		this.values[index] = value;
+		return oldValue;
+	}
+
+	@Override
+	public void putAll(Map<? extends String, ? extends List<String>> map) {
+		map.forEach(this::put);
+	}
+
+	@Override
+	public @Nullable List<String> remove(Object key) {
+		if (key instanceof String name) {
+			int index = indexOf(name);
+			if (index >= 0) {
+				List<String> oldValue = this.values[index];
+				removeAt(index);
+				return oldValue;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public void clear() {
+		Arrays.fill(this.names, 0, this.size, null);
+		Arrays.fill(this.values, 0, this.size, null);
+		this.size = 0;
+		this.modCount++;
+	}
+
+	@Override
+	public void forEach(BiConsumer<? super String, ? super List<String>> action) {
+		int expectedModCount = this.modCount;
+		for (int i = 0; i < this.size && this.modCount == expectedModCount; i++) {
+			action.accept(this.names[i], this.values[i]);
+		}
+		if (this.modCount != expectedModCount) {
+			throw new ConcurrentModificationException();
+		}
+	}
+
+	@Override
+	public Set<String> keySet() {
+		Set<String> keySet = this.keySet;
+		if (keySet == null) {
+			keySet = new KeySet();
+			this.keySet = keySet;
+		}
+		return keySet;
+	}
+
+	@Override
+	public Collection<List<String>> values() {
+		Collection<List<String>> values = this.valuesCollection;
+		if (values == null) {
+			values = new Values();
+			this.valuesCollection = values;
+		}
+		return values;
+	}
+
+	@Override
+	public Set<Entry<String, List<String>>> entrySet() {
+		Set<Entry<String, List<String>>> entrySet = this.entrySet;
+		if (entrySet == null) {
+			entrySet = new EntrySet();
+			this.entrySet = entrySet;
+		}
+		return entrySet;
+	}
+
+	@Override
+	public boolean equals(@Nullable Object other) {
+		if (this == other) {
+			return true;
+		}
+		if (!(other instanceof Map<?, ?> that) || that.size() != this.size) {
+			return false;
+		}
+		for (int i = 0; i < this.size; i++) {
+			if (!this.values[i].equals(that.get(this.names[i]))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int hashCode = 0;
+		for (int i = 0; i < this.size; i++) {
+			hashCode += this.names[i].hashCode() ^ Objects.hashCode(this.values[i]);
+		}
+		return hashCode;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder("{");
+		for (int i = 0; i < this.size; i++) {
+			if (i > 0) {
+				builder.append(", ");
+			}
+			builder.append(this.names[i]).append('=').append(this.values[i]);
+		}
+		return builder.append('}').toString();
+	}
+
+
+	private int indexOf(String name) {
+		int hash = hash(name);
+		int[] hashes = this.hashes;
+		String[] names = this.names;
+		for (int i = 0; i < this.size; i++) {
+			if (hashes[i] == hash && names[i].equalsIgnoreCase(name)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private int append(String name, List<String> values) {
+		if (this.size == this.names.length) {
+			int capacity = Math.max(DEFAULT_CAPACITY, this.size * 2);
+			this.names = Arrays.copyOf(this.names, capacity);
+			this.hashes = Arrays.copyOf(this.hashes, capacity);
+			this.values = Arrays.copyOf(this.values, capacity);
+		}
+		int index = this.size++;
+		this.names[index] = name;
+		this.hashes[index] = hash(name);
+		this.values[index] = values;
+		this.modCount++;
+		return index;
+	}
+
+	private void removeAt(int index) {
+		int moved = this.size - index - 1;
+		if (moved > 0) {
+			System.arraycopy(this.names, index + 1, this.names, index, moved);
+			System.arraycopy(this.hashes, index + 1, this.hashes, index, moved);
+			System.arraycopy(this.values, index + 1, this.values, index, moved);
+		}
+		this.size--;
+		this.names[this.size] = null;
+		this.values[this.size] = null;
+		this.modCount++;
+	}
+
+	/**
+	 * Compute a hash of the given name that is the same for all names that
+	 * are {@linkplain String#equalsIgnoreCase(String) equal ignoring case}.
+	 */
+	private static int hash(String name) {
+		int hash = 0;
+		for (int i = 0; i < name.length(); i++) {
+			char c = name.charAt(i);
+			if (c < 128) {
+				if (c >= 'A' && c <= 'Z') {
+					c += ('a' - 'A');
+				}
+			}
+			else {
+				c = Character.toLowerCase(Character.toUpperCase(c));
+			}
+			hash = 31 * hash + c;
+		}
+		return hash;
+	}
+
+
+	/**
+	 * Base iterator over the headers in insertion order, supporting removal
+	 * and failing fast on concurrent structural modifications of the map.
+	 */
+	private abstract class HeadersIterator<T> implements Iterator<T> {
+
+		private int cursor;
+
+		private int last = -1;
+
+		private int expectedModCount = modCount;
+
+		@Override
+		public boolean hasNext() {
+			return (this.cursor < size);
+		}
+
+		@Override
+		public T next() {
+			checkForComodification();
+			if (this.cursor >= size) {
+				throw new NoSuchElementException();
+			}
+			this.last = this.cursor++;
+			return elementAt(this.last);
+		}
+
+		@Override
+		public void remove() {
+			if (this.last < 0) {
+				throw new IllegalStateException("No element to remove");
+			}
+			checkForComodification();
+			removeAt(this.last);
+			this.cursor = this.last;
+			this.last = -1;
+			this.expectedModCount = modCount;
+		}
+
+		private void checkForComodification() {
+			if (modCount != this.expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+
+		abstract T elementAt(int index);
+	}
+
+
+	private final class KeySet extends AbstractSet<String> {
+
+		@Override
+		public Iterator<String> iterator() {
+			return new HeadersIterator<>() {
+				@Override
+				String elementAt(int index) {
+					return names[index];
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return containsKey(o);
+		}
+
+		@Override
+		public boolean remove(Object o) {
+			if (o instanceof String name) {
+				int index = indexOf(name);
+				if (index >= 0) {
+					removeAt(index);
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public void clear() {
+			CaseInsensitiveHeadersMap.this.clear();
+		}
+	}
+
+
+	private final class Values extends AbstractCollection<List<String>> {
+
+		@Override
+		public Iterator<List<String>> iterator() {
+			return new HeadersIterator<>() {
+				@Override
+				List<String> elementAt(int index) {
+					return values[index];
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return containsValue(o);
+		}
+
+		@Override
+		public void clear() {
+			CaseInsensitiveHeadersMap.this.clear();
+		}
+	}
+
+
+	private final class EntrySet extends AbstractSet<Entry<String, List<String>>> {
+
+		@Override
+		public Iterator<Entry<String, List<String>>> iterator() {
+			return new HeadersIterator<>() {
+				@Override
+				Entry<String, List<String>> elementAt(int index) {
+					return new HeaderEntry(names[index], values[index]);
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return size;
+		}
+
+		@Override
+		public void clear() {
+			CaseInsensitiveHeadersMap.this.clear();
+		}
+	}
+
+
+	/**
+	 * Entry for a header, writing values through to the map.
+	 */
+	private final class HeaderEntry implements Entry<String, List<String>> {
+
+		private final String name;
+
+		private List<String> values;
+
+		HeaderEntry(String name, List<String> values) {
+			this.name = name;
+			this.values = values;
+		}
+
+		@Override
+		public String getKey() {
+			return this.name;
+		}
+
+		@Override
+		public List<String> getValue() {
+			return this.values;
+		}
+
+		@Override
+		public List<String> setValue(List<String> value) {
+			List<String> oldValue = this.values;
+			int index = indexOf(this.name);
+			if (index >= 0) {
+				CaseInsensitiveHeadersMap.this.values[index] = value;
+			}
+			this.values = value;
+			return oldValue;
+		}
+
+		@Override
+		public boolean equals(@Nullable Object other) {
+			return (this == other || (other instanceof Map.Entry<?, ?> that &&
+					this.name.equals(that.getKey()) && Objects.equals(this.values, that.getValue())));
+		}
+
+		@Override
+		public int hashCode() {
+			return this.name.hashCode() ^ Objects.hashCode(this.values);
+		}
+
+		@Override
+		public String toString() {
+			return this.name + "=" + this.values;
+		}
+	}
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Sub-interface of {@link HttpOutputMessage} that can transfer a file region
+ * as the body of the message without copying it through the application,
+ * typically through a zero-copy mechanism of the underlying server.
+ *
+ * <p>This is the blocking counterpart of {@link ZeroCopyHttpOutputMessage}.
+ *
+ * @since 7.1
+ */
+public interface FileTransferHttpOutputMessage extends HttpOutputMessage {
+
+	/**
+	 * Transfer the given region of a file as the body of this message, if
+	 * supported in the current environment. The transfer may only take place
+	 * once the exchange completes.
+	 * @param file the file to transfer
+	 * @param position the position within the file from which the transfer is to begin
+	 * @param count the number of bytes to be transferred
+	 * @return {@code true} if the file region is transferred as the body;
+	 * {@code false} if not supported for this message, in which case nothing
+	 * has been written and the body needs to be written through
+	 * {@link #getBody()} instead
+	 * @throws IOException in case of I/O errors
+	 */
+	boolean transferFile(Path file, long position, long count) throws IOException;
+
+}
@@ -448,7 +448,7 @@ public class HttpHeaders implements Serializable {
 	 * case-insensitive map.
 	 */
 	public HttpHeaders() {
-		this(CollectionUtils.toMultiValueMap(new LinkedCaseInsensitiveMap<>(8, Locale.ROOT)));
+		this(new CaseInsensitiveHeadersMap());
 	}
 
 	/**
@@ -483,7 +483,7 @@ public class HttpHeaders implements Serializable {
 	public HttpHeaders(HttpHeaders httpHeaders) {
 		Assert.notNull(httpHeaders, "HttpHeaders must not be null");
 		this.headers = (httpHeaders == EMPTY ?
-				CollectionUtils.toMultiValueMap(new LinkedCaseInsensitiveMap<>(8, Locale.ENGLISH)) :
+				new CaseInsensitiveHeadersMap() :
 				unwrap(httpHeaders));
 	}
 
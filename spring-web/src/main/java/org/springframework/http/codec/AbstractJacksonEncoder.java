@@ -56,6 +56,7 @@ import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.ConcurrentLruCache;
 import org.springframework.util.MimeType;
 
 /**
@@ -86,6 +87,9 @@ public abstract class AbstractJacksonEncoder<T extends ObjectMapper> extends Jac
 
 	private final List<MediaType> streamingMediaTypes = new ArrayList<>(1);
 
+	private final ConcurrentLruCache<WriterKey, ObjectWriter> writerCache = new ConcurrentLruCache<>(256,
+			key -> createObjectWriter(key.mapper(), key.valueType(), key.jsonView()));
+
 
 	/**
 	 * Construct a new instance with the provided {@link MapperBuilder builder}
@@ -319,21 +323,30 @@ public abstract class AbstractJacksonEncoder<T extends ObjectMapper> extends Jac
 			T mapper, ResolvableType valueType, @Nullable MimeType mimeType,
 			@Nullable Map<String, Object> hints) {
 
-		JavaType javaType = getJavaType(valueType.getType(), null);
 		Class<?> jsonView = null;
 		FilterProvider filters = null;
 		if (hints != null) {
 			jsonView = (Class<?>) hints.get(JacksonCodecSupport.JSON_VIEW_HINT);
 			filters = (FilterProvider) hints.get(FILTER_PROVIDER_HINT);
 		}
-		ObjectWriter writer = (jsonView != null ? mapper.writerWithView(jsonView) : mapper.writer());
+		ObjectWriter writer;
 		if (filters != null) {
-			writer = writer.with(filters);
+			// Filter providers are typically created per call: not worth caching
+			writer = createObjectWriter(mapper, valueType, jsonView).with(filters);
+		}
+		else {
+			writer = this.writerCache.get(new WriterKey(mapper, valueType, jsonView));
 		}
+		return customizeWriter(writer, mimeType, valueType, hints);
+	}
+
+	private ObjectWriter createObjectWriter(ObjectMapper mapper, ResolvableType valueType, @Nullable Class<?> jsonView) {
+		JavaType javaType = getJavaType(valueType.getType(), null);
+		ObjectWriter writer = (jsonView != null ? mapper.writerWithView(jsonView) : mapper.writer());
 		if (javaType.isContainerType()) {
 			writer = writer.forType(javaType);
 		}
-		return customizeWriter(writer, mimeType, valueType, hints);
+		return writer;
 	}
 
 	/**
@@ -445,4 +458,12 @@ public abstract class AbstractJacksonEncoder<T extends ObjectMapper> extends Jac
 		}
 	}
 
+
+	/**
+	 * Cache key for {@link ObjectWriter} instances, prior to
+	 * {@link #customizeWriter customization}.
+	 */
+	private record WriterKey(ObjectMapper mapper, ResolvableType valueType, @Nullable Class<?> jsonView) {
+	}
+
 }
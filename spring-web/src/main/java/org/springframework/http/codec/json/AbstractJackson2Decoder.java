@@ -52,6 +52,7 @@ import org.springframework.http.codec.HttpMessageDecoder;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
 import org.springframework.util.MimeType;
 
 /**
@@ -70,6 +71,9 @@ public abstract class AbstractJackson2Decoder extends Jackson2CodecSupport imple
 
 	private int maxInMemorySize = 256 * 1024;
 
+	private final ConcurrentLruCache<ReaderKey, ObjectReader> readerCache = new ConcurrentLruCache<>(256,
+			key -> createObjectReader(key.mapper(), key.elementType(), key.contextClass(), key.jsonView()));
+
 
 	/**
 	 * Constructor with a Jackson {@link ObjectMapper} to use.
@@ -234,14 +238,19 @@ public abstract class AbstractJackson2Decoder extends Jackson2CodecSupport imple
 		if (contextClass == null && hints != null) {
 			contextClass = getContextClass((ResolvableType) hints.get(ACTUAL_TYPE_HINT));
 		}
-		JavaType javaType = getJavaType(elementType.getType(), contextClass);
 		Class<?> jsonView = (hints != null ? (Class<?>) hints.get(Jackson2CodecSupport.JSON_VIEW_HINT) : null);
 
-		ObjectReader objectReader = (jsonView != null ?
+		ObjectReader objectReader = this.readerCache.get(new ReaderKey(mapper, elementType, contextClass, jsonView));
+		return customizeReader(objectReader, elementType, hints);
+	}
+
+	private ObjectReader createObjectReader(ObjectMapper mapper, ResolvableType elementType,
+			@Nullable Class<?> contextClass, @Nullable Class<?> jsonView) {
+
+		JavaType javaType = getJavaType(elementType.getType(), contextClass);
+		return (jsonView != null ?
 				mapper.readerWithView(jsonView).forType(javaType) :
 				mapper.readerFor(javaType));
-
-		return customizeReader(objectReader, elementType, hints);
 	}
 
 	/**
@@ -314,4 +323,13 @@ public abstract class AbstractJackson2Decoder extends Jackson2CodecSupport imple
 		return parameter.getParameterAnnotation(annotType);
 	}
 
+
+	/**
+	 * Cache key for {@link ObjectReader} instances, prior to
+	 * {@link #customizeReader customization}.
+	 */
+	private record ReaderKey(ObjectMapper mapper, ResolvableType elementType,
+			@Nullable Class<?> contextClass, @Nullable Class<?> jsonView) {
+	}
+
 }
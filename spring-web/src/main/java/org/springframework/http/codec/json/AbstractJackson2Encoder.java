@@ -58,6 +58,7 @@ import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.ConcurrentLruCache;
 import org.springframework.util.MimeType;
 
 /**
@@ -91,6 +92,9 @@ public abstract class AbstractJackson2Encoder extends Jackson2CodecSupport imple
 
 	private final List<MediaType> streamingMediaTypes = new ArrayList<>(1);
 
+	private final ConcurrentLruCache<WriterKey, ObjectWriter> writerCache = new ConcurrentLruCache<>(256,
+			key -> createObjectWriter(key.mapper(), key.valueType(), key.jsonView()));
+
 
 	/**
 	 * Constructor with a Jackson {@link ObjectMapper} to use.
@@ -349,15 +353,20 @@ public abstract class AbstractJackson2Encoder extends Jackson2CodecSupport imple
 			ObjectMapper mapper, ResolvableType valueType, @Nullable MimeType mimeType,
 			@Nullable Class<?> jsonView, @Nullable Map<String, Object> hints) {
 
-		JavaType javaType = getJavaType(valueType.getType(), null);
 		if (jsonView == null && hints != null) {
 			jsonView = (Class<?>) hints.get(Jackson2CodecSupport.JSON_VIEW_HINT);
 		}
+		ObjectWriter writer = this.writerCache.get(new WriterKey(mapper, valueType, jsonView));
+		return customizeWriter(writer, mimeType, valueType, hints);
+	}
+
+	private ObjectWriter createObjectWriter(ObjectMapper mapper, ResolvableType valueType, @Nullable Class<?> jsonView) {
+		JavaType javaType = getJavaType(valueType.getType(), null);
 		ObjectWriter writer = (jsonView != null ? mapper.writerWithView(jsonView) : mapper.writer());
 		if (javaType.isContainerType()) {
 			writer = writer.forType(javaType);
 		}
-		return customizeWriter(writer, mimeType, valueType, hints);
+		return writer;
 	}
 
 	/**
@@ -471,4 +480,12 @@ public abstract class AbstractJackson2Encoder extends Jackson2CodecSupport imple
 		}
 	}
 
+
+	/**
+	 * Cache key for {@link ObjectWriter} instances, prior to
+	 * {@link #customizeWriter customization}.
+	 */
+	private record WriterKey(ObjectMapper mapper, ResolvableType valueType, @Nullable Class<?> jsonView) {
+	}
+
 }
@@ -20,6 +20,8 @@ import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -73,6 +75,10 @@ public class DefaultPartHttpMessageReader extends LoggingCodecSupport implements
 
 	private Charset headersCharset = StandardCharsets.UTF_8;
 
+	private boolean asynchronousFileWrites;
+
+	private @Nullable String digestAlgorithm;
+
 
 	/**
 	 * Configure the maximum amount of memory that is allowed per headers section of each part.
@@ -156,6 +162,53 @@ public class DefaultPartHttpMessageReader extends LoggingCodecSupport implements
 				this.blockingOperationScheduler : Schedulers.boundedElastic());
 	}
 
+	/**
+	 * Specify whether parts larger than {@link #setMaxInMemorySize(int)
+	 * maxInMemorySize} are to be written to their temporary file through an
+	 * {@link java.nio.channels.AsynchronousFileChannel}, rather than with
+	 * blocking writes on the {@link #setBlockingOperationScheduler(Scheduler)
+	 * blockingOperationScheduler}. Each buffer is written as it is received,
+	 * and the next one is only requested once the write has completed.
+	 * <p>The temporary file is still created on the
+	 * {@code blockingOperationScheduler}.
+	 * <p>By default this is set to {@code false}.
+	 * @since 7.1
+	 */
+	public void setAsynchronousFileWrites(boolean asynchronousFileWrites) {
+		this.asynchronousFileWrites = asynchronousFileWrites;
+	}
+
+	/**
+	 * Set the algorithm of a {@link MessageDigest} to compute over the content
+	 * of each file part while it is received, for example {@code "SHA-256"}.
+	 * The digest is then available through {@link FilePart#digest()}, without
+	 * reading the content a second time.
+	 * <p>The digest is only computed for parts with a filename. For parts
+	 * stored in a temporary file, it is computed as part of each write on the
+	 * {@linkplain #setBlockingOperationScheduler blocking operation scheduler},
+	 * in parallel to the file channel with {@linkplain #setAsynchronousFileWrites
+	 * asynchronous file writes}. For parts kept in memory, it is computed when
+	 * the part is complete, on the thread that receives the request body, over
+	 * at most {@linkplain #setMaxInMemorySize maxInMemorySize} bytes.
+	 * <p>By default this is not set, and no digest is computed.
+	 * @param digestAlgorithm the name of the digest algorithm, or {@code null}
+	 * to not compute a digest
+	 * @throws IllegalArgumentException if the algorithm is not available
+	 * @since 7.1
+	 * @see MessageDigest#getInstance(String)
+	 */
+	public void setDigestAlgorithm(@Nullable String digestAlgorithm) {
+		if (digestAlgorithm != null) {
+			try {
+				MessageDigest.getInstance(digestAlgorithm);
+			}
+			catch (NoSuchAlgorithmException ex) {
+				throw new IllegalArgumentException("Unsupported digest algorithm: " + digestAlgorithm, ex);
+			}
+		}
+		this.digestAlgorithm = digestAlgorithm;
+	}
+
 	/**
 	 * Set the character set used to decode headers.
 	 * <p>Defaults to UTF-8 as per RFC 7578.
@@ -213,7 +266,8 @@ public class DefaultPartHttpMessageReader extends LoggingCodecSupport implements
 						else {
 							return PartGenerator.createPart(partsTokens,
 									this.maxInMemorySize, this.maxDiskUsagePerPart,
-									this.fileStorage.directory(), getBlockingOperationScheduler());
+									this.fileStorage.directory(), getBlockingOperationScheduler(),
+									this.asynchronousFileWrites, this.digestAlgorithm);
 						}
 					});
 		});
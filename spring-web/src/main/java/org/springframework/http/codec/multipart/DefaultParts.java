@@ -22,6 +22,7 @@ import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.util.concurrent.Callable;
 
+import org.jspecify.annotations.Nullable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
@@ -61,13 +62,14 @@ abstract class DefaultParts {
 	 * otherwise.
 	 * @param headers the part headers
 	 * @param dataBuffers the content of the part
+	 * @param digest the digest of the content, if computed (see {@link FilePart#digest()})
 	 * @return {@link Part} or {@link FilePart}, depending on {@link HttpHeaders#getContentDisposition()}
 	 */
-	public static Part part(HttpHeaders headers, Flux<DataBuffer> dataBuffers) {
+	public static Part part(HttpHeaders headers, Flux<DataBuffer> dataBuffers, byte @Nullable [] digest) {
 		Assert.notNull(headers, "Headers must not be null");
 		Assert.notNull(dataBuffers, "DataBuffers must not be null");
 
-		return partInternal(headers, new FluxContent(dataBuffers));
+		return partInternal(headers, new FluxContent(dataBuffers), digest);
 	}
 
 	/**
@@ -77,21 +79,22 @@ abstract class DefaultParts {
 	 * @param headers the part headers
 	 * @param file  the file
 	 * @param scheduler the scheduler used for reading the file
+	 * @param digest the digest of the content, if computed (see {@link FilePart#digest()})
 	 * @return {@link Part} or {@link FilePart}, depending on {@link HttpHeaders#getContentDisposition()}
 	 */
-	public static Part part(HttpHeaders headers, Path file, Scheduler scheduler) {
+	public static Part part(HttpHeaders headers, Path file, Scheduler scheduler, byte @Nullable [] digest) {
 		Assert.notNull(headers, "Headers must not be null");
 		Assert.notNull(file, "File must not be null");
 		Assert.notNull(scheduler, "Scheduler must not be null");
 
-		return partInternal(headers, new FileContent(file, scheduler));
+		return partInternal(headers, new FileContent(file, scheduler), digest);
 	}
 
 
-	private static Part partInternal(HttpHeaders headers, Content content) {
+	private static Part partInternal(HttpHeaders headers, Content content, byte @Nullable [] digest) {
 		String filename = headers.getContentDisposition().getFilename();
 		if (filename != null) {
-			return new DefaultFilePart(headers, content);
+			return new DefaultFilePart(headers, content, digest);
 		}
 		else {
 			return new DefaultPart(headers, content);
@@ -203,8 +206,11 @@ abstract class DefaultParts {
 	 */
 	private static final class DefaultFilePart extends DefaultPart implements FilePart {
 
-		public DefaultFilePart(HttpHeaders headers, Content content) {
+		private final byte @Nullable [] digest;
+
+		public DefaultFilePart(HttpHeaders headers, Content content, byte @Nullable [] digest) {
 			super(headers, content);
+			this.digest = digest;
 		}
 
 		@Override
@@ -219,6 +225,11 @@ abstract class DefaultParts {
 			return this.content.transferTo(dest);
 		}
 
+		@Override
+		public byte @Nullable [] digest() {
+			return (this.digest != null ? this.digest.clone() : null);
+		}
+
 		@Override
 		public String toString() {
 			ContentDisposition contentDisposition = headers().getContentDisposition();
@@ -19,6 +19,7 @@ package org.springframework.http.codec.multipart;
 import java.io.File;
 import java.nio.file.Path;
 
+import org.jspecify.annotations.Nullable;
 import reactor.core.publisher.Mono;
 
 /**
@@ -72,4 +73,16 @@ public interface FilePart extends Part {
 	 */
 	Mono<Void> transferTo(Path dest);
 
+	/**
+	 * Return the digest of the file content, computed while the part was
+	 * received, if configured through
+	 * {@link DefaultPartHttpMessageReader#setDigestAlgorithm(String)}.
+	 * <p>The default implementation returns {@code null}.
+	 * @return the digest of the file content, or {@code null} if not computed
+	 * @since 7.1
+	 */
+	default byte @Nullable [] digest() {
+		return null;
+	}
+
 }
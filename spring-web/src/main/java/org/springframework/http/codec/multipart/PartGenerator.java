@@ -19,22 +19,29 @@ package org.springframework.http.codec.multipart;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.Channel;
 import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
 import org.reactivestreams.Subscription;
 import reactor.core.publisher.BaseSubscriber;
 import reactor.core.publisher.Flux;
@@ -77,26 +84,39 @@ final class PartGenerator extends BaseSubscriber<MultipartParser.Token> {
 
 	private final Scheduler blockingOperationScheduler;
 
+	private final boolean asynchronousFileWrites;
+
+	private final @Nullable String digestAlgorithm;
+
+	private volatile @Nullable MessageDigest digest;
+
 
 	private PartGenerator(MonoSink<Part> sink, int maxInMemorySize, long maxDiskUsagePerPart,
-			Mono<Path> fileStorageDirectory, Scheduler blockingOperationScheduler) {
+			Mono<Path> fileStorageDirectory, Scheduler blockingOperationScheduler,
+			boolean asynchronousFileWrites, @Nullable String digestAlgorithm) {
 
 		this.sink = sink;
 		this.maxInMemorySize = maxInMemorySize;
 		this.maxDiskUsagePerPart = maxDiskUsagePerPart;
 		this.fileStorageDirectory = fileStorageDirectory;
 		this.blockingOperationScheduler = blockingOperationScheduler;
+		this.asynchronousFileWrites = asynchronousFileWrites;
+		this.digestAlgorithm = digestAlgorithm;
 	}
 
 	/**
-	 * Creates parts from a given stream of tokens.
+	 * Creates parts from a given stream of tokens, optionally writing file
+	 * contents through an {@link AsynchronousFileChannel} rather than on the
+	 * given scheduler, and computing a digest of file parts as their contents
+	 * are received.
 	 */
 	public static Mono<Part> createPart(Flux<MultipartParser.Token> tokens, int maxInMemorySize,
-			long maxDiskUsagePerPart, Mono<Path> fileStorageDirectory, Scheduler blockingOperationScheduler) {
+			long maxDiskUsagePerPart, Mono<Path> fileStorageDirectory, Scheduler blockingOperationScheduler,
+			boolean asynchronousFileWrites, @Nullable String digestAlgorithm) {
 
 		return Mono.create(sink -> {
 			PartGenerator generator = new PartGenerator(sink, maxInMemorySize, maxDiskUsagePerPart,
-					fileStorageDirectory, blockingOperationScheduler);
+					fileStorageDirectory, blockingOperationScheduler, asynchronousFileWrites, digestAlgorithm);
 
 			sink.onCancel(generator);
 			sink.onRequest(l -> generator.requestToken());
@@ -133,6 +153,9 @@ final class PartGenerator extends BaseSubscriber<MultipartParser.Token> {
 			requestToken();
 		}
 		else {
+			if (this.digestAlgorithm != null && headers.getContentDisposition().getFilename() != null) {
+				this.digest = createDigest(this.digestAlgorithm);
+			}
 			changeState(currentState, new InMemoryState(headers));
 			requestToken();
 		}
@@ -194,6 +217,81 @@ final class PartGenerator extends BaseSubscriber<MultipartParser.Token> {
 		this.sink.error(t);
 	}
 
+	private static MessageDigest createDigest(String algorithm) {
+		try {
+			return MessageDigest.getInstance(algorithm);
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException("Could not find MessageDigest with algorithm \"" + algorithm + "\"", ex);
+		}
+	}
+
+	boolean hasDigest() {
+		return (this.digest != null);
+	}
+
+	void updateDigest(DataBuffer dataBuffer) {
+		MessageDigest digest = this.digest;
+		if (digest != null) {
+			try (DataBuffer.ByteBufferIterator iterator = dataBuffer.readableByteBuffers()) {
+				while (iterator.hasNext()) {
+					digest.update(iterator.next());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Write the given buffer to the channel at the given position, passing it
+	 * to the digester on the scheduler in the meantime, if any. The buffer is
+	 * released exactly once, after both the write and the digester are done
+	 * with it, whether they completed, failed, or were cancelled.
+	 */
+	static Mono<Void> writeAndRelease(DataBuffer dataBuffer, AsynchronousFileChannel channel, long position,
+			@Nullable Consumer<DataBuffer> digester, Scheduler scheduler) {
+
+		AtomicInteger pending = new AtomicInteger(digester != null ? 2 : 1);
+		Runnable done = () -> {
+			if (pending.decrementAndGet() == 0) {
+				DataBufferUtils.release(dataBuffer);
+			}
+		};
+		// The channel hands back the buffer once written or failed, or discards it after a cancel
+		Mono<Void> result = DataBufferUtils.write(Mono.just(dataBuffer), channel, position)
+				.doOnNext(buffer -> done.run())
+				.doOnDiscard(DataBuffer.class, buffer -> done.run())
+				.then();
+		return (digester != null ? Mono.when(result, digestAsynchronously(dataBuffer, digester, scheduler, done)) : result);
+	}
+
+	private static Mono<Void> digestAsynchronously(DataBuffer dataBuffer, Consumer<DataBuffer> digester, Scheduler scheduler,
+			Runnable done) {
+
+		// A cancelled digest may still be reading the buffer, so whichever side claims it releases
+		AtomicBoolean claimed = new AtomicBoolean();
+		return Mono.<Void>fromRunnable(() -> {
+					if (claimed.compareAndSet(false, true)) {
+						try {
+							digester.accept(dataBuffer);
+						}
+						finally {
+							done.run();
+						}
+					}
+				})
+				.subscribeOn(scheduler)
+				.doOnCancel(() -> {
+					if (claimed.compareAndSet(false, true)) {
+						done.run();
+					}
+				});
+	}
+
+	byte @Nullable [] digest() {
+		MessageDigest digest = this.digest;
+		return (digest != null ? digest.digest() : null);
+	}
+
 	void requestToken() {
 		if (upstream() != null &&
 				this.state.get().canRequest() &&
@@ -408,8 +506,10 @@ final class PartGenerator extends BaseSubscriber<MultipartParser.Token> {
 				DataBufferUtils.release(buffer);
 			}
 			this.content.clear();
-			Flux<DataBuffer> content = Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(bytes));
-			emitPart(DefaultParts.part(this.headers, content));
+			DataBuffer buffer = DefaultDataBufferFactory.sharedInstance.wrap(bytes);
+			// Limited to maxInMemorySize, other parts are digested while writing to a file
+			updateDigest(buffer);
+			emitPart(DefaultParts.part(this.headers, Flux.just(buffer), digest()));
 		}
 
 		@Override
@@ -475,7 +575,9 @@ final class PartGenerator extends BaseSubscriber<MultipartParser.Token> {
 				if (logger.isTraceEnabled()) {
 					logger.trace("Storing multipart data in file " + tempFile);
 				}
-				WritableByteChannel channel = Files.newByteChannel(tempFile, StandardOpenOption.WRITE);
+				Channel channel = (PartGenerator.this.asynchronousFileWrites ?
+						AsynchronousFileChannel.open(tempFile, StandardOpenOption.WRITE) :
+						Files.newByteChannel(tempFile, StandardOpenOption.WRITE));
 				return new WritingFileState(this, tempFile, channel);
 			}
 			catch (IOException ex) {
@@ -525,10 +627,12 @@ final class PartGenerator extends BaseSubscriber<MultipartParser.Token> {
 
 		private final Path file;
 
-		private final WritableByteChannel channel;
+		private final Channel channel;
 
 		private final AtomicLong byteCount;
 
+		private final AtomicLong position;
+
 		private volatile boolean closeOnDispose = true;
 
 		private volatile boolean deleteOnDispose = true;
@@ -539,6 +643,7 @@ final class PartGenerator extends BaseSubscriber<MultipartParser.Token> {
 			this.file = state.file;
 			this.channel = state.channel;
 			this.byteCount = state.byteCount;
+			this.position = state.position;
 		}
 
 		@Override
@@ -571,7 +676,7 @@ final class PartGenerator extends BaseSubscriber<MultipartParser.Token> {
 		public void onComplete() {
 			MultipartUtils.closeChannel(this.channel);
 			this.deleteOnDispose = false;
-			emitPart(DefaultParts.part(this.headers, this.file, PartGenerator.this.blockingOperationScheduler));
+			emitPart(DefaultParts.part(this.headers, this.file, PartGenerator.this.blockingOperationScheduler, digest()));
 		}
 
 		@Override
@@ -597,20 +702,23 @@ final class PartGenerator extends BaseSubscriber<MultipartParser.Token> {
 
 		private final Path file;
 
-		private final WritableByteChannel channel;
+		private final Channel channel;
 
 		private final AtomicLong byteCount;
 
+		private final AtomicLong position;
+
 		private volatile boolean completed;
 
 		private volatile boolean disposed;
 
 
-		public WritingFileState(CreateFileState state, Path file, WritableByteChannel channel) {
+		public WritingFileState(CreateFileState state, Path file, Channel channel) {
 			this.headers = state.headers;
 			this.file = file;
 			this.channel = channel;
 			this.byteCount = new AtomicLong(state.byteCount);
+			this.position = new AtomicLong();
 		}
 
 		public WritingFileState(IdleFileState state) {
@@ -618,6 +726,7 @@ final class PartGenerator extends BaseSubscriber<MultipartParser.Token> {
 			this.file = state.file;
 			this.channel = state.channel;
 			this.byteCount = state.byteCount;
+			this.position = state.position;
 		}
 
 		@Override
@@ -640,18 +749,21 @@ final class PartGenerator extends BaseSubscriber<MultipartParser.Token> {
 		}
 
 		public void writeBuffer(DataBuffer dataBuffer) {
-			Mono.just(dataBuffer)
-					.flatMap(this::writeInternal)
-					.subscribeOn(PartGenerator.this.blockingOperationScheduler)
-					.subscribe(null, PartGenerator.this::emitError, this::writeComplete);
+			subscribeToWrite(Mono.just(dataBuffer)
+					.flatMap(this::writeInternal));
 		}
 
 		public void writeBuffers(Iterable<DataBuffer> dataBuffers) {
-			Flux.fromIterable(dataBuffers)
+			subscribeToWrite(Flux.fromIterable(dataBuffers)
 					.concatMap(this::writeInternal)
-					.then()
-					.subscribeOn(PartGenerator.this.blockingOperationScheduler)
-					.subscribe(null, PartGenerator.this::emitError, this::writeComplete);
+					.then());
+		}
+
+		private void subscribeToWrite(Mono<Void> write) {
+			if (!(this.channel instanceof AsynchronousFileChannel)) {
+				write = write.subscribeOn(PartGenerator.this.blockingOperationScheduler);
+			}
+			write.subscribe(null, PartGenerator.this::emitError, this::writeComplete);
 		}
 
 		private void writeComplete() {
@@ -675,12 +787,17 @@ final class PartGenerator extends BaseSubscriber<MultipartParser.Token> {
 
 		@SuppressWarnings("BlockingMethodInNonBlockingContext")
 		private Mono<Void> writeInternal(DataBuffer dataBuffer) {
+			if (this.channel instanceof AsynchronousFileChannel asynchronousChannel) {
+				return writeAsynchronously(dataBuffer, asynchronousChannel);
+			}
 			try {
+				updateDigest(dataBuffer);
+				WritableByteChannel writableChannel = (WritableByteChannel) this.channel;
 				try (DataBuffer.ByteBufferIterator iterator = dataBuffer.readableByteBuffers()) {
 					while (iterator.hasNext()) {
 						ByteBuffer byteBuffer = iterator.next();
 						while (byteBuffer.hasRemaining()) {
-							this.channel.write(byteBuffer);
+							writableChannel.write(byteBuffer);
 						}
 					}
 				}
@@ -696,6 +813,16 @@ final class PartGenerator extends BaseSubscriber<MultipartParser.Token> {
 			}
 		}
 
+		private Mono<Void> writeAsynchronously(DataBuffer dataBuffer, AsynchronousFileChannel channel) {
+			long position = this.position.getAndAdd(dataBuffer.readableByteCount());
+			Consumer<DataBuffer> digester = (hasDigest() ? PartGenerator.this::updateDigest : null);
+			return writeAndRelease(dataBuffer, channel, position, digester, PartGenerator.this.blockingOperationScheduler)
+					.doOnError(ex -> {
+						MultipartUtils.closeChannel(this.channel);
+						MultipartUtils.deleteFile(this.file);
+					});
+		}
+
 		@Override
 		public boolean canRequest() {
 			return false;
@@ -18,16 +18,17 @@ package org.springframework.http.codec.protobuf;
 
 import java.io.IOException;
 import java.lang.reflect.Method;
-import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 
+import com.google.protobuf.ByteString;
 import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.ExtensionRegistry;
 import com.google.protobuf.Message;
+import com.google.protobuf.UnsafeByteOperations;
 import org.jspecify.annotations.Nullable;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
@@ -56,6 +57,10 @@ import org.springframework.util.MimeType;
  * to use regular Protobuf message format (without the size prepended before
  * the message).
  *
+ * <p>Messages are parsed directly from the {@code ByteBuffer}s of the input
+ * {@code DataBuffer}s, including messages spread across several input buffers
+ * or held in composite buffers, without copying them into a contiguous array.
+ *
  * <p>Notice that the default instance of a Protobuf message produces an empty byte
  * array, so {@code Mono.just(Msg.getDefaultInstance())} sent over the network
  * will be deserialized as an empty {@link Mono}.
@@ -192,9 +197,31 @@ public class ProtobufDecoder extends ProtobufCodecSupport implements Decoder<Mes
 	 * @since 7.0
 	 */
 	protected void merge(DataBuffer dataBuffer, Message.Builder builder) throws IOException {
-		ByteBuffer byteBuffer = ByteBuffer.allocate(dataBuffer.readableByteCount());
-		dataBuffer.toByteBuffer(byteBuffer);
-		builder.mergeFrom(CodedInputStream.newInstance(byteBuffer), this.extensionRegistry);
+		merge(List.of(dataBuffer), builder);
+	}
+
+	/**
+	 * Read a single message from the readable bytes of the given buffers,
+	 * wrapping their {@code ByteBuffer}s in a {@link ByteString} without
+	 * copying. Since the parsed message does not alias the input, the buffers
+	 * can be released once this method returns.
+	 */
+	private void merge(List<DataBuffer> dataBuffers, Message.Builder builder) throws IOException {
+		List<DataBuffer.ByteBufferIterator> iterators = new ArrayList<>(dataBuffers.size());
+		try {
+			List<ByteString> byteStrings = new ArrayList<>();
+			for (DataBuffer dataBuffer : dataBuffers) {
+				DataBuffer.ByteBufferIterator iterator = dataBuffer.readableByteBuffers();
+				iterators.add(iterator);
+				while (iterator.hasNext()) {
+					byteStrings.add(UnsafeByteOperations.unsafeWrap(iterator.next()));
+				}
+			}
+			builder.mergeFrom(ByteString.copyFrom(byteStrings), this.extensionRegistry);
+		}
+		finally {
+			iterators.forEach(DataBuffer.ByteBufferIterator::close);
+		}
 	}
 
 	@Override
@@ -209,7 +236,7 @@ public class ProtobufDecoder extends ProtobufCodecSupport implements Decoder<Mes
 
 		private final int maxMessageSize;
 
-		private @Nullable DataBuffer output;
+		private final List<DataBuffer> messageChunks = new ArrayList<>();
 
 		private int messageBytesToRead;
 
@@ -229,7 +256,7 @@ public class ProtobufDecoder extends ProtobufCodecSupport implements Decoder<Mes
 				int chunkBytesToRead;
 
 				do {
-					if (this.output == null) {
+					if (this.messageBytesToRead == 0) {
 						Integer messageSize = this.messageSizeReader.readMessageSize(input);
 						if (messageSize == null) {
 							return messages;
@@ -241,27 +268,26 @@ public class ProtobufDecoder extends ProtobufCodecSupport implements Decoder<Mes
 											"(" + this.messageBytesToRead + ") exceeds " +
 											"the configured limit (" + this.maxMessageSize + ")");
 						}
-						this.output = input.factory().allocateBuffer(this.messageBytesToRead);
 					}
 
 					chunkBytesToRead = Math.min(this.messageBytesToRead, input.readableByteCount());
 					remainingBytesToRead = input.readableByteCount() - chunkBytesToRead;
 
-					byte[] bytesToWrite = new byte[chunkBytesToRead];
-					input.read(bytesToWrite, 0, chunkBytesToRead);
-					this.output.write(bytesToWrite);
-					this.messageBytesToRead -= chunkBytesToRead;
+					if (chunkBytesToRead > 0) {
+						// Split off the chunk, sharing rather than copying the input memory
+						this.messageChunks.add(input.split(input.readPosition() + chunkBytesToRead));
+						this.messageBytesToRead -= chunkBytesToRead;
+					}
 
 					if (this.messageBytesToRead == 0) {
-						ByteBuffer byteBuffer = ByteBuffer.allocate(this.output.readableByteCount());
-						this.output.toByteBuffer(byteBuffer);
-						CodedInputStream stream = CodedInputStream.newInstance(byteBuffer);
-						DataBufferUtils.release(this.output);
-						this.output = null;
-						Message message = getMessageBuilder(this.elementType.toClass())
-								.mergeFrom(stream, extensionRegistry)
-								.build();
-						messages.add(message);
+						Message.Builder builder = getMessageBuilder(this.elementType.toClass());
+						try {
+							merge(this.messageChunks, builder);
+						}
+						finally {
+							discard();
+						}
+						messages.add(builder.build());
 					}
 				} while (remainingBytesToRead > 0);
 				return messages;
@@ -281,9 +307,8 @@ public class ProtobufDecoder extends ProtobufCodecSupport implements Decoder<Mes
 		}
 
 		public void discard() {
-			if (this.output != null) {
-				DataBufferUtils.release(this.output);
-			}
+			this.messageChunks.forEach(DataBufferUtils::release);
+			this.messageChunks.clear();
 		}
 	}
 
@@ -27,12 +27,17 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import com.fasterxml.jackson.annotation.JsonView;
 import org.jspecify.annotations.Nullable;
@@ -44,6 +49,7 @@ import tools.jackson.core.util.DefaultIndenter;
 import tools.jackson.core.util.DefaultPrettyPrinter;
 import tools.jackson.databind.JacksonModule;
 import tools.jackson.databind.JavaType;
+import tools.jackson.databind.MappingIterator;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.ObjectReader;
 import tools.jackson.databind.ObjectWriter;
@@ -80,6 +86,17 @@ import org.springframework.util.TypeUtils;
  *         key and the filter provider class name as value.</li>
  * </ul>
  *
+ * <p>A top-level JSON array can be read as a {@link Stream} or {@link Iterator}
+ * of its elements, in which case elements are decoded one at a time from the
+ * body as they are consumed rather than collected into memory upfront. This
+ * requires the elements to be consumed while the body is still readable,
+ * for example, within the handler method that receives them.
+ *
+ * <p>Likewise, a {@link Stream} is written element by element as a JSON array,
+ * or as newline-delimited values for one of the configured
+ * {@link #setStreamingMediaTypes streaming media types}, and is closed once
+ * written, without collecting its elements in memory.
+ *
  * @author Sebastien Deleuze
  * @since 7.0
  * @param <T> the type of {@link ObjectMapper}
@@ -110,6 +127,8 @@ public abstract class AbstractJacksonHttpMessageConverter<T extends ObjectMapper
 
 	private final @Nullable PrettyPrinter ssePrettyPrinter;
 
+	private final List<MediaType> streamingMediaTypes = new ArrayList<>(1);
+
 
 	/**
 	 * Construct a new instance with the provided {@link MapperBuilder builder}
@@ -184,6 +203,27 @@ public abstract class AbstractJacksonHttpMessageConverter<T extends ObjectMapper
 		super.setSupportedMediaTypes(supportedMediaTypes);
 	}
 
+	/**
+	 * Configure "streaming" media types for which a {@link Stream} is written
+	 * as a sequence of values, each followed by a newline and flushed
+	 * immediately, rather than as an array.
+	 * <p>By default, this is empty, unless set by subclasses.
+	 * @param mediaTypes the streaming media types
+	 * @since 7.1
+	 */
+	public void setStreamingMediaTypes(List<MediaType> mediaTypes) {
+		this.streamingMediaTypes.clear();
+		this.streamingMediaTypes.addAll(mediaTypes);
+	}
+
+	/**
+	 * Return the configured streaming media types.
+	 * @since 7.1
+	 */
+	public List<MediaType> getStreamingMediaTypes() {
+		return Collections.unmodifiableList(this.streamingMediaTypes);
+	}
+
 	/**
 	 * Return the main {@link ObjectMapper} in use.
 	 */
@@ -242,6 +282,11 @@ public abstract class AbstractJacksonHttpMessageConverter<T extends ObjectMapper
 		if (!CollectionUtils.isEmpty(result)) {
 			return result;
 		}
+		if (Stream.class.isAssignableFrom(clazz) && !this.streamingMediaTypes.isEmpty()) {
+			result = new ArrayList<>(getSupportedMediaTypes());
+			result.addAll(this.streamingMediaTypes);
+			return result;
+		}
 		return (ProblemDetail.class.isAssignableFrom(clazz) ?
 				getMediaTypesForProblemDetail() : getSupportedMediaTypes());
 	}
@@ -264,13 +309,14 @@ public abstract class AbstractJacksonHttpMessageConverter<T extends ObjectMapper
 		if (!canRead(mediaType)) {
 			return false;
 		}
-		return this.mapperRegistrations == null || selectMapper(type.toClass(), mediaType) != null;
+		Class<?> targetType = (isElementStream(type.toClass()) ? type.getGeneric().toClass() : type.toClass());
+		return this.mapperRegistrations == null || selectMapper(targetType, mediaType) != null;
 	}
 
 	@Override
 	@SuppressWarnings("removal")
 	public boolean canWrite(ResolvableType type, Class<?> valueClass, @Nullable MediaType mediaType) {
-		if (!canWrite(mediaType)) {
+		if (!canWrite(mediaType) && !(Stream.class.isAssignableFrom(valueClass) && isStreamingMediaType(mediaType))) {
 			return false;
 		}
 		if (mediaType != null && mediaType.getCharset() != null) {
@@ -287,7 +333,18 @@ public abstract class AbstractJacksonHttpMessageConverter<T extends ObjectMapper
 
 	@Override
 	public boolean canWriteRepeatedly(Object o, @Nullable MediaType contentType) {
-		return true;
+		return !(o instanceof Stream<?>);
+	}
+
+	private boolean isStreamingMediaType(@Nullable MediaType mediaType) {
+		if (mediaType != null) {
+			for (MediaType streamingMediaType : this.streamingMediaTypes) {
+				if (streamingMediaType.isCompatibleWith(mediaType)) {
+					return true;
+				}
+			}
+		}
+		return false;
 	}
 
 	/**
@@ -320,8 +377,15 @@ public abstract class AbstractJacksonHttpMessageConverter<T extends ObjectMapper
 
 		Class<?> contextClass = (type.getSource() instanceof MethodParameter parameter ? parameter.getContainingClass() :
 				(hints != null ? (Class<?>) hints.get("contextClass") : null));
+		Class<?> streamType = type.toClass();
+		if (isElementStream(streamType)) {
+			ResolvableType elementType = type.getGeneric();
+			JavaType javaType = getJavaType(
+					(elementType != ResolvableType.NONE ? elementType.getType() : Object.class), contextClass);
+			return readJavaType(javaType, streamType, inputMessage, hints);
+		}
 		JavaType javaType = getJavaType(type.getType(), contextClass);
-		return readJavaType(javaType, inputMessage, hints);
+		return readJavaType(javaType, null, inputMessage, hints);
 	}
 
 	@Override
@@ -329,11 +393,22 @@ public abstract class AbstractJacksonHttpMessageConverter<T extends ObjectMapper
 			throws IOException, HttpMessageNotReadableException {
 
 		JavaType javaType = getJavaType(clazz, null);
-		return readJavaType(javaType, inputMessage, null);
+		return readJavaType(javaType, null, inputMessage, null);
+	}
+
+	private static boolean isElementStream(Class<?> type) {
+		return (type == Stream.class || type == Iterator.class);
 	}
 
+	/**
+	 * Read the body as a value of the given type or, if a {@code streamType}
+	 * is given, as a {@link Stream} or {@link Iterator} of elements of the
+	 * given type, decoded lazily from a top-level JSON array.
+	 */
 	@SuppressWarnings("removal")
-	private Object readJavaType(JavaType javaType, HttpInputMessage inputMessage, @Nullable Map<String, Object> hints) throws IOException {
+	private Object readJavaType(JavaType javaType, @Nullable Class<?> streamType,
+			HttpInputMessage inputMessage, @Nullable Map<String, Object> hints) throws IOException {
+
 		MediaType contentType = inputMessage.getHeaders().getContentType();
 		Charset charset = getCharset(contentType);
 
@@ -353,6 +428,14 @@ public abstract class AbstractJacksonHttpMessageConverter<T extends ObjectMapper
 				objectReader = objectReader.withView((Class<?>) hints.get(JSON_VIEW_HINT));
 			}
 			objectReader = customizeReader(objectReader, javaType);
+			if (streamType != null) {
+				MappingIterator<Object> elements = (isUnicode ? objectReader.readValues(inputStream) :
+						objectReader.readValues(new InputStreamReader(inputStream, charset)));
+				JsonElementIterator iterator = new JsonElementIterator(elements, inputMessage);
+				return (streamType == Iterator.class ? iterator :
+						StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+								.onClose(iterator::close));
+			}
 			if (isUnicode) {
 				return objectReader.readValue(inputStream);
 			}
@@ -413,7 +496,13 @@ public abstract class AbstractJacksonHttpMessageConverter<T extends ObjectMapper
 		JavaType javaType = null;
 
 		Type type = resolvableType.getType();
-		if (TypeUtils.isAssignable(type, object.getClass())) {
+		if (object instanceof Stream<?>) {
+			ResolvableType elementType = resolvableType.as(Stream.class).getGeneric();
+			if (elementType.resolve() != null) {
+				javaType = getJavaType(elementType.getType(), null);
+			}
+		}
+		else if (TypeUtils.isAssignable(type, object.getClass())) {
 			javaType = getJavaType(type, null);
 		}
 		if (hints != null) {
@@ -436,9 +525,22 @@ public abstract class AbstractJacksonHttpMessageConverter<T extends ObjectMapper
 		}
 		objectWriter = customizeWriter(objectWriter, javaType, contentType);
 
+		boolean streaming = isStreamingMediaType(contentType);
+		if (object instanceof Stream<?>) {
+			objectWriter = objectWriter.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+			if (streaming) {
+				objectWriter = objectWriter.withRootValueSeparator((String) null);
+			}
+		}
+
 		try (JsonGenerator generator = objectWriter.createGenerator(outputStream, encoding)) {
 			writePrefix(generator, object);
-			objectWriter.writeValue(generator, object);
+			if (object instanceof Stream<?> stream) {
+				writeStream(stream, objectWriter, generator, streaming);
+			}
+			else {
+				objectWriter.writeValue(generator, object);
+			}
 			writeSuffix(generator, object);
 			generator.flush();
 		}
@@ -448,6 +550,31 @@ public abstract class AbstractJacksonHttpMessageConverter<T extends ObjectMapper
 		catch (JacksonException ex) {
 			throw new HttpMessageNotWritableException("Could not write JSON: " + ex.getOriginalMessage(), ex);
 		}
+		finally {
+			if (object instanceof Stream<?> stream) {
+				stream.close();
+			}
+		}
+	}
+
+	/**
+	 * Write the elements of the given {@link Stream} one at a time, either as
+	 * newline-delimited values that are flushed individually, or as an array
+	 * that is flushed as the underlying buffers fill up.
+	 */
+	private void writeStream(Stream<?> stream, ObjectWriter objectWriter, JsonGenerator generator, boolean streaming) {
+		if (streaming) {
+			stream.forEachOrdered(element -> {
+				objectWriter.writeValue(generator, element);
+				generator.writeRaw('\n');
+				generator.flush();
+			});
+		}
+		else {
+			generator.writeStartArray();
+			stream.forEachOrdered(element -> objectWriter.writeValue(generator, element));
+			generator.writeEndArray();
+		}
 	}
 
 	/**
@@ -510,7 +637,56 @@ public abstract class AbstractJacksonHttpMessageConverter<T extends ObjectMapper
 	@Override
 	@SuppressWarnings("removal")
 	protected boolean supportsRepeatableWrites(Object o) {
-		return true;
+		return !(o instanceof Stream<?>);
+	}
+
+
+	/**
+	 * Iterator over the elements of a JSON array that are decoded as they
+	 * are requested, translating Jackson exceptions like
+	 * {@link #readJavaType} does for values read upfront.
+	 */
+	private static final class JsonElementIterator implements Iterator<Object>, AutoCloseable {
+
+		private final MappingIterator<Object> elements;
+
+		private final HttpInputMessage inputMessage;
+
+		JsonElementIterator(MappingIterator<Object> elements, HttpInputMessage inputMessage) {
+			this.elements = elements;
+			this.inputMessage = inputMessage;
+		}
+
+		@Override
+		public boolean hasNext() {
+			try {
+				return this.elements.hasNext();
+			}
+			catch (InvalidDefinitionException ex) {
+				throw new HttpMessageConversionException("Type definition error: " + ex.getType(), ex);
+			}
+			catch (JacksonException ex) {
+				throw new HttpMessageNotReadableException("JSON parse error: " + ex.getOriginalMessage(), ex, this.inputMessage);
+			}
+		}
+
+		@Override
+		public Object next() {
+			try {
+				return this.elements.next();
+			}
+			catch (InvalidDefinitionException ex) {
+				throw new HttpMessageConversionException("Type definition error: " + ex.getType(), ex);
+			}
+			catch (JacksonException ex) {
+				throw new HttpMessageNotReadableException("JSON parse error: " + ex.getOriginalMessage(), ex, this.inputMessage);
+			}
+		}
+
+		@Override
+		public void close() {
+			this.elements.close();
+		}
 	}
 
 }
@@ -20,12 +20,14 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Path;
 
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
+import org.springframework.http.FileTransferHttpOutputMessage;
 import org.springframework.http.HttpInputMessage;
 import org.springframework.http.HttpOutputMessage;
 import org.springframework.http.MediaType;
@@ -39,6 +41,9 @@ import org.springframework.util.StreamUtils;
  * <p>By default, this converter can read all media types. The {@link MediaTypeFactory} is used
  * to determine the {@code Content-Type} of written resources.
  *
+ * <p>Resources in the file system are written through
+ * {@link FileTransferHttpOutputMessage#transferFile} if supported by the output message.
+ *
  * @author Arjen Poutsma
  * @author Juergen Hoeller
  * @author Kazuki Shimizu
@@ -155,6 +160,13 @@ public class ResourceHttpMessageConverter extends AbstractHttpMessageConverter<R
 	protected void writeContent(Resource resource, HttpOutputMessage outputMessage)
 			throws IOException, HttpMessageNotWritableException {
 
+		if (outputMessage instanceof FileTransferHttpOutputMessage fileTransferMessage && resource.isFile()) {
+			Path file = resource.getFilePath();
+			if (fileTransferMessage.transferFile(file, 0, resource.contentLength())) {
+				return;
+			}
+		}
+
 		// We cannot use try-with-resources here for the InputStream, since we have
 		// custom handling of the close() method in a finally-block.
 		try {
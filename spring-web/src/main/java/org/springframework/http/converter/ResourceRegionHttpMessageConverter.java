@@ -29,6 +29,7 @@ import org.jspecify.annotations.Nullable;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.ResourceRegion;
+import org.springframework.http.FileTransferHttpOutputMessage;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpInputMessage;
 import org.springframework.http.HttpOutputMessage;
@@ -42,6 +43,9 @@ import org.springframework.util.StreamUtils;
  * Implementation of {@link HttpMessageConverter} that can write a single
  * {@link ResourceRegion} or Collections of {@link ResourceRegion ResourceRegions}.
  *
+ * <p>A single region of a resource in the file system is written through
+ * {@link FileTransferHttpOutputMessage#transferFile} if supported by the output message.
+ *
  * @author Brian Clozel
  * @author Juergen Hoeller
  * @author Sam Brannen
@@ -179,6 +183,12 @@ public class ResourceRegionHttpMessageConverter extends AbstractGenericHttpMessa
 		responseHeaders.add("Content-Range", "bytes " + start + '-' + end + '/' + resourceLength);
 		responseHeaders.setContentLength(rangeLength);
 
+		if (outputMessage instanceof FileTransferHttpOutputMessage fileTransferMessage && region.getResource().isFile()) {
+			if (fileTransferMessage.transferFile(region.getResource().getFilePath(), start, rangeLength)) {
+				return;
+			}
+		}
+
 		InputStream in = region.getResource().getInputStream();
 		// We cannot use try-with-resources here for the InputStream, since we have
 		// custom handling of the close() method in a finally-block.
@@ -41,6 +41,10 @@ import org.springframework.http.converter.AbstractJacksonHttpMessageConverter;
  * can be overridden by setting the {@link #setSupportedMediaTypes supportedMediaTypes}
  * property.
  *
+ * <p>A {@link java.util.stream.Stream} can also be written as
+ * {@code application/x-ndjson} or {@code application/jsonl}, with each
+ * element on a separate line.
+ *
  * <p>The following hints entries are supported:
  * <ul>
  *     <li>A JSON view with a <code>"com.fasterxml.jackson.annotation.JsonView"</code>
@@ -83,6 +87,7 @@ public class JacksonJsonHttpMessageConverter extends AbstractJacksonHttpMessageC
 	 */
 	public JacksonJsonHttpMessageConverter(JsonMapper.Builder builder) {
 		super(builder.addMixIn(ProblemDetail.class, ProblemDetailJacksonMixin.class), DEFAULT_JSON_MIME_TYPES);
+		setStreamingMediaTypes(List.of(MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSONL));
 	}
 
 	/**
@@ -91,6 +96,7 @@ public class JacksonJsonHttpMessageConverter extends AbstractJacksonHttpMessageC
 	 */
 	public JacksonJsonHttpMessageConverter(JsonMapper mapper) {
 		super(mapper, DEFAULT_JSON_MIME_TYPES);
+		setStreamingMediaTypes(List.of(MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSONL));
 	}
 
 
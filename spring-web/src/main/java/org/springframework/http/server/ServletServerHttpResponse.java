@@ -18,27 +18,45 @@ package org.springframework.http.server;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.ServletRequestWrapper;
+import jakarta.servlet.ServletResponseWrapper;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.eclipse.jetty.ee11.servlet.HttpOutput;
+import org.eclipse.jetty.ee11.servlet.ServletApiResponse;
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.core.SpringProperties;
+import org.springframework.http.FileTransferHttpOutputMessage;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.MediaType;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.StreamUtils;
 
 /**
  * {@link ServerHttpResponse} implementation that is based on a {@link HttpServletResponse}.
  *
+ * <p>As of 7.1, this is also a {@link FileTransferHttpOutputMessage}: if created
+ * with the request that the response belongs to, file regions are transferred
+ * through Tomcat's {@code sendfile} support, if enabled; on Jetty, file regions
+ * are memory-mapped and written without copying them to the heap.
+ *
  * @author Arjen Poutsma
  * @author Rossen Stoyanchev
  * @author Brian Clozel
  * @since 3.0
  */
-public class ServletServerHttpResponse implements ServerHttpResponse {
+public class ServletServerHttpResponse implements ServerHttpResponse, FileTransferHttpOutputMessage {
 
 	/**
 	 * System property that indicates whether {@code response.getBody().flush()}
@@ -51,11 +69,27 @@ public class ServletServerHttpResponse implements ServerHttpResponse {
 	 */
 	public static final String FLUSH_ENABLED_PROPERTY_NAME = "spring.http.response.flush.enabled";
 
+	private static final String SENDFILE_SUPPORTED_ATTRIBUTE = "org.apache.tomcat.sendfile.support";
+
+	private static final String SENDFILE_FILENAME_ATTRIBUTE = "org.apache.tomcat.sendfile.filename";
+
+	private static final String SENDFILE_START_ATTRIBUTE = "org.apache.tomcat.sendfile.start";
+
+	private static final String SENDFILE_END_ATTRIBUTE = "org.apache.tomcat.sendfile.end";
+
+	/** Below this size, copying a file is cheaper than setting up a transfer (as in Tomcat's DefaultServlet). */
+	private static final long MIN_FILE_TRANSFER_SIZE = 48 * 1024;
+
+	private static final boolean jettyPresent = ClassUtils.isPresent(
+			"org.eclipse.jetty.ee11.servlet.HttpOutput", ServletServerHttpResponse.class.getClassLoader());
+
 
 	private final boolean flushEnabled = SpringProperties.getFlag(FLUSH_ENABLED_PROPERTY_NAME);
 
 	private final HttpServletResponse servletResponse;
 
+	private final @Nullable HttpServletRequest servletRequest;
+
 	private final HttpHeaders headers;
 
 	private boolean headersWritten = false;
@@ -72,6 +106,24 @@ public class ServletServerHttpResponse implements ServerHttpResponse {
 	public ServletServerHttpResponse(HttpServletResponse servletResponse) {
 		Assert.notNull(servletResponse, "HttpServletResponse must not be null");
 		this.servletResponse = servletResponse;
+		this.servletRequest = null;
+		this.headers = new HttpHeaders(new ServletResponseHeadersAdapter(servletResponse));
+	}
+
+	/**
+	 * Construct a new instance of the ServletServerHttpResponse based on the given
+	 * {@link HttpServletResponse} and the {@link HttpServletRequest} it belongs to,
+	 * which enables {@link #transferFile file transfers} through Tomcat's
+	 * {@code sendfile} support or Jetty's output.
+	 * @param servletResponse the servlet response
+	 * @param servletRequest the servlet request
+	 * @since 7.1
+	 */
+	public ServletServerHttpResponse(HttpServletResponse servletResponse, HttpServletRequest servletRequest) {
+		Assert.notNull(servletResponse, "HttpServletResponse must not be null");
+		Assert.notNull(servletRequest, "HttpServletRequest must not be null");
+		this.servletResponse = servletResponse;
+		this.servletRequest = servletRequest;
 		this.headers = new HttpHeaders(new ServletResponseHeadersAdapter(servletResponse));
 	}
 
@@ -119,6 +171,45 @@ public class ServletServerHttpResponse implements ServerHttpResponse {
 				StreamUtils.nonFlushing(this.servletResponse.getOutputStream()));
 	}
 
+	/**
+	 * {@inheritDoc}
+	 * <p>This implementation requires this response to be created with its
+	 * request, neither of which may be wrapped, and does not transfer files
+	 * for {@code HEAD} requests. It uses Tomcat's {@code sendfile} support if
+	 * enabled. On Jetty, the file region is memory-mapped in windows of up to
+	 * 64 MB which are handed to the container's output one after the other.
+	 * File regions smaller than 48 KB are not transferred but expected to be
+	 * copied.
+	 */
+	@Override
+	public boolean transferFile(Path file, long position, long count) throws IOException {
+		if (this.bodyUsed || count < MIN_FILE_TRANSFER_SIZE || this.servletResponse.isCommitted()) {
+			return false;
+		}
+		HttpServletRequest request = this.servletRequest;
+		if (request == null || HttpMethod.HEAD.matches(request.getMethod()) ||
+				request instanceof ServletRequestWrapper || this.servletResponse instanceof ServletResponseWrapper) {
+			return false;
+		}
+		if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTRIBUTE))) {
+			this.bodyUsed = true;
+			writeHeaders();
+			this.servletResponse.setContentLengthLong(count);
+			request.setAttribute(SENDFILE_FILENAME_ATTRIBUTE, file.toAbsolutePath().toString());
+			request.setAttribute(SENDFILE_START_ATTRIBUTE, position);
+			request.setAttribute(SENDFILE_END_ATTRIBUTE, position + count);
+			return true;
+		}
+		if (jettyPresent && JettyFileTransfer.isSupported(this.servletResponse)) {
+			this.bodyUsed = true;
+			writeHeaders();
+			this.servletResponse.setContentLengthLong(count);
+			JettyFileTransfer.transfer(this.servletResponse.getOutputStream(), file, position, count);
+			return true;
+		}
+		return false;
+	}
+
 	@Override
 	public void flush() throws IOException {
 		writeHeaders();
@@ -157,4 +248,39 @@ public class ServletServerHttpResponse implements ServerHttpResponse {
 		}
 	}
 
+
+	/**
+	 * Inner class to avoid a hard dependency on Jetty.
+	 */
+	private static class JettyFileTransfer {
+
+		/** The maximum size of a file region to map at once: 64 MB. */
+		private static final long MAX_MAPPED_SIZE = 64 * 1024 * 1024;
+
+		static boolean isSupported(HttpServletResponse response) {
+			return (response instanceof ServletApiResponse);
+		}
+
+		static void transfer(ServletOutputStream outputStream, Path file, long position, long count)
+				throws IOException {
+
+			HttpOutput output = (HttpOutput) outputStream;
+			long offset = position;
+			long end = position + count;
+			try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+				while (offset < end) {
+					long size = Math.min(end - offset, MAX_MAPPED_SIZE);
+					MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, size);
+					offset += size;
+					if (offset < end) {
+						output.write(buffer);
+					}
+					else {
+						output.sendContent(buffer);
+					}
+				}
+			}
+		}
+	}
+
 }
@@ -119,6 +119,13 @@ class CaptureVariablePathElement extends PathElement {
 		return this.variableName;
 	}
 
+	/**
+	 * Whether this element constrains the captured value with a regex.
+	 */
+	boolean hasConstraint() {
+		return (this.constraintPattern != null);
+	}
+
 	@Override
 	public int getNormalizedLength() {
 		return 1;
@@ -54,23 +54,10 @@ class LiteralPathElement extends PathElement {
 		if (!(element instanceof PathSegment pathSegment)) {
 			return false;
 		}
-		String value = pathSegment.valueToMatch();
-		if (value.length() != this.len) {
-			// Not enough data to match this path element
+		if (!matchesValue(pathSegment.valueToMatch())) {
 			return false;
 		}
 
-		if (this.caseSensitive) {
-			if (!this.text.equals(value)) {
-				return false;
-			}
-		}
-		else {
-			if (!this.text.equalsIgnoreCase(value)) {
-				return false;
-			}
-		}
-
 		pathIndex++;
 		if (isNoMorePattern()) {
 			if (matchingContext.determineRemainingPath) {
@@ -86,6 +73,17 @@ class LiteralPathElement extends PathElement {
 		}
 	}
 
+	/**
+	 * Whether the given decoded path segment value matches the literal text.
+	 */
+	boolean matchesValue(String value) {
+		if (value.length() != this.len) {
+			// Not enough data to match this path element
+			return false;
+		}
+		return (this.caseSensitive ? this.text.equals(value) : this.text.equalsIgnoreCase(value));
+	}
+
 	@Override
 	public int getNormalizedLength() {
 		return this.len;
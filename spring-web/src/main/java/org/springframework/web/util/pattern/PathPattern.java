@@ -16,6 +16,7 @@
 
 package org.springframework.web.util.pattern;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -148,6 +149,13 @@ public class PathPattern implements Comparable<PathPattern> {
 	/** Does the pattern end with {*...}. */
 	private boolean catchAll = false;
 
+	/**
+	 * Flat form of the element chain if every element matches exactly one path
+	 * element (separators, literals, wildcards, and unconstrained captures),
+	 * allowing to match without a {@link MatchingContext}; otherwise {@code null}.
+	 */
+	private final PathElement @Nullable [] flatElements;
+
 
 	PathPattern(String patternText, PathPatternParser parser, @Nullable PathElement head) {
 		this.patternString = patternText;
@@ -170,6 +178,22 @@ public class PathPattern implements Comparable<PathPattern> {
 			}
 			elem = elem.next;
 		}
+		this.flatElements = initFlatElements(head);
+	}
+
+	private static PathElement @Nullable [] initFlatElements(@Nullable PathElement head) {
+		List<PathElement> result = new ArrayList<>();
+		for (PathElement elem = head; elem != null; elem = elem.next) {
+			if (elem instanceof SeparatorPathElement || elem instanceof LiteralPathElement ||
+					elem instanceof WildcardPathElement ||
+					(elem instanceof CaptureVariablePathElement capture && !capture.hasConstraint())) {
+				result.add(elem);
+			}
+			else {
+				return null;
+			}
+		}
+		return (!result.isEmpty() ? result.toArray(new PathElement[0]) : null);
 	}
 
 
@@ -190,6 +214,29 @@ public class PathPattern implements Comparable<PathPattern> {
 		return (this.score > 0 || this.catchAll || this.patternString.indexOf('?') != -1);
 	}
 
+	/**
+	 * Return the literal path segments at the start of the pattern, up to the
+	 * first segment with pattern syntax. For example, {@code "/api/books/{id}"}
+	 * returns {@code ["api", "books"]}. A path can only match the pattern if
+	 * it starts with the same segments, which makes it possible to index
+	 * patterns by their leading segments.
+	 * <p>For a case-insensitive pattern, this method returns an empty list.
+	 * @since 7.1
+	 */
+	public List<String> getLiteralPrefixSegments() {
+		if (!this.caseSensitive) {
+			return Collections.emptyList();
+		}
+		List<String> segments = Collections.emptyList();
+		PathElement elem = this.head;
+		while (elem instanceof SeparatorPathElement && elem.next instanceof LiteralPathElement literal) {
+			segments = (segments.isEmpty() ? new ArrayList<>() : segments);
+			segments.add(String.valueOf(literal.getChars()));
+			elem = literal.next;
+		}
+		return segments;
+	}
+
 	/**
 	 * Whether this pattern matches the given path.
 	 * @param pathContainer the candidate path to attempt to match against
@@ -207,6 +254,9 @@ public class PathPattern implements Comparable<PathPattern> {
 				return false;
 			}
 		}
+		if (this.flatElements != null) {
+			return matchesFlat(this.flatElements, pathContainer.elements());
+		}
 		MatchingContext matchingContext = new MatchingContext(pathContainer, false);
 		return this.head.matches(0, matchingContext);
 	}
@@ -229,6 +279,10 @@ public class PathPattern implements Comparable<PathPattern> {
 				return null;
 			}
 		}
+		if (this.flatElements != null) {
+			return (matchesFlat(this.flatElements, pathContainer.elements()) ?
+					extractFlat(this.flatElements, pathContainer.elements()) : null);
+		}
 		MatchingContext matchingContext = new MatchingContext(pathContainer, true);
 		return this.head.matches(0, matchingContext) ? matchingContext.getPathMatchResult() : null;
 	}
@@ -539,6 +593,14 @@ public class PathPattern implements Comparable<PathPattern> {
 		return this.head;
 	}
 
+	/**
+	 * Whether this pattern is matched against the flat form of its element
+	 * chain rather than through the element chain itself.
+	 */
+	boolean hasFlatElements() {
+		return (this.flatElements != null);
+	}
+
 	/**
 	 * Join two paths together including a separator if necessary.
 	 * Extraneous separators are removed (if the first path
@@ -561,6 +623,70 @@ public class PathPattern implements Comparable<PathPattern> {
 		}
 	}
 
+	/**
+	 * Match the {@link #flatElements} one to one against the path elements,
+	 * following the same rules as the chained {@link PathElement#matches}.
+	 */
+	private static boolean matchesFlat(PathElement[] flatElements, List<Element> pathElements) {
+		int pathLength = pathElements.size();
+		for (int i = 0; i < flatElements.length; i++) {
+			PathElement elem = flatElements[i];
+			boolean last = (i == flatElements.length - 1);
+			if (i == pathLength) {
+				// No more path left: only a trailing wildcard may match nothing
+				return (last && elem instanceof WildcardPathElement);
+			}
+			Element element = pathElements.get(i);
+			if (elem instanceof SeparatorPathElement) {
+				if (!(element instanceof Separator)) {
+					return false;
+				}
+			}
+			else if (element instanceof PathSegment pathSegment) {
+				String value = pathSegment.valueToMatch();
+				if (elem instanceof LiteralPathElement literal) {
+					if (!literal.matchesValue(value)) {
+						return false;
+					}
+				}
+				else if (value.isEmpty() && !(last && elem instanceof WildcardPathElement)) {
+					// Captures and wildcards within a path need at least one character
+					return false;
+				}
+			}
+			else {
+				return false;
+			}
+		}
+		return (flatElements.length == pathLength);
+	}
+
+	/**
+	 * Extract URI variables and matrix variables for a path that matched the
+	 * {@link #flatElements}.
+	 */
+	private static PathMatchInfo extractFlat(PathElement[] flatElements, List<Element> pathElements) {
+		Map<String, String> uriVariables = null;
+		Map<String, MultiValueMap<String, String>> matrixVariables = null;
+		for (int i = 0; i < flatElements.length; i++) {
+			if (flatElements[i] instanceof CaptureVariablePathElement capture) {
+				PathSegment pathSegment = (PathSegment) pathElements.get(i);
+				if (uriVariables == null) {
+					uriVariables = new HashMap<>();
+				}
+				uriVariables.put(capture.getVariableName(), pathSegment.valueToMatch());
+				if (!pathSegment.parameters().isEmpty()) {
+					if (matrixVariables == null) {
+						matrixVariables = new HashMap<>();
+					}
+					matrixVariables.put(capture.getVariableName(),
+							CollectionUtils.unmodifiableMultiValueMap(pathSegment.parameters()));
+				}
+			}
+		}
+		return (uriVariables != null ? new PathMatchInfo(uriVariables, matrixVariables) : PathMatchInfo.EMPTY);
+	}
+
 	/**
 	 * Return if the container is not null and has more than zero elements.
 	 * @param container a path container
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.testfixture.io.SerializationTestUtils;
+import org.springframework.util.CollectionUtils;
+import org.springframework.util.LinkedCaseInsensitiveMap;
+import org.springframework.util.MultiValueMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link CaseInsensitiveHeadersMap}.
+ */
+class CaseInsensitiveHeadersMapTests {
+
+	private final CaseInsensitiveHeadersMap headers = new CaseInsensitiveHeadersMap(2);
+
+
+	@Test
+	void addWithDifferentCasing() {
+		this.headers.add("Accept", "text/plain");
+		this.headers.add("ACCEPT", "text/html");
+		this.headers.add("accept", "application/json");
+
+		assertThat(this.headers).hasSize(1);
+		assertThat(this.headers.get("aCcEpT")).containsExactly("text/plain", "text/html", "application/json");
+		assertThat(this.headers.getFirst("accept")).isEqualTo("text/plain");
+		assertThat(this.headers.keySet()).containsExactly("Accept");
+	}
+
+	@Test
+	void putReplacesValuesAndCasingInPlace() {
+		this.headers.add("Host", "example.com");
+		this.headers.add("Content-Type", "text/plain");
+		this.headers.add("Accept", "*/*");
+
+		assertThat(this.headers.put("content-type", List.of("text/html"))).containsExactly("text/plain");
+		assertThat(this.headers.keySet()).containsExactly("Host", "content-type", "Accept");
+		assertThat(this.headers.get("Content-Type")).containsExactly("text/html");
+	}
+
+	@Test
+	void growsBeyondInitialCapacity() {
+		for (int i = 0; i < 20; i++) {
+			this.headers.add("X-Header-" + i, "value" + i);
+		}
+
+		assertThat(this.headers).hasSize(20);
+		for (int i = 0; i < 20; i++) {
+			assertThat(this.headers.getFirst("x-header-" + i)).isEqualTo("value" + i);
+		}
+	}
+
+	@Test
+	void removeKeepsOrder() {
+		this.headers.add("First", "1");
+		this.headers.add("Second", "2");
+		this.headers.add("Third", "3");
+
+		assertThat(this.headers.remove("SECOND")).containsExactly("2");
+		assertThat(this.headers.remove("Second")).isNull();
+		assertThat(this.headers.keySet()).containsExactly("First", "Third");
+		assertThat(this.headers.containsKey("second")).isFalse();
+	}
+
+	@Test
+	void removeThroughIterator() {
+		this.headers.add("First", "1");
+		this.headers.add("Second", "2");
+		this.headers.add("Third", "3");
+
+		Iterator<String> iterator = this.headers.keySet().iterator();
+		while (iterator.hasNext()) {
+			if (!iterator.next().equals("Third")) {
+				iterator.remove();
+			}
+		}
+		assertThat(this.headers.keySet()).containsExactly("Third");
+	}
+
+	@Test
+	void modificationDuringIterationFailsFast() {
+		this.headers.add("First", "1");
+		this.headers.add("Second", "2");
+
+		Iterator<String> keys = this.headers.keySet().iterator();
+		keys.next();
+		this.headers.add("Third", "3");
+		assertThatExceptionOfType(ConcurrentModificationException.class).isThrownBy(keys::next);
+
+		Iterator<List<String>> values = this.headers.values().iterator();
+		values.next();
+		this.headers.remove("First");
+		assertThatExceptionOfType(ConcurrentModificationException.class).isThrownBy(values::next);
+
+		Iterator<Map.Entry<String, List<String>>> entries = this.headers.entrySet().iterator();
+		entries.next();
+		this.headers.clear();
+		assertThatExceptionOfType(ConcurrentModificationException.class).isThrownBy(entries::remove);
+
+		this.headers.add("First", "1");
+		this.headers.add("Second", "2");
+		assertThatExceptionOfType(ConcurrentModificationException.class).isThrownBy(() ->
+				this.headers.forEach((name, value) -> this.headers.remove(name)));
+	}
+
+	@Test
+	void replacingValuesDuringIterationDoesNotFail() {
+		this.headers.add("First", "1");
+		this.headers.add("Second", "2");
+
+		for (String name : this.headers.keySet()) {
+			this.headers.set(name, "0");
+		}
+		assertThat(this.headers.toSingleValueMap()).containsOnly(Map.entry("First", "0"), Map.entry("Second", "0"));
+	}
+
+	@Test
+	void setValueThroughEntry() {
+		this.headers.add("Accept", "*/*");
+
+		Map.Entry<String, List<String>> entry = this.headers.entrySet().iterator().next();
+		entry.setValue(List.of("text/plain"));
+		assertThat(this.headers.get("accept")).containsExactly("text/plain");
+	}
+
+	@Test
+	void equalsAndHashCodeMatchLinkedCaseInsensitiveMap() {
+		MultiValueMap<String, String> other = CollectionUtils.toMultiValueMap(new LinkedCaseInsensitiveMap<>(Locale.ROOT));
+		other.add("Accept", "*/*");
+		other.add("Host", "example.com");
+		this.headers.add("Accept", "*/*");
+		this.headers.add("Host", "example.com");
+
+		assertThat(this.headers).isEqualTo(other);
+		assertThat(other).isEqualTo(this.headers);
+		assertThat(this.headers.hashCode()).isEqualTo(other.hashCode());
+		assertThat(this.headers.toString()).isEqualTo(other.toString());
+	}
+
+	@Test
+	void serializable() throws Exception {
+		this.headers.add("Accept", "*/*");
+		this.headers.add("Host", "example.com");
+
+		CaseInsensitiveHeadersMap copy = SerializationTestUtils.serializeAndDeserialize(this.headers);
+		assertThat(copy).isEqualTo(this.headers);
+		assertThat(copy.getFirst("ACCEPT")).isEqualTo("*/*");
+	}
+
+}
@@ -18,14 +18,17 @@ package org.springframework.http.codec.json;
 
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.annotation.JsonTypeName;
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -34,6 +37,7 @@ import tools.jackson.core.json.JsonFactory;
 import tools.jackson.core.util.BufferRecycler;
 import tools.jackson.core.util.JsonRecyclerPools;
 import tools.jackson.core.util.RecyclerPool;
+import tools.jackson.databind.ObjectWriter;
 import tools.jackson.databind.SerializationFeature;
 import tools.jackson.databind.json.JsonMapper;
 import tools.jackson.databind.ser.FilterProvider;
@@ -258,6 +262,41 @@ class JacksonJsonEncoderTests extends AbstractEncoderTests<JacksonJsonEncoder> {
 		);
 	}
 
+	@Test
+	void objectWriterReusedForSameTypeAndView() {
+		List<ObjectWriter> writers = new ArrayList<>();
+		JacksonJsonEncoder encoder = new JacksonJsonEncoder() {
+			@Override
+			protected ObjectWriter customizeWriter(ObjectWriter writer, @Nullable MimeType mimeType,
+					ResolvableType elementType, @Nullable Map<String, Object> hints) {
+
+				writers.add(writer);
+				return super.customizeWriter(writer, mimeType, elementType, hints);
+			}
+		};
+		JacksonViewBean bean = new JacksonViewBean();
+		bean.setWithView1("with");
+		bean.setWithoutView("without");
+		ResolvableType type = ResolvableType.forClass(JacksonViewBean.class);
+		Map<String, Object> hints = singletonMap(JSON_VIEW_HINT, MyJacksonView1.class);
+
+		assertThat(encodeToString(encoder, bean, type, hints)).isEqualTo("{\"withView1\":\"with\"}");
+		assertThat(encodeToString(encoder, bean, type, hints)).isEqualTo("{\"withView1\":\"with\"}");
+		assertThat(encodeToString(encoder, bean, type, null)).contains("\"withoutView\":\"without\"");
+		assertThat(writers).hasSize(3);
+		assertThat(writers.get(1)).isSameAs(writers.get(0));
+		assertThat(writers.get(2)).isNotSameAs(writers.get(0));
+	}
+
+	private String encodeToString(JacksonJsonEncoder encoder, Object value, ResolvableType type,
+			@Nullable Map<String, Object> hints) {
+
+		DataBuffer buffer = encoder.encodeValue(value, this.bufferFactory, type, APPLICATION_JSON, hints);
+		String result = buffer.toString(StandardCharsets.UTF_8);
+		DataBufferUtils.release(buffer);
+		return result;
+	}
+
 	@Test
 	void filterProvider() {
 		JacksonFilteredBean filteredBean = new JacksonFilteredBean("foo", "bar");
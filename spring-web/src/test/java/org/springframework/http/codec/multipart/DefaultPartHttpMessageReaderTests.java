@@ -23,6 +23,7 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.MessageDigest;
 import java.util.Collections;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -238,6 +239,21 @@ class DefaultPartHttpMessageReaderTests extends AbstractLeakCheckingTests {
 		latch.await();
 	}
 
+	@ParameterizedDefaultPartHttpMessageReaderTest
+	void digest(DefaultPartHttpMessageReader reader) throws Exception {
+		reader.setDigestAlgorithm("SHA-256");
+		testDigest(reader);
+	}
+
+	@Test
+	void digestWithAsynchronousFileWrites() throws Exception {
+		DefaultPartHttpMessageReader reader = new DefaultPartHttpMessageReader();
+		reader.setMaxInMemorySize(10);
+		reader.setAsynchronousFileWrites(true);
+		reader.setDigestAlgorithm("SHA-256");
+		testDigest(reader);
+	}
+
 	@ParameterizedDefaultPartHttpMessageReaderTest
 	void quotedBoundary(DefaultPartHttpMessageReader reader) throws InterruptedException {
 		MockServerHttpRequest request = createRequest(
@@ -347,6 +363,31 @@ class DefaultPartHttpMessageReaderTests extends AbstractLeakCheckingTests {
 		latch.await();
 	}
 
+	private void testDigest(DefaultPartHttpMessageReader reader) throws Exception {
+		MockServerHttpRequest request = createRequest(
+				"files.multipart", "----WebKitFormBoundaryG8fJ50opQOML0oGD");
+
+		Flux<Part> result = reader.read(forClass(Part.class), request, emptyMap());
+
+		byte[] loremIpsumDigest = MessageDigest.getInstance("SHA-256").digest(LOREM_IPSUM.getBytes(UTF_8));
+		byte[] muspiMerolDigest = MessageDigest.getInstance("SHA-256").digest(MUSPI_MEROL.getBytes(UTF_8));
+		CountDownLatch latch = new CountDownLatch(2);
+		StepVerifier.create(result)
+				.consumeNextWith(part -> {
+					assertThat(part).isInstanceOfSatisfying(FilePart.class,
+							filePart -> assertThat(filePart.digest()).isEqualTo(loremIpsumDigest));
+					testBrowserFile(part, "file2", "a.txt", LOREM_IPSUM, latch);
+				})
+				.consumeNextWith(part -> {
+					assertThat(part).isInstanceOfSatisfying(FilePart.class,
+							filePart -> assertThat(filePart.digest()).isEqualTo(muspiMerolDigest));
+					testBrowserFile(part, "file2", "b.txt", MUSPI_MEROL, latch);
+				})
+				.verifyComplete();
+
+		latch.await();
+	}
+
 	private MockServerHttpRequest createRequest(String fileName, String boundary) {
 		Resource resource = new ClassPathResource("/org/springframework/http/multipart/" + fileName);
 		Flux<DataBuffer> body = DataBufferUtils
@@ -455,9 +496,14 @@ class DefaultPartHttpMessageReaderTests extends AbstractLeakCheckingTests {
 		DefaultPartHttpMessageReader onDisk = new DefaultPartHttpMessageReader();
 		onDisk.setMaxInMemorySize(100);
 
+		DefaultPartHttpMessageReader onDiskAsynchronous = new DefaultPartHttpMessageReader();
+		onDiskAsynchronous.setMaxInMemorySize(100);
+		onDiskAsynchronous.setAsynchronousFileWrites(true);
+
 		return Stream.of(
 				argumentSet("in-memory", inMemory),
-				argumentSet("on-disk", onDisk));
+				argumentSet("on-disk", onDisk),
+				argumentSet("on-disk-asynchronous", onDiskAsynchronous));
 	}
 
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2002-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.http.codec.multipart;
+
+import java.io.IOException;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.ClosedChannelException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.testfixture.io.buffer.AbstractDataBufferAllocatingTests;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link PartGenerator}.
+ */
+class PartGeneratorTests extends AbstractDataBufferAllocatingTests {
+
+	@TempDir
+	Path tempDir;
+
+
+	@ParameterizedDataBufferAllocatingTest
+	void writeAndReleaseWithDigest(DataBufferFactory bufferFactory) throws IOException {
+		super.bufferFactory = bufferFactory;
+
+		StringBuilder digested = new StringBuilder();
+		try (AsynchronousFileChannel channel = openChannel()) {
+			StepVerifier.create(PartGenerator.writeAndRelease(stringBuffer("foo"), channel, 0,
+							buffer -> digested.append(buffer.toString(StandardCharsets.UTF_8)),
+							Schedulers.boundedElastic()))
+					.verifyComplete();
+		}
+
+		assertThat(digested).hasToString("foo");
+		assertThat(this.tempDir.resolve("part")).hasContent("foo");
+	}
+
+	@ParameterizedDataBufferAllocatingTest
+	void writeAndReleaseWithFailingChannel(DataBufferFactory bufferFactory) throws IOException {
+		super.bufferFactory = bufferFactory;
+
+		AsynchronousFileChannel channel = openChannel();
+		channel.close();
+
+		StepVerifier.create(PartGenerator.writeAndRelease(stringBuffer("foo"), channel, 0, null,
+						Schedulers.boundedElastic()))
+				.verifyError(ClosedChannelException.class);
+	}
+
+	@ParameterizedDataBufferAllocatingTest
+	void writeAndReleaseWithFailingChannelAndDigest(DataBufferFactory bufferFactory) throws IOException {
+		super.bufferFactory = bufferFactory;
+
+		AsynchronousFileChannel channel = openChannel();
+		channel.close();
+
+		StepVerifier.create(PartGenerator.writeAndRelease(stringBuffer("foo"), channel, 0, buffer -> {},
+						Schedulers.boundedElastic()))
+				.verifyError(ClosedChannelException.class);
+	}
+
+	@ParameterizedDataBufferAllocatingTest
+	void writeAndReleaseCancelledWhileDigesting(DataBufferFactory bufferFactory) throws IOException {
+		super.bufferFactory = bufferFactory;
+
+		CountDownLatch digesting = new CountDownLatch(1);
+		CountDownLatch cancelled = new CountDownLatch(1);
+		try (AsynchronousFileChannel channel = openChannel()) {
+			StepVerifier.create(PartGenerator.writeAndRelease(stringBuffer("foo"), channel, 0,
+							buffer -> awaitCancel(digesting, cancelled), Schedulers.boundedElastic()))
+					.then(() -> awaitDigesting(digesting))
+					.thenCancel()
+					.verify();
+		}
+		finally {
+			cancelled.countDown();
+		}
+	}
+
+
+	private AsynchronousFileChannel openChannel() throws IOException {
+		Path file = Files.createFile(this.tempDir.resolve("part"));
+		return AsynchronousFileChannel.open(file, StandardOpenOption.WRITE);
+	}
+
+	private static void awaitDigesting(CountDownLatch digesting) {
+		try {
+			assertThat(digesting.await(5, TimeUnit.SECONDS)).isTrue();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void awaitCancel(CountDownLatch digesting, CountDownLatch cancelled) {
+		digesting.countDown();
+		try {
+			cancelled.await(5, TimeUnit.SECONDS);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
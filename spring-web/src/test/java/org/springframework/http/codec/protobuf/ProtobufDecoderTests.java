@@ -16,6 +16,7 @@
 
 package org.springframework.http.codec.protobuf;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.Arrays;
 
@@ -195,6 +196,29 @@ class ProtobufDecoderTests extends AbstractDecoderTests<ProtobufDecoder> {
 				.verifyComplete());
 	}
 
+	@Test
+	void decodeMessageSpanningManyChunks() throws IOException {
+		this.decoder.setMaxMessageSize(-1);
+		Msg bigMessage = Msg.newBuilder().setFoo("azertyuiop".repeat(20000)).setBlah(secondMsg2).build();
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		bigMessage.writeDelimitedTo(bos);
+		bigMessage.writeDelimitedTo(bos);
+		byte[] bytes = bos.toByteArray();
+
+		Flux<DataBuffer> input = Flux.range(0, (bytes.length + 4095) / 4096)
+				.map(i -> {
+					int length = Math.min(4096, bytes.length - i * 4096);
+					DataBuffer buffer = this.bufferFactory.allocateBuffer(length);
+					buffer.write(bytes, i * 4096, length);
+					return buffer;
+				});
+
+		testDecode(input, Msg.class, step -> step
+				.expectNext(bigMessage)
+				.expectNext(bigMessage)
+				.verifyComplete());
+	}
+
 	@Test
 	@SuppressWarnings("deprecation")
 	void decodeMergedChunks() throws IOException {
@@ -19,6 +19,7 @@ package org.springframework.http.converter;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
 
 import org.junit.jupiter.api.Test;
 
@@ -28,6 +29,7 @@ import org.springframework.core.io.InputStreamResource;
 import org.springframework.core.io.InputStreamSource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.ContentDisposition;
+import org.springframework.http.FileTransferHttpOutputMessage;
 import org.springframework.http.MediaType;
 import org.springframework.util.FileCopyUtils;
 import org.springframework.web.testfixture.http.MockHttpInputMessage;
@@ -136,6 +138,27 @@ class ResourceHttpMessageConverterTests {
 				.as("Invalid content-length").isEqualTo(body.getFile().length());
 	}
 
+	@Test
+	void writeFileResourceThroughFileTransfer() throws IOException {
+		FileTransferOutputMessage outputMessage = new FileTransferOutputMessage(true);
+		Resource body = new ClassPathResource("logo.jpg", getClass());
+		converter.write(body, null, outputMessage);
+
+		assertThat(outputMessage.file).isEqualTo(body.getFilePath());
+		assertThat(outputMessage.count).isEqualTo(body.contentLength());
+		assertThat(outputMessage.getBodyAsBytes()).isEmpty();
+	}
+
+	@Test
+	void writeFileResourceWithoutFileTransfer() throws IOException {
+		FileTransferOutputMessage outputMessage = new FileTransferOutputMessage(false);
+		Resource body = new ClassPathResource("logo.jpg", getClass());
+		converter.write(body, null, outputMessage);
+
+		assertThat(outputMessage.file).isEqualTo(body.getFilePath());
+		assertThat(outputMessage.getBodyAsBytes()).isEqualTo(body.getContentAsByteArray());
+	}
+
 	@Test  // SPR-10848
 	void writeByteArrayNullMediaType() throws IOException {
 		MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
@@ -181,6 +204,26 @@ class ResourceHttpMessageConverterTests {
 		assertThat(outputMessage.getHeaders().getContentLength()).isEqualTo(0);
 	}
 
+	static class FileTransferOutputMessage extends MockHttpOutputMessage implements FileTransferHttpOutputMessage {
+
+		private final boolean supported;
+
+		Path file;
+
+		long count;
+
+		FileTransferOutputMessage(boolean supported) {
+			this.supported = supported;
+		}
+
+		@Override
+		public boolean transferFile(Path file, long position, long count) {
+			this.file = file;
+			this.count = count;
+			return this.supported;
+		}
+	}
+
 	static class CustomStreamResource extends InputStreamResource {
 
 		public CustomStreamResource(InputStreamSource inputStreamSource) {
@@ -23,9 +23,12 @@ import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import com.fasterxml.jackson.annotation.JsonFilter;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
@@ -123,6 +126,8 @@ class JacksonJsonHttpMessageConverterTests {
 		MediaType[] defaultMediaTypes = {MediaType.APPLICATION_JSON, MediaType.parseMediaType("application/*+json")};
 		assertThat(this.converter.getSupportedMediaTypes()).containsExactly(defaultMediaTypes);
 		assertThat(this.converter.getSupportedMediaTypes(MyBean.class)).containsExactly(defaultMediaTypes);
+		assertThat(this.converter.getSupportedMediaTypes(Stream.class)).containsExactly(MediaType.APPLICATION_JSON,
+				MediaType.parseMediaType("application/*+json"), MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSONL);
 
 		MediaType halJson = MediaType.parseMediaType("application/hal+json");
 		this.converter.registerMappersForType(MyBean.class, map -> {
@@ -342,6 +347,87 @@ class JacksonJsonHttpMessageConverterTests {
 		JSONAssert.assertEquals(body, outputMessage.getBodyAsString(StandardCharsets.UTF_8), true);
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	void readStream() throws Exception {
+		ParameterizedTypeReference<Stream<MyBean>> beansStream = new ParameterizedTypeReference<>() {};
+		String body = "[{\"string\":\"Foo\",\"number\":42},{\"string\":\"Bar\",\"number\":43}]";
+		MockHttpInputMessage inputMessage = new MockHttpInputMessage(body.getBytes(StandardCharsets.UTF_8));
+		inputMessage.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+		assertThat(this.converter.canRead(ResolvableType.forType(beansStream), MediaType.APPLICATION_JSON)).isTrue();
+		try (Stream<MyBean> results = (Stream<MyBean>) this.converter.read(ResolvableType.forType(beansStream), inputMessage, null)) {
+			assertThat(results).extracting(MyBean::getString).containsExactly("Foo", "Bar");
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void readIterator() throws Exception {
+		ParameterizedTypeReference<Iterator<MyBean>> beansIterator = new ParameterizedTypeReference<>() {};
+		String body = "[{\"string\":\"Foo\",\"number\":42},{\"string\":\"Bar\",\"number\":43}]";
+		MockHttpInputMessage inputMessage = new MockHttpInputMessage(body.getBytes(StandardCharsets.UTF_8));
+		inputMessage.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+		Iterator<MyBean> results = (Iterator<MyBean>) this.converter.read(ResolvableType.forType(beansIterator), inputMessage, null);
+		assertThat(results.next().getNumber()).isEqualTo(42);
+		assertThat(results.next().getNumber()).isEqualTo(43);
+		assertThat(results.hasNext()).isFalse();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void readIteratorWithInvalidElement() throws Exception {
+		ParameterizedTypeReference<Iterator<MyBean>> beansIterator = new ParameterizedTypeReference<>() {};
+		String body = "[{\"string\":\"Foo\"},{\"number\":\"NaN\"}]";
+		MockHttpInputMessage inputMessage = new MockHttpInputMessage(body.getBytes(StandardCharsets.UTF_8));
+		inputMessage.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+		Iterator<MyBean> results = (Iterator<MyBean>) this.converter.read(ResolvableType.forType(beansIterator), inputMessage, null);
+		assertThat(results.next().getString()).isEqualTo("Foo");
+		assertThatExceptionOfType(HttpMessageNotReadableException.class).isThrownBy(results::next);
+	}
+
+	@Test
+	void writeStream() throws Exception {
+		AtomicBoolean closed = new AtomicBoolean();
+		Stream<MyBean> beans = Stream.of(bean("Foo"), bean("Bar")).onClose(() -> closed.set(true));
+		ParameterizedTypeReference<Stream<MyBean>> beansStream = new ParameterizedTypeReference<>() {};
+
+		MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+		this.converter.write(beans, ResolvableType.forType(beansStream), MediaType.APPLICATION_JSON, outputMessage, null);
+
+		JSONAssert.assertEquals("[{\"string\":\"Foo\"},{\"string\":\"Bar\"}]",
+				outputMessage.getBodyAsString(StandardCharsets.UTF_8), false);
+		assertThat(closed).isTrue();
+	}
+
+	@Test
+	void writeStreamAsNdjson() throws Exception {
+		AtomicBoolean closed = new AtomicBoolean();
+		Stream<MyBean> beans = Stream.of(bean("Foo"), bean("Bar")).onClose(() -> closed.set(true));
+		ParameterizedTypeReference<Stream<MyBean>> beansStream = new ParameterizedTypeReference<>() {};
+
+		assertThat(this.converter.canWrite(ResolvableType.forType(beansStream), beans.getClass(), MediaType.APPLICATION_NDJSON)).isTrue();
+		assertThat(this.converter.canWrite(ResolvableType.forClass(MyBean.class), MyBean.class, MediaType.APPLICATION_NDJSON)).isFalse();
+
+		MockHttpOutputMessage outputMessage = new MockHttpOutputMessage();
+		this.converter.write(beans, ResolvableType.forType(beansStream), MediaType.APPLICATION_NDJSON, outputMessage, null);
+
+		String[] lines = outputMessage.getBodyAsString(StandardCharsets.UTF_8).split("\n");
+		assertThat(lines).hasSize(2);
+		JSONAssert.assertEquals("{\"string\":\"Foo\"}", lines[0], false);
+		JSONAssert.assertEquals("{\"string\":\"Bar\"}", lines[1], false);
+		assertThat(outputMessage.getBodyAsString(StandardCharsets.UTF_8)).startsWith("{").endsWith("}\n");
+		assertThat(closed).isTrue();
+	}
+
+	private static MyBean bean(String string) {
+		MyBean bean = new MyBean();
+		bean.setString(string);
+		return bean;
+	}
+
 	@Test
 	@SuppressWarnings("unchecked")
 	void writeParameterizedBaseType() throws Exception {
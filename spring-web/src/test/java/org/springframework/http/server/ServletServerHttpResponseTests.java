@@ -17,18 +17,23 @@
 package org.springframework.http.server;
 
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 
 import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequestWrapper;
 import jakarta.servlet.http.HttpServletResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import org.springframework.core.SpringProperties;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.util.FileCopyUtils;
+import org.springframework.web.testfixture.servlet.MockHttpServletRequest;
 import org.springframework.web.testfixture.servlet.MockHttpServletResponse;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -157,4 +162,61 @@ class ServletServerHttpResponseTests {
 		SpringProperties.setProperty(ServletServerHttpResponse.FLUSH_ENABLED_PROPERTY_NAME, null);
 	}
 
+	@Test
+	void transferFileWithSendfileSupport(@TempDir Path tempDir) throws Exception {
+		Path file = Files.write(tempDir.resolve("file.bin"), new byte[128 * 1024]);
+		MockHttpServletRequest mockRequest = new MockHttpServletRequest("GET", "/file.bin");
+		mockRequest.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+		this.response = new ServletServerHttpResponse(this.mockResponse, mockRequest);
+
+		assertThat(this.response.transferFile(file, 1024, 64 * 1024)).isTrue();
+		assertThat(mockRequest.getAttribute("org.apache.tomcat.sendfile.filename")).isEqualTo(file.toAbsolutePath().toString());
+		assertThat(mockRequest.getAttribute("org.apache.tomcat.sendfile.start")).isEqualTo(1024L);
+		assertThat(mockRequest.getAttribute("org.apache.tomcat.sendfile.end")).isEqualTo(1024L + 64 * 1024);
+		assertThat(this.mockResponse.getContentLengthLong()).isEqualTo(64 * 1024);
+		assertThat(this.mockResponse.getContentAsByteArray()).isEmpty();
+	}
+
+	@Test
+	void transferFileWithoutSendfileSupport(@TempDir Path tempDir) throws Exception {
+		Path file = Files.write(tempDir.resolve("file.bin"), new byte[128 * 1024]);
+		MockHttpServletRequest mockRequest = new MockHttpServletRequest("GET", "/file.bin");
+		this.response = new ServletServerHttpResponse(this.mockResponse, mockRequest);
+
+		assertThat(this.response.transferFile(file, 0, 128 * 1024)).isFalse();
+		assertThat(mockRequest.getAttribute("org.apache.tomcat.sendfile.filename")).isNull();
+	}
+
+	@Test
+	void transferFileWithoutRequest(@TempDir Path tempDir) throws Exception {
+		Path file = Files.write(tempDir.resolve("file.bin"), new byte[128 * 1024]);
+
+		assertThat(this.response.transferFile(file, 0, 128 * 1024)).isFalse();
+		assertThat(this.mockResponse.getContentLengthLong()).isZero();
+	}
+
+	@Test
+	void transferFileWithWrappedRequest(@TempDir Path tempDir) throws Exception {
+		Path file = Files.write(tempDir.resolve("file.bin"), new byte[128 * 1024]);
+		MockHttpServletRequest mockRequest = new MockHttpServletRequest("GET", "/file.bin");
+		mockRequest.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+		this.response = new ServletServerHttpResponse(this.mockResponse, new HttpServletRequestWrapper(mockRequest));
+
+		assertThat(this.response.transferFile(file, 0, 128 * 1024)).isFalse();
+		assertThat(mockRequest.getAttribute("org.apache.tomcat.sendfile.filename")).isNull();
+	}
+
+	@Test
+	void transferSmallFileOrHeadRequest(@TempDir Path tempDir) throws Exception {
+		Path file = Files.write(tempDir.resolve("file.bin"), new byte[128 * 1024]);
+		MockHttpServletRequest mockRequest = new MockHttpServletRequest("GET", "/file.bin");
+		mockRequest.setAttribute("org.apache.tomcat.sendfile.support", Boolean.TRUE);
+		this.response = new ServletServerHttpResponse(this.mockResponse, mockRequest);
+		assertThat(this.response.transferFile(file, 0, 1024)).isFalse();
+
+		mockRequest.setMethod("HEAD");
+		assertThat(this.response.transferFile(file, 0, 128 * 1024)).isFalse();
+		assertThat(mockRequest.getAttribute("org.apache.tomcat.sendfile.filename")).isNull();
+	}
+
 }
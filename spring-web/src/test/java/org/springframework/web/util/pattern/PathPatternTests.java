@@ -341,6 +341,92 @@ class PathPatternTests {
 
 	}
 
+	@Nested
+	class FlatMatchingTests {
+
+		@Test
+		void separatorsAndLiterals() {
+			checkSameAsChain("/foo/bar", "/foo/bar", "/foo/baz", "/foo", "/foo/bar/", "foo/bar", "//foo/bar", "/foo//bar", "/");
+			checkSameAsChain("foo/bar/", "foo/bar/", "foo/bar", "foo/bar//", "/foo/bar/");
+			checkSameAsChain("/", "/", "//", "/foo");
+		}
+
+		@Test
+		void wildcards() {
+			checkSameAsChain("/foo/*", "/foo/bar", "/foo/", "/foo", "/foo/bar/", "/foo/bar/baz", "/foo//");
+			checkSameAsChain("/*/bar", "/foo/bar", "//bar", "/foo/baz", "/foo/bar/", "/bar");
+			checkSameAsChain("*", "foo", "", "/foo");
+		}
+
+		@Test
+		void captures() {
+			checkSameAsChain("/{a}/{b}", "/x/y", "/x/", "/x", "/x//y", "/x/y/z", "/x/y/", "/%20/y");
+			checkSameAsChain("/foo/{id}/", "/foo/1/", "/foo/1", "/foo//");
+			assertThat(parse("/{a}/{b}").matchAndExtract(toPathContainer("/x/y")).getUriVariables())
+					.containsOnly(Map.entry("a", "x"), Map.entry("b", "y"));
+		}
+
+		@Test
+		void matrixVariables() {
+			checkSameAsChain("/{a}/bar", "/x;k=v;k=w/bar", "/x;k=v/baz", "/;k=v/bar");
+			checkSameAsChain("/foo/bar", "/foo;k=v/bar", "/foo/bar;k=v");
+			PathPattern.PathMatchInfo info = parse("/{a}/bar").matchAndExtract(toPathContainer("/x;k=v;k=w/bar"));
+			assertThat(info.getUriVariables()).containsOnly(Map.entry("a", "x"));
+			assertThat(info.getMatrixVariables().get("a").get("k")).containsExactly("v", "w");
+		}
+
+		@Test
+		void caseInsensitive() {
+			PathPatternParser parser = new PathPatternParser();
+			parser.setCaseSensitive(false);
+			checkSameAsChain(parser.parse("/Foo/{id}"), "/foo/1", "/FOO/1", "/bar/1");
+		}
+
+		@Test
+		void chainUsedForOtherPatterns() {
+			checkSameAsChain("/foo/{id:\\d+}", "/foo/1", "/foo/x");
+			checkSameAsChain("/foo/*.html", "/foo/a.html", "/foo/a.txt");
+			checkSameAsChain("/f?o/bar", "/foo/bar", "/fo/bar");
+			PathPattern catchAll = parse("/foo/{*rest}");
+			assertThat(catchAll.hasFlatElements()).isFalse();
+			assertThat(catchAll.matches(toPathContainer("/foo/a/b"))).isTrue();
+			assertThat(parse("/foo/**").hasFlatElements()).isFalse();
+			assertThat(parse("").hasFlatElements()).isFalse();
+		}
+
+		private void checkSameAsChain(String pattern, String... paths) {
+			PathPattern pathPattern = parse(pattern);
+			assertThat(pathPattern.hasFlatElements()).as("flat elements for " + pattern)
+					.isEqualTo(!pattern.contains("?") && !pattern.contains(".") && !pattern.contains(":"));
+			checkSameAsChain(pathPattern, paths);
+		}
+
+		private void checkSameAsChain(PathPattern pattern, String... paths) {
+			for (String path : paths) {
+				PathContainer pathContainer = toPathContainer(path);
+				PathPattern.PathMatchInfo expected = null;
+				if (!pathContainer.elements().isEmpty()) {
+					PathPattern.MatchingContext matchingContext = new PathPattern.MatchingContext(pathContainer, true);
+					if (pattern.getHeadSection().matches(0, matchingContext)) {
+						expected = matchingContext.getPathMatchResult();
+					}
+				}
+				PathPattern.PathMatchInfo actual = pattern.matchAndExtract(pathContainer);
+				String description = pattern.getPatternString() + " against \"" + path + "\"";
+				assertThat(pattern.matches(pathContainer)).as(description).isEqualTo(expected != null);
+				if (expected == null) {
+					assertThat(actual).as(description).isNull();
+				}
+				else {
+					assertThat(actual).as(description).isNotNull();
+					assertThat(actual.getUriVariables()).as(description).isEqualTo(expected.getUriVariables());
+					assertThat(actual.getMatrixVariables()).as(description).isEqualTo(expected.getMatrixVariables());
+				}
+			}
+		}
+	}
+
+
 
 	@Test
 	void pathContainer() {
@@ -364,6 +450,23 @@ class PathPatternTests {
 		assertThat(parser.parse("/foo/bar").hasPatternSyntax()).isFalse();
 	}
 
+	@Test
+	void literalPrefixSegments() {
+		PathPatternParser parser = new PathPatternParser();
+		assertThat(parser.parse("/foo/bar").getLiteralPrefixSegments()).containsExactly("foo", "bar");
+		assertThat(parser.parse("/foo/bar/").getLiteralPrefixSegments()).containsExactly("foo", "bar");
+		assertThat(parser.parse("/foo/{bar}/baz").getLiteralPrefixSegments()).containsExactly("foo");
+		assertThat(parser.parse("/foo/b*r").getLiteralPrefixSegments()).containsExactly("foo");
+		assertThat(parser.parse("/foo/{*elem}").getLiteralPrefixSegments()).containsExactly("foo");
+		assertThat(parser.parse("/f?o/bar").getLiteralPrefixSegments()).isEmpty();
+		assertThat(parser.parse("/**").getLiteralPrefixSegments()).isEmpty();
+		assertThat(parser.parse("foo/bar").getLiteralPrefixSegments()).isEmpty();
+		assertThat(parser.parse("").getLiteralPrefixSegments()).isEmpty();
+
+		parser.setCaseSensitive(false);
+		assertThat(parser.parse("/foo/bar").getLiteralPrefixSegments()).isEmpty();
+	}
+
 	@Test // SPR-15336
 	void pathRemainderBasicCases() {
 		// Cover all PathElement kinds
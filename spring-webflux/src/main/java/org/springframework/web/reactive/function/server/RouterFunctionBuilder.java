@@ -432,7 +432,7 @@ class RouterFunctionBuilder implements RouterFunctions.Builder {
 	 * Router function returned by {@link #build()} that simply iterates over
 	 * the registered routes.
 	 */
-	private static class BuiltRouterFunction extends RouterFunctions.AbstractRouterFunction<ServerResponse> {
+	static class BuiltRouterFunction extends RouterFunctions.AbstractRouterFunction<ServerResponse> {
 
 		private final List<RouterFunction<ServerResponse>> routerFunctions;
 
@@ -441,6 +441,10 @@ class RouterFunctionBuilder implements RouterFunctions.Builder {
 			this.routerFunctions = new ArrayList<>(routerFunctions);
 		}
 
+		List<RouterFunction<ServerResponse>> getRouterFunctions() {
+			return this.routerFunctions;
+		}
+
 		@Override
 		public Mono<HandlerFunction<ServerResponse>> route(ServerRequest request) {
 			return Flux.fromIterable(this.routerFunctions)
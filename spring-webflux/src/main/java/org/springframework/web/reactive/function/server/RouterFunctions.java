@@ -16,7 +16,10 @@
 
 package org.springframework.web.reactive.function.server;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -26,9 +29,11 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
@@ -36,6 +41,7 @@ import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.codec.HttpMessageWriter;
+import org.springframework.http.server.PathContainer;
 import org.springframework.http.server.reactive.HttpHandler;
 import org.springframework.util.Assert;
 import org.springframework.web.cors.reactive.CorsUtils;
@@ -371,6 +377,66 @@ public abstract class RouterFunctions {
 		return routerFunction;
 	}
 
+	/**
+	 * Compile the given {@linkplain RouterFunction router function} for faster
+	 * routing. Router functions composed through {@link RouterFunction#and},
+	 * {@link RouterFunction#andOther}, or {@linkplain #route() the builder} are
+	 * indexed by the literal leading path segments of their
+	 * {@linkplain RequestPredicates#path(String) path predicates}, so that only
+	 * the router functions that can match the path of a request are invoked,
+	 * still in the order in which they were composed. Nested router functions
+	 * are compiled as well.
+	 * <p>The index is built on first use and rebuilt after the path patterns
+	 * have been changed through {@link #changeParser}.
+	 * @param routerFunction the router function to compile
+	 * @param <T> the type of response returned by the handler function
+	 * @return the compiled router function
+	 * @since 7.1
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T extends ServerResponse> RouterFunction<T> compile(RouterFunction<T> routerFunction) {
+		Assert.notNull(routerFunction, "RouterFunction must not be null");
+		return (RouterFunction<T>) compileInternal(routerFunction);
+	}
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static RouterFunction<?> compileInternal(RouterFunction<?> routerFunction) {
+		if (routerFunction instanceof SameComposedRouterFunction<?> ||
+				routerFunction instanceof DifferentComposedRouterFunction ||
+				routerFunction instanceof RouterFunctionBuilder.BuiltRouterFunction) {
+			List<RouterFunction<?>> routerFunctions = new ArrayList<>();
+			flatten(routerFunction, routerFunctions);
+			return new CompiledRouterFunction<>(routerFunctions);
+		}
+		else if (routerFunction instanceof DefaultNestedRouterFunction<?> nested) {
+			return new DefaultNestedRouterFunction(nested.predicate, compileInternal(nested.routerFunction));
+		}
+		else if (routerFunction instanceof FilteredRouterFunction<?, ?> filtered) {
+			return new FilteredRouterFunction(compileInternal(filtered.routerFunction), filtered.filterFunction);
+		}
+		else if (routerFunction instanceof AttributesRouterFunction<?> attributed) {
+			return new AttributesRouterFunction(compileInternal(attributed.delegate), attributed.attributes);
+		}
+		return routerFunction;
+	}
+
+	private static void flatten(RouterFunction<?> routerFunction, List<RouterFunction<?>> result) {
+		if (routerFunction instanceof SameComposedRouterFunction<?> composed) {
+			flatten(composed.first, result);
+			flatten(composed.second, result);
+		}
+		else if (routerFunction instanceof DifferentComposedRouterFunction composed) {
+			flatten(composed.first, result);
+			flatten(composed.second, result);
+		}
+		else if (routerFunction instanceof RouterFunctionBuilder.BuiltRouterFunction built) {
+			built.getRouterFunctions().forEach(element -> flatten(element, result));
+		}
+		else {
+			result.add(compileInternal(routerFunction));
+		}
+	}
+
 
 	/**
 	 * Represents a discoverable builder for router functions.
@@ -1390,6 +1456,119 @@ public abstract class RouterFunctions {
 	}
 
 
+	/**
+	 * Router function returned by {@link #compile(RouterFunction)} that only
+	 * invokes the router functions whose literal path prefix matches the
+	 * request path, in the order in which they were composed.
+	 * @param <T> the server response type
+	 */
+	static final class CompiledRouterFunction<T extends ServerResponse> extends AbstractRouterFunction<T> {
+
+		private final List<RouterFunction<?>> routerFunctions;
+
+		private volatile @Nullable PathPrefixNode root;
+
+		public CompiledRouterFunction(List<RouterFunction<?>> routerFunctions) {
+			this.routerFunctions = routerFunctions;
+		}
+
+		private PathPrefixNode getRoot() {
+			PathPrefixNode root = this.root;
+			if (root == null) {
+				root = new PathPrefixNode();
+				for (int i = 0; i < this.routerFunctions.size(); i++) {
+					root.add(getLiteralPathPrefix(this.routerFunctions.get(i)), 0, i);
+				}
+				root.initCandidates(new int[0]);
+				this.root = root;
+			}
+			return root;
+		}
+
+		private static List<String> getLiteralPathPrefix(RouterFunction<?> routerFunction) {
+			if (routerFunction instanceof DefaultRouterFunction<?> route) {
+				return RequestPredicates.getLiteralPathPrefix(route.predicate, false);
+			}
+			else if (routerFunction instanceof DefaultNestedRouterFunction<?> nested) {
+				return RequestPredicates.getLiteralPathPrefix(nested.predicate, true);
+			}
+			else if (routerFunction instanceof FilteredRouterFunction<?, ?> filtered) {
+				return getLiteralPathPrefix(filtered.routerFunction);
+			}
+			else if (routerFunction instanceof AttributesRouterFunction<?> attributed) {
+				return getLiteralPathPrefix(attributed.delegate);
+			}
+			return Collections.emptyList();
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public Mono<HandlerFunction<T>> route(ServerRequest request) {
+			int[] candidates = getRoot().getCandidates(request.requestPath().pathWithinApplication());
+			return Flux.fromStream(Arrays.stream(candidates).mapToObj(this.routerFunctions::get))
+					.concatMap(routerFunction -> routerFunction.route(request))
+					.next()
+					.map(handlerFunction -> (HandlerFunction<T>) handlerFunction);
+		}
+
+		@Override
+		public void accept(Visitor visitor) {
+			this.routerFunctions.forEach(routerFunction -> routerFunction.accept(visitor));
+			if (visitor instanceof ChangePathPatternParserVisitor) {
+				// Literal path prefixes depend on the parser: rebuild on next use
+				this.root = null;
+			}
+		}
+	}
+
+
+	/**
+	 * Node in the prefix tree of a {@link CompiledRouterFunction}, holding the
+	 * sorted indexes of the router functions to invoke for a request path
+	 * that leads to this node.
+	 */
+	private static final class PathPrefixNode {
+
+		private final List<Integer> indexes = new ArrayList<>();
+
+		private final Map<String, PathPrefixNode> children = new HashMap<>();
+
+		private int[] candidates = new int[0];
+
+		void add(List<String> prefix, int depth, int index) {
+			if (depth == prefix.size()) {
+				this.indexes.add(index);
+			}
+			else {
+				this.children.computeIfAbsent(prefix.get(depth), key -> new PathPrefixNode()).add(prefix, depth + 1, index);
+			}
+		}
+
+		void initCandidates(int[] inherited) {
+			this.candidates = IntStream.concat(Arrays.stream(inherited), this.indexes.stream().mapToInt(Integer::intValue))
+					.sorted().toArray();
+			this.children.values().forEach(child -> child.initCandidates(this.candidates));
+		}
+
+		int[] getCandidates(PathContainer path) {
+			PathPrefixNode node = this;
+			for (PathContainer.Element element : path.elements()) {
+				if (node.children.isEmpty()) {
+					break;
+				}
+				if (element instanceof PathContainer.PathSegment segment) {
+					PathPrefixNode child = node.children.get(segment.valueToMatch());
+					if (child == null) {
+						break;
+					}
+					node = child;
+				}
+			}
+			return node.candidates;
+		}
+	}
+
+
 	static final class AttributesRouterFunction<T extends ServerResponse> extends AbstractRouterFunction<T> {
 
 		private final RouterFunction<T> delegate;
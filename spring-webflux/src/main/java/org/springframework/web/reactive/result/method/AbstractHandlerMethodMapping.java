@@ -23,6 +23,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -37,6 +38,7 @@ import reactor.core.publisher.Mono;
 import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.core.MethodIntrospector;
+import org.springframework.http.server.PathContainer;
 import org.springframework.http.server.RequestPath;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -323,7 +325,7 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			addMatchingMappings(directPathMatches, matches, exchange);
 		}
 		if (matches.isEmpty()) {
-			addMatchingMappings(this.mappingRegistry.getRegistrations().keySet(), matches, exchange);
+			addMatchingMappings(this.mappingRegistry.getMappingsByPathPrefix(exchange), matches, exchange);
 		}
 		if (!matches.isEmpty()) {
 			Comparator<Match> comparator = new MatchComparator(getMappingComparator(exchange));
@@ -436,6 +438,19 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 		return Collections.emptySet();
 	}
 
+	/**
+	 * Return the literal leading path segments of each request mapping path
+	 * pattern, used to narrow down the mappings to check when there is no
+	 * direct path match. A mapping for which this method returns an empty
+	 * collection, or a collection with an empty list, is checked for every
+	 * request.
+	 * @since 7.1
+	 * @see org.springframework.web.util.pattern.PathPattern#getLiteralPrefixSegments()
+	 */
+	protected Collection<List<String>> getPathPrefixSegments(T mapping) {
+		return Collections.emptyList();
+	}
+
 	/**
 	 * Check if a mapping matches the current request and return a (potentially
 	 * new) mapping with conditions relevant to the current request.
@@ -466,6 +481,8 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 
 		private final MultiValueMap<String, T> pathLookup = new LinkedMultiValueMap<>();
 
+		private final PathPrefixTree<T> pathPrefixLookup = new PathPrefixTree<>();
+
 		private final Map<HandlerMethod, CorsConfiguration> corsLookup = new ConcurrentHashMap<>();
 
 		private final ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
@@ -488,6 +505,17 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			return this.pathLookup.get(path);
 		}
 
+		/**
+		 * Return the mappings whose path patterns start with literal segments
+		 * that match the given URL path, along with all mappings that cannot be
+		 * narrowed down by path prefix. Not thread-safe.
+		 * @since 7.1
+		 * @see #acquireReadLock()
+		 */
+		public List<T> getMappingsByPathPrefix(ServerWebExchange exchange) {
+			return this.pathPrefixLookup.getMappings(exchange.getRequest().getPath().pathWithinApplication());
+		}
+
 		/**
 		 * Return CORS configuration. Thread-safe for concurrent use.
 		 */
@@ -524,6 +552,11 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 					this.pathLookup.add(path, mapping);
 				}
 
+				Set<List<String>> pathPrefixes = PathPrefixTree.normalize(getPathPrefixSegments(mapping));
+				for (List<String> pathPrefix : pathPrefixes) {
+					this.pathPrefixLookup.add(pathPrefix, mapping);
+				}
+
 				CorsConfiguration corsConfig = initCorsConfiguration(handler, method, mapping);
 				if (corsConfig != null) {
 					corsConfig.validateAllowCredentials();
@@ -532,7 +565,7 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 				}
 
 				this.registry.put(mapping,
-						new MappingRegistration<>(mapping, handlerMethod, directPaths, corsConfig != null));
+						new MappingRegistration<>(mapping, handlerMethod, directPaths, pathPrefixes, corsConfig != null));
 			}
 			finally {
 				this.readWriteLock.writeLock().unlock();
@@ -568,6 +601,10 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 					}
 				}
 
+				for (List<String> pathPrefix : registration.getPathPrefixes()) {
+					this.pathPrefixLookup.remove(pathPrefix, registration.getMapping());
+				}
+
 				this.corsLookup.remove(registration.getHandlerMethod());
 			}
 			finally {
@@ -585,16 +622,19 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 
 		private final Set<String> directPaths;
 
+		private final Set<List<String>> pathPrefixes;
+
 		private final boolean corsConfig;
 
-		public MappingRegistration(
-				T mapping, HandlerMethod handlerMethod, @Nullable Set<String> directPaths, boolean corsConfig) {
+		public MappingRegistration(T mapping, HandlerMethod handlerMethod, @Nullable Set<String> directPaths,
+				@Nullable Set<List<String>> pathPrefixes, boolean corsConfig) {
 
 			Assert.notNull(mapping, "Mapping must not be null");
 			Assert.notNull(handlerMethod, "HandlerMethod must not be null");
 			this.mapping = mapping;
 			this.handlerMethod = handlerMethod;
 			this.directPaths = (directPaths != null ? directPaths : Collections.emptySet());
+			this.pathPrefixes = (pathPrefixes != null ? pathPrefixes : Collections.emptySet());
 			this.corsConfig = corsConfig;
 		}
 
@@ -610,12 +650,100 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			return this.directPaths;
 		}
 
+		public Set<List<String>> getPathPrefixes() {
+			return this.pathPrefixes;
+		}
+
 		public boolean hasCorsConfig() {
 			return this.corsConfig;
 		}
 	}
 
 
+	/**
+	 * Prefix tree of mappings, keyed by the literal leading path segments of
+	 * their path patterns. A lookup collects the mappings along the path of
+	 * the request's segments, so that mappings under unrelated prefixes are
+	 * not checked at all. Not thread-safe.
+	 */
+	private static final class PathPrefixTree<T> {
+
+		private final List<T> mappings = new ArrayList<>();
+
+		private final Map<String, PathPrefixTree<T>> children = new HashMap<>();
+
+		/**
+		 * Normalize the path prefixes of a mapping, dropping prefixes that start
+		 * with another prefix, so that a lookup finds a mapping at most once.
+		 */
+		static Set<List<String>> normalize(Collection<List<String>> pathPrefixes) {
+			Set<List<String>> result = new LinkedHashSet<>(pathPrefixes.size());
+			for (List<String> candidate : pathPrefixes) {
+				if (candidate.isEmpty()) {
+					return Collections.singleton(Collections.emptyList());
+				}
+				boolean covered = false;
+				for (List<String> other : pathPrefixes) {
+					if (other.size() < candidate.size() && candidate.subList(0, other.size()).equals(other)) {
+						covered = true;
+						break;
+					}
+				}
+				if (!covered) {
+					result.add(List.copyOf(candidate));
+				}
+			}
+			return (!result.isEmpty() ? result : Collections.singleton(Collections.emptyList()));
+		}
+
+		void add(List<String> segments, T mapping) {
+			PathPrefixTree<T> node = this;
+			for (String segment : segments) {
+				node = node.children.computeIfAbsent(segment, key -> new PathPrefixTree<>());
+			}
+			node.mappings.add(mapping);
+		}
+
+		void remove(List<String> segments, T mapping) {
+			remove(segments, 0, mapping);
+		}
+
+		private void remove(List<String> segments, int index, T mapping) {
+			if (index == segments.size()) {
+				this.mappings.remove(mapping);
+				return;
+			}
+			String segment = segments.get(index);
+			PathPrefixTree<T> child = this.children.get(segment);
+			if (child != null) {
+				child.remove(segments, index + 1, mapping);
+				if (child.mappings.isEmpty() && child.children.isEmpty()) {
+					this.children.remove(segment);
+				}
+			}
+		}
+
+		List<T> getMappings(PathContainer path) {
+			List<T> result = new ArrayList<>(this.mappings);
+			PathPrefixTree<T> node = this;
+			for (PathContainer.Element element : path.elements()) {
+				if (node.children.isEmpty()) {
+					break;
+				}
+				if (element instanceof PathContainer.PathSegment segment) {
+					PathPrefixTree<T> child = node.children.get(segment.valueToMatch());
+					if (child == null) {
+						break;
+					}
+					result.addAll(child.mappings);
+					node = child;
+				}
+			}
+			return result;
+		}
+	}
+
+
 	/**
 	 * A thin wrapper around a matched HandlerMethod and its mapping, for the purpose of
 	 * comparing the best match with a comparator in the context of the current request.
@@ -42,6 +42,7 @@ import org.springframework.web.server.WebFilter;
 import org.springframework.web.testfixture.http.server.reactive.MockServerHttpRequest;
 import org.springframework.web.testfixture.http.server.reactive.MockServerHttpResponse;
 import org.springframework.web.testfixture.server.MockServerWebExchange;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
@@ -364,4 +365,60 @@ class RouterFunctionsTests {
 		assertThat(filterInvoked.get()).isTrue();
 	}
 
+	@Test
+	void compile() {
+		HandlerFunction<ServerResponse> foo = request -> ServerResponse.ok().build();
+		HandlerFunction<ServerResponse> fooBar = request -> ServerResponse.ok().build();
+		HandlerFunction<ServerResponse> nestedBaz = request -> ServerResponse.ok().build();
+		HandlerFunction<ServerResponse> fallback = request -> ServerResponse.ok().build();
+
+		RouterFunction<ServerResponse> routerFunction = RouterFunctions.route()
+				.GET("/foo/{id}", foo)
+				.GET("/foo/bar", fooBar)
+				.path("/nested", builder -> builder.GET("/baz", nestedBaz))
+				.route(RequestPredicates.all(), fallback)
+				.build();
+		RouterFunction<ServerResponse> compiled = RouterFunctions.compile(routerFunction);
+
+		StepVerifier.create(compiled.route(serverRequest("/foo/bar"))).expectNext(foo).verifyComplete();
+		StepVerifier.create(compiled.route(serverRequest("/nested/baz"))).expectNext(nestedBaz).verifyComplete();
+		StepVerifier.create(compiled.route(serverRequest("/nested/qux"))).expectNext(fallback).verifyComplete();
+		StepVerifier.create(compiled.route(serverRequest("/other"))).expectNext(fallback).verifyComplete();
+		StepVerifier.create(compiled.route(serverRequest("/"))).expectNext(fallback).verifyComplete();
+	}
+
+	@Test
+	void compileNoMatch() {
+		HandlerFunction<ServerResponse> handlerFunction = request -> ServerResponse.ok().build();
+		RouterFunction<ServerResponse> routerFunction = RouterFunctions.route(RequestPredicates.GET("/foo"), handlerFunction)
+				.and(RouterFunctions.route(RequestPredicates.POST("/bar"), handlerFunction));
+		RouterFunction<ServerResponse> compiled = RouterFunctions.compile(routerFunction);
+
+		StepVerifier.create(compiled.route(serverRequest("/foo"))).expectNext(handlerFunction).verifyComplete();
+		StepVerifier.create(compiled.route(serverRequest("/bar"))).verifyComplete();
+		StepVerifier.create(compiled.route(serverRequest("/baz"))).verifyComplete();
+	}
+
+	@Test
+	void compileWithChangedParser() {
+		HandlerFunction<ServerResponse> handlerFunction = request -> ServerResponse.ok().build();
+		RouterFunction<ServerResponse> routerFunction = RouterFunctions.route()
+				.GET("/foo/bar", handlerFunction)
+				.GET("/baz", request -> ServerResponse.ok().build())
+				.build();
+		RouterFunction<ServerResponse> compiled = RouterFunctions.compile(routerFunction);
+		StepVerifier.create(compiled.route(serverRequest("/FOO/bar"))).verifyComplete();
+
+		PathPatternParser parser = new PathPatternParser();
+		parser.setCaseSensitive(false);
+		RouterFunctions.changeParser(compiled, parser);
+		StepVerifier.create(compiled.route(serverRequest("/FOO/bar"))).expectNext(handlerFunction).verifyComplete();
+		StepVerifier.create(compiled.route(serverRequest("/foo/bar"))).expectNext(handlerFunction).verifyComplete();
+	}
+
+	private static ServerRequest serverRequest(String path) {
+		MockServerHttpRequest mockRequest = MockServerHttpRequest.get("https://example.com" + path).build();
+		return new DefaultServerRequest(MockServerWebExchange.from(mockRequest), Collections.emptyList());
+	}
+
 }
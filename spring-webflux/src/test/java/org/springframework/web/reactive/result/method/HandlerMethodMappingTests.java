@@ -18,6 +18,7 @@ package org.springframework.web.reactive.result.method;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -157,6 +158,21 @@ class HandlerMethodMappingTests {
 		assertThat(this.mapping.getMappingRegistry().getRegistrations()).containsKeys(key1, key2);
 	}
 
+	@Test
+	void pathPrefixLookup() {
+		this.mapping.registerMapping("/foo/*", this.handler, this.method1);
+		this.mapping.registerMapping("/bar/*", this.handler, this.method2);
+
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/f%6Fo/baz"));
+		assertThat(this.mapping.getMappingRegistry().getMappingsByPathPrefix(exchange)).containsExactly("/foo/*");
+
+		exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/bar/baz"));
+		assertThat(((HandlerMethod) this.mapping.getHandler(exchange).block()).getMethod()).isEqualTo(this.method2);
+
+		this.mapping.unregisterMapping("/bar/*");
+		assertThat(this.mapping.getMappingRegistry().getMappingsByPathPrefix(exchange)).isEmpty();
+	}
+
 	@Test
 	void registerMappingWithSameMethodAndTwoHandlerInstances() {
 		String key1 = "foo";
@@ -213,6 +229,11 @@ class HandlerMethodMappingTests {
 					Collections.emptySet() : Collections.singleton(mapping));
 		}
 
+		@Override
+		protected Collection<List<String>> getPathPrefixSegments(String mapping) {
+			return Collections.singletonList(this.parser.parse(mapping).getLiteralPrefixSegments());
+		}
+
 		@Override
 		protected CorsConfiguration initCorsConfiguration(Object handler, Method method, String mapping) {
 			CrossOrigin crossOrigin = AnnotatedElementUtils.findMergedAnnotation(method, CrossOrigin.class);
@@ -359,6 +359,40 @@ public abstract class RequestPredicates {
 		}
 	}
 
+	/**
+	 * Return the literal path segments that the request path must start with
+	 * for the given predicate to match, or an empty list if not known.
+	 * @param predicate the predicate to introspect
+	 * @param nested whether the predicate is used for
+	 * {@linkplain RequestPredicate#nest(ServerRequest) nesting}, in which case
+	 * the right side of an "and" predicate applies to the remaining path
+	 * @since 7.1
+	 * @see PathPattern#getLiteralPrefixSegments()
+	 */
+	static List<String> getLiteralPathPrefix(RequestPredicate predicate, boolean nested) {
+		if (predicate instanceof PathPatternPredicate pathPredicate) {
+			return pathPredicate.pattern.getLiteralPrefixSegments();
+		}
+		else if (predicate instanceof AndRequestPredicate andPredicate) {
+			List<String> left = getLiteralPathPrefix(andPredicate.left, nested);
+			if (nested) {
+				return left;
+			}
+			List<String> right = getLiteralPathPrefix(andPredicate.right, false);
+			return (left.size() >= right.size() ? left : right);
+		}
+		else if (predicate instanceof OrRequestPredicate orPredicate) {
+			List<String> left = getLiteralPathPrefix(orPredicate.left, nested);
+			List<String> right = getLiteralPathPrefix(orPredicate.right, nested);
+			int count = 0;
+			while (count < left.size() && count < right.size() && left.get(count).equals(right.get(count))) {
+				count++;
+			}
+			return left.subList(0, count);
+		}
+		return Collections.emptyList();
+	}
+
 
 	/**
 	 * Receives notifications from the logical structure of request predicates.
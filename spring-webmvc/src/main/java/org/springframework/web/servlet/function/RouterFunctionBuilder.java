@@ -421,7 +421,7 @@ class RouterFunctionBuilder implements RouterFunctions.Builder {
 	/**
 	 * Router function returned by {@link #build()} that simply iterates over the registered routes.
 	 */
-	private static class BuiltRouterFunction extends RouterFunctions.AbstractRouterFunction<ServerResponse> {
+	static class BuiltRouterFunction extends RouterFunctions.AbstractRouterFunction<ServerResponse> {
 
 		private final List<RouterFunction<ServerResponse>> routerFunctions;
 
@@ -430,6 +430,10 @@ class RouterFunctionBuilder implements RouterFunctions.Builder {
 			this.routerFunctions = new ArrayList<>(routerFunctions);
 		}
 
+		List<RouterFunction<ServerResponse>> getRouterFunctions() {
+			return this.routerFunctions;
+		}
+
 		@Override
 		public Optional<HandlerFunction<ServerResponse>> route(ServerRequest request) {
 			for (RouterFunction<ServerResponse> routerFunction : this.routerFunctions) {
@@ -23,6 +23,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -397,7 +398,9 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			addMatchingMappings(directPathMatches, matches, request);
 		}
 		if (matches.isEmpty()) {
-			addMatchingMappings(this.mappingRegistry.getRegistrations().keySet(), matches, request);
+			List<T> pathPrefixMatches = this.mappingRegistry.getMappingsByPathPrefix(lookupPath);
+			addMatchingMappings((pathPrefixMatches != null ?
+					pathPrefixMatches : this.mappingRegistry.getRegistrations().keySet()), matches, request);
 		}
 		if (!matches.isEmpty()) {
 			Match bestMatch = matches.get(0);
@@ -516,6 +519,19 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 		return Collections.emptySet();
 	}
 
+	/**
+	 * Return the literal leading path segments of each request mapping path
+	 * pattern, used to narrow down the mappings to check when there is no
+	 * direct path match. A mapping for which this method returns an empty
+	 * collection, or a collection with an empty list, is checked for every
+	 * request.
+	 * @since 7.1
+	 * @see org.springframework.web.util.pattern.PathPattern#getLiteralPrefixSegments()
+	 */
+	protected Collection<List<String>> getPathPrefixSegments(T mapping) {
+		return Collections.emptyList();
+	}
+
 	/**
 	 * Check if a mapping matches the current request and return a (potentially
 	 * new) mapping with conditions relevant to the current request.
@@ -546,6 +562,8 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 
 		private final MultiValueMap<String, T> pathLookup = new LinkedMultiValueMap<>();
 
+		private final PathPrefixTree<T> pathPrefixLookup = new PathPrefixTree<>();
+
 		private final Map<String, List<HandlerMethod>> nameLookup = new ConcurrentHashMap<>();
 
 		private final Map<HandlerMethod, CorsConfiguration> corsLookup = new ConcurrentHashMap<>();
@@ -568,6 +586,19 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			return this.pathLookup.get(urlPath);
 		}
 
+		/**
+		 * Return the mappings whose path patterns start with literal segments
+		 * that match the given URL path, along with all mappings that cannot be
+		 * narrowed down by path prefix. Not thread-safe.
+		 * @return the candidate mappings, or {@code null} if the URL path has
+		 * encoded or semicolon content, in which case all mappings need to be checked
+		 * @since 7.1
+		 * @see #acquireReadLock()
+		 */
+		public @Nullable List<T> getMappingsByPathPrefix(String urlPath) {
+			return this.pathPrefixLookup.getMappings(urlPath);
+		}
+
 		/**
 		 * Return handler methods by mapping name. Thread-safe for concurrent use.
 		 */
@@ -608,6 +639,11 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 					this.pathLookup.add(path, mapping);
 				}
 
+				Set<List<String>> pathPrefixes = PathPrefixTree.normalize(getPathPrefixSegments(mapping));
+				for (List<String> pathPrefix : pathPrefixes) {
+					this.pathPrefixLookup.add(pathPrefix, mapping);
+				}
+
 				String name = null;
 				HandlerMethodMappingNamingStrategy<T> namingStrategy = getNamingStrategy();
 				if (namingStrategy != null) {
@@ -626,8 +662,8 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 				// We do this strictly after using the original instance in the CORS lookups
 				handlerMethod = handlerMethod.createWithValidateFlags();
 
-				this.registry.put(mapping,
-						new MappingRegistration<>(mapping, handlerMethod, directPaths, name, corsConfig != null));
+				this.registry.put(mapping, new MappingRegistration<>(
+						mapping, handlerMethod, directPaths, pathPrefixes, name, corsConfig != null));
 			}
 			finally {
 				this.readWriteLock.writeLock().unlock();
@@ -681,6 +717,10 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 					}
 				}
 
+				for (List<String> pathPrefix : registration.getPathPrefixes()) {
+					this.pathPrefixLookup.remove(pathPrefix, registration.getMapping());
+				}
+
 				removeMappingName(registration);
 
 				this.corsLookup.remove(registration.getHandlerMethod());
@@ -723,18 +763,21 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 
 		private final Set<String> directPaths;
 
+		private final Set<List<String>> pathPrefixes;
+
 		private final @Nullable String mappingName;
 
 		private final boolean corsConfig;
 
-		public MappingRegistration(T mapping, HandlerMethod handlerMethod,
-				@Nullable Set<String> directPaths, @Nullable String mappingName, boolean corsConfig) {
+		public MappingRegistration(T mapping, HandlerMethod handlerMethod, @Nullable Set<String> directPaths,
+				@Nullable Set<List<String>> pathPrefixes, @Nullable String mappingName, boolean corsConfig) {
 
 			Assert.notNull(mapping, "Mapping must not be null");
 			Assert.notNull(handlerMethod, "HandlerMethod must not be null");
 			this.mapping = mapping;
 			this.handlerMethod = handlerMethod;
 			this.directPaths = (directPaths != null ? directPaths : Collections.emptySet());
+			this.pathPrefixes = (pathPrefixes != null ? pathPrefixes : Collections.emptySet());
 			this.mappingName = mappingName;
 			this.corsConfig = corsConfig;
 		}
@@ -751,6 +794,10 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 			return this.directPaths;
 		}
 
+		public Set<List<String>> getPathPrefixes() {
+			return this.pathPrefixes;
+		}
+
 		public @Nullable String getMappingName() {
 			return this.mappingName;
 		}
@@ -761,6 +808,118 @@ public abstract class AbstractHandlerMethodMapping<T> extends AbstractHandlerMap
 	}
 
 
+	/**
+	 * Prefix tree of mappings, keyed by the literal leading path segments of
+	 * their path patterns. A lookup collects the mappings along the path of
+	 * the URL's segments, so that mappings under unrelated prefixes are not
+	 * checked at all. Not thread-safe.
+	 */
+	private static final class PathPrefixTree<T> {
+
+		private final List<T> mappings = new ArrayList<>();
+
+		private final Map<String, PathPrefixTree<T>> children = new HashMap<>();
+
+		/**
+		 * Normalize the path prefixes of a mapping, retaining only segments that
+		 * can be compared to the raw URL path, and dropping prefixes that start
+		 * with another prefix, so that a lookup finds a mapping at most once.
+		 */
+		static Set<List<String>> normalize(Collection<List<String>> pathPrefixes) {
+			if (pathPrefixes.isEmpty()) {
+				return Collections.singleton(Collections.emptyList());
+			}
+			List<List<String>> candidates = new ArrayList<>(pathPrefixes.size());
+			for (List<String> segments : pathPrefixes) {
+				int count = 0;
+				while (count < segments.size() && isPlainSegment(segments.get(count))) {
+					count++;
+				}
+				if (count == 0) {
+					return Collections.singleton(Collections.emptyList());
+				}
+				candidates.add(List.copyOf(segments.subList(0, count)));
+			}
+			Set<List<String>> result = new LinkedHashSet<>(candidates.size());
+			for (List<String> candidate : candidates) {
+				boolean covered = false;
+				for (List<String> other : candidates) {
+					if (other.size() < candidate.size() && candidate.subList(0, other.size()).equals(other)) {
+						covered = true;
+						break;
+					}
+				}
+				if (!covered) {
+					result.add(candidate);
+				}
+			}
+			return result;
+		}
+
+		private static boolean isPlainSegment(String segment) {
+			if (segment.isEmpty()) {
+				return false;
+			}
+			for (int i = 0; i < segment.length(); i++) {
+				char c = segment.charAt(i);
+				if (!(Character.isLetterOrDigit(c) && c < 128) && c != '-' && c != '.' && c != '_' && c != '~') {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		void add(List<String> segments, T mapping) {
+			PathPrefixTree<T> node = this;
+			for (String segment : segments) {
+				node = node.children.computeIfAbsent(segment, key -> new PathPrefixTree<>());
+			}
+			node.mappings.add(mapping);
+		}
+
+		void remove(List<String> segments, T mapping) {
+			remove(segments, 0, mapping);
+		}
+
+		private void remove(List<String> segments, int index, T mapping) {
+			if (index == segments.size()) {
+				this.mappings.remove(mapping);
+				return;
+			}
+			String segment = segments.get(index);
+			PathPrefixTree<T> child = this.children.get(segment);
+			if (child != null) {
+				child.remove(segments, index + 1, mapping);
+				if (child.mappings.isEmpty() && child.children.isEmpty()) {
+					this.children.remove(segment);
+				}
+			}
+		}
+
+		@Nullable List<T> getMappings(String urlPath) {
+			List<T> result = new ArrayList<>(this.mappings);
+			PathPrefixTree<T> node = this;
+			int start = (urlPath.startsWith("/") ? 1 : 0);
+			while (!node.children.isEmpty() && start <= urlPath.length()) {
+				int end = urlPath.indexOf('/', start);
+				end = (end != -1 ? end : urlPath.length());
+				String segment = urlPath.substring(start, end);
+				if (segment.indexOf('%') != -1 || segment.indexOf(';') != -1) {
+					return null;
+				}
+				PathPrefixTree<T> child = node.children.get(segment);
+				if (child == null) {
+					break;
+				}
+				result.addAll(child.mappings);
+				node = child;
+				start = end + 1;
+			}
+			return result;
+		}
+	}
+
+
 	/**
 	 * A thin wrapper around a matched HandlerMethod and its mapping, for the purpose of
 	 * comparing the best match with a comparator in the context of the current request.
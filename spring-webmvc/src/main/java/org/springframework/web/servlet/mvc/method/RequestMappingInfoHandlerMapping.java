@@ -18,6 +18,7 @@ package org.springframework.web.servlet.mvc.method;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedHashMap;
@@ -93,6 +94,19 @@ public abstract class RequestMappingInfoHandlerMapping extends AbstractHandlerMe
 		return info.getDirectPaths();
 	}
 
+	@Override
+	protected Collection<List<String>> getPathPrefixSegments(RequestMappingInfo info) {
+		PathPatternsRequestCondition condition = info.getPathPatternsCondition();
+		if (condition == null || condition.isEmptyPathMapping()) {
+			return Collections.emptyList();
+		}
+		List<List<String>> result = new ArrayList<>(condition.getPatterns().size());
+		for (PathPattern pattern : condition.getPatterns()) {
+			result.add(pattern.getLiteralPrefixSegments());
+		}
+		return result;
+	}
+
 	/**
 	 * Check if the given RequestMappingInfo matches the current request and
 	 * return a (potentially new) instance with conditions that match the
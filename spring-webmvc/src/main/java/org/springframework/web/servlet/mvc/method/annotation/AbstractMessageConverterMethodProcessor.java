@@ -25,6 +25,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
+import java.util.stream.BaseStream;
 
 import jakarta.servlet.ServletRequest;
 import jakarta.servlet.http.HttpServletRequest;
@@ -158,7 +159,23 @@ public abstract class AbstractMessageConverterMethodProcessor extends AbstractMe
 	protected ServletServerHttpResponse createOutputMessage(NativeWebRequest webRequest) {
 		HttpServletResponse response = webRequest.getNativeResponse(HttpServletResponse.class);
 		Assert.state(response != null, "No HttpServletResponse");
-		return new ServletServerHttpResponse(response);
+		HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
+		return (request != null ? new ServletServerHttpResponse(response, request) : new ServletServerHttpResponse(response));
+	}
+
+	/**
+	 * Close the given return value if it is a {@link java.util.stream.Stream}
+	 * or another {@link BaseStream}, releasing the resources it holds, such as
+	 * a JDBC {@code ResultSet}, in case no message converter has written it.
+	 * <p>Closing a stream is idempotent, so this is a no-op for a stream that
+	 * a message converter has written and closed already.
+	 * @param value the return value or response body
+	 * @since 7.1
+	 */
+	protected void closeStreamIfNecessary(@Nullable Object value) {
+		if (value instanceof BaseStream<?, ?> stream) {
+			stream.close();
+		}
 	}
 
 	/**
@@ -238,30 +238,35 @@ public class HttpEntityMethodProcessor extends AbstractMessageConverterMethodPro
 			});
 		}
 
-		if (httpEntity instanceof ResponseEntity<?> responseEntity) {
-			HttpStatusCode returnStatus = responseEntity.getStatusCode();
-			outputMessage.getServletResponse().setStatus(returnStatus.value());
-			if (returnStatus.value() == HttpStatus.OK.value()) {
-				HttpMethod method = inputMessage.getMethod();
-				if ((HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method)) &&
-						isResourceNotModified(inputMessage, outputMessage)) {
-					outputMessage.flush();
-					return;
+		try {
+			if (httpEntity instanceof ResponseEntity<?> responseEntity) {
+				HttpStatusCode returnStatus = responseEntity.getStatusCode();
+				outputMessage.getServletResponse().setStatus(returnStatus.value());
+				if (returnStatus.value() == HttpStatus.OK.value()) {
+					HttpMethod method = inputMessage.getMethod();
+					if ((HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method)) &&
+							isResourceNotModified(inputMessage, outputMessage)) {
+						outputMessage.flush();
+						return;
+					}
 				}
-			}
-			else if (returnStatus.is3xxRedirection()) {
-				String location = outputHeaders.getFirst(HttpHeaders.LOCATION);
-				if (location != null) {
-					saveFlashAttributes(mavContainer, webRequest, location);
+				else if (returnStatus.is3xxRedirection()) {
+					String location = outputHeaders.getFirst(HttpHeaders.LOCATION);
+					if (location != null) {
+						saveFlashAttributes(mavContainer, webRequest, location);
+					}
 				}
 			}
-		}
 
-		// Try even with null body. ResponseBodyAdvice could get involved.
-		writeWithMessageConverters(httpEntity.getBody(), returnType, inputMessage, outputMessage);
+			// Try even with null body. ResponseBodyAdvice could get involved.
+			writeWithMessageConverters(httpEntity.getBody(), returnType, inputMessage, outputMessage);
 
-		// Ensure headers are flushed even if no body was written.
-		outputMessage.flush();
+			// Ensure headers are flushed even if no body was written.
+			outputMessage.flush();
+		}
+		finally {
+			closeStreamIfNecessary(httpEntity.getBody());
+		}
 	}
 
 	private List<String> getVaryRequestHeadersToAdd(HttpHeaders responseHeaders, HttpHeaders entityHeaders) {
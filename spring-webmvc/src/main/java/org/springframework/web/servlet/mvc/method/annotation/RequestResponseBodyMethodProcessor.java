@@ -209,8 +209,13 @@ public class RequestResponseBodyMethodProcessor extends AbstractMessageConverter
 			invokeErrorResponseInterceptors(detail, null);
 		}
 
-		// Try even with null return value. ResponseBodyAdvice could get involved.
-		writeWithMessageConverters(returnValue, returnType, inputMessage, outputMessage);
+		try {
+			// Try even with null return value. ResponseBodyAdvice could get involved.
+			writeWithMessageConverters(returnValue, returnType, inputMessage, outputMessage);
+		}
+		finally {
+			closeStreamIfNecessary(returnValue);
+		}
 	}
 
 }
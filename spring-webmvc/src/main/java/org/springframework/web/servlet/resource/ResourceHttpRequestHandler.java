@@ -553,7 +553,7 @@ public class ResourceHttpRequestHandler extends WebContentGenerator
 		setHeaders(response, resource, mediaType);
 
 		// Content phase
-		ServletServerHttpResponse outputMessage = new ServletServerHttpResponse(response);
+		ServletServerHttpResponse outputMessage = new ServletServerHttpResponse(response, request);
 		if (request.getHeader(HttpHeaders.RANGE) == null) {
 			Assert.state(this.resourceHttpMessageConverter != null, "Converter not initialized");
 			if (HttpMethod.HEAD.matches(request.getMethod())) {
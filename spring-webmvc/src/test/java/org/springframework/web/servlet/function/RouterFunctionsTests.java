@@ -23,6 +23,7 @@ import org.junit.jupiter.api.Test;
 
 import org.springframework.web.servlet.handler.PathPatternsTestUtils;
 import org.springframework.web.testfixture.servlet.MockHttpServletRequest;
+import org.springframework.web.util.pattern.PathPatternParser;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
@@ -128,4 +129,59 @@ class RouterFunctionsTests {
 		assertThat(resultHandlerFunction).contains(handlerFunction);
 	}
 
+	@Test
+	void compile() {
+		HandlerFunction<ServerResponse> foo = request -> ServerResponse.ok().build();
+		HandlerFunction<ServerResponse> fooBar = request -> ServerResponse.ok().build();
+		HandlerFunction<ServerResponse> nestedBaz = request -> ServerResponse.ok().build();
+		HandlerFunction<ServerResponse> fallback = request -> ServerResponse.ok().build();
+
+		RouterFunction<ServerResponse> routerFunction = RouterFunctions.route()
+				.GET("/foo/{id}", foo)
+				.GET("/foo/bar", fooBar)
+				.path("/nested", builder -> builder.GET("/baz", nestedBaz))
+				.route(RequestPredicates.all(), fallback)
+				.build();
+		RouterFunction<ServerResponse> compiled = RouterFunctions.compile(routerFunction);
+
+		assertThat(compiled.route(serverRequest("/foo/bar"))).contains(foo);
+		assertThat(compiled.route(serverRequest("/nested/baz"))).contains(nestedBaz);
+		assertThat(compiled.route(serverRequest("/nested/qux"))).contains(fallback);
+		assertThat(compiled.route(serverRequest("/other"))).contains(fallback);
+		assertThat(compiled.route(serverRequest("/"))).contains(fallback);
+	}
+
+	@Test
+	void compileNoMatch() {
+		HandlerFunction<ServerResponse> handlerFunction = request -> ServerResponse.ok().build();
+		RouterFunction<ServerResponse> routerFunction = RouterFunctions.route(RequestPredicates.GET("/foo"), handlerFunction)
+				.and(RouterFunctions.route(RequestPredicates.POST("/bar"), handlerFunction));
+		RouterFunction<ServerResponse> compiled = RouterFunctions.compile(routerFunction);
+
+		assertThat(compiled.route(serverRequest("/foo"))).contains(handlerFunction);
+		assertThat(compiled.route(serverRequest("/bar"))).isNotPresent();
+		assertThat(compiled.route(serverRequest("/baz"))).isNotPresent();
+	}
+
+	@Test
+	void compileWithChangedParser() {
+		HandlerFunction<ServerResponse> handlerFunction = request -> ServerResponse.ok().build();
+		RouterFunction<ServerResponse> routerFunction = RouterFunctions.route()
+				.GET("/foo/bar", handlerFunction)
+				.GET("/baz", request -> ServerResponse.ok().build())
+				.build();
+		RouterFunction<ServerResponse> compiled = RouterFunctions.compile(routerFunction);
+		assertThat(compiled.route(serverRequest("/FOO/bar"))).isNotPresent();
+
+		PathPatternParser parser = new PathPatternParser();
+		parser.setCaseSensitive(false);
+		RouterFunctions.changeParser(compiled, parser);
+		assertThat(compiled.route(serverRequest("/FOO/bar"))).contains(handlerFunction);
+		assertThat(compiled.route(serverRequest("/foo/bar"))).contains(handlerFunction);
+	}
+
+	private static ServerRequest serverRequest(String path) {
+		return new DefaultServerRequest(PathPatternsTestUtils.initRequest("GET", path, true), Collections.emptyList());
+	}
+
 }
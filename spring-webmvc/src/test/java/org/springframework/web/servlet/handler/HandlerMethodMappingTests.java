@@ -18,6 +18,7 @@ package org.springframework.web.servlet.handler;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -33,6 +34,7 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Controller;
 import org.springframework.util.AntPathMatcher;
 import org.springframework.util.PathMatcher;
+import org.springframework.util.StringUtils;
 import org.springframework.web.HttpRequestHandler;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -237,6 +239,23 @@ class HandlerMethodMappingTests {
 		assertThat(handlerMethods).element(0).isEqualTo(handlerMethod2);
 	}
 
+	@Test
+	void pathPrefixLookup() throws Exception {
+		this.mapping.registerMapping("/foo/*", this.handler, this.method1);
+		this.mapping.registerMapping("/bar/*", this.handler, this.method2);
+
+		assertThat(this.mapping.getMappingRegistry().getMappingsByPathPrefix("/foo/baz")).containsExactly("/foo/*");
+		assertThat(this.mapping.getMappingRegistry().getMappingsByPathPrefix("/baz")).isEmpty();
+		assertThat(this.mapping.getMappingRegistry().getMappingsByPathPrefix("/f%6Fo/baz")).isNull();
+
+		HandlerMethod result = this.mapping.getHandlerInternal(new MockHttpServletRequest("GET", "/bar/baz"));
+		assertThat(result.getMethod()).isEqualTo(this.method2);
+
+		this.mapping.unregisterMapping("/bar/*");
+		assertThat(this.mapping.getMappingRegistry().getMappingsByPathPrefix("/bar/baz")).isEmpty();
+		assertThat(this.mapping.getHandlerInternal(new MockHttpServletRequest("GET", "/bar/baz"))).isNull();
+	}
+
 	@Test
 	void registerMappingWithSameMethodAndTwoHandlerInstances() {
 		String key1 = "foo";
@@ -341,6 +360,18 @@ class HandlerMethodMappingTests {
 			return (pathMatcher.isPattern(mapping) ? Collections.emptySet() : Collections.singleton(mapping));
 		}
 
+		@Override
+		protected Collection<List<String>> getPathPrefixSegments(String mapping) {
+			List<String> segments = new ArrayList<>();
+			for (String segment : StringUtils.tokenizeToStringArray(mapping, "/")) {
+				if (this.pathMatcher.isPattern(segment)) {
+					break;
+				}
+				segments.add(segment);
+			}
+			return Collections.singletonList(segments);
+		}
+
 		@Override
 		protected String getMappingForMethod(Method method, Class<?> handlerType) {
 			String methodName = method.getName();
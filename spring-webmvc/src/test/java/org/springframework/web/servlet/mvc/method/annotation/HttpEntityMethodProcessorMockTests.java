@@ -28,6 +28,8 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletResponse;
@@ -495,6 +497,21 @@ class HttpEntityMethodProcessorMockTests {
 		assertConditionalResponse(HttpStatus.NOT_MODIFIED, null, etagValue, -1);
 	}
 
+	@Test
+	void handleEtagWithHttp304ClosesStreamBody() throws Exception {
+		String etagValue = "\"deadb33f8badf00d\"";
+		servletRequest.addHeader(HttpHeaders.IF_NONE_MATCH, etagValue);
+		AtomicBoolean closed = new AtomicBoolean();
+		Stream<String> body = Stream.of("body").onClose(() -> closed.set(true));
+		ResponseEntity<Stream<String>> returnValue = ResponseEntity.ok().eTag(etagValue).body(body);
+
+		initStringMessageConversion(TEXT_PLAIN);
+		processor.handleReturnValue(returnValue, returnTypeResponseEntity, mavContainer, webRequest);
+
+		assertConditionalResponse(HttpStatus.NOT_MODIFIED, null, etagValue, -1);
+		assertThat(closed).isTrue();
+	}
+
 	@Test
 	void handleEtagWithHttp304AndEtagFilterHasNoImpact() throws Exception {
 		String eTagValue = "\"deadb33f8badf00d\"";
@@ -24,6 +24,7 @@ import java.lang.reflect.Type;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -427,6 +428,21 @@ class RequestResponseBodyMethodProcessorTests {
 				processor.writeWithMessageConverters(new ByteArrayOutputStream(), returnType, this.request));
 	}
 
+	@Test
+	void handleReturnValueClosesStreamWhenNotAcceptable() throws Exception {
+		this.servletRequest.addHeader("Accept", MediaType.TEXT_PLAIN_VALUE);
+		AtomicBoolean closed = new AtomicBoolean();
+		Stream<SimpleBean> stream = Stream.of(new SimpleBean()).onClose(() -> closed.set(true));
+
+		Method method = getClass().getDeclaredMethod("handleAndReturnStream");
+		MethodParameter returnType = new MethodParameter(method, -1);
+		List<HttpMessageConverter<?>> converters = List.of(new JacksonJsonHttpMessageConverter());
+		RequestResponseBodyMethodProcessor processor = new RequestResponseBodyMethodProcessor(converters);
+		assertThatExceptionOfType(HttpMediaTypeNotAcceptableException.class).isThrownBy(() ->
+				processor.handleReturnValue(stream, returnType, this.container, this.request));
+		assertThat(closed).isTrue();
+	}
+
 	@Test
 	void addContentDispositionHeader() throws Exception {
 		ContentNegotiationManagerFactoryBean factory = new ContentNegotiationManagerFactoryBean();
@@ -1092,6 +1108,12 @@ class RequestResponseBodyMethodProcessorTests {
 		return null;
 	}
 
+	@SuppressWarnings("ConstantConditions")
+	@RequestMapping
+	Stream<SimpleBean> handleAndReturnStream() {
+		return null;
+	}
+
 	@SuppressWarnings("ConstantConditions")
 	SimpleBean getSimpleBean() {
 		return null;